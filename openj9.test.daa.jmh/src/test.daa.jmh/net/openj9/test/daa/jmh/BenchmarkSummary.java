@@ -0,0 +1,435 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.daa.jmh;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+
+/**
+ * Summary of a set of JMH results in both ns/op and ops/s.
+ * 
+ * JMH reports each benchmark in the single unit selected by its mode, this
+ * class converts every primary result to both units so that latency and
+ * throughput can be read from the same report. The errors are the 99.9%
+ * confidence interval half-widths reported by JMH; the error of the converted
+ * unit is the first order approximation score * (error / score).
+ */
+public class BenchmarkSummary
+{
+	public static class Entry
+	{
+		public final String benchmark;
+		public final Map<String, String> params;
+		public final double nsPerOp;
+		public final double nsPerOpError;
+		public final double opsPerSecond;
+		public final double opsPerSecondError;
+		
+		Entry(String benchmark, Map<String, String> params, double nsPerOp, double nsPerOpError, double opsPerSecond, double opsPerSecondError)
+		{
+			this.benchmark = benchmark;
+			this.params = params;
+			this.nsPerOp = nsPerOp;
+			this.nsPerOpError = nsPerOpError;
+			this.opsPerSecond = opsPerSecond;
+			this.opsPerSecondError = opsPerSecondError;
+		}
+		
+		/**
+		 * returns the benchmark method name without the package and class.
+		 */
+		public String getMethodName()
+		{
+			return benchmark.substring(benchmark.lastIndexOf('.') + 1);
+		}
+		
+		/**
+		 * returns the benchmark class and method name without the package.
+		 */
+		public String getShortName()
+		{
+			int methodDot = benchmark.lastIndexOf('.');
+			return benchmark.substring(benchmark.lastIndexOf('.', methodDot - 1) + 1);
+		}
+		
+		public String getParamString()
+		{
+			StringBuilder sb = new StringBuilder();
+			for (Map.Entry<String, String> param : params.entrySet())
+			{
+				if (sb.length() > 0)
+					sb.append(',');
+				sb.append(param.getKey()).append('=').append(param.getValue());
+			}
+			return sb.toString();
+		}
+	}
+	
+	private final List<Entry> entries = new ArrayList<Entry>();
+	
+	public BenchmarkSummary(Collection<RunResult> results)
+	{
+		for (RunResult runResult : results)
+		{
+			BenchmarkParams benchmarkParams = runResult.getParams();
+			Result<?> primary = runResult.getPrimaryResult();
+			
+			Map<String, String> params = new LinkedHashMap<String, String>();
+			for (String key : benchmarkParams.getParamsKeys())
+				params.put(key, benchmarkParams.getParam(key));
+			
+			double score = primary.getScore();
+			double error = primary.getScoreError();
+			String unit = primary.getScoreUnit();
+			
+			double nsPerOp;
+			double opsPerSecond;
+			
+			if (unit.startsWith("ops/"))
+			{
+				// Throughput, the unit is ops per time unit
+				double nanosPerUnit = nanosPer(unit.substring(4));
+				opsPerSecond = score * 1e9 / nanosPerUnit;
+				nsPerOp = nanosPerUnit / score;
+			}
+			else
+			{
+				// AverageTime, SampleTime and SingleShotTime, the unit is time unit per op
+				double nanosPerUnit = nanosPer(unit.substring(0, unit.indexOf('/')));
+				nsPerOp = score * nanosPerUnit;
+				opsPerSecond = 1e9 / nsPerOp;
+			}
+			
+			double relativeError = error / score;
+			
+			entries.add(new Entry(benchmarkParams.getBenchmark(), params, nsPerOp, nsPerOp * relativeError, opsPerSecond, opsPerSecond * relativeError));
+		}
+	}
+	
+	public List<Entry> getEntries()
+	{
+		return entries;
+	}
+	
+	/**
+	 * returns the number of nanoseconds in the JMH time unit label.
+	 */
+	static double nanosPer(String timeUnit)
+	{
+		if (timeUnit.equals("ns"))
+			return 1;
+		if (timeUnit.equals("us"))
+			return 1e3;
+		if (timeUnit.equals("ms"))
+			return 1e6;
+		if (timeUnit.equals("s"))
+			return 1e9;
+		if (timeUnit.equals("min"))
+			return 60e9;
+		if (timeUnit.equals("hr"))
+			return 3600e9;
+		if (timeUnit.equals("day"))
+			return 86400e9;
+		throw new IllegalArgumentException("Unknown time unit: " + timeUnit);
+	}
+	
+	public void print(PrintStream out)
+	{
+		out.printf("%-60s %-40s %14s %12s %16s %14s%n", "Benchmark", "Params", "ns/op", "error", "ops/s", "error");
+		for (Entry entry : entries)
+		{
+			out.printf("%-60s %-40s %14.3f %12.3f %16.1f %14.1f%n", entry.getShortName(), entry.getParamString(),
+					entry.nsPerOp, entry.nsPerOpError, entry.opsPerSecond, entry.opsPerSecondError);
+		}
+	}
+	
+	/**
+	 * The results pivoted on one param, with one column for each value of the
+	 * param and one row for each benchmark and combination of the other params.
+	 * Results without the param are put in a column headed "-".
+	 */
+	static class Matrix
+	{
+		final Map<String, Map<String, Entry>> rows = new LinkedHashMap<String, Map<String, Entry>>();
+		final List<String> columns;
+		
+		Matrix(List<Entry> entries, String columnParam)
+		{
+			LinkedHashSet<String> columnSet = new LinkedHashSet<String>();
+			
+			for (Entry entry : entries)
+			{
+				Map<String, String> otherParams = new LinkedHashMap<String, String>(entry.params);
+				String column = otherParams.remove(columnParam);
+				if (column == null)
+					column = "-";
+				columnSet.add(column);
+				
+				StringBuilder row = new StringBuilder(entry.getShortName());
+				for (Map.Entry<String, String> param : otherParams.entrySet())
+					row.append(' ').append(param.getKey()).append('=').append(param.getValue());
+				
+				Map<String, Entry> cells = rows.get(row.toString());
+				if (cells == null)
+				{
+					cells = new LinkedHashMap<String, Entry>();
+					rows.put(row.toString(), cells);
+				}
+				cells.put(column, entry);
+			}
+			
+			columns = new ArrayList<String>(columnSet);
+			Collections.sort(columns, new Comparator<String>() {
+				public int compare(String a, String b)
+				{
+					// "-" first, then numeric values in numeric order, then the rest as strings
+					if (a.equals("-") || b.equals("-"))
+						return a.equals("-") ? (b.equals("-") ? 0 : -1) : 1;
+					try
+					{
+						return Double.compare(Double.parseDouble(a), Double.parseDouble(b));
+					}
+					catch (NumberFormatException e)
+					{
+						return a.compareTo(b);
+					}
+				}
+			});
+		}
+	}
+	
+	/**
+	 * prints ops/s as a matrix with one column for each value of columnParam
+	 * and one row for each benchmark and combination of the other params.
+	 */
+	public void printMatrix(PrintStream out, String columnParam)
+	{
+		Matrix matrix = new Matrix(entries, columnParam);
+		
+		int rowWidth = 9;
+		for (String row : matrix.rows.keySet())
+			rowWidth = Math.max(rowWidth, row.length());
+		
+		out.printf("ops/s by %s%n", columnParam);
+		out.printf("%-" + rowWidth + "s", "Benchmark");
+		for (String column : matrix.columns)
+			out.printf(" %16s", column);
+		out.println();
+		
+		for (Map.Entry<String, Map<String, Entry>> row : matrix.rows.entrySet())
+		{
+			out.printf("%-" + rowWidth + "s", row.getKey());
+			for (String column : matrix.columns)
+			{
+				Entry entry = row.getValue().get(column);
+				if (entry == null)
+					out.printf(" %16s", "");
+				else
+					out.printf(" %16.1f", entry.opsPerSecond);
+			}
+			out.println();
+		}
+	}
+	
+	/**
+	 * writes ops/s as a CSV matrix with the same layout as printMatrix, ready
+	 * to be loaded into a spreadsheet or plotted as a heatmap. Missing cells
+	 * are left empty.
+	 */
+	public void writeMatrixCsv(File file, String columnParam) throws IOException
+	{
+		Matrix matrix = new Matrix(entries, columnParam);
+		
+		PrintWriter pw = new PrintWriter(new FileWriter(file));
+		
+		try
+		{
+			pw.print(csv("benchmark"));
+			for (String column : matrix.columns)
+				pw.print("," + csv(columnParam + "=" + column));
+			pw.println();
+			
+			for (Map.Entry<String, Map<String, Entry>> row : matrix.rows.entrySet())
+			{
+				pw.print(csv(row.getKey()));
+				for (String column : matrix.columns)
+				{
+					Entry entry = row.getValue().get(column);
+					pw.print(",");
+					if (entry != null)
+						pw.print(entry.opsPerSecond);
+				}
+				pw.println();
+			}
+		}
+		finally
+		{
+			pw.close();
+		}
+	}
+	
+	/**
+	 * prints the cost of each value of compareParam relative to the baseline
+	 * value, for each benchmark and combination of the other params. A row is
+	 * flagged SLOWER when the baseline is slower than another value by more
+	 * than the error of both results.
+	 * 
+	 * returns the number of rows flagged.
+	 */
+	public int printComparison(PrintStream out, String compareParam, String baseline)
+	{
+		Map<String, Map<String, Entry>> groups = new LinkedHashMap<String, Map<String, Entry>>();
+		int groupWidth = 9;
+		
+		for (Entry entry : entries)
+		{
+			Map<String, String> otherParams = new LinkedHashMap<String, String>(entry.params);
+			String value = otherParams.remove(compareParam);
+			if (value == null)
+				continue;
+			
+			StringBuilder group = new StringBuilder(entry.getShortName());
+			for (Map.Entry<String, String> param : otherParams.entrySet())
+				group.append(' ').append(param.getKey()).append('=').append(param.getValue());
+			groupWidth = Math.max(groupWidth, group.length());
+			
+			Map<String, Entry> values = groups.get(group.toString());
+			if (values == null)
+			{
+				values = new LinkedHashMap<String, Entry>();
+				groups.put(group.toString(), values);
+			}
+			values.put(value, entry);
+		}
+		
+		out.printf("ns/op relative to %s=%s%n", compareParam, baseline);
+		
+		int slowerCount = 0;
+		for (Map.Entry<String, Map<String, Entry>> group : groups.entrySet())
+		{
+			Entry base = group.getValue().get(baseline);
+			if (base == null)
+				continue;
+			
+			StringBuilder row = new StringBuilder();
+			String fastest = null;
+			for (Map.Entry<String, Entry> value : group.getValue().entrySet())
+			{
+				Entry entry = value.getValue();
+				row.append(String.format(" %s=%.2f", value.getKey(), entry.nsPerOp / base.nsPerOp));
+				
+				// NaN errors (too few iterations) are treated as no error
+				double baseError = Double.isNaN(base.nsPerOpError) ? 0 : base.nsPerOpError;
+				double error = Double.isNaN(entry.nsPerOpError) ? 0 : entry.nsPerOpError;
+				if (base.nsPerOp - baseError > entry.nsPerOp + error
+						&& (fastest == null || entry.nsPerOp < group.getValue().get(fastest).nsPerOp))
+				{
+					fastest = value.getKey();
+				}
+			}
+			
+			out.printf("%-" + groupWidth + "s%s", group.getKey(), row);
+			if (fastest != null)
+			{
+				out.printf("  SLOWER than %s", fastest);
+				++slowerCount;
+			}
+			out.println();
+		}
+		
+		out.printf("%s=%s was slower in %d of %d cases%n", compareParam, baseline, slowerCount, groups.size());
+		
+		return slowerCount;
+	}
+	
+	public void writeJson(File file) throws IOException
+	{
+		PrintWriter pw = new PrintWriter(new FileWriter(file));
+		
+		try
+		{
+			pw.println("[");
+			for (int i = 0; i < entries.size(); ++i)
+			{
+				Entry entry = entries.get(i);
+				
+				pw.println("  {");
+				pw.println("    \"benchmark\" : " + quote(entry.benchmark) + ",");
+				pw.print("    \"params\" : {");
+				int paramCount = 0;
+				for (Map.Entry<String, String> param : entry.params.entrySet())
+				{
+					pw.print((paramCount++ == 0 ? " " : ", ") + quote(param.getKey()) + " : " + quote(param.getValue()));
+				}
+				pw.println(" },");
+				pw.println("    \"nsPerOp\" : " + number(entry.nsPerOp) + ",");
+				pw.println("    \"nsPerOpError\" : " + number(entry.nsPerOpError) + ",");
+				pw.println("    \"opsPerSecond\" : " + number(entry.opsPerSecond) + ",");
+				pw.println("    \"opsPerSecondError\" : " + number(entry.opsPerSecondError));
+				pw.println(i < entries.size() - 1 ? "  }," : "  }");
+			}
+			pw.println("]");
+		}
+		finally
+		{
+			pw.close();
+		}
+	}
+	
+	static String quote(String s)
+	{
+		return "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+	}
+	
+	static String csv(String s)
+	{
+		if (s.indexOf(',') < 0 && s.indexOf('"') < 0)
+			return s;
+		return "\"" + s.replace("\"", "\"\"") + "\"";
+	}
+	
+	/**
+	 * JSON has no NaN, JMH reports a NaN error when there are too few iterations to compute one.
+	 */
+	static String number(double d)
+	{
+		if (Double.isNaN(d) || Double.isInfinite(d))
+			return "null";
+		return String.valueOf(d);
+	}
+}
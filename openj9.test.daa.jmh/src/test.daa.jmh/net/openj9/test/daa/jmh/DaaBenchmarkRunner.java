@@ -0,0 +1,113 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.daa.jmh;
+
+import java.io.File;
+import java.util.Collection;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the DAA JMH benchmarks.
+ * 
+ * Accepts the same options as the JMH command line (org.openjdk.jmh.Main), but
+ * writes the JMH results as JSON to daa-jmh-results.json unless -rf or -rff
+ * are given, and additionally writes a summary giving every result in both
+ * ns/op and ops/s with error bars to the file named by -DsummaryFile
+ * (default daa-jmh-summary.json). If -DmatrixColumn is set the summary is
+ * also printed as a matrix of ops/s with one column for each value of the
+ * named param, e.g. -DmatrixColumn=numBytes for MarshallingBenchmark, and
+ * written as CSV to the file named by -DmatrixCsv if that is set too. If
+ * -DcompareParam and -DcompareBaseline are set the cost of each value of that
+ * param is printed relative to the baseline value, flagging the results where
+ * the baseline is slower, e.g. -DcompareParam=api -DcompareBaseline=daa for
+ * MarshallingComparisonBenchmark.
+ * 
+ * e.g. java -cp jmh-core.jar:jopt-simple.jar:commons-math3.jar:junit.jar:test.daa.jar:test.daa.jmh.jar
+ *           net.openj9.test.daa.jmh.DaaBenchmarkRunner PackedDecimalBenchmark -p precision=9,10
+ */
+public class DaaBenchmarkRunner
+{
+	static final String DEFAULT_RESULT_FILE = "daa-jmh-results.json";
+	static final String DEFAULT_SUMMARY_FILE = "daa-jmh-summary.json";
+	
+	public static void main(String[] args) throws Exception
+	{
+		CommandLineOptions cmdOptions = new CommandLineOptions(args);
+		
+		// Help and listing requests are handled exactly as JMH would
+		if (cmdOptions.shouldHelp() || cmdOptions.shouldList() || cmdOptions.shouldListWithParams()
+				|| cmdOptions.shouldListProfilers() || cmdOptions.shouldListResultFormats())
+		{
+			org.openjdk.jmh.Main.main(args);
+			return;
+		}
+		
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOptions);
+		
+		if (!cmdOptions.getResultFormat().hasValue())
+			builder.resultFormat(ResultFormatType.JSON);
+		if (!cmdOptions.getResult().hasValue())
+			builder.result(DEFAULT_RESULT_FILE);
+		
+		Collection<RunResult> results = new Runner(builder.build()).run();
+		
+		BenchmarkSummary summary = new BenchmarkSummary(results);
+		
+		System.out.println();
+		summary.print(System.out);
+		
+		String matrixColumn = System.getProperty("matrixColumn");
+		if (matrixColumn != null)
+		{
+			System.out.println();
+			summary.printMatrix(System.out, matrixColumn);
+			
+			String matrixCsv = System.getProperty("matrixCsv");
+			if (matrixCsv != null)
+			{
+				File matrixFile = new File(matrixCsv);
+				summary.writeMatrixCsv(matrixFile, matrixColumn);
+				System.out.println("Matrix written to " + matrixFile.getAbsolutePath());
+			}
+		}
+		
+		String compareParam = System.getProperty("compareParam");
+		String compareBaseline = System.getProperty("compareBaseline");
+		if (compareParam != null && compareBaseline != null)
+		{
+			System.out.println();
+			summary.printComparison(System.out, compareParam, compareBaseline);
+		}
+		
+		File summaryFile = new File(System.getProperty("summaryFile", DEFAULT_SUMMARY_FILE));
+		summary.writeJson(summaryFile);
+		System.out.println();
+		System.out.println("Summary written to " + summaryFile.getAbsolutePath());
+	}
+}
@@ -0,0 +1,317 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.daa.jmh;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.ibm.dataaccess.DecimalData;
+
+import net.openj9.test.Utils;
+import net.openj9.test.arithmetics.TestPerformance;
+
+/**
+ * JMH benchmarks for the DecimalData conversions, one run for each conversion
+ * and precision from 1 to 31.
+ * 
+ * The conversions are named as in the test runners: PD packed decimal, ED
+ * external decimal, UD unicode decimal, BD BigDecimal, BI BigInteger, L long
+ * and I int; the ED and UD conversions are suffixed with the decimal type.
+ * 
+ * The int and long values are limited to 9 and 18 digits, so at higher
+ * precisions the L and I conversions measure a wider field holding a value of
+ * that type. The BigDecimal values have a scale of 0.
+ * 
+ * This is a sweep of 22 conversions by 31 precisions, so it runs one fork
+ * per trial by default. Run with -DmatrixColumn=precision -DmatrixCsv=file.csv
+ * to have DaaBenchmarkRunner write the ops/s as a conversion by precision
+ * heatmap.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@State(Scope.Thread)
+public class DecimalConversionBenchmark
+{
+	// Must be a power of 2, values are selected with a mask
+	static final int SAMPLE_SIZE = 1024;
+	
+	// TestPerformance generates its operands with sampleSize bits
+	static final int NUM_BITS = 1000;
+	
+	static final int MAX_INT_DIGITS = 9;
+	static final int MAX_LONG_DIGITS = 18;
+	
+	static final long SEED = 8002;
+	
+	@Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16",
+			"17", "18", "19", "20", "21", "22", "23", "24", "25", "26", "27", "28", "29", "30", "31"})
+	int precision;
+	
+	@Param({"PD2ED_EMBEDDED_TRAILING", "PD2ED_EMBEDDED_LEADING", "PD2ED_SEPARATE_TRAILING", "PD2ED_SEPARATE_LEADING",
+			"ED2PD_EMBEDDED_TRAILING", "ED2PD_EMBEDDED_LEADING", "ED2PD_SEPARATE_TRAILING", "ED2PD_SEPARATE_LEADING",
+			"PD2UD_UNSIGNED", "PD2UD_SEPARATE_LEADING", "PD2UD_SEPARATE_TRAILING",
+			"UD2PD_UNSIGNED", "UD2PD_SEPARATE_LEADING", "UD2PD_SEPARATE_TRAILING",
+			"PD2BD", "BD2PD", "PD2BI", "BI2PD", "PD2L", "L2PD", "PD2I", "I2PD"})
+	String conversion;
+	
+	byte[][] packed;
+	byte[][] external;
+	char[][] unicode;
+	BigDecimal[] bigDecimals;
+	BigInteger[] bigIntegers;
+	long[] longs;
+	int[] ints;
+	
+	byte[][] packedResult;
+	byte[][] externalResult;
+	char[][] unicodeResult;
+	
+	int decimalType;
+	
+	Conversion converter;
+	
+	int index;
+	
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		Random random = new Random(SEED);
+		
+		int digits = precision;
+		if (conversion.endsWith("2I") || conversion.startsWith("I2"))
+			digits = Math.min(precision, MAX_INT_DIGITS);
+		else if (conversion.endsWith("2L") || conversion.startsWith("L2"))
+			digits = Math.min(precision, MAX_LONG_DIGITS);
+		
+		decimalType = decimalType(conversion);
+		
+		packed = new byte[SAMPLE_SIZE][Utils.getByteArraySizeFromPrecision(precision)];
+		external = new byte[SAMPLE_SIZE][precision + 1];
+		unicode = new char[SAMPLE_SIZE][precision + 1];
+		bigDecimals = new BigDecimal[SAMPLE_SIZE];
+		bigIntegers = new BigInteger[SAMPLE_SIZE];
+		longs = new long[SAMPLE_SIZE];
+		ints = new int[SAMPLE_SIZE];
+		
+		packedResult = new byte[SAMPLE_SIZE][Utils.getByteArraySizeFromPrecision(precision)];
+		externalResult = new byte[SAMPLE_SIZE][precision + 1];
+		unicodeResult = new char[SAMPLE_SIZE][precision + 1];
+		
+		for (int i = 0; i < SAMPLE_SIZE; ++i)
+		{
+			BigInteger value = TestPerformance.generateValue(NUM_BITS, random);
+			BigInteger digitValue = Utils.toPrecision(value.abs(), digits);
+			
+			// UNICODE_UNSIGNED cannot hold a negative value
+			if (value.signum() < 0 && decimalType != DecimalData.UNICODE_UNSIGNED)
+				digitValue = digitValue.negate();
+			
+			bigIntegers[i] = digitValue;
+			bigDecimals[i] = new BigDecimal(digitValue);
+			longs[i] = digitValue.longValue();
+			ints[i] = digitValue.intValue();
+			
+			DecimalData.convertBigIntegerToPackedDecimal(digitValue, packed[i], 0, precision, true);
+			if (conversion.startsWith("ED2PD"))
+				DecimalData.convertPackedDecimalToExternalDecimal(packed[i], 0, external[i], 0, precision, decimalType);
+			else if (conversion.startsWith("UD2PD"))
+				DecimalData.convertPackedDecimalToUnicodeDecimal(packed[i], 0, unicode[i], 0, precision, decimalType);
+		}
+		
+		converter = converter(conversion);
+	}
+	
+	static int decimalType(String conversion)
+	{
+		if (conversion.startsWith("PD2ED_") || conversion.startsWith("ED2PD_"))
+		{
+			String type = conversion.substring(6);
+			if (type.equals("EMBEDDED_TRAILING"))
+				return DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING;
+			if (type.equals("EMBEDDED_LEADING"))
+				return DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING;
+			if (type.equals("SEPARATE_TRAILING"))
+				return DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING;
+			if (type.equals("SEPARATE_LEADING"))
+				return DecimalData.EBCDIC_SIGN_SEPARATE_LEADING;
+		}
+		else if (conversion.startsWith("PD2UD_") || conversion.startsWith("UD2PD_"))
+		{
+			String type = conversion.substring(6);
+			if (type.equals("UNSIGNED"))
+				return DecimalData.UNICODE_UNSIGNED;
+			if (type.equals("SEPARATE_LEADING"))
+				return DecimalData.UNICODE_SIGN_SEPARATE_LEADING;
+			if (type.equals("SEPARATE_TRAILING"))
+				return DecimalData.UNICODE_SIGN_SEPARATE_TRAILING;
+		}
+		else
+			return 0;
+		
+		throw new IllegalArgumentException("Unknown decimal type in conversion: " + conversion);
+	}
+	
+	/**
+	 * The conversion is selected once per trial, the call through converter
+	 * is monomorphic as long as each trial is forked.
+	 */
+	Conversion converter(String conversion)
+	{
+		if (conversion.startsWith("PD2ED"))
+		{
+			return new Conversion() {
+				void convert(int i, Blackhole bh) {
+					DecimalData.convertPackedDecimalToExternalDecimal(packed[i], 0, externalResult[i], 0, precision, decimalType);
+					bh.consume(externalResult[i]);
+				}
+			};
+		}
+		if (conversion.startsWith("ED2PD"))
+		{
+			return new Conversion() {
+				void convert(int i, Blackhole bh) {
+					DecimalData.convertExternalDecimalToPackedDecimal(external[i], 0, packedResult[i], 0, precision, decimalType);
+					bh.consume(packedResult[i]);
+				}
+			};
+		}
+		if (conversion.startsWith("PD2UD"))
+		{
+			return new Conversion() {
+				void convert(int i, Blackhole bh) {
+					DecimalData.convertPackedDecimalToUnicodeDecimal(packed[i], 0, unicodeResult[i], 0, precision, decimalType);
+					bh.consume(unicodeResult[i]);
+				}
+			};
+		}
+		if (conversion.startsWith("UD2PD"))
+		{
+			return new Conversion() {
+				void convert(int i, Blackhole bh) {
+					DecimalData.convertUnicodeDecimalToPackedDecimal(unicode[i], 0, packedResult[i], 0, precision, decimalType);
+					bh.consume(packedResult[i]);
+				}
+			};
+		}
+		if (conversion.equals("PD2BD"))
+		{
+			return new Conversion() {
+				void convert(int i, Blackhole bh) {
+					bh.consume(DecimalData.convertPackedDecimalToBigDecimal(packed[i], 0, precision, 0, true));
+				}
+			};
+		}
+		if (conversion.equals("BD2PD"))
+		{
+			return new Conversion() {
+				void convert(int i, Blackhole bh) {
+					DecimalData.convertBigDecimalToPackedDecimal(bigDecimals[i], packedResult[i], 0, precision, true);
+					bh.consume(packedResult[i]);
+				}
+			};
+		}
+		if (conversion.equals("PD2BI"))
+		{
+			return new Conversion() {
+				void convert(int i, Blackhole bh) {
+					bh.consume(DecimalData.convertPackedDecimalToBigInteger(packed[i], 0, precision, true));
+				}
+			};
+		}
+		if (conversion.equals("BI2PD"))
+		{
+			return new Conversion() {
+				void convert(int i, Blackhole bh) {
+					DecimalData.convertBigIntegerToPackedDecimal(bigIntegers[i], packedResult[i], 0, precision, true);
+					bh.consume(packedResult[i]);
+				}
+			};
+		}
+		if (conversion.equals("PD2L"))
+		{
+			return new Conversion() {
+				void convert(int i, Blackhole bh) {
+					bh.consume(DecimalData.convertPackedDecimalToLong(packed[i], 0, precision, true));
+				}
+			};
+		}
+		if (conversion.equals("L2PD"))
+		{
+			return new Conversion() {
+				void convert(int i, Blackhole bh) {
+					DecimalData.convertLongToPackedDecimal(longs[i], packedResult[i], 0, precision, true);
+					bh.consume(packedResult[i]);
+				}
+			};
+		}
+		if (conversion.equals("PD2I"))
+		{
+			return new Conversion() {
+				void convert(int i, Blackhole bh) {
+					bh.consume(DecimalData.convertPackedDecimalToInteger(packed[i], 0, precision, true));
+				}
+			};
+		}
+		if (conversion.equals("I2PD"))
+		{
+			return new Conversion() {
+				void convert(int i, Blackhole bh) {
+					DecimalData.convertIntegerToPackedDecimal(ints[i], packedResult[i], 0, precision, true);
+					bh.consume(packedResult[i]);
+				}
+			};
+		}
+		throw new IllegalArgumentException("Unknown conversion: " + conversion);
+	}
+	
+	static abstract class Conversion
+	{
+		abstract void convert(int i, Blackhole bh);
+	}
+	
+	@Benchmark
+	public void convert(Blackhole bh)
+	{
+		index = (index + 1) & (SAMPLE_SIZE - 1);
+		converter.convert(index, bh);
+	}
+}
@@ -0,0 +1,305 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+
+import net.openj9.test.DecimalGenerator;
+import net.openj9.test.Utils;
+
+/**
+ * JMH benchmarks for the cost of invalid packed decimals in the DAA
+ * conversions and arithmetic.
+ * 
+ * mixed runs an operation over operands of which invalidPercent are corrupt,
+ * half with a digit nibble above 9 and half with a sign nibble below 0xA,
+ * spread at random through the sample. With handling=catch the operation is
+ * called on every operand and the exception thrown for a corrupt one is
+ * caught; with handling=check each operand is first checked with
+ * PackedDecimal.checkPackedDecimal and the corrupt ones skipped. The rejected
+ * counter gives the operands turned away either way.
+ * 
+ * exception calls the operation on corrupt operands only, which gives the
+ * cost of raising and catching one exception.
+ * 
+ * Only the arithmetic validates its operands, so ADD is the only operation
+ * run by default. The conversions PD2L and PD2ED read a corrupt operand
+ * without throwing, so -p operation=PD2L,PD2ED only makes sense for mixed
+ * with handling=check, where it gives the cost of checking before
+ * converting. A trial that relies on an exception, exception or mixed with
+ * handling=catch, fails in setup if a corrupt operand doesn't throw, rather
+ * than timing the conversion of garbage.
+ * 
+ * A few invalid operands can cost far more than their share if throwing
+ * deoptimises the compiled code. Run with
+ * -prof net.openj9.test.daa.jmh.JitCompilationProfiler to count the JIT
+ * compilations in each fork, and -DcompareParam=handling
+ * -DcompareBaseline=catch to compare checking with catching.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+public class InvalidDataBenchmark
+{
+	// Must be a power of 2, operands are selected with a mask
+	static final int SAMPLE_SIZE = 8192;
+	
+	static final int PRECISION = 15;
+	
+	static final long SEED = 8023;
+	
+	/**
+	 * The operands and the operation, one of PD2L, PD2ED and ADD.
+	 */
+	@State(Scope.Thread)
+	public abstract static class Operands
+	{
+		@Param({"ADD"})
+		String operation;
+		
+		byte[][] packed;
+		byte[] addend;
+		byte[] packedResult;
+		byte[] externalResult;
+		
+		Operation operator;
+		
+		int index;
+		
+		/**
+		 * generates the operands, invalid of them corrupt, and if throwing
+		 * checks that the operation throws on every corrupt one.
+		 * 
+		 * @throws IllegalStateException if a corrupt operand doesn't throw
+		 */
+		void generate(int invalid, boolean throwing, Blackhole bh)
+		{
+			operator = operation(operation);
+			
+			DecimalGenerator generator = new DecimalGenerator(new Random(SEED), true);
+			Random random = new Random(SEED);
+			
+			packed = new byte[SAMPLE_SIZE][PRECISION / 2 + 1];
+			for (byte[] operand : packed)
+				generator.packed(operand, 0, PRECISION, random.nextBoolean());
+			addend = new byte[PRECISION / 2 + 1];
+			DecimalData.convertLongToPackedDecimal(1, addend, 0, PRECISION, true);
+			packedResult = new byte[(PRECISION + 1) / 2 + 1];
+			externalResult = new byte[PRECISION];
+			
+			// Corrupt invalid of the operands, chosen at random
+			for (int corrupted = 0; corrupted < invalid;)
+			{
+				byte[] operand = packed[random.nextInt(SAMPLE_SIZE)];
+				if (PackedDecimal.checkPackedDecimal(operand, 0, PRECISION) != 0)
+					continue;
+				
+				if (corrupted % 2 == 0)
+				{
+					int at = random.nextInt(operand.length);
+					operand[at] = (byte) ((operand[at] & 0x0F) | (0xA + random.nextInt(6)) << 4);
+				}
+				else
+				{
+					operand[operand.length - 1] = (byte) ((operand[operand.length - 1] & 0xF0) | random.nextInt(10));
+				}
+				++corrupted;
+			}
+			
+			if (throwing)
+			{
+				for (int i = 0; i < SAMPLE_SIZE; ++i)
+				{
+					if (PackedDecimal.checkPackedDecimal(packed[i], 0, PRECISION) != 0 && !throwsOn(i, bh))
+						throw new IllegalStateException(operation + " does not throw on the invalid operand " + Utils.printByteArray(packed[i])
+								+ ", only handling=check is meaningful for it");
+				}
+			}
+		}
+		
+		private boolean throwsOn(int i, Blackhole bh)
+		{
+			try
+			{
+				operator.run(i, bh);
+				return false;
+			}
+			catch (IllegalArgumentException e)
+			{
+				return true;
+			}
+			catch (ArithmeticException e)
+			{
+				return true;
+			}
+		}
+		
+		/**
+		 * The operation is selected once per trial, the call through it is
+		 * monomorphic as long as each trial is forked.
+		 */
+		Operation operation(String operation)
+		{
+			if (operation.equals("PD2L"))
+			{
+				return new Operation() {
+					void run(int i, Blackhole bh) {
+						bh.consume(DecimalData.convertPackedDecimalToLong(packed[i], 0, PRECISION, true));
+					}
+				};
+			}
+			if (operation.equals("PD2ED"))
+			{
+				return new Operation() {
+					void run(int i, Blackhole bh) {
+						DecimalData.convertPackedDecimalToExternalDecimal(packed[i], 0, externalResult, 0, PRECISION, DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING);
+						bh.consume(externalResult);
+					}
+				};
+			}
+			if (operation.equals("ADD"))
+			{
+				return new Operation() {
+					void run(int i, Blackhole bh) {
+						PackedDecimal.addPackedDecimal(packedResult, 0, PRECISION + 1, packed[i], 0, PRECISION, addend, 0, PRECISION, true);
+						bh.consume(packedResult);
+					}
+				};
+			}
+			throw new IllegalArgumentException("Unknown operation: " + operation);
+		}
+	}
+	
+	static abstract class Operation
+	{
+		abstract void run(int i, Blackhole bh);
+	}
+	
+	@State(Scope.Thread)
+	public static class Mixed extends Operands
+	{
+		@Param({"0", "0.1", "1", "10"})
+		double invalidPercent;
+		
+		@Param({"catch", "check"})
+		String handling;
+		
+		boolean check;
+		
+		@Setup(Level.Trial)
+		public void setUp(Blackhole bh)
+		{
+			check = handling.equals("check");
+			generate((int) Math.round(SAMPLE_SIZE * invalidPercent / 100), !check, bh);
+		}
+	}
+	
+	@State(Scope.Thread)
+	public static class Invalid extends Operands
+	{
+		@Setup(Level.Trial)
+		public void setUp(Blackhole bh)
+		{
+			generate(SAMPLE_SIZE, true, bh);
+		}
+	}
+	
+	/**
+	 * The operands turned away, reported as a rate next to the score.
+	 */
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class Rejections
+	{
+		public long rejected;
+	}
+	
+	@Benchmark
+	public void mixed(Mixed operands, Rejections rejections, Blackhole bh)
+	{
+		int i = operands.index = (operands.index + 1) & (SAMPLE_SIZE - 1);
+		
+		if (operands.check)
+		{
+			if (PackedDecimal.checkPackedDecimal(operands.packed[i], 0, PRECISION) == 0)
+				operands.operator.run(i, bh);
+			else
+				++rejections.rejected;
+			return;
+		}
+		
+		try
+		{
+			operands.operator.run(i, bh);
+		}
+		catch (IllegalArgumentException e)
+		{
+			++rejections.rejected;
+		}
+		catch (ArithmeticException e)
+		{
+			++rejections.rejected;
+		}
+	}
+	
+	@Benchmark
+	public void exception(Invalid operands, Rejections rejections, Blackhole bh)
+	{
+		int i = operands.index = (operands.index + 1) & (SAMPLE_SIZE - 1);
+		
+		try
+		{
+			operands.operator.run(i, bh);
+		}
+		catch (IllegalArgumentException e)
+		{
+			++rejections.rejected;
+		}
+		catch (ArithmeticException e)
+		{
+			++rejections.rejected;
+		}
+	}
+}
@@ -0,0 +1,237 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.jmh;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.ExternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.BenchmarkResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * A JMH profiler counting the JIT compilations in each fork, from the
+ * verbose JIT log on OpenJ9 (-Xjit:verbose={compileEnd}) and from
+ * -XX:+PrintCompilation on other JVMs.
+ * 
+ * It reports the methods compiled, the compilations beyond the first of each
+ * method and the same two counts for the com.ibm.dataaccess methods, and on
+ * JVMs that log them the methods made not entrant by deoptimisation. More
+ * recompilations for the same benchmark with more invalid data show the JIT
+ * throwing away code on the exception path.
+ * 
+ * Usage: -prof net.openj9.test.daa.jmh.JitCompilationProfiler
+ */
+public class JitCompilationProfiler implements ExternalProfiler
+{
+	static final String DAA_PACKAGE = "com.ibm.dataaccess.";
+	
+	// Whether the forked JVM, which -jvm may make another one than this, is OpenJ9
+	private boolean openJ9;
+	
+	// The verbose log of the current fork; OpenJ9 adds a suffix to the name
+	private File vlog;
+	
+	static boolean isOpenJ9(BenchmarkParams params)
+	{
+		// JMH reads the name from the forked JVM; IBM builds call it "IBM J9 VM"
+		return params.getVmName() != null && params.getVmName().contains("J9");
+	}
+	
+	public String getDescription()
+	{
+		return "Counts the JIT compilations and recompilations in each fork";
+	}
+	
+	public Collection<String> addJVMInvokeOptions(BenchmarkParams params)
+	{
+		return Collections.emptyList();
+	}
+	
+	public Collection<String> addJVMOptions(BenchmarkParams params)
+	{
+		openJ9 = isOpenJ9(params);
+		if (!openJ9)
+			return Collections.singletonList("-XX:+PrintCompilation");
+		
+		try
+		{
+			vlog = File.createTempFile("daa-jmh", ".vlog");
+			vlog.delete();
+		}
+		catch (IOException e)
+		{
+			throw new IllegalStateException("Cannot create the verbose JIT log", e);
+		}
+		return Collections.singletonList("-Xjit:verbose={compileEnd},vlog=" + vlog.getAbsolutePath());
+	}
+	
+	public void beforeTrial(BenchmarkParams params)
+	{
+	}
+	
+	public Collection<? extends Result> afterTrial(BenchmarkResult result, long pid, File stdOut, File stdErr)
+	{
+		Counts counts = new Counts(isOpenJ9(result.getParams()));
+		try
+		{
+			if (counts.openJ9)
+			{
+				File[] logs = vlog.getAbsoluteFile().getParentFile().listFiles();
+				for (File log : logs == null ? new File[0] : logs)
+				{
+					if (log.getName().startsWith(vlog.getName()))
+					{
+						counts.read(log);
+						log.delete();
+					}
+				}
+			}
+			else
+			{
+				counts.read(stdOut);
+			}
+		}
+		catch (IOException e)
+		{
+			throw new IllegalStateException("Cannot read the JIT compilations", e);
+		}
+		return counts.results();
+	}
+	
+	public boolean allowPrintOut()
+	{
+		// Keeps -XX:+PrintCompilation out of the JMH output
+		return openJ9;
+	}
+	
+	public boolean allowPrintErr()
+	{
+		return true;
+	}
+	
+	static final class Counts
+	{
+		final boolean openJ9;
+		final Map<String, Integer> compilations = new HashMap<String, Integer>();
+		int notEntrant;
+		
+		Counts(boolean openJ9)
+		{
+			this.openJ9 = openJ9;
+		}
+		
+		void read(File log) throws IOException
+		{
+			BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(log), Charset.defaultCharset()));
+			try
+			{
+				for (String line = reader.readLine(); line != null; line = reader.readLine())
+				{
+					String method = openJ9 ? openJ9Method(line) : printCompilationMethod(line);
+					if (method != null)
+					{
+						Integer count = compilations.get(method);
+						compilations.put(method, count == null ? 1 : count + 1);
+					}
+				}
+			}
+			finally
+			{
+				reader.close();
+			}
+		}
+		
+		// A compilation is logged as "+ (level) package/Class.method(signature) ...", where the
+		// level may have spaces, e.g. "(profiled very-hot)" or "(AOT load)"
+		static String openJ9Method(String line)
+		{
+			if (!line.startsWith("+ ("))
+				return null;
+			int levelEnd = line.indexOf(") ", 3);
+			if (levelEnd < 0)
+				return null;
+			
+			String method = line.substring(levelEnd + 2);
+			int end = method.indexOf(' ');
+			return (end < 0 ? method : method.substring(0, end)).replace('/', '.');
+		}
+		
+		// A compilation is logged as "time id flags level package.Class::method (size)"
+		String printCompilationMethod(String line)
+		{
+			if (line.contains("made not entrant"))
+			{
+				++notEntrant;
+				return null;
+			}
+			for (String token : line.trim().split("\\s+"))
+			{
+				if (token.contains("::"))
+					return token.replace("::", ".");
+			}
+			return null;
+		}
+		
+		List<Result> results()
+		{
+			int methods = 0;
+			int recompilations = 0;
+			int daaMethods = 0;
+			int daaRecompilations = 0;
+			for (Map.Entry<String, Integer> entry : compilations.entrySet())
+			{
+				++methods;
+				recompilations += entry.getValue() - 1;
+				if (entry.getKey().startsWith(DAA_PACKAGE))
+				{
+					++daaMethods;
+					daaRecompilations += entry.getValue() - 1;
+				}
+			}
+			
+			List<Result> results = new ArrayList<Result>();
+			results.add(new ScalarResult("jit.methods", methods, "methods", AggregationPolicy.AVG));
+			results.add(new ScalarResult("jit.recompilations", recompilations, "compilations", AggregationPolicy.AVG));
+			results.add(new ScalarResult("jit.daa.methods", daaMethods, "methods", AggregationPolicy.AVG));
+			results.add(new ScalarResult("jit.daa.recompilations", daaRecompilations, "compilations", AggregationPolicy.AVG));
+			if (!openJ9)
+				results.add(new ScalarResult("jit.notEntrant", notEntrant, "methods", AggregationPolicy.AVG));
+			return results;
+		}
+	}
+}
@@ -0,0 +1,248 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.daa.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.dataaccess.ByteArrayMarshaller;
+import com.ibm.dataaccess.ByteArrayUnmarshaller;
+
+/**
+ * JMH throughput benchmarks for each ByteArrayMarshaller write and
+ * ByteArrayUnmarshaller read method.
+ * 
+ * Every method is measured separately for big and little endian and for
+ * aligned and unaligned offsets; the numBytes variants are measured for every
+ * width, and the reads with and without sign extension. The fields are laid
+ * out every 8 bytes, so aligned offsets are naturally aligned for every width
+ * and unaligned offsets are one byte past that.
+ * 
+ * Run with -DmatrixColumn=numBytes to have DaaBenchmarkRunner print the results
+ * as a matrix with one column per width.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(3)
+public class MarshallingBenchmark
+{
+	// Must be a power of 2, fields are selected with a mask
+	static final int SAMPLE_SIZE = 1024;
+	
+	static final int FIELD_STRIDE = 8;
+	
+	static final long SEED = 8002;
+	
+	@State(Scope.Thread)
+	public static class Buffer
+	{
+		@Param({"big", "little"})
+		String endian;
+		
+		@Param({"aligned", "unaligned"})
+		String alignment;
+		
+		boolean bigEndian;
+		
+		byte[] bytes;
+		int[] offsets;
+		long[] values;
+		
+		int index;
+		
+		@Setup(Level.Trial)
+		public void setUp()
+		{
+			Random random = new Random(SEED);
+			
+			bigEndian = endian.equals("big");
+			
+			int shift = alignment.equals("aligned") ? 0 : 1;
+			
+			bytes = new byte[SAMPLE_SIZE * FIELD_STRIDE + FIELD_STRIDE];
+			offsets = new int[SAMPLE_SIZE];
+			values = new long[SAMPLE_SIZE];
+			
+			random.nextBytes(bytes);
+			
+			for (int i = 0; i < SAMPLE_SIZE; ++i)
+			{
+				offsets[i] = i * FIELD_STRIDE + shift;
+				values[i] = random.nextLong();
+			}
+		}
+		
+		int next()
+		{
+			index = (index + 1) & (SAMPLE_SIZE - 1);
+			return index;
+		}
+	}
+	
+	@State(Scope.Thread)
+	public static class ShortWidth
+	{
+		@Param({"1", "2"})
+		int numBytes;
+	}
+	
+	@State(Scope.Thread)
+	public static class IntWidth
+	{
+		@Param({"1", "2", "3", "4"})
+		int numBytes;
+	}
+	
+	@State(Scope.Thread)
+	public static class LongWidth
+	{
+		@Param({"1", "2", "3", "4", "5", "6", "7", "8"})
+		int numBytes;
+	}
+	
+	@State(Scope.Thread)
+	public static class SignExtension
+	{
+		@Param({"true", "false"})
+		boolean signExtend;
+	}
+	
+	@Benchmark
+	public short readShort(Buffer buffer)
+	{
+		return ByteArrayUnmarshaller.readShort(buffer.bytes, buffer.offsets[buffer.next()], buffer.bigEndian);
+	}
+	
+	@Benchmark
+	public int readInt(Buffer buffer)
+	{
+		return ByteArrayUnmarshaller.readInt(buffer.bytes, buffer.offsets[buffer.next()], buffer.bigEndian);
+	}
+	
+	@Benchmark
+	public long readLong(Buffer buffer)
+	{
+		return ByteArrayUnmarshaller.readLong(buffer.bytes, buffer.offsets[buffer.next()], buffer.bigEndian);
+	}
+	
+	@Benchmark
+	public float readFloat(Buffer buffer)
+	{
+		return ByteArrayUnmarshaller.readFloat(buffer.bytes, buffer.offsets[buffer.next()], buffer.bigEndian);
+	}
+	
+	@Benchmark
+	public double readDouble(Buffer buffer)
+	{
+		return ByteArrayUnmarshaller.readDouble(buffer.bytes, buffer.offsets[buffer.next()], buffer.bigEndian);
+	}
+	
+	@Benchmark
+	public short readShortNumBytes(Buffer buffer, ShortWidth width, SignExtension sign)
+	{
+		return ByteArrayUnmarshaller.readShort(buffer.bytes, buffer.offsets[buffer.next()], buffer.bigEndian, width.numBytes, sign.signExtend);
+	}
+	
+	@Benchmark
+	public int readIntNumBytes(Buffer buffer, IntWidth width, SignExtension sign)
+	{
+		return ByteArrayUnmarshaller.readInt(buffer.bytes, buffer.offsets[buffer.next()], buffer.bigEndian, width.numBytes, sign.signExtend);
+	}
+	
+	@Benchmark
+	public long readLongNumBytes(Buffer buffer, LongWidth width, SignExtension sign)
+	{
+		return ByteArrayUnmarshaller.readLong(buffer.bytes, buffer.offsets[buffer.next()], buffer.bigEndian, width.numBytes, sign.signExtend);
+	}
+	
+	@Benchmark
+	public void writeShort(Buffer buffer)
+	{
+		int i = buffer.next();
+		ByteArrayMarshaller.writeShort((short) buffer.values[i], buffer.bytes, buffer.offsets[i], buffer.bigEndian);
+	}
+	
+	@Benchmark
+	public void writeInt(Buffer buffer)
+	{
+		int i = buffer.next();
+		ByteArrayMarshaller.writeInt((int) buffer.values[i], buffer.bytes, buffer.offsets[i], buffer.bigEndian);
+	}
+	
+	@Benchmark
+	public void writeLong(Buffer buffer)
+	{
+		int i = buffer.next();
+		ByteArrayMarshaller.writeLong(buffer.values[i], buffer.bytes, buffer.offsets[i], buffer.bigEndian);
+	}
+	
+	@Benchmark
+	public void writeFloat(Buffer buffer)
+	{
+		int i = buffer.next();
+		ByteArrayMarshaller.writeFloat((float) buffer.values[i], buffer.bytes, buffer.offsets[i], buffer.bigEndian);
+	}
+	
+	@Benchmark
+	public void writeDouble(Buffer buffer)
+	{
+		int i = buffer.next();
+		ByteArrayMarshaller.writeDouble((double) buffer.values[i], buffer.bytes, buffer.offsets[i], buffer.bigEndian);
+	}
+	
+	@Benchmark
+	public void writeShortNumBytes(Buffer buffer, ShortWidth width)
+	{
+		int i = buffer.next();
+		ByteArrayMarshaller.writeShort((short) buffer.values[i], buffer.bytes, buffer.offsets[i], buffer.bigEndian, width.numBytes);
+	}
+	
+	@Benchmark
+	public void writeIntNumBytes(Buffer buffer, IntWidth width)
+	{
+		int i = buffer.next();
+		ByteArrayMarshaller.writeInt((int) buffer.values[i], buffer.bytes, buffer.offsets[i], buffer.bigEndian, width.numBytes);
+	}
+	
+	@Benchmark
+	public void writeLongNumBytes(Buffer buffer, LongWidth width)
+	{
+		int i = buffer.next();
+		ByteArrayMarshaller.writeLong(buffer.values[i], buffer.bytes, buffer.offsets[i], buffer.bigEndian, width.numBytes);
+	}
+}
@@ -0,0 +1,321 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.daa.jmh;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.dataaccess.ByteArrayMarshaller;
+import com.ibm.dataaccess.ByteArrayUnmarshaller;
+
+/**
+ * JMH benchmarks running identical encode and decode workloads through
+ * ByteArrayMarshaller/ByteArrayUnmarshaller, byte array view VarHandles and
+ * heap and direct ByteBuffers.
+ * 
+ * The values are taken from the Utils.TestValue sets used by the marshalling
+ * tests. Each field width has its own region of the buffer with a field every
+ * 8 bytes, filled with the value set through the api being measured and read
+ * back to check the api before it is timed.
+ * 
+ * Run with -DcompareParam=api -DcompareBaseline=daa to have DaaBenchmarkRunner
+ * print the cost of each api relative to DAA and flag every case where DAA is
+ * slower than plain Java, which usually means the JIT did not recognise the
+ * DAA method.
+ * 
+ * The api is selected through a Codec field, which is monomorphic as long as
+ * each trial is forked. This class needs Java 9 or later for VarHandle and is
+ * left out of the build on Java 8.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(3)
+@State(Scope.Thread)
+public class MarshallingComparisonBenchmark
+{
+	// Must be a power of 2, fields are selected with a mask
+	static final int SAMPLE_SIZE = 1024;
+	
+	static final int FIELD_STRIDE = 8;
+	
+	static final int REGION_SIZE = SAMPLE_SIZE * FIELD_STRIDE;
+	
+	static final int SHORT_REGION = 0;
+	static final int INT_REGION = REGION_SIZE;
+	static final int LONG_REGION = 2 * REGION_SIZE;
+	static final int FLOAT_REGION = 3 * REGION_SIZE;
+	static final int DOUBLE_REGION = 4 * REGION_SIZE;
+	static final int BUFFER_SIZE = 5 * REGION_SIZE;
+	
+	@Param({"daa", "varHandle", "heapByteBuffer", "directByteBuffer"})
+	String api;
+	
+	@Param({"big", "little"})
+	String endian;
+	
+	@Param({"SmallPositive", "LargePositive", "SmallNegative", "LargeNegative", "Zero", "LargestPossible", "SmallestPossible"})
+	String valueSet;
+	
+	Codec codec;
+	
+	short shortValue;
+	int intValue;
+	long longValue;
+	float floatValue;
+	double doubleValue;
+	
+	int index;
+	
+	@Setup(Level.Trial)
+	public void setUp() throws Exception
+	{
+		boolean bigEndian = endian.equals("big");
+		ByteOrder order = bigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+		
+		if (api.equals("daa"))
+			codec = new DaaCodec(new byte[BUFFER_SIZE], bigEndian);
+		else if (api.equals("varHandle"))
+			codec = new VarHandleCodec(new byte[BUFFER_SIZE], bigEndian);
+		else if (api.equals("heapByteBuffer"))
+			codec = new ByteBufferCodec(ByteBuffer.allocate(BUFFER_SIZE).order(order));
+		else if (api.equals("directByteBuffer"))
+			codec = new ByteBufferCodec(ByteBuffer.allocateDirect(BUFFER_SIZE).order(order));
+		else
+			throw new IllegalArgumentException("Unknown api: " + api);
+		
+		Class<?> values = Class.forName("net.openj9.test.Utils$TestValue$" + valueSet);
+		shortValue = values.getField("ShortValue").getShort(null);
+		intValue = values.getField("IntValue").getInt(null);
+		longValue = values.getField("LongValue").getLong(null);
+		floatValue = values.getField("FloatValue").getFloat(null);
+		doubleValue = values.getField("DoubleValue").getDouble(null);
+		
+		for (int i = 0; i < SAMPLE_SIZE; ++i)
+		{
+			int offset = i * FIELD_STRIDE;
+			
+			codec.putShort(SHORT_REGION + offset, shortValue);
+			codec.putInt(INT_REGION + offset, intValue);
+			codec.putLong(LONG_REGION + offset, longValue);
+			codec.putFloat(FLOAT_REGION + offset, floatValue);
+			codec.putDouble(DOUBLE_REGION + offset, doubleValue);
+			
+			if (codec.getShort(SHORT_REGION + offset) != shortValue
+					|| codec.getInt(INT_REGION + offset) != intValue
+					|| codec.getLong(LONG_REGION + offset) != longValue
+					|| Float.compare(codec.getFloat(FLOAT_REGION + offset), floatValue) != 0
+					|| Double.compare(codec.getDouble(DOUBLE_REGION + offset), doubleValue) != 0)
+			{
+				throw new IllegalStateException(api + " " + endian + " endian did not read back the " + valueSet + " values at offset " + offset);
+			}
+		}
+	}
+	
+	int nextOffset()
+	{
+		index = (index + 1) & (SAMPLE_SIZE - 1);
+		return index * FIELD_STRIDE;
+	}
+	
+	@Benchmark
+	public short decodeShort()
+	{
+		return codec.getShort(SHORT_REGION + nextOffset());
+	}
+	
+	@Benchmark
+	public int decodeInt()
+	{
+		return codec.getInt(INT_REGION + nextOffset());
+	}
+	
+	@Benchmark
+	public long decodeLong()
+	{
+		return codec.getLong(LONG_REGION + nextOffset());
+	}
+	
+	@Benchmark
+	public float decodeFloat()
+	{
+		return codec.getFloat(FLOAT_REGION + nextOffset());
+	}
+	
+	@Benchmark
+	public double decodeDouble()
+	{
+		return codec.getDouble(DOUBLE_REGION + nextOffset());
+	}
+	
+	@Benchmark
+	public void encodeShort()
+	{
+		codec.putShort(SHORT_REGION + nextOffset(), shortValue);
+	}
+	
+	@Benchmark
+	public void encodeInt()
+	{
+		codec.putInt(INT_REGION + nextOffset(), intValue);
+	}
+	
+	@Benchmark
+	public void encodeLong()
+	{
+		codec.putLong(LONG_REGION + nextOffset(), longValue);
+	}
+	
+	@Benchmark
+	public void encodeFloat()
+	{
+		codec.putFloat(FLOAT_REGION + nextOffset(), floatValue);
+	}
+	
+	@Benchmark
+	public void encodeDouble()
+	{
+		codec.putDouble(DOUBLE_REGION + nextOffset(), doubleValue);
+	}
+	
+	static abstract class Codec
+	{
+		abstract short getShort(int offset);
+		abstract int getInt(int offset);
+		abstract long getLong(int offset);
+		abstract float getFloat(int offset);
+		abstract double getDouble(int offset);
+		
+		abstract void putShort(int offset, short value);
+		abstract void putInt(int offset, int value);
+		abstract void putLong(int offset, long value);
+		abstract void putFloat(int offset, float value);
+		abstract void putDouble(int offset, double value);
+	}
+	
+	static final class DaaCodec extends Codec
+	{
+		private final byte[] bytes;
+		private final boolean bigEndian;
+		
+		DaaCodec(byte[] bytes, boolean bigEndian)
+		{
+			this.bytes = bytes;
+			this.bigEndian = bigEndian;
+		}
+		
+		short getShort(int offset) { return ByteArrayUnmarshaller.readShort(bytes, offset, bigEndian); }
+		int getInt(int offset) { return ByteArrayUnmarshaller.readInt(bytes, offset, bigEndian); }
+		long getLong(int offset) { return ByteArrayUnmarshaller.readLong(bytes, offset, bigEndian); }
+		float getFloat(int offset) { return ByteArrayUnmarshaller.readFloat(bytes, offset, bigEndian); }
+		double getDouble(int offset) { return ByteArrayUnmarshaller.readDouble(bytes, offset, bigEndian); }
+		
+		void putShort(int offset, short value) { ByteArrayMarshaller.writeShort(value, bytes, offset, bigEndian); }
+		void putInt(int offset, int value) { ByteArrayMarshaller.writeInt(value, bytes, offset, bigEndian); }
+		void putLong(int offset, long value) { ByteArrayMarshaller.writeLong(value, bytes, offset, bigEndian); }
+		void putFloat(int offset, float value) { ByteArrayMarshaller.writeFloat(value, bytes, offset, bigEndian); }
+		void putDouble(int offset, double value) { ByteArrayMarshaller.writeDouble(value, bytes, offset, bigEndian); }
+	}
+	
+	/**
+	 * The VarHandles are static final so that the JIT treats them as constants,
+	 * the endianness is a runtime flag just as it is for DAA.
+	 */
+	static final class VarHandleCodec extends Codec
+	{
+		private static final VarHandle SHORT_BE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+		private static final VarHandle INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+		private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+		private static final VarHandle FLOAT_BE = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.BIG_ENDIAN);
+		private static final VarHandle DOUBLE_BE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.BIG_ENDIAN);
+		
+		private static final VarHandle SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+		private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+		private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+		private static final VarHandle FLOAT_LE = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+		private static final VarHandle DOUBLE_LE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+		
+		private final byte[] bytes;
+		private final boolean bigEndian;
+		
+		VarHandleCodec(byte[] bytes, boolean bigEndian)
+		{
+			this.bytes = bytes;
+			this.bigEndian = bigEndian;
+		}
+		
+		short getShort(int offset) { return bigEndian ? (short) SHORT_BE.get(bytes, offset) : (short) SHORT_LE.get(bytes, offset); }
+		int getInt(int offset) { return bigEndian ? (int) INT_BE.get(bytes, offset) : (int) INT_LE.get(bytes, offset); }
+		long getLong(int offset) { return bigEndian ? (long) LONG_BE.get(bytes, offset) : (long) LONG_LE.get(bytes, offset); }
+		float getFloat(int offset) { return bigEndian ? (float) FLOAT_BE.get(bytes, offset) : (float) FLOAT_LE.get(bytes, offset); }
+		double getDouble(int offset) { return bigEndian ? (double) DOUBLE_BE.get(bytes, offset) : (double) DOUBLE_LE.get(bytes, offset); }
+		
+		void putShort(int offset, short value) { if (bigEndian) SHORT_BE.set(bytes, offset, value); else SHORT_LE.set(bytes, offset, value); }
+		void putInt(int offset, int value) { if (bigEndian) INT_BE.set(bytes, offset, value); else INT_LE.set(bytes, offset, value); }
+		void putLong(int offset, long value) { if (bigEndian) LONG_BE.set(bytes, offset, value); else LONG_LE.set(bytes, offset, value); }
+		void putFloat(int offset, float value) { if (bigEndian) FLOAT_BE.set(bytes, offset, value); else FLOAT_LE.set(bytes, offset, value); }
+		void putDouble(int offset, double value) { if (bigEndian) DOUBLE_BE.set(bytes, offset, value); else DOUBLE_LE.set(bytes, offset, value); }
+	}
+	
+	/**
+	 * Used for both heap and direct buffers, the byte order is set on the buffer.
+	 */
+	static final class ByteBufferCodec extends Codec
+	{
+		private final ByteBuffer buffer;
+		
+		ByteBufferCodec(ByteBuffer buffer)
+		{
+			this.buffer = buffer;
+		}
+		
+		short getShort(int offset) { return buffer.getShort(offset); }
+		int getInt(int offset) { return buffer.getInt(offset); }
+		long getLong(int offset) { return buffer.getLong(offset); }
+		float getFloat(int offset) { return buffer.getFloat(offset); }
+		double getDouble(int offset) { return buffer.getDouble(offset); }
+		
+		void putShort(int offset, short value) { buffer.putShort(offset, value); }
+		void putInt(int offset, int value) { buffer.putInt(offset, value); }
+		void putLong(int offset, long value) { buffer.putLong(offset, value); }
+		void putFloat(int offset, float value) { buffer.putFloat(offset, value); }
+		void putDouble(int offset, double value) { buffer.putDouble(offset, value); }
+	}
+}
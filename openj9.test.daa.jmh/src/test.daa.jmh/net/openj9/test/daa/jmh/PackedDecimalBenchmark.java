@@ -0,0 +1,218 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.daa.jmh;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+
+import net.openj9.test.Utils;
+import net.openj9.test.arithmetics.TestPerformance;
+
+/**
+ * JMH benchmarks for the PackedDecimal arithmetic and comparison methods.
+ * 
+ * These replace the System.currentTimeMillis() timing in TestPerformance, which
+ * has no warm-up, no fork isolation and no protection against dead code
+ * elimination. The operands come from TestPerformance.generateValue so both
+ * time the same kind of data.
+ * 
+ * The default precision list covers odd and even precisions either side of the
+ * int and long boundaries; use -p precision=1,2,...,31 for a full sweep.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(3)
+@State(Scope.Thread)
+public class PackedDecimalBenchmark
+{
+	// Must be a power of 2, operands are selected with a mask
+	static final int SAMPLE_SIZE = 1024;
+	
+	// TestPerformance generates its operands with sampleSize bits
+	static final int NUM_BITS = 1000;
+	
+	// The largest precision handled by the packed decimal instructions
+	static final int MAX_PRECISION = 31;
+	
+	static final long SEED = 8002;
+	
+	@Param({"1", "2", "5", "9", "10", "15", "16", "18", "19", "25", "30", "31"})
+	int precision;
+	
+	@Param({"positive", "negative", "mixed"})
+	String sign;
+	
+	@Param({"0", "1"})
+	int offset;
+	
+	byte[][] op1;
+	byte[][] op2;
+	byte[][] result;
+	
+	int sumPrecision;
+	int productPrecision;
+	
+	int index;
+	
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		Random random = new Random(SEED);
+		
+		sumPrecision = Math.min(precision + 1, MAX_PRECISION);
+		productPrecision = Math.min(precision * 2, MAX_PRECISION);
+		
+		int length = offset + Utils.getByteArraySizeFromPrecision(MAX_PRECISION);
+		
+		op1 = new byte[SAMPLE_SIZE][length];
+		op2 = new byte[SAMPLE_SIZE][length];
+		result = new byte[SAMPLE_SIZE][length];
+		
+		for (int i = 0; i < SAMPLE_SIZE; ++i)
+		{
+			DecimalData.convertBigIntegerToPackedDecimal(operand(random), op1[i], offset, precision, true);
+			DecimalData.convertBigIntegerToPackedDecimal(operand(random), op2[i], offset, precision, true);
+		}
+	}
+	
+	/**
+	 * returns a non-zero operand of exactly precision digits with the sign
+	 * selected by the sign parameter.
+	 */
+	BigInteger operand(Random random)
+	{
+		BigInteger value = TestPerformance.generateValue(NUM_BITS, random);
+		BigInteger digits = Utils.toPrecision(value.abs(), precision);
+		
+		if (sign.equals("negative") || (sign.equals("mixed") && value.signum() < 0))
+			return digits.negate();
+		return digits;
+	}
+	
+	int next()
+	{
+		index = (index + 1) & (SAMPLE_SIZE - 1);
+		return index;
+	}
+	
+	@Benchmark
+	public byte[] addPackedDecimal()
+	{
+		int i = next();
+		PackedDecimal.addPackedDecimal(result[i], offset, sumPrecision, op1[i], offset, precision, op2[i], offset, precision, false);
+		return result[i];
+	}
+	
+	@Benchmark
+	public byte[] subtractPackedDecimal()
+	{
+		int i = next();
+		PackedDecimal.subtractPackedDecimal(result[i], offset, sumPrecision, op1[i], offset, precision, op2[i], offset, precision, false);
+		return result[i];
+	}
+	
+	@Benchmark
+	public byte[] multiplyPackedDecimal()
+	{
+		int i = next();
+		PackedDecimal.multiplyPackedDecimal(result[i], offset, productPrecision, op1[i], offset, precision, op2[i], offset, precision, false);
+		return result[i];
+	}
+	
+	@Benchmark
+	public byte[] dividePackedDecimal()
+	{
+		int i = next();
+		PackedDecimal.dividePackedDecimal(result[i], offset, precision, op1[i], offset, precision, op2[i], offset, precision, false);
+		return result[i];
+	}
+	
+	@Benchmark
+	public byte[] remainderPackedDecimal()
+	{
+		int i = next();
+		PackedDecimal.remainderPackedDecimal(result[i], offset, precision, op1[i], offset, precision, op2[i], offset, precision, false);
+		return result[i];
+	}
+	
+	@Benchmark
+	public boolean equalsPackedDecimal()
+	{
+		int i = next();
+		return PackedDecimal.equalsPackedDecimal(op1[i], offset, precision, op2[i], offset, precision);
+	}
+	
+	@Benchmark
+	public boolean notEqualsPackedDecimal()
+	{
+		int i = next();
+		return PackedDecimal.notEqualsPackedDecimal(op1[i], offset, precision, op2[i], offset, precision);
+	}
+	
+	@Benchmark
+	public boolean greaterThanPackedDecimal()
+	{
+		int i = next();
+		return PackedDecimal.greaterThanPackedDecimal(op1[i], offset, precision, op2[i], offset, precision);
+	}
+	
+	@Benchmark
+	public boolean greaterThanOrEqualsPackedDecimal()
+	{
+		int i = next();
+		return PackedDecimal.greaterThanOrEqualsPackedDecimal(op1[i], offset, precision, op2[i], offset, precision);
+	}
+	
+	@Benchmark
+	public boolean lessThanPackedDecimal()
+	{
+		int i = next();
+		return PackedDecimal.lessThanPackedDecimal(op1[i], offset, precision, op2[i], offset, precision);
+	}
+	
+	@Benchmark
+	public boolean lessThanOrEqualsPackedDecimal()
+	{
+		int i = next();
+		return PackedDecimal.lessThanOrEqualsPackedDecimal(op1[i], offset, precision, op2[i], offset, precision);
+	}
+}
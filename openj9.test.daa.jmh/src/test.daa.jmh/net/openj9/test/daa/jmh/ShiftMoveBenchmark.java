@@ -0,0 +1,235 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.jmh;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ibm.dataaccess.PackedDecimal;
+
+import net.openj9.test.DecimalGenerator;
+import net.openj9.test.Utils;
+
+/**
+ * JMH benchmarks for the PackedDecimal scaling methods, shiftLeftPackedDecimal,
+ * shiftRightPackedDecimal with and without rounding, and movePackedDecimal.
+ * TestShiftsAndConvert and TestPDMove check their results; these time them.
+ * 
+ * The operands live in 256 byte slots of one array. The source is at offset
+ * 0 to 63 in its slot, and the destination is in a different cache line of the
+ * slot (layout=disjoint), at the same offset (inPlace) or one byte further on,
+ * overlapping the source (overlapping). Since every slot starts at the same
+ * alignment, a sweep of -p offset=0,1,...,63 puts the operand across a 64 byte
+ * cache line boundary for some offsets, whatever the alignment of the array.
+ * 
+ * Each operation first copies its source operand back into its slot, as the
+ * in place layouts overwrite it; restore times that copy alone.
+ * 
+ * A shift by an odd number of digits moves every digit to the other nibble of
+ * a byte, where an even one moves whole bytes. To find the alignments that take
+ * a slow path, compare each shift with a shift of one byte:
+ * -DcompareParam=shift -DcompareBaseline=2 flags the cases where a shift of
+ * two digits is slower than another amount, and -DcompareParam=shift
+ * -DcompareBaseline=1 those where an odd shift is slower. -DcompareParam=offset
+ * and -DcompareParam=layout work the same way.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+public class ShiftMoveBenchmark
+{
+	// Must be a power of 2, operands are selected with a mask
+	static final int SAMPLE_SIZE = 1024;
+	
+	// The source is in the first half of a slot, a disjoint destination in the second
+	static final int SLOT = 256;
+	
+	// The largest precision handled by the packed decimal instructions
+	static final int MAX_PRECISION = 31;
+	
+	static final long SEED = 8025;
+	
+	/**
+	 * The slots of source and destination operands.
+	 */
+	@State(Scope.Thread)
+	public abstract static class Operands
+	{
+		@Param({"15", "16", "30", "31"})
+		int precision;
+		
+		@Param({"0", "1", "63"})
+		int offset;
+		
+		@Param({"disjoint", "inPlace", "overlapping"})
+		String layout;
+		
+		byte[] memory;
+		byte[] sources;
+		int sourceLength;
+		int destinationOffset;
+		
+		int index;
+		
+		void generate()
+		{
+			DecimalGenerator generator = new DecimalGenerator(new Random(SEED));
+			Random random = new Random(SEED);
+			
+			sourceLength = Utils.getByteArraySizeFromPrecision(precision);
+			memory = new byte[SAMPLE_SIZE * SLOT];
+			sources = new byte[SAMPLE_SIZE * sourceLength];
+			for (int i = 0; i < SAMPLE_SIZE; ++i)
+				generator.packed(sources, i * sourceLength, precision, random.nextBoolean());
+			
+			if (layout.equals("disjoint"))
+				destinationOffset = offset + SLOT / 2;
+			else if (layout.equals("inPlace"))
+				destinationOffset = offset;
+			else
+				destinationOffset = offset + 1;
+		}
+		
+		/**
+		 * returns the start of the next slot, with its source operand restored.
+		 */
+		int next()
+		{
+			index = (index + 1) & (SAMPLE_SIZE - 1);
+			int slot = index * SLOT;
+			System.arraycopy(sources, index * sourceLength, memory, slot + offset, sourceLength);
+			return slot;
+		}
+	}
+	
+	@State(Scope.Thread)
+	public static class Restore extends Operands
+	{
+		@Setup(Level.Trial)
+		public void setUp()
+		{
+			generate();
+		}
+	}
+	
+	@State(Scope.Thread)
+	public static class LeftShift extends Operands
+	{
+		@Param({"1", "2", "5", "8"})
+		int shift;
+		
+		int resultPrecision;
+		
+		@Setup(Level.Trial)
+		public void setUp()
+		{
+			generate();
+			resultPrecision = Math.min(precision + shift, MAX_PRECISION);
+		}
+	}
+	
+	@State(Scope.Thread)
+	public static class RightShift extends Operands
+	{
+		@Param({"1", "2", "5", "8"})
+		int shift;
+		
+		@Param({"false", "true"})
+		boolean round;
+		
+		@Setup(Level.Trial)
+		public void setUp()
+		{
+			generate();
+		}
+	}
+	
+	@State(Scope.Thread)
+	public static class Move extends Operands
+	{
+		/**
+		 * The destination precision less the source precision.
+		 */
+		@Param({"-1", "0", "1"})
+		int resize;
+		
+		int resultPrecision;
+		
+		@Setup(Level.Trial)
+		public void setUp()
+		{
+			generate();
+			resultPrecision = Math.min(precision + resize, MAX_PRECISION);
+		}
+	}
+	
+	@Benchmark
+	public byte[] restore(Restore operands)
+	{
+		operands.next();
+		return operands.memory;
+	}
+	
+	@Benchmark
+	public byte[] shiftLeftPackedDecimal(LeftShift operands)
+	{
+		int slot = operands.next();
+		PackedDecimal.shiftLeftPackedDecimal(operands.memory, slot + operands.destinationOffset, operands.resultPrecision, operands.memory,
+				slot + operands.offset, operands.precision, operands.shift, false);
+		return operands.memory;
+	}
+	
+	@Benchmark
+	public byte[] shiftRightPackedDecimal(RightShift operands)
+	{
+		int slot = operands.next();
+		PackedDecimal.shiftRightPackedDecimal(operands.memory, slot + operands.destinationOffset, operands.precision, operands.memory,
+				slot + operands.offset, operands.precision, operands.shift, operands.round, false);
+		return operands.memory;
+	}
+	
+	@Benchmark
+	public byte[] movePackedDecimal(Move operands)
+	{
+		int slot = operands.next();
+		PackedDecimal.movePackedDecimal(operands.memory, slot + operands.destinationOffset, operands.resultPrecision, operands.memory,
+				slot + operands.offset, operands.precision, false);
+		return operands.memory;
+	}
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import net.openj9.test.daa.validity.BulkValidityScan;
+import net.openj9.test.daa.validity.BulkValidityScan.Fields;
+
+/**
+ * JMH benchmark for validating a large buffer of packed and zoned decimal
+ * fields with PackedDecimal.checkPackedDecimal and
+ * ExternalDecimal.checkExternalDecimal, through BulkValidityScan.
+ * 
+ * The buffer holds megabytes of records of the PACKED, ZONED or MIXED fields
+ * of BulkValidityScan and is shared by all the benchmark threads; with -t N
+ * each thread scans its own N'th of the records, so the sum of the gigabytes
+ * counters is the validation rate of the whole machine in GB/s. The packed
+ * fields are checked with the given ignoreHighNibble and overwriteHighNibble
+ * options, which the zoned fields ignore. Overwriting can write to the buffer,
+ * but never outside the thread's own slice.
+ * 
+ * The score is the number of whole slices scanned per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+public class ValidityScanBenchmark
+{
+	@State(Scope.Benchmark)
+	public static class Buffer
+	{
+		@Param({"PACKED", "ZONED", "MIXED"})
+		String fields;
+		
+		@Param({"256"})
+		int megabytes;
+		
+		@Param({"false", "true"})
+		boolean ignoreHighNibble;
+		
+		@Param({"false", "true"})
+		boolean overwriteHighNibble;
+		
+		BulkValidityScan scan;
+		
+		@Setup(Level.Trial)
+		public void setUp()
+		{
+			scan = BulkValidityScan.generate(Fields.valueOf(fields), megabytes);
+		}
+	}
+	
+	@State(Scope.Thread)
+	public static class Slice
+	{
+		int from;
+		int to;
+		long bytes;
+		
+		@Setup(Level.Trial)
+		public void setUp(Buffer buffer, ThreadParams threads)
+		{
+			int records = buffer.scan.getRecords();
+			from = (int) ((long) records * threads.getThreadIndex() / threads.getThreadCount());
+			to = (int) ((long) records * (threads.getThreadIndex() + 1) / threads.getThreadCount());
+			bytes = (long) (to - from) * buffer.scan.getRecordLength();
+		}
+	}
+	
+	/**
+	 * The gigabytes validated, reported as GB/s next to the score.
+	 */
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class Gigabytes
+	{
+		public double gigabytes;
+	}
+	
+	@Benchmark
+	public int scan(Buffer buffer, Slice slice, Gigabytes gigabytes)
+	{
+		gigabytes.gigabytes += slice.bytes / 1e9;
+		return buffer.scan.scan(slice.from, slice.to, buffer.ignoreHighNibble, buffer.overwriteHighNibble);
+	}
+}
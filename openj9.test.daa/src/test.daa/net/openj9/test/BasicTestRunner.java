@@ -33,13 +33,28 @@ public class BasicTestRunner {
 
 	/**
 	 * Invokes JUnitCore.runClasses on the given class and prints the failures.
+	 * The random streams of the calling thread are reseeded first, the seed is
+	 * printed with the results so that a failing run can be replayed.
 	 * 
 	 * @param  c              the class to execute with JUnitCore.runClasses
 	 * @return wasSuccessful  whether all tests were successful
 	 */
 	public static boolean runClass(Class<?> c) {
+		long seed = TestRandom.startTest();
 		Result res = JUnitCore.runClasses(c);
-		System.out.println("\n" + c + " Total: " + res.getRunCount() + " Fail: "+ res.getFailureCount() + " Ignore: " + res.getIgnoreCount());
+		printResult(c, res, seed);
+		return res.wasSuccessful();
+	}
+
+	/**
+	 * Prints the totals of a run of the given class, then its failures.
+	 * 
+	 * @param  c     the class that was run
+	 * @param  res   the result of the run
+	 * @param  seed  the TestRandom seed the run started with
+	 */
+	public static void printResult(Class<?> c, Result res, long seed) {
+		System.out.println("\n" + c + " Total: " + res.getRunCount() + " Fail: "+ res.getFailureCount() + " Ignore: " + res.getIgnoreCount() + " Seed: " + seed);
 
 		if (!res.wasSuccessful()) {
 			List<Failure> failures = res.getFailures();
@@ -51,6 +66,5 @@ public class BasicTestRunner {
 				System.err.println("\tFAILURE: " + fail.getDescription() + " - " + fail.getMessage());
 			}
 		}
-		return res.wasSuccessful();
 	}
 }
\ No newline at end of file
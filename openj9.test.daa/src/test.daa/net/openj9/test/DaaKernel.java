@@ -0,0 +1,69 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test;
+
+/**
+ * A loop over one DAA method, for the harnesses that time a method or count
+ * what it allocates. Every kernel is its own class, usually an anonymous one,
+ * so that each loop is compiled with only its own method inlined. The loop
+ * picks its operands with OPERAND_MASK from OPERANDS values at consecutive
+ * offsets, so that the JIT can't fold the calls over one value.
+ */
+public abstract class DaaKernel
+{
+	public static final int OPERANDS = 256;
+	public static final int OPERAND_MASK = OPERANDS - 1;
+	
+	private static volatile long sink;
+	
+	private final String name;
+	
+	protected DaaKernel(String name)
+	{
+		this.name = name;
+	}
+	
+	public String getName()
+	{
+		return name;
+	}
+	
+	/**
+	 * calls the method count times and folds the results together, so that
+	 * the calls can't be removed.
+	 */
+	protected abstract long run(int count);
+	
+	/**
+	 * runs the loop and keeps its result where the JIT can't drop it.
+	 */
+	public final void call(int count)
+	{
+		sink += run(count);
+	}
+	
+	public String toString()
+	{
+		return name;
+	}
+}
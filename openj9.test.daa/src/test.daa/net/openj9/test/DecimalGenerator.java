@@ -0,0 +1,417 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import com.ibm.dataaccess.DecimalData;
+
+/**
+ * Writes random decimal operands straight into packed decimal nibbles, EBCDIC
+ * zoned bytes or unicode chars, for any sign type, precision and offset.
+ * 
+ * The digits are drawn nine at a time from one random int and written as they
+ * are produced, with no intermediate String or BigInteger. The long variants
+ * also return the value written, the BigInteger and BigDecimal of an operand
+ * are only built when a caller asks for them with the static to* methods.
+ * 
+ * By default the most significant digit is never 0, so an operand always has
+ * exactly precision significant digits, as Utils.getBigInteger(prec, isNegative)
+ * does. A generator created with leadingZeros allows it to be 0. Whether it
+ * does is fixed when the generator is created, so a caller never sees the
+ * setting of another. A generator is not thread safe, use one per thread.
+ */
+public class DecimalGenerator
+{
+	public static final byte EBCDIC_PLUS = 0x4E;
+	public static final byte EBCDIC_MINUS = 0x60;
+	
+	// The largest precision whose values all fit in a long
+	public static final int MAX_LONG_PRECISION = 18;
+	
+	private static final int DIGITS_PER_INT = 9;
+	private static final int DIGITS_PER_INT_LIMIT = 1000000000;
+	
+	private static final BigInteger LONG_PRECISION_LIMIT = BigInteger.TEN.pow(MAX_LONG_PRECISION);
+	
+	private static final ThreadLocal<DecimalGenerator> threadGenerator = new ThreadLocal<DecimalGenerator>() {
+		protected DecimalGenerator initialValue()
+		{
+			return new DecimalGenerator(TestRandom.getRandom(), false);
+		}
+	};
+	
+	private static final ThreadLocal<DecimalGenerator> threadGeneratorWithLeadingZeros = new ThreadLocal<DecimalGenerator>() {
+		protected DecimalGenerator initialValue()
+		{
+			return new DecimalGenerator(TestRandom.getRandom(), true);
+		}
+	};
+	
+	private final Random random;
+	private final boolean leadingZeros;
+	
+	// Digits left over from the last random int drawn
+	private int digits;
+	private int digitCount;
+	
+	public DecimalGenerator()
+	{
+		this(TestRandom.getRandom());
+	}
+	
+	public DecimalGenerator(Random random)
+	{
+		this(random, false);
+	}
+	
+	/**
+	 * @param leadingZeros allows the most significant digit to be 0, so that
+	 *        operands may have fewer significant digits than their precision
+	 */
+	public DecimalGenerator(Random random, boolean leadingZeros)
+	{
+		this.random = random;
+		this.leadingZeros = leadingZeros;
+	}
+	
+	/**
+	 * returns the calling thread's generator without leading zeros, which draws
+	 * from its TestRandom stream.
+	 */
+	public static DecimalGenerator current()
+	{
+		return threadGenerator.get();
+	}
+	
+	/**
+	 * returns the calling thread's generator with leading zeros, which draws
+	 * from the same TestRandom stream as current().
+	 */
+	public static DecimalGenerator currentWithLeadingZeros()
+	{
+		return threadGeneratorWithLeadingZeros.get();
+	}
+	
+	private int nextDigit()
+	{
+		if (digitCount == 0)
+		{
+			digits = random.nextInt(DIGITS_PER_INT_LIMIT);
+			digitCount = DIGITS_PER_INT;
+		}
+		int digit = digits % 10;
+		digits /= 10;
+		--digitCount;
+		return digit;
+	}
+	
+	/**
+	 * returns digit k of precision, counting from the most significant digit.
+	 */
+	private int nextDigit(int k)
+	{
+		if (k == 0)
+		{
+			// Start each number on a fresh random int, so that reseeding the thread's TestRandom stream replays it
+			digitCount = 0;
+			if (!leadingZeros)
+				return random.nextInt(9) + 1;
+		}
+		return nextDigit();
+	}
+	
+	/**
+	 * writes a random packed decimal with the given sign nibble, 0x0C, 0x0D or
+	 * 0x0F for the preferred positive, negative and unsigned signs.
+	 * 
+	 * @return the value written if precision is at most MAX_LONG_PRECISION,
+	 *         otherwise the digits accumulated in a long that wraps modulo
+	 *         2^64, which isn't the value or its low order digits
+	 */
+	public long packedLong(byte[] pd, int offset, int precision, int sign)
+	{
+		int last = offset + precision / 2;
+		long value = 0;
+		int index = offset;
+		
+		// An even precision leaves the top nibble zero
+		boolean high = (precision & 1) != 0;
+		int b = 0;
+		
+		for (int k = 0; k < precision; ++k)
+		{
+			int digit = nextDigit(k);
+			value = value * 10 + digit;
+			
+			if (high)
+			{
+				b = digit << 4;
+			}
+			else
+			{
+				pd[index++] = (byte) (b | digit);
+				b = 0;
+			}
+			high = !high;
+		}
+		pd[last] = (byte) (b | sign);
+		
+		return sign == 0x0D || sign == 0x0B ? -value : value;
+	}
+	
+	public void packed(byte[] pd, int offset, int precision, int sign)
+	{
+		packedLong(pd, offset, precision, sign);
+	}
+	
+	public void packed(byte[] pd, int offset, int precision, boolean negative)
+	{
+		packedLong(pd, offset, precision, negative ? 0x0D : 0x0C);
+	}
+	
+	/**
+	 * writes a random EBCDIC zoned decimal of the given DecimalData EBCDIC type,
+	 * an embedded sign is a 0xC or 0xD zone, a separate sign 0x4E or 0x60.
+	 * 
+	 * @return the value written if precision is at most MAX_LONG_PRECISION,
+	 *         otherwise the digits accumulated in a long that wraps modulo
+	 *         2^64, which isn't the value or its low order digits
+	 */
+	public long externalLong(byte[] ed, int offset, int precision, boolean negative, int decimalType)
+	{
+		int first = offset;
+		if (decimalType == DecimalData.EBCDIC_SIGN_SEPARATE_LEADING)
+			ed[first++] = negative ? EBCDIC_MINUS : EBCDIC_PLUS;
+		else if (decimalType == DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING)
+			ed[first + precision] = negative ? EBCDIC_MINUS : EBCDIC_PLUS;
+		
+		long value = 0;
+		for (int k = 0; k < precision; ++k)
+		{
+			int digit = nextDigit(k);
+			value = value * 10 + digit;
+			ed[first + k] = (byte) (0xF0 | digit);
+		}
+		
+		int zone = negative ? 0xD0 : 0xC0;
+		if (decimalType == DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING)
+			ed[first] = (byte) (zone | (ed[first] & 0x0F));
+		else if (decimalType == DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING)
+			ed[first + precision - 1] = (byte) (zone | (ed[first + precision - 1] & 0x0F));
+		
+		return negative ? -value : value;
+	}
+	
+	public void external(byte[] ed, int offset, int precision, boolean negative, int decimalType)
+	{
+		externalLong(ed, offset, precision, negative, decimalType);
+	}
+	
+	/**
+	 * writes a random unicode decimal of the given DecimalData unicode type, an
+	 * unsigned decimal ignores negative.
+	 * 
+	 * @return the value written if precision is at most MAX_LONG_PRECISION,
+	 *         otherwise the digits accumulated in a long that wraps modulo
+	 *         2^64, which isn't the value or its low order digits
+	 */
+	public long unicodeLong(char[] ud, int offset, int precision, boolean negative, int decimalType)
+	{
+		if (decimalType == DecimalData.UNICODE_UNSIGNED)
+			negative = false;
+		
+		int first = offset;
+		if (decimalType == DecimalData.UNICODE_SIGN_SEPARATE_LEADING)
+			ud[first++] = negative ? '-' : '+';
+		else if (decimalType == DecimalData.UNICODE_SIGN_SEPARATE_TRAILING)
+			ud[first + precision] = negative ? '-' : '+';
+		
+		long value = 0;
+		for (int k = 0; k < precision; ++k)
+		{
+			int digit = nextDigit(k);
+			value = value * 10 + digit;
+			ud[first + k] = (char) ('0' + digit);
+		}
+		
+		return negative ? -value : value;
+	}
+	
+	public void unicode(char[] ud, int offset, int precision, boolean negative, int decimalType)
+	{
+		unicodeLong(ud, offset, precision, negative, decimalType);
+	}
+	
+	/**
+	 * returns a random value of up to MAX_LONG_PRECISION digits.
+	 */
+	public long nextLong(int precision, boolean negative)
+	{
+		long value = 0;
+		for (int k = 0; k < precision; ++k)
+			value = value * 10 + nextDigit(k);
+		return negative ? -value : value;
+	}
+	
+	public BigInteger nextBigInteger(int precision, boolean negative)
+	{
+		if (precision <= MAX_LONG_PRECISION)
+			return BigInteger.valueOf(nextLong(precision, negative));
+		
+		// Accumulate MAX_LONG_PRECISION digits at a time in a long
+		BigInteger value = BigInteger.ZERO;
+		long chunk = 0;
+		int chunkDigits = 0;
+		for (int k = 0; k < precision; ++k)
+		{
+			chunk = chunk * 10 + nextDigit(k);
+			if (++chunkDigits == MAX_LONG_PRECISION || k == precision - 1)
+			{
+				value = value.multiply(BigInteger.TEN.pow(chunkDigits)).add(BigInteger.valueOf(chunk));
+				chunk = 0;
+				chunkDigits = 0;
+			}
+		}
+		return negative ? value.negate() : value;
+	}
+	
+	/**
+	 * writes precision random digits as chars, for callers that build their own
+	 * representation of a number.
+	 */
+	public void digits(char[] chars, int offset, int precision)
+	{
+		for (int k = 0; k < precision; ++k)
+			chars[offset + k] = (char) ('0' + nextDigit(k));
+	}
+	
+	/**
+	 * returns the length in bytes or chars of a zoned or unicode decimal.
+	 */
+	public static int decimalLength(int precision, int decimalType)
+	{
+		switch (decimalType)
+		{
+			case DecimalData.EBCDIC_SIGN_SEPARATE_LEADING:
+			case DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING:
+			case DecimalData.UNICODE_SIGN_SEPARATE_LEADING:
+			case DecimalData.UNICODE_SIGN_SEPARATE_TRAILING:
+				return precision + 1;
+			default:
+				return precision;
+		}
+	}
+	
+	/**
+	 * writes value as a packed decimal with the preferred sign, like
+	 * DecimalData.convertBigIntegerToPackedDecimal with checkOverflow set.
+	 * 
+	 * @throws ArithmeticException if value has more than precision digits
+	 */
+	public static void writePacked(BigInteger value, byte[] pd, int offset, int precision)
+	{
+		int last = offset + precision / 2;
+		BigInteger magnitude = value.abs();
+		
+		// Write MAX_LONG_PRECISION digits at a time from a long, from the least significant
+		int k = 0;
+		while (k < precision)
+		{
+			long chunk;
+			if (magnitude.compareTo(LONG_PRECISION_LIMIT) < 0)
+			{
+				chunk = magnitude.longValue();
+				magnitude = BigInteger.ZERO;
+			}
+			else
+			{
+				BigInteger[] quotientAndRemainder = magnitude.divideAndRemainder(LONG_PRECISION_LIMIT);
+				chunk = quotientAndRemainder[1].longValue();
+				magnitude = quotientAndRemainder[0];
+			}
+			
+			for (int i = 0; i < MAX_LONG_PRECISION && k < precision; ++i, ++k)
+			{
+				int nibble = k + 1;
+				int index = last - nibble / 2;
+				int digit = (int) (chunk % 10);
+				chunk /= 10;
+				if ((nibble & 1) != 0)
+					pd[index] = (byte) ((pd[index] & 0x0F) | (digit << 4));
+				else
+					pd[index] = (byte) ((pd[index] & 0xF0) | digit);
+			}
+			
+			if (chunk != 0)
+				magnitude = BigInteger.ONE;
+		}
+		
+		if (magnitude.signum() != 0)
+			throw new ArithmeticException("Decimal overflow, " + value + " does not fit in precision " + precision);
+		
+		// An even precision leaves the top nibble zero
+		if ((precision & 1) == 0)
+			pd[offset] &= 0x0F;
+		pd[last] = (byte) ((pd[last] & 0xF0) | (value.signum() < 0 ? 0x0D : 0x0C));
+	}
+	
+	/**
+	 * returns the value of a valid packed decimal.
+	 */
+	public static BigInteger toBigInteger(byte[] pd, int offset, int precision)
+	{
+		int last = offset + precision / 2;
+		
+		// Accumulate up to MAX_LONG_PRECISION digits at a time in a long
+		BigInteger value = BigInteger.ZERO;
+		long chunk = 0;
+		int chunkDigits = 0;
+		
+		for (int k = precision - 1; k >= 0; --k)
+		{
+			int nibble = k + 1;
+			int b = pd[last - nibble / 2];
+			chunk = chunk * 10 + ((nibble & 1) != 0 ? (b >> 4) & 0x0F : b & 0x0F);
+			
+			if (++chunkDigits == MAX_LONG_PRECISION)
+			{
+				value = value.multiply(BigInteger.TEN.pow(chunkDigits)).add(BigInteger.valueOf(chunk));
+				chunk = 0;
+				chunkDigits = 0;
+			}
+		}
+		if (chunkDigits > 0)
+			value = value.multiply(BigInteger.TEN.pow(chunkDigits)).add(BigInteger.valueOf(chunk));
+		
+		int sign = pd[last] & 0x0F;
+		return sign == 0x0D || sign == 0x0B ? value.negate() : value;
+	}
+	
+	public static BigDecimal toBigDecimal(byte[] pd, int offset, int precision, int scale)
+	{
+		return new BigDecimal(toBigInteger(pd, offset, precision), scale);
+	}
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test;
+
+import java.util.Arrays;
+
+/**
+ * A fixed size histogram of nanosecond durations, in the style of an HDR histogram.
+ * 
+ * Values below SUB_BUCKET_COUNT are counted exactly, larger values go in one of
+ * SUB_BUCKET_COUNT/2 linear sub buckets per power of two, so any recorded value
+ * is reported to within 1/64 of itself whatever its magnitude. Recording never
+ * allocates, which keeps it out of the way of the code being timed.
+ */
+public class LatencyHistogram
+{
+	static final int SUB_BUCKET_BITS = 7;
+	static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+	
+	// Exact buckets, then a half count of sub buckets for each shift up to 63 - (SUB_BUCKET_BITS - 1)
+	static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (64 - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT;
+	
+	private final long[] counts = new long[BUCKET_COUNT];
+	
+	private long totalCount;
+	private long minValue = Long.MAX_VALUE;
+	private long maxValue;
+	
+	static int indexOf(long value)
+	{
+		if (value < SUB_BUCKET_COUNT)
+			return (int) value;
+		
+		int shift = (63 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+		int subBucket = (int) (value >>> shift);
+		return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + (subBucket - SUB_BUCKET_HALF_COUNT);
+	}
+	
+	static long highestEquivalentValue(int index)
+	{
+		if (index < SUB_BUCKET_COUNT)
+			return index;
+		
+		int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+		long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+		return ((subBucket + 1) << shift) - 1;
+	}
+	
+	/**
+	 * records a duration, negative durations count as 0.
+	 */
+	public void record(long value)
+	{
+		if (value < 0)
+			value = 0;
+		
+		counts[indexOf(value)]++;
+		totalCount++;
+		if (value < minValue)
+			minValue = value;
+		if (value > maxValue)
+			maxValue = value;
+	}
+	
+	public void add(LatencyHistogram other)
+	{
+		for (int i = 0; i < BUCKET_COUNT; ++i)
+			counts[i] += other.counts[i];
+		totalCount += other.totalCount;
+		minValue = Math.min(minValue, other.minValue);
+		maxValue = Math.max(maxValue, other.maxValue);
+	}
+	
+	public void reset()
+	{
+		Arrays.fill(counts, 0);
+		totalCount = 0;
+		minValue = Long.MAX_VALUE;
+		maxValue = 0;
+	}
+	
+	public long getTotalCount()
+	{
+		return totalCount;
+	}
+	
+	public long getMinValue()
+	{
+		return totalCount == 0 ? 0 : minValue;
+	}
+	
+	public long getMaxValue()
+	{
+		return maxValue;
+	}
+	
+	/**
+	 * returns the value at percentile (0 to 100) by the nearest rank method, 0 if nothing was recorded.
+	 */
+	public long getValueAtPercentile(double percentile)
+	{
+		if (totalCount == 0)
+			return 0;
+		
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; ++i)
+		{
+			count += counts[i];
+			if (count >= rank)
+				return Math.max(Math.min(highestEquivalentValue(i), maxValue), getMinValue());
+		}
+		return maxValue;
+	}
+}
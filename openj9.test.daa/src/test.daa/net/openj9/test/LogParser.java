@@ -96,6 +96,11 @@ public class LogParser {
 			return false;
 	}
 	
+	/**
+	 * @deprecated TestGeneration counts the inlining in the vlogs with
+	 *             net.openj9.test.vlog.VlogAnalyzer, which needs no parsed file
+	 */
+	@Deprecated
 	public static void parseLogFile(String inputFile, String outputFile) throws IOException
 	{
 		File ipf = new File(inputFile);
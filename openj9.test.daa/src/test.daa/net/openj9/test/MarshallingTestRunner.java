@@ -21,7 +21,6 @@
 
 package net.openj9.test;
 
-import net.openj9.test.BasicTestRunner;
 import net.openj9.test.binaryData.LongIntegerComparison;
 import net.openj9.test.binaryData.TestBinaryConverters;
 import net.openj9.test.binaryData.TestByteArray2Double;
@@ -44,40 +43,30 @@ import net.openj9.test.binaryData.TestShort2ByteArrayNumBytes;
 
 public class MarshallingTestRunner
 {
+    private static final SuiteRunner suite = new SuiteRunner("MarshallingTestRunner",
+            LongIntegerComparison.class,
+            TestBinaryConverters.class,
+            TestByteArray2Double.class,
+            TestByteArray2Float.class,
+            TestByteArray2Integer.class,
+            TestByteArray2IntegerNumBytes.class,
+            TestByteArray2Long.class,
+            TestByteArray2LongNumBytes.class,
+            TestByteArray2Short.class,
+            TestByteArray2ShortNumBytes.class,
+            TestDouble2ByteArray.class,
+            TestFloat2ByteArray.class,
+            TestInteger2ByteArray.class,
+            TestInteger2ByteArrayNumBytes.class,
+            TestLong2ByteArray.class,
+            TestLong2ByteArrayNumBytes.class,
+            TestOptimizer.class,
+            TestShort2ByteArray.class,
+            TestShort2ByteArrayNumBytes.class);
+
     public static boolean runTests(int x)
     {
-        boolean seenFailure = false;
-        
-        long startTime = System.nanoTime();
-
-        for (int i = 0; i < x; ++i)
-        {
-            seenFailure |= !(BasicTestRunner.runClass(LongIntegerComparison.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestBinaryConverters.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestByteArray2Double.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestByteArray2Float.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestByteArray2Integer.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestByteArray2IntegerNumBytes.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestByteArray2Long.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestByteArray2LongNumBytes.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestByteArray2Short.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestByteArray2ShortNumBytes.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestDouble2ByteArray.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestFloat2ByteArray.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestInteger2ByteArray.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestInteger2ByteArrayNumBytes.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestLong2ByteArray.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestLong2ByteArrayNumBytes.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestOptimizer.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestShort2ByteArray.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestShort2ByteArrayNumBytes.class));
-        }
-        
-        long endTime = System.nanoTime();
-        
-        System.out.printf("MarshallingTestRunner: Time taken for tests:%d \n", endTime - startTime);
-        
-        return seenFailure;
+        return suite.runTests(x);
     }
 
     public static void invokeTest() {
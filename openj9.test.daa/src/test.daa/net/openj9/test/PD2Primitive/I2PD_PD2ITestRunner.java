@@ -21,7 +21,7 @@
 
 package net.openj9.test.PD2Primitive;
 
-import net.openj9.test.BasicTestRunner;
+import net.openj9.test.SuiteRunner;
 
 public class I2PD_PD2ITestRunner
 {    
@@ -32,23 +32,13 @@ public class I2PD_PD2ITestRunner
             System.exit(1);
     }
 
+    private static final SuiteRunner suite = new SuiteRunner("PD2PrimitiveTestRunner",
+            TestI2PD.class,
+            TestPD2I.class,
+            TestPD2Primitives2PD.class);
+
     public static boolean runTests(int x)
     {
-        boolean seenFailure = false;
-        
-        long startTime = System.nanoTime();
-        
-        for (int i = 0; i < x; ++i)
-        {
-            seenFailure |= !(BasicTestRunner.runClass(TestI2PD.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestPD2I.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestPD2Primitives2PD.class));
-        }
-        
-        long endTime = System.nanoTime();
-        
-        System.out.printf("PD2PrimitiveTestRunner: Time taken for tests:%d \n", endTime - startTime);
-        
-        return seenFailure;
+        return suite.runTests(x);
     }
 }
@@ -29,20 +29,27 @@ import java.util.Random;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.ClassRule;
 import org.junit.Test;
 
 import com.ibm.dataaccess.ByteArrayMarshaller;
 import com.ibm.dataaccess.ByteArrayUnmarshaller;
 import com.ibm.dataaccess.DecimalData;
 
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.TestRandom;
+
 //Tests testing the bugs JZOS found
 public class RandomTests
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     static Random randomGen;
 
     static
     {
-        randomGen = new Random(System.currentTimeMillis());
+        randomGen = TestRandom.getRandom();
     }
 
     @Before
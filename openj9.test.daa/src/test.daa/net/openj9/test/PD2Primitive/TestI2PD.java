@@ -30,12 +30,19 @@ import java.util.Random;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.ClassRule;
 import org.junit.Test;
 
 import com.ibm.dataaccess.*;
 
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.TestRandom;
+
 public class TestI2PD
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     static Random randomGen;
 
     static int ARRAY_SIZE = 256;
@@ -53,7 +60,7 @@ public class TestI2PD
 
     static
     {
-        randomGen = new Random((int) (System.currentTimeMillis() % 160001));
+        randomGen = TestRandom.getRandom();
     };
 
     byte[] MAX_INT = new byte[] { 0x02, 0x14, 0x74, (byte) 0x83, 0x64, 0x7C };
@@ -25,13 +25,20 @@ import static org.junit.Assert.*;
 
 import java.util.Random;
 
+import org.junit.ClassRule;
 import org.junit.Test;
 
 import com.ibm.dataaccess.*;
 
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.TestRandom;
+
 public class TestPD2I
 {
-    static Random randomGen = new Random((int) (System.currentTimeMillis() % 160001));
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
+    static Random randomGen = TestRandom.getRandom();
 
     static final int ARRAY_SIZE = 256;
     static final int DOUBLESIZE = 8;
@@ -28,12 +28,19 @@ import java.util.Random;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.ClassRule;
 import org.junit.Test;
 
 import com.ibm.dataaccess.*;
 
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.TestRandom;
+
 public class TestPD2Primitives2PD
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     static Random randomGen;
 
     static int ARRAY_SIZE = 256;
@@ -53,7 +60,7 @@ public class TestPD2Primitives2PD
 
     static
     {
-        randomGen = new Random((int) (System.currentTimeMillis() % 160001));
+        randomGen = TestRandom.getRandom();
     };
 
     static int getRandomInt()
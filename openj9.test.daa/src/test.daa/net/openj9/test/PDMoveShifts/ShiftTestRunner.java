@@ -21,7 +21,7 @@
 
 package net.openj9.test.PDMoveShifts;
 
-import net.openj9.test.BasicTestRunner;
+import net.openj9.test.SuiteRunner;
 
 public class ShiftTestRunner
 {
@@ -33,22 +33,12 @@ public class ShiftTestRunner
             System.exit(1);
     }
     
+    private static final SuiteRunner suite = new SuiteRunner("ShiftTestRunner",
+            TestPDMove.class,
+            TestShiftsAndConvert.class);
+
     public static boolean runTests(int x)
     {
-        boolean seenFailure = false;
-
-        long startTime = System.nanoTime();
-
-        for (int i = 0; i < x; ++i)
-        {
-            seenFailure |= !(BasicTestRunner.runClass(TestPDMove.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestShiftsAndConvert.class));
-        }
-
-        long endTime = System.nanoTime();
-
-        System.out.printf("ShiftTestRunner: Time taken for tests:%d \n", endTime - startTime);
-
-        return seenFailure;
+        return suite.runTests(x);
     }
 }
@@ -20,6 +20,7 @@
 *******************************************************************************/
 package net.openj9.test.PDMoveShifts;
 
+import org.junit.ClassRule;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -30,13 +31,19 @@ import java.util.Random;
 import com.ibm.dataaccess.DecimalData;
 import com.ibm.dataaccess.PackedDecimal;
 
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.TestRandom;
+
 public class TestPDMove
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     static int ARRAY_SIZE = 64;
     byte[] original = new byte[ARRAY_SIZE];
     byte[] copy = new byte[ARRAY_SIZE];
 
-    static Random randomGen = new Random((int) (System.currentTimeMillis() % 16001));
+    static Random randomGen = TestRandom.getRandom();
 
     private int getRandomIntegerWithNDigits(int n)
     {
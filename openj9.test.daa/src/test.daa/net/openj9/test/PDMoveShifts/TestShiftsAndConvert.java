@@ -23,7 +23,9 @@ package net.openj9.test.PDMoveShifts;
 import com.ibm.dataaccess.*;
 
 import net.openj9.test.*;
+import net.openj9.test.TestRandom;
 
+import org.junit.ClassRule;
 import org.junit.Test;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -36,12 +38,15 @@ import java.util.Random;
 
 public class TestShiftsAndConvert
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     static int ARRAY_SIZE = 64;
 
     byte[] original = new byte[ARRAY_SIZE];
     byte[] copy = new byte[ARRAY_SIZE];
 
-    static Random randomGen = new Random((int) (System.currentTimeMillis() % 16001));
+    static Random randomGen = TestRandom.getRandom();
 
     static int getRandomInt()
     {
@@ -0,0 +1,287 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.runner.Description;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+
+/**
+ * Runs the iterations of a TestRunner test class concurrently on a fixed
+ * size pool, for TestRunner -threads=N.
+ * 
+ * Each pool thread has its own JUnitCore and listener, which count the tests
+ * and time every test method without sharing any state with the other
+ * threads; the per thread results are merged once all the iterations are done.
+ * Each iteration reseeds the thread's TestRandom stream, failures are reported
+ * with the thread, iteration and seed they happened on.
+ */
+class ParallelTestRun
+{
+	private final Class<?> testClass;
+	private final Filter filter;
+	private final int threads;
+	private final int iterations;
+	private final boolean quietMode;
+	
+	private final List<Worker> workers = Collections.synchronizedList(new ArrayList<Worker>());
+	
+	private final ThreadLocal<Worker> worker = new ThreadLocal<Worker>() {
+		protected Worker initialValue()
+		{
+			Worker w = new Worker(Thread.currentThread().getName());
+			workers.add(w);
+			return w;
+		}
+	};
+	
+	private long wallTimeNanos;
+	
+	public ParallelTestRun(Class<?> testClass, Filter filter, int threads, int iterations, boolean quietMode)
+	{
+		this.testClass = testClass;
+		this.filter = filter;
+		this.threads = threads;
+		this.iterations = iterations;
+		this.quietMode = quietMode;
+	}
+	
+	/**
+	 * A failure tagged with where it happened.
+	 */
+	static class TaggedFailure
+	{
+		final String thread;
+		final int iteration;
+		final long seed;
+		final Failure failure;
+		
+		TaggedFailure(String thread, int iteration, long seed, Failure failure)
+		{
+			this.thread = thread;
+			this.iteration = iteration;
+			this.seed = seed;
+			this.failure = failure;
+		}
+	}
+	
+	/**
+	 * The JUnitCore and results of one pool thread. Only the owning thread
+	 * touches it until the pool has terminated.
+	 */
+	static class Worker extends RunListener
+	{
+		final String thread;
+		final JUnitCore core = new JUnitCore();
+		
+		int iterationCount;
+		int runCount;
+		int failureCount;
+		int ignoreCount;
+		
+		final List<TaggedFailure> failures = new ArrayList<TaggedFailure>();
+		
+		// Test method name to its durations in nanoseconds
+		final Map<String, LatencyHistogram> latencies = new TreeMap<String, LatencyHistogram>();
+		
+		private long testStartTime;
+		
+		// The filtered runner of the test class, built by the first iteration
+		private Runner runner;
+		
+		Worker(String thread)
+		{
+			this.thread = thread;
+			core.addListener(this);
+		}
+		
+		public void testStarted(Description description)
+		{
+			testStartTime = System.nanoTime();
+		}
+		
+		public void testFinished(Description description)
+		{
+			long duration = System.nanoTime() - testStartTime;
+			
+			String method = description.getMethodName();
+			LatencyHistogram durations = latencies.get(method);
+			if (durations == null)
+			{
+				durations = new LatencyHistogram();
+				latencies.put(method, durations);
+			}
+			durations.record(duration);
+		}
+		
+		void runIteration(Class<?> testClass, Filter filter, int iteration, boolean quietMode)
+		{
+			long seed = TestRandom.startTest();
+			if (!quietMode)
+				System.out.println("Running iteration " + iteration + " on " + thread + " (seed " + seed + ")");
+			
+			// As in TestRunner the Runner is reused for every iteration on this thread. A Runner builds
+			// and filters its children lazily, so it is not shared with the other pool threads.
+			if (runner == null)
+				runner = Request.aClass(testClass).filterWith(filter).getRunner();
+			Result result = core.run(runner);
+			
+			++iterationCount;
+			runCount += result.getRunCount();
+			failureCount += result.getFailureCount();
+			ignoreCount += result.getIgnoreCount();
+			
+			for (Failure failure : result.getFailures())
+				failures.add(new TaggedFailure(thread, iteration, seed, failure));
+		}
+	}
+	
+	/**
+	 * runs all the iterations and returns true if they all passed.
+	 */
+	public boolean run() throws InterruptedException
+	{
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		
+		long startTime = System.nanoTime();
+		
+		for (int i = 1; i <= iterations; ++i)
+		{
+			final int iteration = i;
+			pool.execute(new Runnable() {
+				public void run()
+				{
+					worker.get().runIteration(testClass, filter, iteration, quietMode);
+				}
+			});
+		}
+		
+		pool.shutdown();
+		while (!pool.awaitTermination(1, TimeUnit.MINUTES))
+			;
+		
+		wallTimeNanos = System.nanoTime() - startTime;
+		
+		return getFailureCount() == 0;
+	}
+	
+	public int getRunCount()
+	{
+		int count = 0;
+		for (Worker w : workers)
+			count += w.runCount;
+		return count;
+	}
+	
+	public int getFailureCount()
+	{
+		int count = 0;
+		for (Worker w : workers)
+			count += w.failureCount;
+		return count;
+	}
+	
+	public int getIgnoreCount()
+	{
+		int count = 0;
+		for (Worker w : workers)
+			count += w.ignoreCount;
+		return count;
+	}
+	
+	public void printResults(PrintStream out, boolean printStack, TestRunner.DiagnosticMode diagMode)
+	{
+		int runCount = getRunCount();
+		double wallSeconds = wallTimeNanos / 1e9;
+		
+		out.println();
+		out.println("Threads: " + threads + ", iterations: " + iterations);
+		out.println("Wall time: " + (wallTimeNanos / 1000000) + " ms");
+		out.println("Total run count: " + runCount);
+		out.println("Total fail count: " + getFailureCount());
+		out.println("Total ignore count: " + getIgnoreCount());
+		out.printf("Throughput: %.1f test methods/s%n", runCount / wallSeconds);
+		out.println();
+		
+		out.printf("%-40s %8s %12s %12s %12s%n", "Thread", "Iters", "Run", "Failed", "Ignored");
+		for (Worker w : workers)
+			out.printf("%-40s %8d %12d %12d %12d%n", w.thread, w.iterationCount, w.runCount, w.failureCount, w.ignoreCount);
+		out.println();
+		
+		// Merge the per thread durations of each method
+		Map<String, LatencyHistogram> latencies = new TreeMap<String, LatencyHistogram>();
+		for (Worker w : workers)
+		{
+			for (Map.Entry<String, LatencyHistogram> entry : w.latencies.entrySet())
+			{
+				LatencyHistogram merged = latencies.get(entry.getKey());
+				if (merged == null)
+				{
+					merged = new LatencyHistogram();
+					latencies.put(entry.getKey(), merged);
+				}
+				merged.add(entry.getValue());
+			}
+		}
+		
+		out.printf("%-40s %8s %12s %12s %12s %12s%n", "Method latency (us)", "Count", "p50", "p90", "p99", "Max");
+		for (Map.Entry<String, LatencyHistogram> entry : latencies.entrySet())
+		{
+			LatencyHistogram histogram = entry.getValue();
+			out.printf("%-40s %8d %12.1f %12.1f %12.1f %12.1f%n", entry.getKey(), histogram.getTotalCount(), histogram.getValueAtPercentile(50) / 1e3,
+					histogram.getValueAtPercentile(90) / 1e3, histogram.getValueAtPercentile(99) / 1e3, histogram.getMaxValue() / 1e3);
+		}
+		out.println();
+		
+		out.println("Failed tests: ");
+		int index = 0;
+		for (Worker w : workers)
+		{
+			for (TaggedFailure tagged : w.failures)
+			{
+				out.println("" + (++index) + ") " + tagged.failure.getTestHeader() + " [thread " + tagged.thread + ", iteration " + tagged.iteration
+						+ ", seed " + tagged.seed + "]");
+				if (printStack)
+					out.println(TestRunner.toDiagnosticMode(tagged.failure.getTrace(), diagMode));
+				else
+					out.println(TestRunner.toDiagnosticMode(tagged.failure.getMessage(), diagMode));
+				out.println();
+			}
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test;
+
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+
+/**
+ * Reseeds the calling thread's TestRandom stream and prints the seed at the
+ * start of every run of a test class, so that a failure in a load test,
+ * which runs the inventory classes straight through JUnit, can be replayed
+ * with -Ddaa.seed. The test classes in the load test inventories declare it
+ * as a class rule:
+ * 
+ * <pre>
+ * &#64;ClassRule
+ * public static final RandomSeedRule seedRule = new RandomSeedRule();
+ * </pre>
+ */
+public class RandomSeedRule implements TestRule
+{
+	public Statement apply(final Statement base, final Description description)
+	{
+		return new Statement() {
+			public void evaluate() throws Throwable
+			{
+				long seed = TestRandom.startTest();
+				System.out.println("TestRandom: " + description.getClassName() + " on " + Thread.currentThread().getName() + " seed " + seed
+						+ " (replay with -D" + TestRandom.SEED_PROPERTY + "=" + seed + ")");
+				base.evaluate();
+			}
+		};
+	}
+}
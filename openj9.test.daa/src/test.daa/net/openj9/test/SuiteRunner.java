@@ -0,0 +1,244 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runner.Runner;
+
+/**
+ * Runs a fixed list of JUnit test classes over and over, the engine behind the
+ * invokeTest runners such as ArithmeticsTestRunner and MarshallingTestRunner.
+ * 
+ * By default a run makes the given number of passes over the classes on the
+ * calling thread. Setting -Ddaa.runner.duration=<seconds> runs the classes for
+ * that wall clock time instead, and -Ddaa.runner.threads=<n> spreads the passes
+ * over n threads, so that load test inventories can give the runners a time
+ * budget. Each thread builds the JUnit Runner of every class once and reuses it
+ * for all its passes, rather than going through JUnitCore.runClasses each time.
+ * A Runner can be run again by the thread that built it, as TestRunner does,
+ * but builds and filters its children lazily and is not safe to share between
+ * threads, so ParallelTestRun does the same with a Runner per pool thread.
+ */
+public class SuiteRunner
+{
+	public static final String DURATION_PROPERTY = "daa.runner.duration";
+	public static final String THREADS_PROPERTY = "daa.runner.threads";
+	
+	private final String name;
+	private final Class<?>[] classes;
+	
+	// Runners for the calling thread, kept between runs
+	private final ThreadLocal<Runner[]> runners = new ThreadLocal<Runner[]>();
+	
+	public SuiteRunner(String name, Class<?>... classes)
+	{
+		this.name = name;
+		this.classes = classes;
+	}
+	
+	/**
+	 * The counts of one thread, only touched by that thread until it has been joined.
+	 */
+	class Worker extends Thread
+	{
+		final boolean timed;
+		final long deadline;
+		final AtomicInteger passesLeft;
+		
+		Runner[] threadRunners;
+		long classCount;
+		long methodCount;
+		long failureCount;
+		
+		Worker(String threadName, boolean timed, long deadline, AtomicInteger passesLeft)
+		{
+			super(threadName);
+			this.timed = timed;
+			this.deadline = deadline;
+			this.passesLeft = passesLeft;
+		}
+		
+		public void run()
+		{
+			JUnitCore core = new JUnitCore();
+			
+			if (threadRunners == null)
+				threadRunners = createRunners();
+			
+			while (timed || passesLeft.getAndDecrement() > 0)
+			{
+				for (int i = 0; i < classes.length; ++i)
+				{
+					if (timed && System.nanoTime() - deadline >= 0)
+						return;
+					
+					long seed = TestRandom.startTest();
+					Result res = core.run(threadRunners[i]);
+					BasicTestRunner.printResult(classes[i], res, seed);
+					
+					++classCount;
+					methodCount += res.getRunCount();
+					failureCount += res.getFailureCount();
+				}
+			}
+		}
+	}
+	
+	private Runner[] createRunners()
+	{
+		Runner[] created = new Runner[classes.length];
+		for (int i = 0; i < classes.length; ++i)
+			created[i] = Request.aClass(classes[i]).getRunner();
+		return created;
+	}
+	
+	/**
+	 * Runs the classes for the -Ddaa.runner.duration time if it is set, otherwise
+	 * for the given number of passes, on -Ddaa.runner.threads threads.
+	 * 
+	 * @param  passes  the number of passes over the classes when no duration is set
+	 * @return whether a test failed
+	 */
+	public boolean runTests(int passes)
+	{
+		int threads = Integer.getInteger(THREADS_PROPERTY, 1);
+		String duration = System.getProperty(DURATION_PROPERTY);
+		
+		if (duration != null)
+			return runFor(parseDuration(duration) * 1000, threads);
+		
+		return run(0, passes, threads);
+	}
+	
+	/**
+	 * returns the -Ddaa.runner.duration seconds, rejecting a duration that
+	 * would run nothing and report success.
+	 * 
+	 * @throws IllegalArgumentException if the duration is not a positive whole number
+	 */
+	static long parseDuration(String duration)
+	{
+		long seconds;
+		try
+		{
+			seconds = Long.parseLong(duration.trim());
+		}
+		catch (NumberFormatException e)
+		{
+			throw new IllegalArgumentException("-D" + DURATION_PROPERTY + " must be a whole number of seconds: '" + duration + "'");
+		}
+		if (seconds <= 0)
+			throw new IllegalArgumentException("-D" + DURATION_PROPERTY + " must be positive: " + duration);
+		return seconds;
+	}
+	
+	/**
+	 * Runs the classes on the given number of threads until the time is up.
+	 * 
+	 * @return whether a test failed
+	 * @throws IllegalArgumentException if the duration is not positive
+	 */
+	public boolean runFor(long durationMillis, int threads)
+	{
+		if (durationMillis <= 0)
+			throw new IllegalArgumentException("The duration must be positive: " + durationMillis + " ms");
+		return run(durationMillis, 0, threads);
+	}
+	
+	private boolean run(long durationMillis, int passes, int threads)
+	{
+		long startTime = System.nanoTime();
+		
+		boolean timed = durationMillis > 0;
+		long deadline = startTime + durationMillis * 1000000;
+		
+		AtomicInteger passesLeft = new AtomicInteger(passes);
+		List<Worker> workers = new ArrayList<Worker>();
+		
+		if (threads <= 1)
+		{
+			// Run on the calling thread so that its runners are kept for the next run
+			Worker worker = new Worker(Thread.currentThread().getName(), timed, deadline, passesLeft);
+			worker.threadRunners = runners.get();
+			if (worker.threadRunners == null)
+			{
+				worker.threadRunners = createRunners();
+				runners.set(worker.threadRunners);
+			}
+			worker.run();
+			workers.add(worker);
+		}
+		else
+		{
+			for (int i = 0; i < threads; ++i)
+			{
+				Worker worker = new Worker(name + "-" + i, timed, deadline, passesLeft);
+				workers.add(worker);
+				worker.start();
+			}
+			
+			for (Worker worker : workers)
+			{
+				boolean joined = false;
+				while (!joined)
+				{
+					try
+					{
+						worker.join();
+						joined = true;
+					}
+					catch (InterruptedException e)
+					{
+						// Keep waiting, the counts of every thread are needed
+					}
+				}
+			}
+		}
+		
+		long endTime = System.nanoTime();
+		
+		long classCount = 0;
+		long methodCount = 0;
+		long failureCount = 0;
+		for (Worker worker : workers)
+		{
+			classCount += worker.classCount;
+			methodCount += worker.methodCount;
+			failureCount += worker.failureCount;
+		}
+		
+		double seconds = (endTime - startTime) / 1e9;
+		
+		System.out.printf("%s: Time taken for tests:%d \n", name, endTime - startTime);
+		System.out.printf("%s: %d threads ran %d classes (%.1f classes/s) and %d test methods (%.1f methods/s), %d failures\n", name, workers.size(),
+				classCount, classCount / seconds, methodCount, methodCount / seconds, failureCount);
+		
+		return failureCount > 0;
+	}
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import com.ibm.dataaccess.DecimalData;
+
+/**
+ * Checks DecimalGenerator.writePacked byte for byte against
+ * DecimalData.convertBigIntegerToPackedDecimal, and that the generators with
+ * and without leading zeros keep to their own setting.
+ */
+public class TestDecimalGenerator
+{
+	@ClassRule
+	public static final RandomSeedRule seedRule = new RandomSeedRule();
+	
+	static final int MAX_PRECISION = 40;
+	static final int MAX_OFFSET = 3;
+	static final int VALUES = 50;
+	
+	@Test
+	public void testWritePacked()
+	{
+		byte[] expected = new byte[MAX_OFFSET + MAX_PRECISION / 2 + 2];
+		byte[] actual = new byte[expected.length];
+		
+		for (int precision = 1; precision <= MAX_PRECISION; ++precision)
+		{
+			for (int offset = 0; offset <= MAX_OFFSET; ++offset)
+			{
+				for (int i = 0; i < VALUES; ++i)
+				{
+					BigInteger value = i == 0 ? BigInteger.ZERO : DecimalGenerator.currentWithLeadingZeros().nextBigInteger(precision, (i & 1) != 0);
+					
+					// The bytes around the packed decimal must be left alone
+					Arrays.fill(expected, (byte) 0x5A);
+					Arrays.fill(actual, (byte) 0x5A);
+					DecimalData.convertBigIntegerToPackedDecimal(value, expected, offset, precision, true);
+					DecimalGenerator.writePacked(value, actual, offset, precision);
+					
+					assertArrayEquals(value + " at precision " + precision + " and offset " + offset, expected, actual);
+					assertEquals(value, DecimalGenerator.toBigInteger(actual, offset, precision));
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void testWritePackedOverflow()
+	{
+		byte[] pd = new byte[MAX_PRECISION];
+		for (int precision = 1; precision <= MAX_PRECISION - 1; ++precision)
+		{
+			try
+			{
+				DecimalGenerator.writePacked(BigInteger.TEN.pow(precision).negate(), pd, 0, precision);
+				fail("Wrote " + (precision + 1) + " digits at precision " + precision);
+			}
+			catch (ArithmeticException expected)
+			{
+			}
+		}
+	}
+	
+	@Test
+	public void testLeadingZeros()
+	{
+		boolean leadingZero = false;
+		for (int i = 0; i < 1000; ++i)
+		{
+			// Interleaved, so that one generator's setting can't leak into the other
+			BigInteger value = DecimalGenerator.current().nextBigInteger(3, false);
+			assertTrue(value + " has a leading zero", value.compareTo(BigInteger.valueOf(100)) >= 0);
+			
+			leadingZero |= DecimalGenerator.currentWithLeadingZeros().nextBigInteger(3, false).compareTo(BigInteger.valueOf(100)) < 0;
+		}
+		assertTrue("No leading zero in 1000 values", leadingZero);
+	}
+}
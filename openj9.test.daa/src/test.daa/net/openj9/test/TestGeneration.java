@@ -29,46 +29,44 @@ import org.junit.runners.Parameterized.Parameters;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
-import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
+
+import net.openj9.test.vlog.InliningCounts;
+import net.openj9.test.vlog.VlogAnalyzer;
 
 import org.junit.runner.RunWith;
 
+/**
+ * Compares the intrinsic inlining expected by each test function, as written
+ * to -DexpectedFile by LogParser, with the inlining counted by VlogAnalyzer
+ * in the -DvlogFile files. -DvlogFile may list several vlogs, gzipped or not,
+ * separated by the path separator, and -Dvlog.charset gives their charset.
+ */
 @RunWith(Parameterized.class)
 public class TestGeneration {
 	
-	static String expectedArgument = "-DexpectedFile=";
-	static String vlogArgument = "-DvlogFile=";
-	static String parseArgument = "-DparseFile=";
-	static String[] params;
+	static String expectedProperty = "expectedFile";
+	static String vlogProperty = "vlogFile";
 	
 	@Test
 	public void LogCompare()
 	{
 		@SuppressWarnings("unused") // Unused if fail(output) below is uncommented
 		String output = "";
-		String inlined = "";
 		
-		for (int i=0;i<expectedLines.length;i++)
+		for (String method : expected.getMethods())
 		{
-			if (parsedLines.length <= i || !expectedLines[i].equals(parsedLines[i]))
+			int expectedInlined = expected.getInlined(functionName, method);
+			int expectedNotInlined = expected.getNotInlined(functionName, method);
+			int inlined = parsed.getInlined(functionName, method);
+			int notInlined = parsed.getNotInlined(functionName, method);
+			
+			if (expectedInlined != inlined || expectedNotInlined != notInlined)
 			{
-				if (!expectedLines[i].startsWith("!"))
-				{
-					inlined = "BE inlined.";
-				}
-				else
-				{
-					inlined = "NOT be inlined.";
-				}
-				output += "\nFunction name: " + expectedLines[i];
-				output += "\nCall number "+(i+1)+" in test function "+functionName+"() was expected to "+inlined;
-				output += "\nNumber of calls expected to be inlined/not inlined: " + expectedLines.length;
-				output += "\nNumber of calls inlined/not inlined: " + parsedLines.length;
+				output += "\nFunction name: " + method;
+				output += "\nCalls in test function "+functionName+"() expected to BE inlined: "+expectedInlined+", inlined: "+inlined;
+				output += "\nCalls in test function "+functionName+"() expected to NOT be inlined: "+expectedNotInlined+", not inlined: "+notInlined;
 				
 				//fail(output);
 			}
@@ -79,140 +77,63 @@ public class TestGeneration {
 	 * fields for each test
 	 */
 	private String functionName;
-	private String[] expectedLines;
-	private String[] parsedLines;
+	private InliningCounts expected;
+	private InliningCounts parsed;
 
-    public TestGeneration(String input1, String[] input2, String[] input3) {
+    public TestGeneration(String input1, InliningCounts input2, InliningCounts input3) {
        functionName = input1;
-       expectedLines = input2;
-       parsedLines = input3;
+       expected = input2;
+       parsed = input3;
     }
 	
 	@Parameters
 	public static Collection<?> data() throws IOException
 	{
-		List<String> inputArgs = ManagementFactory.getRuntimeMXBean().getInputArguments();
-		
-		Iterator<String> inputArgsIterator = inputArgs.iterator();
-		
-		String temp = null;
-		
-		String expectedFile = null;
-		String vlogFile = null;
-		String parseFile = null;
-		
+		String expectedFile = System.getProperty(expectedProperty);
+		String vlogFiles = System.getProperty(vlogProperty);
 		
-		while(inputArgsIterator.hasNext())
-		{
-			temp = (String)inputArgsIterator.next();
-			
-			if (temp.startsWith(expectedArgument))
-			{
-				expectedFile = temp.substring(expectedArgument.length());
-			}
-			else if (temp.startsWith(vlogArgument))
-			{
-				vlogFile = temp.substring(vlogArgument.length());
-			}
-			else if (temp.startsWith(parseArgument))
-			{
-				parseFile = temp.substring(parseArgument.length());
-			}
-		}
-		
-		if (expectedFile == null || vlogFile == null || parseFile == null)
+		if (expectedFile == null || vlogFiles == null)
 		{
 			System.out.println ("All files must be specified");
 			System.exit(0);
 		}
 		
-		LogParser.parseLogFile(vlogFile, parseFile);
-		
-		String tempFuncName = null;
-		
-		ArrayList<String> tempExpecList = new ArrayList<String>();
-		ArrayList<String> tempParseList = new ArrayList<String>();
-		
-		HashMap<String, Object[]> expecMap = new HashMap<String, Object[]>();
-		HashMap<String, Object[]> parseMap = new HashMap<String, Object[]>();
-		
-		Object[] singleParam = new Object[3];
+		InliningCounts parsed = new VlogAnalyzer().analyze(VlogAnalyzer.toFiles(vlogFiles));
+		InliningCounts expected = readExpected(expectedFile);
 		
 		ArrayList<Object[]> paramsList = new ArrayList<Object[]>();
 		
-		String[] stringArrayType = new String[0];
-		
-		BufferedReader br = new BufferedReader(new FileReader(expectedFile));
-		
-		temp = br.readLine();
+		for (String functionName : expected.getCallers())
+			paramsList.add(new Object[] {functionName, expected, parsed});
 		
-		while (temp != null)
-		{
-			if (temp.startsWith("@"))
-			{
-				if (tempFuncName != null)
-				{
-					expecMap.put(tempFuncName, (String[]) tempExpecList.toArray(stringArrayType));
-					tempExpecList.clear();
-				}
-				tempFuncName = temp.substring(1);
-			}
-			else
-				tempExpecList.add(temp);
-			temp = br.readLine();
-		}
-		
-		br.close();
-		
-		if (!tempExpecList.isEmpty() && tempFuncName != null)
-		{
-			expecMap.put(tempFuncName, (String[]) tempExpecList.toArray(stringArrayType));
-			tempExpecList.clear();
-		}
-		
-		br = new BufferedReader(new FileReader(parseFile));
-		
-		temp = br.readLine();
+		return paramsList;
+	}
+	
+	// Reads the "@caller", "method" and "!method" lines written by LogParser
+	static InliningCounts readExpected(String expectedFile) throws IOException
+	{
+		InliningCounts expected = new InliningCounts();
+		String functionName = null;
 		
-		while (temp != null)
+		BufferedReader br = new BufferedReader(new FileReader(expectedFile));
+		try
 		{
-			if (temp.startsWith("@"))
+			String temp;
+			while ((temp = br.readLine()) != null)
 			{
-				if (tempFuncName != null)
-				{					
-					parseMap.put(tempFuncName, (String[]) tempParseList.toArray(stringArrayType));
-					tempParseList.clear();
-				}
-				
-				tempFuncName = temp.substring(1);
+				if (temp.startsWith("@"))
+					functionName = temp.substring(1);
+				else if (functionName != null && temp.startsWith("!"))
+					expected.add(functionName, temp.substring(1), false);
+				else if (functionName != null && !temp.isEmpty())
+					expected.add(functionName, temp, true);
 			}
-			else
-				tempParseList.add(temp);
-			temp = br.readLine();
 		}
-		
-		if (!tempParseList.isEmpty() && tempFuncName != null)
+		finally
 		{
-			parseMap.put(tempFuncName, (String[]) tempParseList.toArray(stringArrayType));
-			tempParseList.clear();
+			br.close();
 		}
 		
-		Iterator<String> keyIter = expecMap.keySet().iterator();
-		
-		while (keyIter.hasNext())
-		{
-			tempFuncName = keyIter.next();
-			singleParam = new Object[3];
-			singleParam[0] = tempFuncName;
-			singleParam[1] = (String[]) expecMap.get(tempFuncName);
-			if (parseMap.containsKey(tempFuncName))
-				singleParam[2] = (String[]) parseMap.get(tempFuncName);
-			else
-				singleParam[2] = new String[0];
-			
-			paramsList.add(singleParam);
-		}
-		
-		return paramsList;
+		return expected;
 	}
 }
@@ -0,0 +1,180 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Per-thread, reproducible random numbers for the DAA tests.
+ * 
+ * Each thread has its own SplittableRandom stream, so the test threads of a
+ * load test no longer contend on the seed of a shared java.util.Random. A
+ * thread's stream is seeded from a root stream the first time it is used, and
+ * reseeded by startTest at the start of each test invocation run through
+ * BasicTestRunner or TestRunner, and of each run of a test class with the
+ * RandomSeedRule class rule. Every seed is printed, and running with
+ * -Ddaa.seed=<seed> gives every stream that seed, which replays the numbers
+ * a failing thread or test saw.
+ * 
+ * getRandom returns a java.util.Random whose methods draw from the calling
+ * thread's stream, for the existing tests that hold a static Random.
+ */
+public class TestRandom
+{
+	public static final String SEED_PROPERTY = "daa.seed";
+	
+	private static final Long REPLAY_SEED = Long.getLong(SEED_PROPERTY);
+	
+	// SplittableRandom is not thread safe, the root is only used under its own lock
+	private static final SplittableRandom root = new SplittableRandom(REPLAY_SEED != null ? REPLAY_SEED.longValue() : System.nanoTime() ^ System.currentTimeMillis());
+	
+	private static final ThreadLocal<Stream> streams = new ThreadLocal<Stream>() {
+		protected Stream initialValue()
+		{
+			long seed = nextSeed();
+			System.out.println("TestRandom: " + Thread.currentThread().getName() + " seed " + seed + " (replay with -D" + SEED_PROPERTY + "=" + seed + ")");
+			return new Stream(seed);
+		}
+	};
+	
+	private static final Random sharedRandom = new ThreadStreamRandom();
+	
+	static final class Stream
+	{
+		long seed;
+		SplittableRandom random;
+		
+		Stream(long seed)
+		{
+			reseed(seed);
+		}
+		
+		void reseed(long seed)
+		{
+			this.seed = seed;
+			this.random = new SplittableRandom(seed);
+		}
+	}
+	
+	private static long nextSeed()
+	{
+		if (REPLAY_SEED != null)
+			return REPLAY_SEED.longValue();
+		
+		synchronized (root)
+		{
+			return root.nextLong();
+		}
+	}
+	
+	/**
+	 * returns the calling thread's stream.
+	 */
+	public static SplittableRandom current()
+	{
+		return streams.get().random;
+	}
+	
+	/**
+	 * returns the seed of the calling thread's stream.
+	 */
+	public static long getSeed()
+	{
+		return streams.get().seed;
+	}
+	
+	/**
+	 * reseeds the calling thread's stream for a new test invocation and
+	 * returns the seed, which the caller should report with the test results.
+	 */
+	public static long startTest()
+	{
+		long seed = nextSeed();
+		streams.get().reseed(seed);
+		return seed;
+	}
+	
+	/**
+	 * returns a Random which draws from the stream of whichever thread calls it.
+	 * It can be shared between threads without contention.
+	 */
+	public static Random getRandom()
+	{
+		return sharedRandom;
+	}
+	
+	/**
+	 * A Random backed by the calling thread's stream. setSeed reseeds the
+	 * calling thread's stream, so tests which set a fixed seed still get a
+	 * fixed sequence.
+	 */
+	static final class ThreadStreamRandom extends Random
+	{
+		private static final long serialVersionUID = 1L;
+		
+		// Random's constructor calls setSeed before this is set
+		private final boolean initialized;
+		
+		ThreadStreamRandom()
+		{
+			initialized = true;
+		}
+		
+		public void setSeed(long seed)
+		{
+			if (initialized)
+				streams.get().reseed(seed);
+		}
+		
+		protected int next(int bits)
+		{
+			return current().nextInt() >>> (32 - bits);
+		}
+		
+		public int nextInt()
+		{
+			return current().nextInt();
+		}
+		
+		public int nextInt(int bound)
+		{
+			return current().nextInt(bound);
+		}
+		
+		public long nextLong()
+		{
+			return current().nextLong();
+		}
+		
+		public boolean nextBoolean()
+		{
+			return current().nextBoolean();
+		}
+		
+		public double nextDouble()
+		{
+			return current().nextDouble();
+		}
+	}
+}
@@ -21,9 +21,12 @@
 
 package net.openj9.test;
 
+import java.io.PrintStream;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.runner.Description;
 import org.junit.runner.JUnitCore;
@@ -57,10 +60,18 @@ public class TestRunner {
 		System.out.println ("      If -quiet is set, won't print out info for each iteration, (good for large iteration runs)");
 		System.out.println ("   iterArg");
 		System.out.println ("      Sets the number of iterations, -iter=nnn, where nnn is the number of iterations to be run");
+		System.out.println ("   steadyArgs");
+		System.out.println ("      -steadyWindow=nnn, number of consecutive iterations compared to detect a method's steady state, default " + MyRunListener.DEFAULT_STEADY_WINDOW);
+		System.out.println ("      -steadyThreshold=x, relative standard deviation of those iterations' times below which the method is steady, default " + MyRunListener.DEFAULT_STEADY_THRESHOLD);
+		System.out.println ("   threadsArg");
+		System.out.println ("      Runs the iterations concurrently, -threads=nnn, where nnn is the number of threads in the pool");
+		System.out.println ("      Reports the throughput in test methods/s, the latency percentiles of each method and tags failures with their thread and iteration");
+		System.out.println ();
+		System.out.println ("Each iteration reseeds the random numbers used by the tests and prints the seed, run with -D" + TestRandom.SEED_PROPERTY + "=<seed> to replay it");
 	}
 
 	enum DiagnosticMode{DEFAULT, FAST, EXPLICIT};
-	public static void main(String[] args) throws ClassNotFoundException
+	public static void main(String[] args) throws ClassNotFoundException, InterruptedException
 	{
 		if (args.length < 2)
 		{
@@ -73,9 +84,6 @@ public class TestRunner {
 		System.out.println ("JUnit version " + core.getVersion());
 		System.out.println ();
 		
-		MyRunListener runListener = new MyRunListener();
-		
-		
 		List<String> arguments = (List<String>) Arrays.asList(args);
 		
 		Iterator<String> argIter = arguments.iterator();
@@ -94,6 +102,11 @@ public class TestRunner {
 		
 		int iterations = 20;
 		
+		int threads = 0;
+		
+		int steadyWindow = MyRunListener.DEFAULT_STEADY_WINDOW;
+		double steadyThreshold = MyRunListener.DEFAULT_STEADY_THRESHOLD;
+		
 		while(argIter.hasNext())
 		{
 			temp = argIter.next();
@@ -122,32 +135,55 @@ public class TestRunner {
 				if (iterations < 1)
 					iterations = 1;
 			}
+			if (temp.startsWith("-threads="))
+			{
+				threads = Integer.parseInt(temp.substring(9));
+				if (threads < 1)
+					threads = 1;
+			}
+			if (temp.startsWith("-steadyWindow="))
+			{
+				steadyWindow = Integer.parseInt(temp.substring(14));
+				if (steadyWindow < 2)
+					steadyWindow = 2;
+			}
+			if (temp.startsWith("-steadyThreshold="))
+				steadyThreshold = Double.parseDouble(temp.substring(17));
 		}
 		
 		Class<?> testClass = Class.forName(testClassName);
 		
-		Request myRequest = Request.aClass(testClass);
+		Filter filter;
 		
 		if (runAll)
 		{
-			myRequest = myRequest.filterWith(Filter.ALL);
+			filter = Filter.ALL;
 		}
 		else
 		{
 			methods = new String[args.length-index];
 			System.arraycopy(args, index, methods, 0, methods.length);
-			MyFilter myFilter = new MyFilter(methods);
-			myRequest = myRequest.filterWith(myFilter);
+			filter = new MyFilter(methods);
 		}
 		
+		if (threads > 0)
+		{
+			ParallelTestRun parallelRun = new ParallelTestRun(testClass, filter, threads, iterations, quietMode);
+			parallelRun.run();
+			parallelRun.printResults(System.out, printStack, diagMode);
+			printInlineDetectorStats();
+			return;
+		}
 		
+		Request myRequest = Request.aClass(testClass).filterWith(filter);
 		
 
+		MyRunListener runListener = new MyRunListener(!quietMode, steadyWindow, steadyThreshold);
+		core.addListener(runListener);
+		
+		long seed = TestRandom.startTest();
 		if (!quietMode)
-		{
-			core.addListener(runListener);
-			System.out.println ("Running iteration " + 1 + ": ");
-		}
+			System.out.println ("Running iteration " + 1 + " (seed " + seed + "): ");
 		int totalRunTime = 0;
 		int totalRunCount = 0;
 		int totalFailCount = 0;
@@ -155,14 +191,19 @@ public class TestRunner {
 		totalRunTime += result.getRunTime();
 		totalRunCount += result.getRunCount();
 		totalFailCount += result.getFailureCount();
+		if (quietMode && result.getFailureCount() > 0)
+			System.out.println ("Iteration " + 1 + " failed (seed " + seed + ")");
 		for (int i=1;i<iterations;i++)
 		{
+			seed = TestRandom.startTest();
 			if (!quietMode)
-				System.out.println ("Running iteration " + (i+1) + " : ");
+				System.out.println ("Running iteration " + (i+1) + " (seed " + seed + "): ");
 			result = core.run(myRequest);
+			if (quietMode && result.getFailureCount() > 0)
+				System.out.println ("Iteration " + (i+1) + " failed (seed " + seed + ")");
 			totalRunTime += result.getRunTime();
 			totalRunCount += result.getRunCount();
-			totalRunCount += result.getFailureCount();
+			totalFailCount += result.getFailureCount();
 		}
 		
 		System.out.println ();
@@ -174,6 +215,9 @@ public class TestRunner {
 		System.out.println ("Last fail count: " + result.getFailureCount());
 		System.out.println ();
 		
+		runListener.printSteadyStateReport(System.out);
+		System.out.println ();
+		
 		List<Failure> listOfFailures = result.getFailures();
 		
 		Failure currFailure;
@@ -270,15 +314,182 @@ class MyFilter extends Filter
 	}
 }
 
+/**
+ * Times every test method and, for each one, detects the iteration from which
+ * its time stops changing, i.e. when the JIT has finished with the code it runs.
+ * 
+ * A method is steady once the relative standard deviation of its total time over
+ * the last steadyWindow iterations is below steadyThreshold; the report gives the
+ * iteration and elapsed time at the start of that window, and the percentiles
+ * of the method's durations before and after it.
+ */
 class MyRunListener extends RunListener
 {
+	static final int DEFAULT_STEADY_WINDOW = 5;
+	static final double DEFAULT_STEADY_THRESHOLD = 0.05;
+	
+	private final boolean printTests;
+	private final int steadyWindow;
+	private final double steadyThreshold;
+	
+	private final Map<String, MethodTimes> methodTimes = new LinkedHashMap<String, MethodTimes>();
+	
+	private int iteration;
+	private long firstRunStartTime;
+	private long runStartTime;
+	private long testStartTime;
+	
 	public MyRunListener()
+	{
+		this(true, DEFAULT_STEADY_WINDOW, DEFAULT_STEADY_THRESHOLD);
+	}
+	
+	public MyRunListener(boolean printTests, int steadyWindow, double steadyThreshold)
 	{
 		super();
+		this.printTests = printTests;
+		this.steadyWindow = steadyWindow;
+		this.steadyThreshold = steadyThreshold;
+	}
+	
+	/**
+	 * The durations of one test method. Until the method is steady each iteration
+	 * records into its own slot of a ring of steadyWindow histograms, so that the
+	 * window that turned out to be steady can be kept as the start of the steady
+	 * state histogram.
+	 */
+	class MethodTimes
+	{
+		final LatencyHistogram all = new LatencyHistogram();
+		final LatencyHistogram steady = new LatencyHistogram();
+		
+		final LatencyHistogram[] window = new LatencyHistogram[steadyWindow];
+		final long[] windowTotals = new long[steadyWindow];
+		final int[] windowIterations = new int[steadyWindow];
+		final long[] windowStartTimes = new long[steadyWindow];
+		
+		int iterations;
+		long currentTotal;
+		boolean ranThisIteration;
+		
+		// 0 until the method is steady
+		int steadyIteration;
+		long timeToSteadyState;
+		
+		MethodTimes()
+		{
+			for (int i = 0; i < steadyWindow; ++i)
+				window[i] = new LatencyHistogram();
+		}
+		
+		void record(long duration)
+		{
+			all.record(duration);
+			if (steadyIteration > 0)
+				steady.record(duration);
+			else
+				window[iterations % steadyWindow].record(duration);
+			currentTotal += duration;
+			ranThisIteration = true;
+		}
+		
+		void endIteration(int iteration, long startTime)
+		{
+			if (!ranThisIteration)
+				return;
+			
+			int slot = iterations % steadyWindow;
+			windowTotals[slot] = currentTotal;
+			windowIterations[slot] = iteration;
+			windowStartTimes[slot] = startTime;
+			
+			++iterations;
+			currentTotal = 0;
+			ranThisIteration = false;
+			
+			if (steadyIteration > 0)
+				return;
+			
+			// The oldest slot of the window is the next one to be reused
+			int next = iterations % steadyWindow;
+			if (iterations >= steadyWindow && isSteady())
+			{
+				steadyIteration = windowIterations[next];
+				timeToSteadyState = windowStartTimes[next];
+				for (LatencyHistogram histogram : window)
+					steady.add(histogram);
+			}
+			else
+			{
+				window[next].reset();
+			}
+		}
+		
+		boolean isSteady()
+		{
+			double mean = 0;
+			for (long total : windowTotals)
+				mean += total;
+			mean /= steadyWindow;
+			
+			double variance = 0;
+			for (long total : windowTotals)
+				variance += (total - mean) * (total - mean);
+			variance /= steadyWindow;
+			
+			return mean > 0 && Math.sqrt(variance) / mean < steadyThreshold;
+		}
+	}
+	
+	public void testRunStarted(Description description)
+	{
+		runStartTime = System.nanoTime();
+		if (iteration++ == 0)
+			firstRunStartTime = runStartTime;
 	}
 	
 	public void testStarted(Description description)
 	{
-		System.out.println ("Test started: " + description.getMethodName());
+		if (printTests)
+			System.out.println ("Test started: " + description.getMethodName());
+		testStartTime = System.nanoTime();
+	}
+	
+	public void testFinished(Description description)
+	{
+		long duration = System.nanoTime() - testStartTime;
+		
+		String method = description.getMethodName();
+		MethodTimes times = methodTimes.get(method);
+		if (times == null)
+		{
+			times = new MethodTimes();
+			methodTimes.put(method, times);
+		}
+		times.record(duration);
+	}
+	
+	public void testRunFinished(Result result)
+	{
+		for (MethodTimes times : methodTimes.values())
+			times.endIteration(iteration, runStartTime - firstRunStartTime);
 	}
-}
\ No newline at end of file
+	
+	public void printSteadyStateReport(PrintStream out)
+	{
+		out.printf("Steady state: %d consecutive iterations within %.1f%% relative standard deviation%n", steadyWindow, steadyThreshold * 100);
+		out.printf("%-40s %6s %8s %14s %10s %10s %10s %10s%n", "Method (times in us)", "Iters", "Steady at", "Time to (ms)",
+				"p50", "p99", "Steady p50", "Steady p99");
+		for (Map.Entry<String, MethodTimes> entry : methodTimes.entrySet())
+		{
+			MethodTimes times = entry.getValue();
+			if (times.steadyIteration > 0)
+				out.printf("%-40s %6d %8d %14.1f %10.1f %10.1f %10.1f %10.1f%n", entry.getKey(), times.iterations, times.steadyIteration,
+						times.timeToSteadyState / 1e6, times.all.getValueAtPercentile(50) / 1e3, times.all.getValueAtPercentile(99) / 1e3,
+						times.steady.getValueAtPercentile(50) / 1e3, times.steady.getValueAtPercentile(99) / 1e3);
+			else
+				out.printf("%-40s %6d %8s %14s %10.1f %10.1f %10s %10s%n", entry.getKey(), times.iterations, "-", "-",
+						times.all.getValueAtPercentile(50) / 1e3, times.all.getValueAtPercentile(99) / 1e3, "-", "-");
+		}
+	}
+}
@@ -30,45 +30,19 @@ import com.ibm.dataaccess.DecimalData;
 
 public class Utils {
 	
-	private static Random randomGenerator = new Random(System.currentTimeMillis());
+	private static Random randomGenerator = TestRandom.getRandom();
 	
 	public static BigInteger getBigInteger(int prec, boolean isNegative)
 	{
-		//construct a string with digits.
-		StringBuilder sb = new StringBuilder();
-		if (isNegative)
-			sb.append("-");
 		//the first digit cannot be zero
-		int rndDig = randomGenerator.nextInt(9) + 1;
-		sb.append(rndDig);
-		for (int i = 1; i < prec; ++i)
-		{
-			rndDig = randomGenerator.nextInt(10);
-			sb.append(rndDig);
-		}
-		BigInteger bi = new BigInteger(sb.toString());
-		
-		return bi;
-		
+		return DecimalGenerator.current().nextBigInteger(prec, isNegative);
 	}
 	
 	public static BigInteger getBigInteger(int prec)
 	{
-		//construct a string with digits.
-		StringBuilder sb = new StringBuilder();
-		for (int i = 0; i < prec; ++i)
-		{
-			int rndDig = randomGenerator.nextInt(10);
-			sb.append(rndDig);
-		}
-		BigInteger bi = new BigInteger(sb.toString());
-		
-		return bi;
-		
+		return DecimalGenerator.currentWithLeadingZeros().nextBigInteger(prec, false);
 	}
 	
-	
-	
 	public static BigInteger getRandomPositiveBigInteger(int prec)
 	{
 		return getBigInteger(prec, false);
@@ -178,7 +152,7 @@ public class Utils {
 		size += offset;
 		byte[] rv = new byte[size];
 		
-		DecimalData.convertBigIntegerToPackedDecimal(bi, rv, offset, prec, true);
+		DecimalGenerator.writePacked(bi, rv, offset, prec);
 		
 		return rv;
 	}
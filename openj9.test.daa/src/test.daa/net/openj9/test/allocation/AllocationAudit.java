@@ -0,0 +1,546 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.allocation;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ibm.dataaccess.ByteArrayMarshaller;
+import com.ibm.dataaccess.ByteArrayUnmarshaller;
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+
+import net.openj9.test.DaaKernel;
+import net.openj9.test.DecimalGenerator;
+
+/**
+ * Measures how many bytes the primitive returning DAA methods allocate per
+ * call once they have been JIT compiled. Each method is called in its own
+ * tight loop over a set of pre-generated operands, first to warm it up and
+ * then in a few measured rounds. The allocated bytes of the thread are read
+ * from com.sun.management.ThreadMXBean, which OpenJ9 implements as well,
+ * before and after each measured round and the lowest round is reported.
+ * 
+ * The conversions between packed, external and unicode decimals and ints or
+ * longs, the packed decimal checks and comparisons and the ByteArrayMarshaller
+ * and ByteArrayUnmarshaller methods should not allocate at all. A method
+ * fails the audit if it allocates more than -Ddaa.allocationLimit bytes per
+ * call, 1 by default, which is well below the size of any object. The
+ * BigDecimal and BigInteger conversions are measured alongside them to show
+ * that the measurement sees allocations.
+ * 
+ * Usage: AllocationAudit [operations per round (default 1000000)]
+ */
+public class AllocationAudit
+{
+	public static final int DEFAULT_OPERATIONS = 1000000;
+	public static final int DEFAULT_WARMUP_CALLS = 10000;
+	public static final double DEFAULT_LIMIT = 1.0;
+	
+	static final int MEASURED_ROUNDS = 5;
+	
+	static final int INT_PRECISION = 9;
+	static final int LONG_PRECISION = 18;
+	static final int INT_PACKED_LENGTH = INT_PRECISION / 2 + 1;
+	static final int LONG_PACKED_LENGTH = LONG_PRECISION / 2 + 1;
+	static final int INT_EXTERNAL_LENGTH = INT_PRECISION;
+	static final int LONG_EXTERNAL_LENGTH = LONG_PRECISION + 1;
+	static final int INT_UNICODE_LENGTH = INT_PRECISION + 1;
+	static final int LONG_UNICODE_LENGTH = LONG_PRECISION + 1;
+	
+	public static final class Result
+	{
+		private final String name;
+		private final boolean allocationFree;
+		private final double bytesPerOperation;
+		
+		Result(String name, boolean allocationFree, double bytesPerOperation)
+		{
+			this.name = name;
+			this.allocationFree = allocationFree;
+			this.bytesPerOperation = bytesPerOperation;
+		}
+		
+		public String getName()
+		{
+			return name;
+		}
+		
+		public boolean isAllocationFree()
+		{
+			return allocationFree;
+		}
+		
+		public double getBytesPerOperation()
+		{
+			return bytesPerOperation;
+		}
+		
+		public boolean failed(double limit)
+		{
+			return allocationFree && bytesPerOperation > limit;
+		}
+		
+		public String toString()
+		{
+			return String.format("%s: %.3f bytes/op", name, bytesPerOperation);
+		}
+	}
+	
+	/**
+	 * A kernel and whether its method should be allocation free.
+	 */
+	abstract static class Probe extends DaaKernel
+	{
+		final boolean allocationFree;
+		
+		Probe(String name, boolean allocationFree)
+		{
+			super(name);
+			this.allocationFree = allocationFree;
+		}
+	}
+	
+	private final com.sun.management.ThreadMXBean threadBean;
+	
+	private final int operations;
+	private final int warmupCalls;
+	
+	// The operands, OPERANDS of each at consecutive offsets
+	private final byte[] packedInts = new byte[DaaKernel.OPERANDS * INT_PACKED_LENGTH];
+	private final byte[] packedLongs = new byte[DaaKernel.OPERANDS * LONG_PACKED_LENGTH];
+	private final byte[] externalInts = new byte[DaaKernel.OPERANDS * INT_EXTERNAL_LENGTH];
+	private final byte[] externalLongs = new byte[DaaKernel.OPERANDS * LONG_EXTERNAL_LENGTH];
+	private final char[] unicodeInts = new char[DaaKernel.OPERANDS * INT_UNICODE_LENGTH];
+	private final char[] unicodeLongs = new char[DaaKernel.OPERANDS * LONG_UNICODE_LENGTH];
+	private final byte[] binary = new byte[DaaKernel.OPERANDS * 8];
+	private final int[] ints = new int[DaaKernel.OPERANDS];
+	private final long[] longs = new long[DaaKernel.OPERANDS];
+	
+	// The results of the primitive to decimal and binary writes
+	private final byte[] packedResult = new byte[LONG_PACKED_LENGTH];
+	private final byte[] externalResult = new byte[INT_EXTERNAL_LENGTH];
+	private final char[] unicodeResult = new char[LONG_UNICODE_LENGTH];
+	private final byte[] binaryResult = new byte[8];
+	
+	private final List<Probe> probes = new ArrayList<Probe>();
+	
+	public AllocationAudit(int operations, int warmupCalls)
+	{
+		this.operations = operations;
+		this.warmupCalls = warmupCalls;
+		threadBean = getThreadBean();
+		
+		DecimalGenerator generator = DecimalGenerator.currentWithLeadingZeros();
+		for (int i = 0; i < DaaKernel.OPERANDS; ++i)
+		{
+			boolean negative = (i & 1) != 0;
+			ints[i] = (int) generator.packedLong(packedInts, i * INT_PACKED_LENGTH, INT_PRECISION, negative ? 0x0D : 0x0C);
+			longs[i] = generator.packedLong(packedLongs, i * LONG_PACKED_LENGTH, LONG_PRECISION, negative ? 0x0D : 0x0C);
+			generator.external(externalInts, i * INT_EXTERNAL_LENGTH, INT_PRECISION, negative, DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING);
+			generator.external(externalLongs, i * LONG_EXTERNAL_LENGTH, LONG_PRECISION, negative, DecimalData.EBCDIC_SIGN_SEPARATE_LEADING);
+			generator.unicode(unicodeInts, i * INT_UNICODE_LENGTH, INT_PRECISION, negative, DecimalData.UNICODE_SIGN_SEPARATE_LEADING);
+			generator.unicode(unicodeLongs, i * LONG_UNICODE_LENGTH, LONG_PRECISION, negative, DecimalData.UNICODE_SIGN_SEPARATE_TRAILING);
+			ByteArrayMarshaller.writeLong(longs[i], binary, i * 8, true);
+		}
+		
+		addProbes();
+	}
+	
+	/**
+	 * @return the bean that reports the bytes allocated by a thread, null if
+	 *         this JVM can't report them
+	 */
+	static com.sun.management.ThreadMXBean getThreadBean()
+	{
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (!(bean instanceof com.sun.management.ThreadMXBean))
+			return null;
+		
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+		if (!threadBean.isThreadAllocatedMemorySupported())
+			return null;
+		
+		if (!threadBean.isThreadAllocatedMemoryEnabled())
+			threadBean.setThreadAllocatedMemoryEnabled(true);
+		
+		return threadBean;
+	}
+	
+	public static boolean isSupported()
+	{
+		return getThreadBean() != null;
+	}
+	
+	private void addProbes()
+	{
+		probes.add(new Probe("DecimalData.convertPackedDecimalToInteger", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += DecimalData.convertPackedDecimalToInteger(packedInts, (i & OPERAND_MASK) * INT_PACKED_LENGTH, INT_PRECISION, true);
+				return result;
+			}
+		});
+		probes.add(new Probe("DecimalData.convertPackedDecimalToLong", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += DecimalData.convertPackedDecimalToLong(packedLongs, (i & OPERAND_MASK) * LONG_PACKED_LENGTH, LONG_PRECISION, true);
+				return result;
+			}
+		});
+		probes.add(new Probe("DecimalData.convertExternalDecimalToInteger", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += DecimalData.convertExternalDecimalToInteger(externalInts, (i & OPERAND_MASK) * INT_EXTERNAL_LENGTH, INT_PRECISION, true,
+							DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING);
+				return result;
+			}
+		});
+		probes.add(new Probe("DecimalData.convertExternalDecimalToLong", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += DecimalData.convertExternalDecimalToLong(externalLongs, (i & OPERAND_MASK) * LONG_EXTERNAL_LENGTH, LONG_PRECISION, true,
+							DecimalData.EBCDIC_SIGN_SEPARATE_LEADING);
+				return result;
+			}
+		});
+		probes.add(new Probe("DecimalData.convertUnicodeDecimalToInteger", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += DecimalData.convertUnicodeDecimalToInteger(unicodeInts, (i & OPERAND_MASK) * INT_UNICODE_LENGTH, INT_PRECISION, true,
+							DecimalData.UNICODE_SIGN_SEPARATE_LEADING);
+				return result;
+			}
+		});
+		probes.add(new Probe("DecimalData.convertUnicodeDecimalToLong", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += DecimalData.convertUnicodeDecimalToLong(unicodeLongs, (i & OPERAND_MASK) * LONG_UNICODE_LENGTH, LONG_PRECISION, true,
+							DecimalData.UNICODE_SIGN_SEPARATE_TRAILING);
+				return result;
+			}
+		});
+		probes.add(new Probe("DecimalData.convertIntegerToPackedDecimal", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					DecimalData.convertIntegerToPackedDecimal(ints[i & OPERAND_MASK], packedResult, 0, INT_PRECISION, true);
+					result += packedResult[INT_PACKED_LENGTH - 1];
+				}
+				return result;
+			}
+		});
+		probes.add(new Probe("DecimalData.convertLongToPackedDecimal", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					DecimalData.convertLongToPackedDecimal(longs[i & OPERAND_MASK], packedResult, 0, LONG_PRECISION, true);
+					result += packedResult[LONG_PACKED_LENGTH - 1];
+				}
+				return result;
+			}
+		});
+		probes.add(new Probe("DecimalData.convertIntegerToExternalDecimal", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					DecimalData.convertIntegerToExternalDecimal(ints[i & OPERAND_MASK], externalResult, 0, INT_PRECISION, true,
+							DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING);
+					result += externalResult[INT_EXTERNAL_LENGTH - 1];
+				}
+				return result;
+			}
+		});
+		probes.add(new Probe("DecimalData.convertLongToUnicodeDecimal", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					DecimalData.convertLongToUnicodeDecimal(longs[i & OPERAND_MASK], unicodeResult, 0, LONG_PRECISION, true,
+							DecimalData.UNICODE_SIGN_SEPARATE_TRAILING);
+					result += unicodeResult[LONG_PRECISION];
+				}
+				return result;
+			}
+		});
+		probes.add(new Probe("PackedDecimal.checkPackedDecimal", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += PackedDecimal.checkPackedDecimal(packedLongs, (i & OPERAND_MASK) * LONG_PACKED_LENGTH, LONG_PRECISION, true, true);
+				return result;
+			}
+		});
+		probes.add(new Probe("PackedDecimal.equalsPackedDecimal", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					if (PackedDecimal.equalsPackedDecimal(packedLongs, (i & OPERAND_MASK) * LONG_PACKED_LENGTH, LONG_PRECISION,
+							packedLongs, ((i + 1) & OPERAND_MASK) * LONG_PACKED_LENGTH, LONG_PRECISION))
+						++result;
+				}
+				return result;
+			}
+		});
+		probes.add(new Probe("PackedDecimal.lessThanPackedDecimal", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					if (PackedDecimal.lessThanPackedDecimal(packedInts, (i & OPERAND_MASK) * INT_PACKED_LENGTH, INT_PRECISION,
+							packedLongs, ((i + 1) & OPERAND_MASK) * LONG_PACKED_LENGTH, LONG_PRECISION))
+						++result;
+				}
+				return result;
+			}
+		});
+		probes.add(new Probe("ByteArrayUnmarshaller.readShort", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += ByteArrayUnmarshaller.readShort(binary, (i & OPERAND_MASK) * 8, (i & 1) == 0);
+				return result;
+			}
+		});
+		probes.add(new Probe("ByteArrayUnmarshaller.readInt", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += ByteArrayUnmarshaller.readInt(binary, (i & OPERAND_MASK) * 8, (i & 1) == 0);
+				return result;
+			}
+		});
+		probes.add(new Probe("ByteArrayUnmarshaller.readInt(numBytes)", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += ByteArrayUnmarshaller.readInt(binary, (i & OPERAND_MASK) * 8, (i & 1) == 0, 3, true);
+				return result;
+			}
+		});
+		probes.add(new Probe("ByteArrayUnmarshaller.readLong", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += ByteArrayUnmarshaller.readLong(binary, (i & OPERAND_MASK) * 8, (i & 1) == 0);
+				return result;
+			}
+		});
+		probes.add(new Probe("ByteArrayUnmarshaller.readFloat", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += Float.floatToRawIntBits(ByteArrayUnmarshaller.readFloat(binary, (i & OPERAND_MASK) * 8, (i & 1) == 0));
+				return result;
+			}
+		});
+		probes.add(new Probe("ByteArrayUnmarshaller.readDouble", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += Double.doubleToRawLongBits(ByteArrayUnmarshaller.readDouble(binary, (i & OPERAND_MASK) * 8, (i & 1) == 0));
+				return result;
+			}
+		});
+		probes.add(new Probe("ByteArrayMarshaller.writeInt", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					ByteArrayMarshaller.writeInt(ints[i & OPERAND_MASK], binaryResult, 0, (i & 1) == 0);
+					result += binaryResult[3];
+				}
+				return result;
+			}
+		});
+		probes.add(new Probe("ByteArrayMarshaller.writeLong", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					ByteArrayMarshaller.writeLong(longs[i & OPERAND_MASK], binaryResult, 0, (i & 1) == 0);
+					result += binaryResult[7];
+				}
+				return result;
+			}
+		});
+		probes.add(new Probe("ByteArrayMarshaller.writeDouble", true) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					ByteArrayMarshaller.writeDouble((double) longs[i & OPERAND_MASK], binaryResult, 0, (i & 1) == 0);
+					result += binaryResult[7];
+				}
+				return result;
+			}
+		});
+		
+		// These return objects, they show that the allocations are measured
+		probes.add(new Probe("DecimalData.convertPackedDecimalToBigInteger", false) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += DecimalData.convertPackedDecimalToBigInteger(packedLongs, (i & OPERAND_MASK) * LONG_PACKED_LENGTH, LONG_PRECISION, true).signum();
+				return result;
+			}
+		});
+		probes.add(new Probe("DecimalData.convertPackedDecimalToBigDecimal", false) {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += DecimalData.convertPackedDecimalToBigDecimal(packedLongs, (i & OPERAND_MASK) * LONG_PACKED_LENGTH, LONG_PRECISION, 2, true).signum();
+				return result;
+			}
+		});
+	}
+	
+	// The bytes getThreadAllocatedBytes itself allocates between two calls
+	private long measurementOverhead(long threadId)
+	{
+		long overhead = Long.MAX_VALUE;
+		for (int i = 0; i < MEASURED_ROUNDS; ++i)
+		{
+			long before = threadBean.getThreadAllocatedBytes(threadId);
+			long after = threadBean.getThreadAllocatedBytes(threadId);
+			overhead = Math.min(overhead, after - before);
+		}
+		return overhead;
+	}
+	
+	Result measure(Probe probe)
+	{
+		long threadId = Thread.currentThread().getId();
+		
+		// Each warm up call runs once over the operands
+		for (int i = 0; i < warmupCalls; ++i)
+			probe.call(DaaKernel.OPERANDS);
+		
+		long overhead = measurementOverhead(threadId);
+		long lowest = Long.MAX_VALUE;
+		for (int round = 0; round < MEASURED_ROUNDS; ++round)
+		{
+			long before = threadBean.getThreadAllocatedBytes(threadId);
+			probe.call(operations);
+			long allocated = threadBean.getThreadAllocatedBytes(threadId) - before - overhead;
+			lowest = Math.min(lowest, Math.max(0, allocated));
+		}
+		
+		return new Result(probe.getName(), probe.allocationFree, (double) lowest / operations);
+	}
+	
+	/**
+	 * Measures every probe in turn on the calling thread.
+	 * 
+	 * @throws UnsupportedOperationException if the JVM can't report the bytes
+	 *         allocated by a thread
+	 */
+	public List<Result> run()
+	{
+		if (threadBean == null)
+			throw new UnsupportedOperationException("This JVM does not report the bytes allocated by a thread");
+		
+		List<Result> results = new ArrayList<Result>();
+		for (Probe probe : probes)
+			results.add(measure(probe));
+		return results;
+	}
+	
+	public static double getLimit()
+	{
+		String limit = System.getProperty("daa.allocationLimit");
+		return limit == null ? DEFAULT_LIMIT : Double.parseDouble(limit);
+	}
+	
+	public static void main(String[] args)
+	{
+		int operations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_OPERATIONS;
+		double limit = getLimit();
+		
+		if (!isSupported())
+		{
+			System.out.println("AllocationAudit: this JVM does not report the bytes allocated by a thread");
+			return;
+		}
+		
+		System.out.println("AllocationAudit: " + DEFAULT_WARMUP_CALLS + " warm up calls and " + MEASURED_ROUNDS + " rounds of " + operations
+				+ " operations per method, limit " + limit + " bytes/op");
+		
+		int failures = 0;
+		for (Result result : new AllocationAudit(operations, DEFAULT_WARMUP_CALLS).run())
+		{
+			String status;
+			if (result.failed(limit))
+			{
+				status = "FAILED, should not allocate";
+				++failures;
+			}
+			else
+			{
+				status = result.isAllocationFree() ? "ok" : "allocates";
+			}
+			System.out.printf("%-50s %12.3f bytes/op  %s%n", result.getName(), result.getBytesPerOperation(), status);
+		}
+		
+		System.out.println("AllocationAudit: " + failures + " methods allocated");
+		
+		if (failures > 0)
+			System.exit(1);
+	}
+}
@@ -0,0 +1,61 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.allocation;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Runs AllocationAudit with -Ddaa.allocationOperations operations per
+ * measured round, 200000 by default, and fails if any of the methods that
+ * should be allocation free allocate more than -Ddaa.allocationLimit bytes
+ * per call. Skipped on JVMs that can't report the bytes a thread allocates.
+ */
+public class TestAllocationFree
+{
+	static final int DEFAULT_OPERATIONS = 200000;
+	
+	@Test
+	public void testPrimitiveMethodsDoNotAllocate()
+	{
+		Assume.assumeTrue(AllocationAudit.isSupported());
+		
+		int operations = Integer.getInteger("daa.allocationOperations", DEFAULT_OPERATIONS);
+		double limit = AllocationAudit.getLimit();
+		
+		List<AllocationAudit.Result> allocating = new ArrayList<AllocationAudit.Result>();
+		for (AllocationAudit.Result result : new AllocationAudit(operations, AllocationAudit.DEFAULT_WARMUP_CALLS).run())
+		{
+			if (result.failed(limit))
+				allocating.add(result);
+		}
+		
+		assertTrue("Methods that should not allocate allocated more than " + limit + " bytes/op: " + allocating, allocating.isEmpty());
+	}
+}
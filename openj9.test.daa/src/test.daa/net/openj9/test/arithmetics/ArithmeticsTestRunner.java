@@ -21,7 +21,7 @@
 
 package net.openj9.test.arithmetics;
 
-import net.openj9.test.BasicTestRunner;
+import net.openj9.test.SuiteRunner;
 import net.openj9.test.arithmetics.TestArithmeticInline;
 import net.openj9.test.arithmetics.TestArithmetics;
 import net.openj9.test.arithmetics.TestComparisonEquals;
@@ -43,28 +43,19 @@ public class ArithmeticsTestRunner
             System.exit(1);
     }
 
+    private static final SuiteRunner suite = new SuiteRunner("ArithmeticsTestRunner",
+            TestArithmeticInline.class,
+            TestArithmetics.class,
+            TestArithmeticOperations.class,
+            TestComparisonEquals.class,
+            TestPerformance.class,
+            TestSubExceptions.class,
+            TestValidityChecking.class,
+            TestPDComparisons.class,
+            TestPackedDecimalReference.class);
+
     public static boolean runTests(int x)
     {
-        boolean seenFailure = false;
-        
-        long startTime = System.nanoTime();
-        
-        for (int i = 0; i < x; ++i)
-        {
-            seenFailure |= !(BasicTestRunner.runClass(TestArithmeticInline.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestArithmetics.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestArithmeticOperations.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestComparisonEquals.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestPerformance.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestSubExceptions.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestValidityChecking.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestPDComparisons.class));
-        }
-        
-        long endTime = System.nanoTime();
-        
-        System.out.printf("ArithmeticsTestRunner: Time taken for tests:%d \n", endTime - startTime);
-        
-        return seenFailure;
+        return suite.runTests(x);
     }
 }
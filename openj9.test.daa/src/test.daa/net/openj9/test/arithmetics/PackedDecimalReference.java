@@ -0,0 +1,478 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.arithmetics;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Pure Java reference implementation of the PackedDecimal arithmetic and
+ * comparison methods, for use as the oracle of the DAA arithmetic tests.
+ * 
+ * The operands are read straight from the packed decimal byte arrays into
+ * base 10^9 long limbs held by the instance, so once constructed no objects
+ * are allocated per operation. An instance is not thread safe, each test
+ * thread should create its own.
+ * 
+ * The methods take the same parameters as the PackedDecimal methods they
+ * mirror and follow the same rules: the result is truncated to the result
+ * precision (or an ArithmeticException is thrown when checkOverflow is set),
+ * division truncates towards zero, the remainder has the sign of the
+ * dividend, and the result sign is 0x0C for positive and zero results and
+ * 0x0D for negative results. The operands are assumed to be valid packed
+ * decimals.
+ * 
+ * Run with -Ddaa.verifyReference=true to have every result cross-checked
+ * against BigInteger. This is slow and is intended for validating the
+ * reference itself.
+ */
+public class PackedDecimalReference
+{
+    static final boolean VERIFY = Boolean.getBoolean("daa.verifyReference");
+
+    static final int DIGITS_PER_LIMB = 9;
+    static final long LIMB_BASE = 1000000000L;
+
+    static final int LIMBS = 16;
+
+    /**
+     * The largest operand precision supported, products of two operands of
+     * this precision still fit in the limbs.
+     */
+    public static final int MAX_PRECISION = LIMBS / 2 * DIGITS_PER_LIMB;
+
+    static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L };
+
+    static final int ADD = 0;
+    static final int SUBTRACT = 1;
+    static final int MULTIPLY = 2;
+    static final int DIVIDE = 3;
+    static final int REMAINDER = 4;
+
+    static final String[] OPERATION_NAMES = { "add", "subtract", "multiply", "divide", "remainder" };
+
+    private final long[] operand1 = new long[LIMBS];
+    private final long[] operand2 = new long[LIMBS];
+    private final long[] result = new long[LIMBS];
+    private final long[] scratch = new long[LIMBS];
+
+    public void addPackedDecimal(byte[] result, int resultOffset, int resultPrecision, byte[] op1, int op1Offset, int op1Precision,
+            byte[] op2, int op2Offset, int op2Precision, boolean checkOverflow)
+    {
+        arithmetic(ADD, result, resultOffset, resultPrecision, op1, op1Offset, op1Precision, op2, op2Offset, op2Precision, checkOverflow);
+    }
+
+    public void subtractPackedDecimal(byte[] result, int resultOffset, int resultPrecision, byte[] op1, int op1Offset, int op1Precision,
+            byte[] op2, int op2Offset, int op2Precision, boolean checkOverflow)
+    {
+        arithmetic(SUBTRACT, result, resultOffset, resultPrecision, op1, op1Offset, op1Precision, op2, op2Offset, op2Precision, checkOverflow);
+    }
+
+    public void multiplyPackedDecimal(byte[] result, int resultOffset, int resultPrecision, byte[] op1, int op1Offset, int op1Precision,
+            byte[] op2, int op2Offset, int op2Precision, boolean checkOverflow)
+    {
+        arithmetic(MULTIPLY, result, resultOffset, resultPrecision, op1, op1Offset, op1Precision, op2, op2Offset, op2Precision, checkOverflow);
+    }
+
+    public void dividePackedDecimal(byte[] result, int resultOffset, int resultPrecision, byte[] op1, int op1Offset, int op1Precision,
+            byte[] op2, int op2Offset, int op2Precision, boolean checkOverflow)
+    {
+        arithmetic(DIVIDE, result, resultOffset, resultPrecision, op1, op1Offset, op1Precision, op2, op2Offset, op2Precision, checkOverflow);
+    }
+
+    public void remainderPackedDecimal(byte[] result, int resultOffset, int resultPrecision, byte[] op1, int op1Offset, int op1Precision,
+            byte[] op2, int op2Offset, int op2Precision, boolean checkOverflow)
+    {
+        arithmetic(REMAINDER, result, resultOffset, resultPrecision, op1, op1Offset, op1Precision, op2, op2Offset, op2Precision, checkOverflow);
+    }
+
+    /**
+     * returns a negative number, zero or a positive number as op1 is less
+     * than, equal to or greater than op2. Positive and negative zero are equal.
+     */
+    public int comparePackedDecimal(byte[] op1, int op1Offset, int op1Precision, byte[] op2, int op2Offset, int op2Precision)
+    {
+        checkPrecision(op1Precision);
+        checkPrecision(op2Precision);
+
+        boolean negative1 = load(op1, op1Offset, op1Precision, operand1);
+        boolean negative2 = load(op2, op2Offset, op2Precision, operand2);
+
+        int signum1 = isZero(operand1) ? 0 : (negative1 ? -1 : 1);
+        int signum2 = isZero(operand2) ? 0 : (negative2 ? -1 : 1);
+
+        int comparison;
+        if (signum1 != signum2)
+            comparison = signum1 < signum2 ? -1 : 1;
+        else
+            comparison = signum1 * compareMagnitude(operand1, operand2);
+
+        if (VERIFY)
+        {
+            int expected = toBigInteger(op1, op1Offset, op1Precision).compareTo(toBigInteger(op2, op2Offset, op2Precision));
+            if (expected != comparison)
+                throw new AssertionError("PackedDecimalReference compare returned " + comparison + ", BigInteger returned " + expected);
+        }
+
+        return comparison;
+    }
+
+    public boolean equalsPackedDecimal(byte[] op1, int op1Offset, int op1Precision, byte[] op2, int op2Offset, int op2Precision)
+    {
+        return comparePackedDecimal(op1, op1Offset, op1Precision, op2, op2Offset, op2Precision) == 0;
+    }
+
+    public boolean greaterThanPackedDecimal(byte[] op1, int op1Offset, int op1Precision, byte[] op2, int op2Offset, int op2Precision)
+    {
+        return comparePackedDecimal(op1, op1Offset, op1Precision, op2, op2Offset, op2Precision) > 0;
+    }
+
+    public boolean lessThanPackedDecimal(byte[] op1, int op1Offset, int op1Precision, byte[] op2, int op2Offset, int op2Precision)
+    {
+        return comparePackedDecimal(op1, op1Offset, op1Precision, op2, op2Offset, op2Precision) < 0;
+    }
+
+    private void arithmetic(int operation, byte[] result, int resultOffset, int resultPrecision, byte[] op1, int op1Offset,
+            int op1Precision, byte[] op2, int op2Offset, int op2Precision, boolean checkOverflow)
+    {
+        if (!VERIFY)
+        {
+            compute(operation, result, resultOffset, resultPrecision, op1, op1Offset, op1Precision, op2, op2Offset, op2Precision, checkOverflow);
+            return;
+        }
+
+        BigInteger value1 = toBigInteger(op1, op1Offset, op1Precision);
+        BigInteger value2 = toBigInteger(op2, op2Offset, op2Precision);
+
+        // null when BigInteger throws, i.e. for division by zero
+        BigInteger expected = null;
+        try
+        {
+            switch (operation)
+            {
+                case ADD:
+                    expected = value1.add(value2);
+                    break;
+                case SUBTRACT:
+                    expected = value1.subtract(value2);
+                    break;
+                case MULTIPLY:
+                    expected = value1.multiply(value2);
+                    break;
+                case DIVIDE:
+                    expected = value1.divide(value2);
+                    break;
+                case REMAINDER:
+                    expected = value1.remainder(value2);
+                    break;
+            }
+        }
+        catch (ArithmeticException e)
+        {
+        }
+
+        BigInteger limit = BigInteger.TEN.pow(resultPrecision);
+        boolean expectException = expected == null || (checkOverflow && expected.abs().compareTo(limit) >= 0);
+
+        ArithmeticException thrown = null;
+        try
+        {
+            compute(operation, result, resultOffset, resultPrecision, op1, op1Offset, op1Precision, op2, op2Offset, op2Precision, checkOverflow);
+        }
+        catch (ArithmeticException e)
+        {
+            thrown = e;
+        }
+
+        String operationString = OPERATION_NAMES[operation] + "(" + value1 + ", " + value2 + ") at precision " + resultPrecision;
+
+        if (expectException != (thrown != null))
+        {
+            throw new AssertionError("PackedDecimalReference " + operationString + (thrown != null ? " threw " + thrown : " did not throw")
+                    + ", BigInteger result " + expected);
+        }
+        if (thrown != null)
+            throw thrown;
+
+        BigInteger truncated = expected.abs().mod(limit);
+        if (expected.signum() < 0)
+            truncated = truncated.negate();
+
+        BigInteger actual = toBigInteger(result, resultOffset, resultPrecision);
+        boolean actualNegative = isNegativeSign(result[resultOffset + resultPrecision / 2] & 0x0F);
+        if (!actual.equals(truncated) || actualNegative != (expected.signum() < 0))
+        {
+            throw new AssertionError("PackedDecimalReference " + operationString + " returned " + (actualNegative ? "-" : "") + actual.abs()
+                    + ", BigInteger returned " + truncated);
+        }
+    }
+
+    private void compute(int operation, byte[] resultArray, int resultOffset, int resultPrecision, byte[] op1, int op1Offset,
+            int op1Precision, byte[] op2, int op2Offset, int op2Precision, boolean checkOverflow)
+    {
+        checkPrecision(op1Precision);
+        checkPrecision(op2Precision);
+        checkPrecision(resultPrecision);
+
+        boolean negative1 = load(op1, op1Offset, op1Precision, operand1);
+        boolean negative2 = load(op2, op2Offset, op2Precision, operand2);
+
+        boolean negative;
+
+        switch (operation)
+        {
+            case SUBTRACT:
+                negative2 = !negative2;
+                // fall through, a - b is a + -b
+            case ADD:
+                if (negative1 == negative2)
+                {
+                    addMagnitude(operand1, operand2, result);
+                    negative = negative1;
+                }
+                else if (compareMagnitude(operand1, operand2) >= 0)
+                {
+                    subtractMagnitude(operand1, operand2, result);
+                    negative = negative1;
+                }
+                else
+                {
+                    subtractMagnitude(operand2, operand1, result);
+                    negative = negative2;
+                }
+                break;
+            case MULTIPLY:
+                multiplyMagnitude(operand1, operand2, result);
+                negative = negative1 != negative2;
+                break;
+            case DIVIDE:
+                divideMagnitude(operand1, op1Precision, operand2, result, scratch);
+                negative = negative1 != negative2;
+                break;
+            case REMAINDER:
+                divideMagnitude(operand1, op1Precision, operand2, scratch, result);
+                negative = negative1;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown operation: " + operation);
+        }
+
+        if (isZero(result))
+            negative = false;
+
+        store(result, negative, resultArray, resultOffset, resultPrecision, checkOverflow);
+    }
+
+    private static void checkPrecision(int precision)
+    {
+        if (precision < 1 || precision > MAX_PRECISION)
+            throw new IllegalArgumentException("PackedDecimalReference supports precisions from 1 to " + MAX_PRECISION + ": " + precision);
+    }
+
+    static boolean isNegativeSign(int sign)
+    {
+        return sign == 0x0B || sign == 0x0D;
+    }
+
+    /**
+     * reads the digits of the packed decimal into limbs and returns true if
+     * its sign is negative. Digit k, counting from the least significant digit,
+     * is in the high nibble of the byte k/2 + 1 from the end when k is even,
+     * and in the low nibble of the byte k/2 + 1 from the end when k is odd.
+     */
+    static boolean load(byte[] pd, int offset, int precision, long[] limbs)
+    {
+        Arrays.fill(limbs, 0);
+
+        int last = offset + precision / 2;
+
+        for (int k = 0; k < precision; ++k)
+        {
+            int nibble = k + 1;
+            int b = pd[last - nibble / 2];
+            int digit = (nibble & 1) != 0 ? (b >> 4) & 0x0F : b & 0x0F;
+
+            limbs[k / DIGITS_PER_LIMB] += digit * POWERS_OF_TEN[k % DIGITS_PER_LIMB];
+        }
+
+        return isNegativeSign(pd[last] & 0x0F);
+    }
+
+    /**
+     * writes the limbs to the packed decimal, truncating them to precision
+     * digits or throwing an ArithmeticException if checkOverflow is set.
+     */
+    static void store(long[] limbs, boolean negative, byte[] pd, int offset, int precision, boolean checkOverflow)
+    {
+        if (checkOverflow)
+        {
+            int limb = precision / DIGITS_PER_LIMB;
+            boolean overflow = limbs[limb] / POWERS_OF_TEN[precision % DIGITS_PER_LIMB] != 0;
+            for (int i = limb + 1; i < limbs.length && !overflow; ++i)
+                overflow = limbs[i] != 0;
+
+            if (overflow)
+                throw new ArithmeticException("Decimal overflow, the result does not fit in precision " + precision);
+        }
+
+        int last = offset + precision / 2;
+
+        for (int i = offset; i < last; ++i)
+            pd[i] = 0;
+        pd[last] = (byte) (negative ? 0x0D : 0x0C);
+
+        for (int k = 0; k < precision; ++k)
+        {
+            int nibble = k + 1;
+            int digit = (int) (limbs[k / DIGITS_PER_LIMB] / POWERS_OF_TEN[k % DIGITS_PER_LIMB] % 10);
+
+            if ((nibble & 1) != 0)
+                pd[last - nibble / 2] |= digit << 4;
+            else
+                pd[last - nibble / 2] |= digit;
+        }
+    }
+
+    static boolean isZero(long[] x)
+    {
+        for (int i = 0; i < x.length; ++i)
+        {
+            if (x[i] != 0)
+                return false;
+        }
+        return true;
+    }
+
+    static int compareMagnitude(long[] x, long[] y)
+    {
+        for (int i = x.length - 1; i >= 0; --i)
+        {
+            if (x[i] != y[i])
+                return x[i] < y[i] ? -1 : 1;
+        }
+        return 0;
+    }
+
+    static void addMagnitude(long[] x, long[] y, long[] out)
+    {
+        long carry = 0;
+        for (int i = 0; i < out.length; ++i)
+        {
+            long sum = x[i] + y[i] + carry;
+            carry = sum >= LIMB_BASE ? 1 : 0;
+            out[i] = sum - carry * LIMB_BASE;
+        }
+    }
+
+    /**
+     * out = x - y, x must be at least y. out may be x.
+     */
+    static void subtractMagnitude(long[] x, long[] y, long[] out)
+    {
+        long borrow = 0;
+        for (int i = 0; i < out.length; ++i)
+        {
+            long difference = x[i] - y[i] - borrow;
+            borrow = difference < 0 ? 1 : 0;
+            out[i] = difference + borrow * LIMB_BASE;
+        }
+    }
+
+    /**
+     * out = x * y. Each partial product is below 10^18 so the column sums and
+     * carries fit in a long.
+     */
+    static void multiplyMagnitude(long[] x, long[] y, long[] out)
+    {
+        Arrays.fill(out, 0);
+
+        for (int i = 0; i < LIMBS; ++i)
+        {
+            if (x[i] == 0)
+                continue;
+
+            long carry = 0;
+            for (int j = 0; i + j < LIMBS; ++j)
+            {
+                long t = out[i + j] + x[i] * y[j] + carry;
+                out[i + j] = t % LIMB_BASE;
+                carry = t / LIMB_BASE;
+            }
+        }
+    }
+
+    /**
+     * quotient = x / y and remainder = x % y by schoolbook long division one
+     * decimal digit of x at a time, each quotient digit being found by
+     * repeated subtraction.
+     */
+    static void divideMagnitude(long[] x, int xPrecision, long[] y, long[] quotient, long[] remainder)
+    {
+        if (isZero(y))
+            throw new ArithmeticException("Division by zero");
+
+        Arrays.fill(quotient, 0);
+        Arrays.fill(remainder, 0);
+
+        for (int k = xPrecision - 1; k >= 0; --k)
+        {
+            // remainder = remainder * 10 + digit k of x
+            long carry = x[k / DIGITS_PER_LIMB] / POWERS_OF_TEN[k % DIGITS_PER_LIMB] % 10;
+            for (int i = 0; i < LIMBS; ++i)
+            {
+                long t = remainder[i] * 10 + carry;
+                remainder[i] = t % LIMB_BASE;
+                carry = t / LIMB_BASE;
+            }
+
+            int digit = 0;
+            while (compareMagnitude(remainder, y) >= 0)
+            {
+                subtractMagnitude(remainder, y, remainder);
+                ++digit;
+            }
+
+            quotient[k / DIGITS_PER_LIMB] += digit * POWERS_OF_TEN[k % DIGITS_PER_LIMB];
+        }
+    }
+
+    /**
+     * decodes a packed decimal one nibble at a time without using the limbs,
+     * for cross-checking against BigInteger.
+     */
+    static BigInteger toBigInteger(byte[] pd, int offset, int precision)
+    {
+        StringBuilder sb = new StringBuilder();
+
+        int last = offset + precision / 2;
+        for (int k = precision - 1; k >= 0; --k)
+        {
+            int nibble = k + 1;
+            int b = pd[last - nibble / 2];
+            sb.append((char) ('0' + ((nibble & 1) != 0 ? (b >> 4) & 0x0F : b & 0x0F)));
+        }
+
+        BigInteger value = new BigInteger(sb.toString());
+        return isNegativeSign(pd[last] & 0x0F) ? value.negate() : value;
+    }
+}
@@ -26,10 +26,17 @@ import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Random;
 
+import net.openj9.test.RandomSeedRule;
 import net.openj9.test.Utils;
+import net.openj9.test.TestRandom;
+
+import org.junit.ClassRule;
 
 public class TestArithmeticComparisonBase
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     byte[] op1 = new byte[100];
     byte[] op2 = new byte[100];
 
@@ -41,7 +48,7 @@ public class TestArithmeticComparisonBase
     static long LargePositivesMin = Long.MAX_VALUE;
     static long LargeNegativesMin = Long.MAX_VALUE;
 
-    static Random randomGenerator = new Random(System.currentTimeMillis());
+    static Random randomGenerator = TestRandom.getRandom();
 
     /**
      * clear the 4 most significant bits of a packed decimal
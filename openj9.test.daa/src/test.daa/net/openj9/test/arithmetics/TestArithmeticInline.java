@@ -27,10 +27,14 @@ import java.math.BigInteger;
 import com.ibm.dataaccess.DecimalData;
 import com.ibm.dataaccess.PackedDecimal;
 
+import net.openj9.test.DecimalGenerator;
+import net.openj9.test.RandomSeedRule;
 import net.openj9.test.Utils;
+import net.openj9.test.TestRandom;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import org.junit.ClassRule;
 import org.junit.Test;
 import org.junit.runner.JUnitCore;
 import org.junit.runner.Result;
@@ -41,6 +45,9 @@ import java.util.Random;
 
 public class TestArithmeticInline 
 {
+	@ClassRule
+	public static final RandomSeedRule seedRule = new RandomSeedRule();
+	
 	BigInteger[] SmallPositives;
 	BigInteger[] SmallNegatives;
 	BigInteger[] LargePositives;
@@ -53,16 +60,16 @@ public class TestArithmeticInline
 	static long LargePositivesMin = Long.MAX_VALUE;
 	static long LargeNegativesMin = Long.MAX_VALUE;
 	
-	static long randomSeed = System.currentTimeMillis();
-	
 	static Random randomGenerator;
 	
 	static String outputFile;
 	
+	PackedDecimalReference reference = new PackedDecimalReference();
+	
 	static 
 	{
 		outputFile = "expected."+TestArithmeticInline.class.getSimpleName()+".txt";
-		randomGenerator = new Random(randomSeed);
+		randomGenerator = TestRandom.getRandom();
 	};
 
 	@BeforeClass
@@ -175,7 +182,7 @@ public class TestArithmeticInline
 		
 		result = PackedDecimal.notEqualsPackedDecimal(op1, offset0, precision5, op2, offset0, precision5);
 
-		correct = value1.compareTo(value2)!=0;
+		correct = reference.comparePackedDecimal(op1, offset0, precision5, op2, offset0, precision5) != 0;
 
 		try 
 		{
@@ -201,7 +208,7 @@ public class TestArithmeticInline
 		
 		result = PackedDecimal.notEqualsPackedDecimal(op1, offset0, precision5, op2, offset0, precision5);
 		
-		correct = value1.compareTo(value2)!=0;
+		correct = reference.comparePackedDecimal(op1, offset0, precision5, op2, offset0, precision5) != 0;
 
 		try 
 		{
@@ -227,7 +234,7 @@ public class TestArithmeticInline
 		
 		result = PackedDecimal.notEqualsPackedDecimal(op1, offset0, precision5, op2, offset0, precision5);
 		
-		correct = value1.compareTo(value2)!=0;
+		correct = reference.comparePackedDecimal(op1, offset0, precision5, op2, offset0, precision5) != 0;
 		
 		try 
 		{
@@ -253,7 +260,7 @@ public class TestArithmeticInline
 		
 		result = PackedDecimal.notEqualsPackedDecimal(op1, offset0, precision5, op2, offset0, precision5);
 		
-		correct = value1.compareTo(value2)!=0;
+		correct = reference.comparePackedDecimal(op1, offset0, precision5, op2, offset0, precision5) != 0;
 		
 		try 
 		{
@@ -279,7 +286,7 @@ public class TestArithmeticInline
 		
 		result = PackedDecimal.notEqualsPackedDecimal(op1, offset0, precision5, op2, offset0, precision5);
 		
-		correct = value1.compareTo(value2)!=0;
+		correct = reference.comparePackedDecimal(op1, offset0, precision5, op2, offset0, precision5) != 0;
 		
 		try 
 		{
@@ -328,7 +335,7 @@ public class TestArithmeticInline
 		
 		result = PackedDecimal.greaterThanPackedDecimal(op1, offset0, precision5, op2, offset0, precision5);
 
-		correct = value1.compareTo(value2)>0;
+		correct = reference.comparePackedDecimal(op1, offset0, precision5, op2, offset0, precision5) > 0;
 
 		try 
 		{
@@ -376,7 +383,7 @@ public class TestArithmeticInline
 		
 		result = PackedDecimal.greaterThanOrEqualsPackedDecimal(op1, offset0, precision5, op2, offset0, precision5);
 
-		correct = value1.compareTo(value2)>=0;
+		correct = reference.comparePackedDecimal(op1, offset0, precision5, op2, offset0, precision5) >= 0;
 		
 		try 
 		{
@@ -424,7 +431,7 @@ public class TestArithmeticInline
 		
 		result = PackedDecimal.lessThanOrEqualsPackedDecimal(op1, offset0, precision5, op2, offset0, precision5);
 
-		correct = value1.compareTo(value2) <= 0;
+		correct = reference.comparePackedDecimal(op1, offset0, precision5, op2, offset0, precision5) <= 0;
 		
 		try 
 		{
@@ -471,7 +478,7 @@ public class TestArithmeticInline
 		
 		result = PackedDecimal.lessThanPackedDecimal(op1, offset0, precision5, op2, offset0, precision5);
 
-		correct = value1.compareTo(value2)<0;
+		correct = reference.comparePackedDecimal(op1, offset0, precision5, op2, offset0, precision5) < 0;
 
 		try 
 		{
@@ -500,8 +507,6 @@ public class TestArithmeticInline
 		int randomElement;
 		int randomElement2;
 		
-		BigInteger resultValue;
-		
 		byte[] op1 = new byte[64];
 		byte[] op2 = new byte[64];
 		
@@ -520,14 +525,12 @@ public class TestArithmeticInline
 		value1 = Utils.toPrecision(SmallPositives[randomElement], precision5);
 		value2 = Utils.toPrecision(SmallPositives[randomElement2], precision5);
 		
-		resultValue = value1.subtract(value2);
-		
 		DecimalData.convertBigIntegerToPackedDecimal(value1, op1, offset0, precision5, errorChecking);
 		DecimalData.convertBigIntegerToPackedDecimal(value2, op2, offset0, precision5, errorChecking);
 		
 		PackedDecimal.subtractPackedDecimal(resultant, offset0, precision10, op1, offset0, precision5, op2, offset0, precision5, errorChecking);
 
-		DecimalData.convertBigIntegerToPackedDecimal(resultValue, correct, offset0, precision10, errorChecking);
+		reference.subtractPackedDecimal(correct, offset0, precision10, op1, offset0, precision5, op2, offset0, precision5, errorChecking);
 		
 		try 
 		{
@@ -536,7 +539,7 @@ public class TestArithmeticInline
 		
 		catch (AssertionError e)
 		{
-			assertArrayEquals(Utils.makeTestNameArithmetic("Normal", "testSubtractPackedDecimal", value1, value2, op1, offset0, precision5, op2, offset0, precision5, resultant, offset0, precision10, resultValue, correct, offset0, precision10, errorChecking), correct, resultant);
+			assertArrayEquals(Utils.makeTestNameArithmetic("Normal", "testSubtractPackedDecimal", value1, value2, op1, offset0, precision5, op2, offset0, precision5, resultant, offset0, precision10, DecimalGenerator.toBigInteger(correct, offset0, precision10), correct, offset0, precision10, errorChecking), correct, resultant);
 		}
 	}
 	
@@ -556,8 +559,6 @@ public class TestArithmeticInline
 		int randomElement;
 		int randomElement2;
 		
-		BigInteger resultValue;
-		
 		byte[] op1 = new byte[64];
 		byte[] op2 = new byte[64];
 		
@@ -576,16 +577,14 @@ public class TestArithmeticInline
 		value1 = Utils.toPrecision(SmallPositives[randomElement], precision5);
 		value2 = Utils.toPrecision(SmallPositives[randomElement2], precision5);
 		
-		resultValue = value1.remainder(value2);
-		
 		DecimalData.convertBigIntegerToPackedDecimal(value1, op1, offset0, precision10, errorChecking);
 		DecimalData.convertBigIntegerToPackedDecimal(value2, op2, offset0, precision5, errorChecking);
 		
 		PackedDecimal.remainderPackedDecimal(resultant, offset0, precision10, op1, offset0, precision10, op2, offset0, precision5, errorChecking);
 
-		DecimalData.convertBigIntegerToPackedDecimal(resultValue, correct, offset0, precision10, errorChecking);
+		reference.remainderPackedDecimal(correct, offset0, precision10, op1, offset0, precision10, op2, offset0, precision5, errorChecking);
 		
-		if (resultValue.equals(BigInteger.ZERO))
+		if (isZero(correct, offset0, precision10))
 			Utils.changeSignToC(resultant, offset0, precision10);
 		
 		try 
@@ -595,7 +594,7 @@ public class TestArithmeticInline
 		
 		catch (AssertionError e)
 		{
-			assertArrayEquals(Utils.makeTestNameArithmetic("Normal", "testRemainderPackedDecimal", value1, value2, op1, offset0, precision10, op2, offset0, precision5, resultant, offset0, precision10, resultValue, correct, offset0, precision10, errorChecking), correct, resultant);
+			assertArrayEquals(Utils.makeTestNameArithmetic("Normal", "testRemainderPackedDecimal", value1, value2, op1, offset0, precision10, op2, offset0, precision5, resultant, offset0, precision10, DecimalGenerator.toBigInteger(correct, offset0, precision10), correct, offset0, precision10, errorChecking), correct, resultant);
 		}
 	}
 	
@@ -615,8 +614,6 @@ public class TestArithmeticInline
 		int randomElement;
 		int randomElement2;
 		
-		BigInteger resultValue;
-		
 		byte[] op1 = new byte[64];
 		byte[] op2 = new byte[64];
 		
@@ -635,16 +632,14 @@ public class TestArithmeticInline
 		value1 = Utils.toPrecision(SmallPositives[randomElement], precision5);
 		value2 = Utils.toPrecision(SmallPositives[randomElement2], precision5);
 		
-		resultValue = value1.divide(value2);
-		
 		DecimalData.convertBigIntegerToPackedDecimal(value1, op1, offset0, precision10, errorChecking);
 		DecimalData.convertBigIntegerToPackedDecimal(value2, op2, offset0, precision5, errorChecking);
 		
 		PackedDecimal.dividePackedDecimal(resultant, offset0, precision10, op1, offset0, precision10, op2, offset0, precision5, errorChecking);
 
-		DecimalData.convertBigIntegerToPackedDecimal(resultValue, correct, offset0, precision10, errorChecking);
+		reference.dividePackedDecimal(correct, offset0, precision10, op1, offset0, precision10, op2, offset0, precision5, errorChecking);
 		
-		if (resultValue.equals(BigInteger.ZERO))
+		if (isZero(correct, offset0, precision10))
 			Utils.changeSignToC(resultant, offset0, precision10);
 		
 		try 
@@ -654,7 +649,7 @@ public class TestArithmeticInline
 		
 		catch (AssertionError e)
 		{
-			assertArrayEquals(Utils.makeTestNameArithmetic("Normal", "testDividePackedDecimal", value1, value2, op1, offset0, precision10, op2, offset0, precision5, resultant, offset0, precision10, resultValue, correct, offset0, precision10, errorChecking), correct, resultant);
+			assertArrayEquals(Utils.makeTestNameArithmetic("Normal", "testDividePackedDecimal", value1, value2, op1, offset0, precision10, op2, offset0, precision5, resultant, offset0, precision10, DecimalGenerator.toBigInteger(correct, offset0, precision10), correct, offset0, precision10, errorChecking), correct, resultant);
 		}
 	}
 	
@@ -674,8 +669,6 @@ public class TestArithmeticInline
 		int randomElement;
 		int randomElement2;
 		
-		BigInteger resultValue;
-		
 		byte[] op1 = new byte[64];
 		byte[] op2 = new byte[64];
 		
@@ -694,16 +687,14 @@ public class TestArithmeticInline
 		value1 = Utils.toPrecision(SmallPositives[randomElement], precision5);
 		value2 = Utils.toPrecision(SmallPositives[randomElement2], precision5);
 		
-		resultValue = value1.multiply(value2);
-		
 		DecimalData.convertBigIntegerToPackedDecimal(value1, op1, offset0, precision5, errorChecking);
 		DecimalData.convertBigIntegerToPackedDecimal(value2, op2, offset0, precision5, errorChecking);
 		
 		PackedDecimal.multiplyPackedDecimal(resultant, offset0, precision10, op1, offset0, precision5, op2, offset0, precision5, errorChecking);
 
-		DecimalData.convertBigIntegerToPackedDecimal(resultValue, correct, offset0, precision10, errorChecking);
+		reference.multiplyPackedDecimal(correct, offset0, precision10, op1, offset0, precision5, op2, offset0, precision5, errorChecking);
 		
-		if (resultValue.equals(BigInteger.ZERO))
+		if (isZero(correct, offset0, precision10))
 			Utils.changeSignToC(resultant, offset0, precision10);
 		
 		try 
@@ -713,7 +704,7 @@ public class TestArithmeticInline
 		
 		catch (AssertionError e)
 		{
-			assertArrayEquals(Utils.makeTestNameArithmetic("Normal", "testMultiplyPackedDecimal", value1, value2, op1, offset0, precision5, op2, offset0, precision5, resultant, offset0, precision10, resultValue, correct, offset0, precision10, errorChecking), correct, resultant);
+			assertArrayEquals(Utils.makeTestNameArithmetic("Normal", "testMultiplyPackedDecimal", value1, value2, op1, offset0, precision5, op2, offset0, precision5, resultant, offset0, precision10, DecimalGenerator.toBigInteger(correct, offset0, precision10), correct, offset0, precision10, errorChecking), correct, resultant);
 		}
 	}
 	
@@ -733,8 +724,6 @@ public class TestArithmeticInline
 		int randomElement;
 		int randomElement2;
 		
-		BigInteger resultValue;
-		
 		byte[] op1 = new byte[64];
 		byte[] op2 = new byte[64];
 		
@@ -753,14 +742,12 @@ public class TestArithmeticInline
 		value1 = Utils.toPrecision(SmallPositives[randomElement], precision5);
 		value2 = Utils.toPrecision(SmallPositives[randomElement2], precision5);
 		
-		resultValue = value1.add(value2);
-		
 		DecimalData.convertBigIntegerToPackedDecimal(value1, op1, offset0, precision5, errorChecking);
 		DecimalData.convertBigIntegerToPackedDecimal(value2, op2, offset0, precision5, errorChecking);
 		
 		PackedDecimal.addPackedDecimal(resultant, offset0, precision10, op1, offset0, precision5, op2, offset0, precision5, errorChecking);
 
-		DecimalData.convertBigIntegerToPackedDecimal(resultValue, correct, offset0, precision10, errorChecking);
+		reference.addPackedDecimal(correct, offset0, precision10, op1, offset0, precision5, op2, offset0, precision5, errorChecking);
 		
 		try 
 		{
@@ -769,7 +756,7 @@ public class TestArithmeticInline
 		
 		catch (AssertionError e)
 		{
-			assertArrayEquals(Utils.makeTestNameArithmetic("Normal", "testAddPackedDecimal", value1, value2, op1, offset0, precision5, op2, offset0, precision5, resultant, offset0, precision10, resultValue, correct, offset0, precision10, errorChecking), correct, resultant);
+			assertArrayEquals(Utils.makeTestNameArithmetic("Normal", "testAddPackedDecimal", value1, value2, op1, offset0, precision5, op2, offset0, precision5, resultant, offset0, precision10, DecimalGenerator.toBigInteger(correct, offset0, precision10), correct, offset0, precision10, errorChecking), correct, resultant);
 		}
 		
 		Arrays.fill(op1, (byte) 0x00);
@@ -784,14 +771,12 @@ public class TestArithmeticInline
 		value1 = Utils.toPrecision(SmallPositives[randomElement], precision5);
 		value2 = Utils.toPrecision(SmallPositives[randomElement], precision5);
 		
-		resultValue = value1.add(value2);
-		
 		DecimalData.convertBigIntegerToPackedDecimal(value1, op1, offset0, precision5, errorChecking);
 		DecimalData.convertBigIntegerToPackedDecimal(value2, op2, offset0, precision5, errorChecking);
 		
 		PackedDecimal.addPackedDecimal(resultant, offset0, precision10, op1, offset0, precision5, op2, offset0, precision5, errorChecking);
 
-		DecimalData.convertBigIntegerToPackedDecimal(resultValue, correct, offset0, precision10, errorChecking);
+		reference.addPackedDecimal(correct, offset0, precision10, op1, offset0, precision5, op2, offset0, precision5, errorChecking);
 		
 		try 
 		{
@@ -800,7 +785,7 @@ public class TestArithmeticInline
 		
 		catch (AssertionError e)
 		{
-			assertArrayEquals(Utils.makeTestNameArithmetic("Normal", "testAddPackedDecimal", value1, value2, op1, offset0, precision5, op2, offset0, precision5, resultant, offset0, precision10, resultValue, correct, offset0, precision10, errorChecking), correct, resultant);
+			assertArrayEquals(Utils.makeTestNameArithmetic("Normal", "testAddPackedDecimal", value1, value2, op1, offset0, precision5, op2, offset0, precision5, resultant, offset0, precision10, DecimalGenerator.toBigInteger(correct, offset0, precision10), correct, offset0, precision10, errorChecking), correct, resultant);
 		}
 		
 		Arrays.fill(op1, (byte) 0x00);
@@ -815,14 +800,12 @@ public class TestArithmeticInline
 		value1 = Utils.toPrecision(SmallNegatives[randomElement], precision5);
 		value2 = Utils.toPrecision(SmallNegatives[randomElement2], precision5);
 		
-		resultValue = value1.add(value2);
-		
 		DecimalData.convertBigIntegerToPackedDecimal(value1, op1, offset0, precision5, errorChecking);
 		DecimalData.convertBigIntegerToPackedDecimal(value2, op2, offset0, precision5, errorChecking);
 		
 		PackedDecimal.addPackedDecimal(resultant, offset0, precision10, op1, offset0, precision5, op2, offset0, precision5, errorChecking);
 
-		DecimalData.convertBigIntegerToPackedDecimal(resultValue, correct, offset0, precision10, errorChecking);
+		reference.addPackedDecimal(correct, offset0, precision10, op1, offset0, precision5, op2, offset0, precision5, errorChecking);
 		
 		try 
 		{
@@ -831,7 +814,7 @@ public class TestArithmeticInline
 		
 		catch (AssertionError e)
 		{
-			assertArrayEquals(Utils.makeTestNameArithmetic("Normal", "testAddPackedDecimal", value1, value2, op1, offset0, precision5, op2, offset0, precision5, resultant, offset0, precision10, resultValue, correct, offset0, precision10, errorChecking), correct, resultant);
+			assertArrayEquals(Utils.makeTestNameArithmetic("Normal", "testAddPackedDecimal", value1, value2, op1, offset0, precision5, op2, offset0, precision5, resultant, offset0, precision10, DecimalGenerator.toBigInteger(correct, offset0, precision10), correct, offset0, precision10, errorChecking), correct, resultant);
 		}
 	}
 	
@@ -870,7 +853,7 @@ public class TestArithmeticInline
 		
 		result = PackedDecimal.equalsPackedDecimal(op1, offset0, precision5, op2, offset0, precision5);
 
-		correct = value1.equals(value2);
+		correct = reference.equalsPackedDecimal(op1, offset0, precision5, op2, offset0, precision5);
 		
 		try 
 		{
@@ -883,6 +866,18 @@ public class TestArithmeticInline
 		}
 	}
 	
+	// The oracle gives a zero result the 0x0C sign, PackedDecimal may give it 0x0D
+	static boolean isZero(byte[] pd, int offset, int precision)
+	{
+		int last = offset + precision / 2;
+		for (int i = offset; i < last; ++i)
+		{
+			if (pd[i] != 0)
+				return false;
+		}
+		return (pd[last] & 0xF0) == 0;
+	}
+	
 	public static void main(String[] args)
 	{
 		System.out.println ("Run me");
@@ -27,10 +27,13 @@ import java.math.BigInteger;
 import com.ibm.dataaccess.DecimalData;
 import com.ibm.dataaccess.PackedDecimal;
 
+import net.openj9.test.RandomSeedRule;
 import net.openj9.test.Utils;
+import net.openj9.test.TestRandom;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import org.junit.ClassRule;
 import org.junit.Test;
 import org.junit.runner.JUnitCore;
 import org.junit.runner.Result;
@@ -41,6 +44,9 @@ import java.util.Random;
 
 public class TestArithmeticOperations 
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     BigInteger[] SmallPositives;
     BigInteger[] SmallNegatives;
     BigInteger[] LargePositives;
@@ -53,8 +59,6 @@ public class TestArithmeticOperations
     static long LargePositivesMin = Long.MAX_VALUE;
     static long LargeNegativesMin = Long.MAX_VALUE;
     
-    static long randomSeed = System.currentTimeMillis();
-    
     static Random randomGenerator;
     
     static String outputFile;
@@ -62,7 +66,7 @@ public class TestArithmeticOperations
     static 
     {
         outputFile = "expected."+TestArithmeticOperations.class.getSimpleName()+".txt";
-        randomGenerator = new Random(randomSeed);
+        randomGenerator = TestRandom.getRandom();
     };
     
     byte [] randomNumberPacked1 = new byte[64];
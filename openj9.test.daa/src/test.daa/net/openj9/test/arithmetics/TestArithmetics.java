@@ -28,15 +28,23 @@ import java.math.BigInteger;
 import com.ibm.dataaccess.DecimalData;
 import com.ibm.dataaccess.PackedDecimal;
 
+import net.openj9.test.RandomSeedRule;
 import net.openj9.test.Utils;
+import net.openj9.test.TestRandom;
 
+import org.junit.ClassRule;
 import org.junit.Test;
 
 import java.util.Random;
 
 public class TestArithmetics
 {
-	static Random randomGenerator = new Random(System.currentTimeMillis());
+	@ClassRule
+	public static final RandomSeedRule seedRule = new RandomSeedRule();
+	
+	static Random randomGenerator = TestRandom.getRandom();
+
+    PackedDecimalReference packedDecimalReference = new PackedDecimalReference();
 
     @Test
     public void randomTest()
@@ -83,9 +91,7 @@ public class TestArithmetics
         byte[] resultant = new byte[resoffset + resprec / 2 + 1];
         byte[] resultant2 = new byte[resoffset + resprec / 2 + 1];
 
-        BigInteger resultBI = value1.add(value2);
-        
-        DecimalData.convertBigIntegerToPackedDecimal(resultBI, reference, resoffset, resprec, true);
+        packedDecimalReference.addPackedDecimal(reference, resoffset, resprec, input1, opoffset, opprec, input2, opoffset, opprec, true);
         
         PackedDecimal.addPackedDecimal(resultant, resoffset, resprec, input1, opoffset, opprec, input2, opoffset, opprec, false);
         
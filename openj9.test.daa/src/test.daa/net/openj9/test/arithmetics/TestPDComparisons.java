@@ -26,13 +26,20 @@ import static org.junit.Assert.*;
 import com.ibm.dataaccess.*;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import org.junit.ClassRule;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Random;
 
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.TestRandom;
+
 public class TestPDComparisons
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     static String outputFile;
 
     static Random randomGen;
@@ -42,11 +49,9 @@ public class TestPDComparisons
     byte[] pdArray1 = new byte[ARRAY_SIZE];
     byte[] pdArray2 = new byte[ARRAY_SIZE];
 
-    static int randomSeed = (int) (System.currentTimeMillis() % 160001);
-
     static
     {
-        randomGen = new Random(randomSeed);
+        randomGen = TestRandom.getRandom();
     };
 
     static
@@ -0,0 +1,225 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.arithmetics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import com.ibm.dataaccess.DecimalData;
+
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.Utils;
+import net.openj9.test.TestRandom;
+
+/**
+ * Cross-checks PackedDecimalReference against BigInteger for random operands
+ * of every precision from 1 to 31 at a range of offsets.
+ */
+public class TestPackedDecimalReference
+{
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
+    static Random randomGenerator = TestRandom.getRandom();
+
+    static final int MAX_PRECISION = 31;
+
+    static final int ITERATIONS = 20;
+
+    PackedDecimalReference reference = new PackedDecimalReference();
+
+    @Test
+    public void testArithmetic()
+    {
+        for (int precision = 1; precision <= MAX_PRECISION; ++precision)
+        {
+            for (int i = 0; i < ITERATIONS; ++i)
+            {
+                int offset = randomGenerator.nextInt(4);
+                int precision2 = randomGenerator.nextInt(precision) + 1;
+
+                BigInteger value1 = Utils.getBigInteger(precision, randomGenerator.nextBoolean());
+                BigInteger value2 = Utils.getBigInteger(precision2, randomGenerator.nextBoolean());
+
+                byte[] op1 = Utils.getRandomInput(offset, precision, value1);
+                byte[] op2 = Utils.getRandomInput(offset, precision2, value2);
+
+                for (int operation = PackedDecimalReference.ADD; operation <= PackedDecimalReference.REMAINDER; ++operation)
+                {
+                    BigInteger expected = expected(operation, value1, value2);
+
+                    // Once at a result precision which fits the result, and once truncated
+                    int resultPrecision = Math.min(Math.max(expected.abs().toString().length(), 1), PackedDecimalReference.MAX_PRECISION);
+                    checkOperation(operation, value1, value2, expected, op1, offset, precision, op2, offset, precision2, resultPrecision);
+                    if (resultPrecision > 1)
+                        checkOperation(operation, value1, value2, expected, op1, offset, precision, op2, offset, precision2, resultPrecision - 1);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testComparison()
+    {
+        for (int precision = 1; precision <= MAX_PRECISION; ++precision)
+        {
+            for (int i = 0; i < ITERATIONS; ++i)
+            {
+                int precision2 = randomGenerator.nextInt(MAX_PRECISION) + 1;
+
+                BigInteger value1 = Utils.getBigInteger(precision, randomGenerator.nextBoolean());
+                BigInteger value2 = i == 0 ? value1 : Utils.getBigInteger(precision2, randomGenerator.nextBoolean());
+                if (i == 0)
+                    precision2 = precision;
+
+                byte[] op1 = Utils.getRandomInput(1, precision, value1);
+                byte[] op2 = Utils.getRandomInput(2, precision2, value2);
+
+                assertEquals(value1 + " compareTo " + value2, value1.compareTo(value2),
+                        Integer.signum(reference.comparePackedDecimal(op1, 1, precision, op2, 2, precision2)));
+            }
+        }
+    }
+
+    @Test
+    public void testZeroAndDivisionByZero()
+    {
+        byte[] zero = new byte[] { 0x00, 0x0C };
+        byte[] negativeZero = new byte[] { 0x00, 0x0D };
+        byte[] one = new byte[] { 0x00, 0x1C };
+        byte[] result = new byte[2];
+
+        assertEquals(0, reference.comparePackedDecimal(zero, 0, 3, negativeZero, 0, 3));
+
+        reference.multiplyPackedDecimal(result, 0, 3, one, 0, 3, negativeZero, 0, 3, true);
+        assertArrayEquals("0 * -0 should be positive zero", zero, result);
+
+        try
+        {
+            reference.dividePackedDecimal(result, 0, 3, one, 0, 3, zero, 0, 3, false);
+            fail("Division by zero should throw ArithmeticException");
+        }
+        catch (ArithmeticException e)
+        {
+        }
+    }
+
+    static BigInteger expected(int operation, BigInteger value1, BigInteger value2)
+    {
+        switch (operation)
+        {
+            case PackedDecimalReference.ADD:
+                return value1.add(value2);
+            case PackedDecimalReference.SUBTRACT:
+                return value1.subtract(value2);
+            case PackedDecimalReference.MULTIPLY:
+                return value1.multiply(value2);
+            case PackedDecimalReference.DIVIDE:
+                return value2.signum() == 0 ? null : value1.divide(value2);
+            default:
+                return value2.signum() == 0 ? null : value1.remainder(value2);
+        }
+    }
+
+    void checkOperation(int operation, BigInteger value1, BigInteger value2, BigInteger expected, byte[] op1, int offset1, int precision1,
+            byte[] op2, int offset2, int precision2, int resultPrecision)
+    {
+        String name = PackedDecimalReference.OPERATION_NAMES[operation] + "(" + value1 + ", " + value2 + ") at precision " + resultPrecision;
+
+        int resultOffset = randomGenerator.nextInt(4);
+        byte[] result = new byte[resultOffset + Utils.getByteArraySizeFromPrecision(resultPrecision)];
+
+        if (expected == null)
+        {
+            try
+            {
+                run(operation, result, resultOffset, resultPrecision, op1, offset1, precision1, op2, offset2, precision2, false);
+                fail(name + " should throw ArithmeticException");
+            }
+            catch (ArithmeticException e)
+            {
+            }
+            return;
+        }
+
+        boolean overflows = expected.abs().toString().length() > resultPrecision;
+
+        run(operation, result, resultOffset, resultPrecision, op1, offset1, precision1, op2, offset2, precision2, false);
+
+        if (overflows)
+        {
+            // Truncated to the low order digits, keeping the sign of the full result
+            BigInteger truncated = expected.abs().mod(BigInteger.TEN.pow(resultPrecision));
+            assertEquals(name, truncated, PackedDecimalReference.toBigInteger(result, resultOffset, resultPrecision).abs());
+            assertEquals(name + " sign", expected.signum() < 0 ? 0x0D : 0x0C, result[resultOffset + resultPrecision / 2] & 0x0F);
+
+            try
+            {
+                run(operation, result, resultOffset, resultPrecision, op1, offset1, precision1, op2, offset2, precision2, true);
+                fail(name + " should overflow");
+            }
+            catch (ArithmeticException e)
+            {
+            }
+        }
+        else
+        {
+            byte[] referenceBytes = new byte[result.length];
+            DecimalData.convertBigIntegerToPackedDecimal(expected, referenceBytes, resultOffset, resultPrecision, true);
+            assertArrayEquals(name, referenceBytes, result);
+
+            run(operation, result, resultOffset, resultPrecision, op1, offset1, precision1, op2, offset2, precision2, true);
+            assertArrayEquals(name, referenceBytes, result);
+        }
+    }
+
+    void run(int operation, byte[] result, int resultOffset, int resultPrecision, byte[] op1, int offset1, int precision1, byte[] op2,
+            int offset2, int precision2, boolean checkOverflow)
+    {
+        switch (operation)
+        {
+            case PackedDecimalReference.ADD:
+                reference.addPackedDecimal(result, resultOffset, resultPrecision, op1, offset1, precision1, op2, offset2, precision2, checkOverflow);
+                break;
+            case PackedDecimalReference.SUBTRACT:
+                reference.subtractPackedDecimal(result, resultOffset, resultPrecision, op1, offset1, precision1, op2, offset2, precision2, checkOverflow);
+                break;
+            case PackedDecimalReference.MULTIPLY:
+                reference.multiplyPackedDecimal(result, resultOffset, resultPrecision, op1, offset1, precision1, op2, offset2, precision2, checkOverflow);
+                break;
+            case PackedDecimalReference.DIVIDE:
+                reference.dividePackedDecimal(result, resultOffset, resultPrecision, op1, offset1, precision1, op2, offset2, precision2, checkOverflow);
+                break;
+            default:
+                reference.remainderPackedDecimal(result, resultOffset, resultPrecision, op1, offset1, precision1, op2, offset2, precision2, checkOverflow);
+                break;
+        }
+    }
+}
@@ -24,6 +24,7 @@ package net.openj9.test.arithmetics;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import org.junit.ClassRule;
 import org.junit.Test;
 import org.junit.runner.JUnitCore;
 import org.junit.runner.Result;
@@ -32,7 +33,10 @@ import org.junit.runner.notification.Failure;
 import com.ibm.dataaccess.DecimalData;
 import com.ibm.dataaccess.PackedDecimal;
 
+import net.openj9.test.RandomSeedRule;
 import net.openj9.test.Utils;
+import net.openj9.test.TestRandom;
+import net.openj9.test.perf.PerformanceRecorder;
 
 import java.lang.reflect.Method;
 
@@ -43,6 +47,9 @@ import java.util.Random;
 
 public class TestPerformance
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     BigInteger[] SmallPositives;
     BigInteger[] SmallNegatives;
     BigInteger[] LargePositives;
@@ -63,7 +70,9 @@ public class TestPerformance
 
     static long randomSeed = 8002;
 
-    static Random randomGenerator = new Random(System.currentTimeMillis());
+    PackedDecimalReference reference = new PackedDecimalReference();
+
+    static Random randomGenerator = TestRandom.getRandom();
 
     @Test
     public void testIntrinsicPerformance() throws Exception
@@ -104,17 +113,17 @@ public class TestPerformance
 
         getReferenceValues(10, sampleSize, "add");
         {
-            long startTime, endTime;
-            startTime = System.currentTimeMillis();
+            double[] samples = new double[multiplier];
             for (int j = 0; j < multiplier; ++j)
             {
+                long startTime = System.nanoTime();
                 for (int i = 0; i < sampleSize; ++i)
                 {
                     PackedDecimal.addPackedDecimal(resultArray[i], 0, 20, Array1[i], 0, 10, Array2[i], 0, 10, false);
                 }
+                samples[j] = (double) (System.nanoTime() - startTime) / sampleSize;
             }
-            endTime = System.currentTimeMillis();
-            printElapsedTime(startTime, endTime);
+            recordElapsedTimes("addPackedDecimal", samples);
         }
         verify(sampleSize, "addPackedDecimal");
     }
@@ -126,15 +135,17 @@ public class TestPerformance
 
         getReferenceValues(10, sampleSize, "subtract");
         {
-            long startTime, endTime;
-            startTime = System.currentTimeMillis();
+            double[] samples = new double[multiplier];
             for (int j = 0; j < multiplier; ++j)
+            {
+                long startTime = System.nanoTime();
                 for (int i = 0; i < sampleSize; ++i)
                 {
                     PackedDecimal.subtractPackedDecimal(resultArray[i], 0, 20, Array1[i], 0, 10, Array2[i], 0, 10, false);
                 }
-            endTime = System.currentTimeMillis();
-            printElapsedTime(startTime, endTime);
+                samples[j] = (double) (System.nanoTime() - startTime) / sampleSize;
+            }
+            recordElapsedTimes("subtractPackedDecimal", samples);
 
         }
         verify(sampleSize, "subtractPackedDecimal");
@@ -147,15 +158,17 @@ public class TestPerformance
 
         getReferenceValues(10, sampleSize, "multiply");
         {
-            long startTime, endTime;
-            startTime = System.currentTimeMillis();
+            double[] samples = new double[multiplier];
             for (int j = 0; j < multiplier; ++j)
+            {
+                long startTime = System.nanoTime();
                 for (int i = 0; i < sampleSize; ++i)
                 {
                     PackedDecimal.multiplyPackedDecimal(resultArray[i], 0, 20, Array1[i], 0, 10, Array2[i], 0, 10, false);
                 }
-            endTime = System.currentTimeMillis();
-            printElapsedTime(startTime, endTime);
+                samples[j] = (double) (System.nanoTime() - startTime) / sampleSize;
+            }
+            recordElapsedTimes("multiplyPackedDecimal", samples);
 
         }
         verify(sampleSize, "multiplyPackedDecimal");
@@ -168,15 +181,17 @@ public class TestPerformance
 
         getReferenceValues(10, sampleSize, "divide");
         {
-            long startTime, endTime;
-            startTime = System.currentTimeMillis();
+            double[] samples = new double[multiplier];
             for (int j = 0; j < multiplier; ++j)
+            {
+                long startTime = System.nanoTime();
                 for (int i = 0; i < sampleSize; ++i)
                 {
                     PackedDecimal.dividePackedDecimal(resultArray[i], 0, 20, Array1[i], 0, 10, Array2[i], 0, 10, false);
                 }
-            endTime = System.currentTimeMillis();
-            printElapsedTime(startTime, endTime);
+                samples[j] = (double) (System.nanoTime() - startTime) / sampleSize;
+            }
+            recordElapsedTimes("dividePackedDecimal", samples);
 
         }
         verify(sampleSize, "dividePackedDecimal");
@@ -189,15 +204,17 @@ public class TestPerformance
 
         getReferenceValues(10, sampleSize, "remainder");
         {
-            long startTime, endTime;
-            startTime = System.currentTimeMillis();
+            double[] samples = new double[multiplier];
             for (int j = 0; j < multiplier; ++j)
+            {
+                long startTime = System.nanoTime();
                 for (int i = 0; i < sampleSize; ++i)
                 {
                     PackedDecimal.remainderPackedDecimal(resultArray[i], 0, 20, Array1[i], 0, 10, Array2[i], 0, 10, false);
                 }
-            endTime = System.currentTimeMillis();
-            printElapsedTime(startTime, endTime);
+                samples[j] = (double) (System.nanoTime() - startTime) / sampleSize;
+            }
+            recordElapsedTimes("remainderPackedDecimal", samples);
         }
         verify(sampleSize, "remainderPackedDecimal");
     }
@@ -209,15 +226,17 @@ public class TestPerformance
 
         getComparisionReferenceValue(10, sampleSize, "compareTo");
         {
-            long startTime, endTime;
-            startTime = System.currentTimeMillis();
+            double[] samples = new double[multiplier];
             for (int j = 0; j < multiplier; ++j)
+            {
+                long startTime = System.nanoTime();
                 for (int i = 0; i < sampleSize; ++i)
                 {
                     comparisionResultArray[i] = PackedDecimal.notEqualsPackedDecimal(Array1[i], 0, 10, Array2[i], 0, 10);
                 }
-            endTime = System.currentTimeMillis();
-            printElapsedTime(startTime, endTime);
+                samples[j] = (double) (System.nanoTime() - startTime) / sampleSize;
+            }
+            recordElapsedTimes("notEqualsPackedDecimal", samples);
         }
 
         verifyComparison(sampleSize, NOT_EQUAL);
@@ -230,15 +249,17 @@ public class TestPerformance
 
         getComparisionReferenceValue(10, sampleSize, "compareTo");
         {
-            long startTime, endTime;
-            startTime = System.currentTimeMillis();
+            double[] samples = new double[multiplier];
             for (int j = 0; j < multiplier; ++j)
+            {
+                long startTime = System.nanoTime();
                 for (int i = 0; i < sampleSize; ++i)
                 {
                     comparisionResultArray[i] = PackedDecimal.lessThanOrEqualsPackedDecimal(Array1[i], 0, 10, Array2[i], 0, 10);
                 }
-            endTime = System.currentTimeMillis();
-            printElapsedTime(startTime, endTime);
+                samples[j] = (double) (System.nanoTime() - startTime) / sampleSize;
+            }
+            recordElapsedTimes("lessThanOrEqualsPackedDecimal", samples);
         }
 
         verifyComparison(sampleSize, LESS_EQUAL);
@@ -251,15 +272,17 @@ public class TestPerformance
 
         getComparisionReferenceValue(10, sampleSize, "compareTo");
         {
-            long startTime, endTime;
-            startTime = System.currentTimeMillis();
+            double[] samples = new double[multiplier];
             for (int j = 0; j < multiplier; ++j)
+            {
+                long startTime = System.nanoTime();
                 for (int i = 0; i < sampleSize; ++i)
                 {
                     comparisionResultArray[i] = PackedDecimal.lessThanPackedDecimal(Array1[i], 0, 10, Array2[i], 0, 10);
                 }
-            endTime = System.currentTimeMillis();
-            printElapsedTime(startTime, endTime);
+                samples[j] = (double) (System.nanoTime() - startTime) / sampleSize;
+            }
+            recordElapsedTimes("lessThanPackedDecimal", samples);
         }
 
         verifyComparison(sampleSize, LESS_THAN);
@@ -272,15 +295,17 @@ public class TestPerformance
 
         getComparisionReferenceValue(10, sampleSize, "compareTo");
         {
-            long startTime, endTime;
-            startTime = System.currentTimeMillis();
+            double[] samples = new double[multiplier];
             for (int j = 0; j < multiplier; ++j)
+            {
+                long startTime = System.nanoTime();
                 for (int i = 0; i < sampleSize; ++i)
                 {
                     comparisionResultArray[i] = PackedDecimal.equalsPackedDecimal(Array1[i], 0, 10, Array2[i], 0, 10);
                 }
-            endTime = System.currentTimeMillis();
-            printElapsedTime(startTime, endTime);
+                samples[j] = (double) (System.nanoTime() - startTime) / sampleSize;
+            }
+            recordElapsedTimes("equalsPackedDecimal", samples);
         }
 
         verifyComparison(sampleSize, EQUAL);
@@ -293,15 +318,17 @@ public class TestPerformance
 
         getComparisionReferenceValue(10, sampleSize, "compareTo");
         {
-            long startTime, endTime;
-            startTime = System.currentTimeMillis();
+            double[] samples = new double[multiplier];
             for (int j = 0; j < multiplier; ++j)
+            {
+                long startTime = System.nanoTime();
                 for (int i = 0; i < sampleSize; ++i)
                 {
                     comparisionResultArray[i] = PackedDecimal.greaterThanPackedDecimal(Array1[i], 0, 10, Array2[i], 0, 10);
                 }
-            endTime = System.currentTimeMillis();
-            printElapsedTime(startTime, endTime);
+                samples[j] = (double) (System.nanoTime() - startTime) / sampleSize;
+            }
+            recordElapsedTimes("greaterThanPackedDecimal", samples);
         }
 
         verifyComparison(sampleSize, GREATER_THAN);
@@ -314,15 +341,17 @@ public class TestPerformance
 
         getComparisionReferenceValue(10, sampleSize, "compareTo");
         {
-            long startTime, endTime;
-            startTime = System.currentTimeMillis();
+            double[] samples = new double[multiplier];
             for (int j = 0; j < multiplier; ++j)
+            {
+                long startTime = System.nanoTime();
                 for (int i = 0; i < sampleSize; ++i)
                 {
                     comparisionResultArray[i] = PackedDecimal.greaterThanOrEqualsPackedDecimal(Array1[i], 0, 10, Array2[i], 0, 10);
                 }
-            endTime = System.currentTimeMillis();
-            printElapsedTime(startTime, endTime);
+                samples[j] = (double) (System.nanoTime() - startTime) / sampleSize;
+            }
+            recordElapsedTimes("greaterThanOrEqualsPackedDecimal", samples);
         }
 
         verifyComparison(sampleSize, GREATER_EQUAL);
@@ -366,9 +395,6 @@ public class TestPerformance
         comparisionResultArray = new boolean[sampleSize];
         comparisionReferenceArray = new int[sampleSize];
 
-        Method method = null;
-        Class<?> c = Class.forName("java.math.BigInteger");
-        method = c.getDeclaredMethod(methodName, BigInteger.class);
         for (int i = 0; i < sampleSize; ++i)
         {
             BigInteger value1 = Utils.toPrecision(bigIntArray1[i], 10); // Precision 10 is the upper bound
@@ -377,7 +403,8 @@ public class TestPerformance
             DecimalData.convertBigIntegerToPackedDecimal(value1, Array1[i], 0, precision, false);
             DecimalData.convertBigIntegerToPackedDecimal(value2, Array2[i], 0, precision, false);
 
-            comparisionReferenceArray[i] = ((Integer) (method.invoke(value1, value2))).intValue();
+            // methodName is always compareTo
+            comparisionReferenceArray[i] = reference.comparePackedDecimal(Array1[i], 0, precision, Array2[i], 0, precision);
         }
     }
 
@@ -403,30 +430,32 @@ public class TestPerformance
 
         for (int i = 0; i < sampleSize; ++i)
         {
-            BigInteger temp;
-
-            while ((temp = new BigInteger(numBits, randomGenerator)).equals(BigInteger.ZERO))
-                ;
-            if (randomGenerator.nextBoolean())
-                temp = temp.negate();
-            bigIntArray1[i] = temp;
-
-            while ((temp = new BigInteger(numBits, randomGenerator)).equals(BigInteger.ZERO))
-                ;
-            if (randomGenerator.nextBoolean())
-                temp = temp.negate();
-            bigIntArray2[i] = temp;
+            bigIntArray1[i] = generateValue(numBits, randomGenerator);
+            bigIntArray2[i] = generateValue(numBits, randomGenerator);
         }
     }
 
+    /**
+     * returns a random non-zero BigInteger of up to numBits bits with a random
+     * sign. This is the operand generator used by generateValues, it is also
+     * used by the DAA benchmarks so that they time the same operands.
+     */
+    public static BigInteger generateValue(int numBits, Random random)
+    {
+        BigInteger temp;
+
+        while ((temp = new BigInteger(numBits, random)).equals(BigInteger.ZERO))
+            ;
+        if (random.nextBoolean())
+            temp = temp.negate();
+        return temp;
+    }
+
     public void getReferenceValues(int precision, int sampleSize, String methodName) throws Exception
     {
         resultArray = new byte[sampleSize][20];
         referenceArray = new byte[sampleSize][20];
 
-        Method method = null;
-        Class<?> c = Class.forName("java.math.BigInteger");
-        method = c.getDeclaredMethod(methodName, BigInteger.class);
         for (int i = 0; i < sampleSize; ++i)
         {
             BigInteger value1 = Utils.toPrecision(bigIntArray1[i], 10); // Precision 10 is the upper bound
@@ -435,13 +464,34 @@ public class TestPerformance
             DecimalData.convertBigIntegerToPackedDecimal(value1, Array1[i], 0, precision, false);
             DecimalData.convertBigIntegerToPackedDecimal(value2, Array2[i], 0, precision, false);
 
-            BigInteger resultValue = (BigInteger) method.invoke(value1, value2);
-            DecimalData.convertBigIntegerToPackedDecimal(resultValue, referenceArray[i], 0, 20, false);
+            computeReferenceValue(methodName, referenceArray[i], 20, Array1[i], Array2[i], precision);
         }
     }
 
-    private void printElapsedTime(long start, long end)
+    /**
+     * computes the expected result with PackedDecimalReference rather than
+     * BigInteger, which avoids two conversions and a reflective call per sample.
+     */
+    void computeReferenceValue(String methodName, byte[] expected, int expectedPrecision, byte[] op1, byte[] op2, int precision)
+    {
+        if (methodName.equals("add"))
+            reference.addPackedDecimal(expected, 0, expectedPrecision, op1, 0, precision, op2, 0, precision, false);
+        else if (methodName.equals("subtract"))
+            reference.subtractPackedDecimal(expected, 0, expectedPrecision, op1, 0, precision, op2, 0, precision, false);
+        else if (methodName.equals("multiply"))
+            reference.multiplyPackedDecimal(expected, 0, expectedPrecision, op1, 0, precision, op2, 0, precision, false);
+        else if (methodName.equals("divide"))
+            reference.dividePackedDecimal(expected, 0, expectedPrecision, op1, 0, precision, op2, 0, precision, false);
+        else if (methodName.equals("remainder"))
+            reference.remainderPackedDecimal(expected, 0, expectedPrecision, op1, 0, precision, op2, 0, precision, false);
+        else
+            throw new IllegalArgumentException("Unknown method: " + methodName);
+    }
+
+    // Keeps the ns/op of each pass when -Ddaa.perfResults is set, for RegressionGate
+    private void recordElapsedTimes(String benchmark, double[] samples)
     {
+        PerformanceRecorder.record(benchmark, samples);
     }
 
     public void doAddTest(int sampleSize, Method method)
@@ -23,10 +23,16 @@ package net.openj9.test.binaryData;
 
 import com.ibm.dataaccess.ByteArrayUnmarshaller;
 
+import org.junit.ClassRule;
 import org.junit.Test;
 
+import net.openj9.test.RandomSeedRule;
+
 public class LongIntegerComparison
 {
+   @ClassRule
+   public static final RandomSeedRule seedRule = new RandomSeedRule();
+
    @Test
    public void DoComps ()
    {
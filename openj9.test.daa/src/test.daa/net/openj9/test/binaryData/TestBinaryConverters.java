@@ -27,15 +27,20 @@ import static org.junit.Assert.*;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import org.junit.ClassRule;
 import org.junit.Test;
 
 import com.ibm.dataaccess.*;
 
+import net.openj9.test.RandomSeedRule;
 import net.openj9.test.Utils;
 import net.openj9.test.Utils.TestValue;
 
 public class TestBinaryConverters
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     static String outputFile;
 
     static
@@ -28,12 +28,19 @@ import java.util.Random;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.ClassRule;
 import org.junit.Test;
 
 import com.ibm.dataaccess.ByteArrayUnmarshaller;
 
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.TestRandom;
+
 public class TestByteArray2Float
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     static String outputFile;
     static Random randomGen;
     static int ARRAY_SIZE = 256;
@@ -41,9 +48,6 @@ public class TestByteArray2Float
     static final int BYTESIZE = 8;
     static final int MANTISSA_MASK = 0x007FFFFF;
 
-    /* Attempting to increase the randomness */
-    static int randomSeed = (int) (System.currentTimeMillis() % 160001);
-
     byte[] byteArray = new byte[ARRAY_SIZE];
 
     static final boolean isBigEndian = true;
@@ -52,7 +56,7 @@ public class TestByteArray2Float
     static
     {
         outputFile = "expected." + TestShort2ByteArray.class.getSimpleName() + ".txt";
-        randomGen = new Random(randomSeed);
+        randomGen = TestRandom.getRandom();
     };
 
     @Before
@@ -28,12 +28,19 @@ import java.util.Random;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.ClassRule;
 import org.junit.Test;
 
 import com.ibm.dataaccess.ByteArrayUnmarshaller;
 
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.TestRandom;
+
 public class TestByteArray2Integer
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     static String outputFile;
     static Random randomGen;
     static int ARRAY_SIZE = 256;
@@ -50,9 +57,6 @@ public class TestByteArray2Integer
     static final long SEVEN_DIGIT_MIN = 0x1000000L;
     static final long EIGHT_DIGIT_MIN = 0x10000000L;
 
-    /* Attempting to increase the randomness */
-    static int randomSeed = (int) (System.currentTimeMillis() % 16001);
-
     byte[] byteArray = new byte[ARRAY_SIZE];
 
     static final boolean isBigEndian = true;
@@ -61,7 +65,7 @@ public class TestByteArray2Integer
     static
     {
         outputFile = "expected." + TestShort2ByteArray.class.getSimpleName() + ".txt";
-        randomGen = new Random(randomSeed);
+        randomGen = TestRandom.getRandom();
     };
 
     @Before
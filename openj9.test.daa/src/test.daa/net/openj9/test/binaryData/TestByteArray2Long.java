@@ -28,13 +28,20 @@ import java.util.Random;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.ClassRule;
 import org.junit.Test;
 
 import com.ibm.dataaccess.ByteArrayMarshaller;
 import com.ibm.dataaccess.ByteArrayUnmarshaller;
 
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.TestRandom;
+
 public class TestByteArray2Long
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     static String outputFile;
     static Random randomGen;
     static final int ARRAY_SIZE = 256;
@@ -57,9 +64,6 @@ public class TestByteArray2Long
     static final long FIFTEEN_DIGIT_MIN = 0x100000000000000L;
     static final long SIXTEEN_DIGIT_MIN = 0x1000000000000000L;
 
-    /* Attempting to increase the randomness! */
-    static int randomSeed = (int) (System.currentTimeMillis() % 160001);
-
     byte[] byteArray = new byte[ARRAY_SIZE];
 
     static final boolean isBigEndian = true;
@@ -68,7 +72,7 @@ public class TestByteArray2Long
     static
     {
         outputFile = "expected." + TestShort2ByteArray.class.getSimpleName() + ".txt";
-        randomGen = new Random(randomSeed);
+        randomGen = TestRandom.getRandom();
     };
 
     @Before
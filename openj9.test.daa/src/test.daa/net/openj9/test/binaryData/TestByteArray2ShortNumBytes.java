@@ -28,13 +28,20 @@ import java.util.Random;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.ClassRule;
 import org.junit.Test;
 import org.junit.Assert;
 
 import com.ibm.dataaccess.ByteArrayUnmarshaller;
 
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.TestRandom;
+
 public class TestByteArray2ShortNumBytes
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
 
     static String outputFile;
     static Random randomGen;
@@ -46,9 +53,6 @@ public class TestByteArray2ShortNumBytes
     static final long THREE_DIGIT_MIN = 0x100L;
     static final long FOUR_DIGIT_MIN = 0x1000L;
 
-    /* Attempting to increase the randomness */
-    static int randomSeed = (int) (System.currentTimeMillis() % 1601);
-
     byte[] byteArray = new byte[ARRAY_SIZE];
 
     static final boolean isBigEndian = true;
@@ -60,7 +64,7 @@ public class TestByteArray2ShortNumBytes
     static
     {
         outputFile = "expected." + TestShort2ByteArray.class.getSimpleName() + ".txt";
-        randomGen = new Random(randomSeed);
+        randomGen = TestRandom.getRandom();
     };
 
     @Before
@@ -28,12 +28,19 @@ import java.util.Random;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.ClassRule;
 import org.junit.Test;
 
 import com.ibm.dataaccess.ByteArrayMarshaller;
 
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.TestRandom;
+
 public class TestDouble2ByteArray
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     static String outputFile;
     static Random randomGen;
     static final int ARRAY_SIZE = 256;
@@ -41,9 +48,6 @@ public class TestDouble2ByteArray
     static final int BYTESIZE = 8;
     static final long MANTISSA_MASK = 0x000FFFFFFFFFFFL;
 
-    /* Attempting to increase the randomness */
-    static int randomSeed = (int) (System.currentTimeMillis() % 160001);
-
     byte[] byteArray = new byte[ARRAY_SIZE];
     byte[] resultArrayBigEndian = new byte[ARRAY_SIZE];
     byte[] resultArrayLittleEndian = new byte[ARRAY_SIZE];
@@ -54,7 +58,7 @@ public class TestDouble2ByteArray
     static
     {
         outputFile = "expected." + TestShort2ByteArray.class.getSimpleName() + ".txt";
-        randomGen = new Random(randomSeed);
+        randomGen = TestRandom.getRandom();
     };
 
     @Before
@@ -25,16 +25,21 @@ import static org.junit.Assert.*;
 
 import java.util.Arrays;
 
+import org.junit.ClassRule;
 import org.junit.Test;
 
 import com.ibm.dataaccess.ByteArrayMarshaller;
 import com.ibm.dataaccess.ByteArrayUnmarshaller;
 
+import net.openj9.test.RandomSeedRule;
 import net.openj9.test.Utils;
 import net.openj9.test.Utils.TestValue;
 
 public class TestOptimizer
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     @Test
     public void testLongOptimizers()
     {
@@ -28,12 +28,19 @@ import java.util.Random;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.ClassRule;
 import org.junit.Test;
 
 import com.ibm.dataaccess.ByteArrayMarshaller;
 
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.TestRandom;
+
 public class TestShort2ByteArray
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
 
     static String outputFile;
     static Random randomGen;
@@ -43,9 +50,6 @@ public class TestShort2ByteArray
     static final long THREE_DIGIT_MIN = 0x100L;
     static final long FOUR_DIGIT_MIN = 0x1000L;
 
-    /* Attempting to increase the randomness */
-    static int randomSeed = (int) (System.currentTimeMillis() % 6001);
-
     byte[] byteArray = new byte[ARRAY_SIZE];
     byte[] resultArrayBigEndian = new byte[ARRAY_SIZE];
     byte[] resultArrayLittleEndian = new byte[ARRAY_SIZE];
@@ -56,7 +60,7 @@ public class TestShort2ByteArray
     static
     {
         outputFile = "expected." + TestShort2ByteArray.class.getSimpleName() + ".txt";
-        randomGen = new Random(randomSeed);
+        randomGen = TestRandom.getRandom();
     };
 
     @Before
@@ -0,0 +1,187 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.corpus;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Read-only view of a golden vector corpus file written by
+ * GoldenVectorGenerator.
+ * 
+ * The file is a 32 byte header followed by fixed size records, and is memory
+ * mapped so that records are read in place with no parsing. All accessors use
+ * absolute gets, so one corpus can be shared by any number of test threads.
+ * 
+ * Header: int magic, int version, int record size, int reserved, long record
+ * count, long generator seed.
+ * 
+ * Record:
+ *   0      operation
+ *   1      op1 precision
+ *   2      op2 precision, or the shift amount for the shift operations
+ *   3      result precision
+ *   4-6    op1, op2 and result offsets
+ *   7      flags, FLAG_ROUND and FLAG_CHECK_OVERFLOW
+ *   8-23   op1, packed decimal or a big endian long for LONG_TO_PACKED
+ *   24-39  op2, packed decimal
+ *   40-63  expected result, packed decimal, a big endian long for
+ *          PACKED_TO_LONG or the signum of the comparison for COMPARE
+ * 
+ * The operands and expected results are stored without their offsets; the
+ * offsets are applied when they are copied into the test arrays.
+ */
+public class GoldenVectorCorpus
+{
+	public static final int MAGIC = 0x44414147; // "DAAG"
+	public static final int VERSION = 1;
+	
+	public static final int HEADER_SIZE = 32;
+	public static final int RECORD_SIZE = 64;
+	
+	public static final int OPERATION = 0;
+	public static final int OP1_PRECISION = 1;
+	public static final int OP2_PRECISION = 2;
+	public static final int RESULT_PRECISION = 3;
+	public static final int OP1_OFFSET = 4;
+	public static final int OP2_OFFSET = 5;
+	public static final int RESULT_OFFSET = 6;
+	public static final int FLAGS = 7;
+	public static final int OP1 = 8;
+	public static final int OP2 = 24;
+	public static final int EXPECTED = 40;
+	
+	public static final int OPERAND_SIZE = 16;
+	public static final int EXPECTED_SIZE = 24;
+	
+	public static final int ADD = 0;
+	public static final int SUBTRACT = 1;
+	public static final int MULTIPLY = 2;
+	public static final int DIVIDE = 3;
+	public static final int REMAINDER = 4;
+	public static final int COMPARE = 5;
+	public static final int SHIFT_LEFT = 6;
+	public static final int SHIFT_RIGHT = 7;
+	public static final int PACKED_TO_LONG = 8;
+	public static final int LONG_TO_PACKED = 9;
+	
+	public static final int OPERATION_COUNT = 10;
+	
+	public static final String[] OPERATION_NAMES = { "add", "subtract", "multiply", "divide", "remainder", "compare",
+			"shiftLeft", "shiftRight", "packedToLong", "longToPacked" };
+	
+	public static final int FLAG_ROUND = 1;
+	public static final int FLAG_CHECK_OVERFLOW = 2;
+	
+	private final MappedByteBuffer buffer;
+	private final int recordCount;
+	private final long seed;
+	
+	public GoldenVectorCorpus(File file) throws IOException
+	{
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		
+		try
+		{
+			FileChannel channel = raf.getChannel();
+			
+			// The mapping stays valid after the channel is closed
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		finally
+		{
+			raf.close();
+		}
+		
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+			throw new IOException(file + " is not a golden vector corpus");
+		if (buffer.getInt(4) != VERSION || buffer.getInt(8) != RECORD_SIZE)
+			throw new IOException(file + " is version " + buffer.getInt(4) + " with record size " + buffer.getInt(8)
+					+ ", expected version " + VERSION + " with record size " + RECORD_SIZE);
+		
+		long count = buffer.getLong(16);
+		if (HEADER_SIZE + count * RECORD_SIZE > buffer.capacity())
+			throw new IOException(file + " is truncated, it should hold " + count + " records");
+		
+		recordCount = (int) count;
+		seed = buffer.getLong(24);
+	}
+	
+	public int getRecordCount()
+	{
+		return recordCount;
+	}
+	
+	/**
+	 * returns the seed the corpus was generated from.
+	 */
+	public long getSeed()
+	{
+		return seed;
+	}
+	
+	private int position(int record, int field)
+	{
+		return HEADER_SIZE + record * RECORD_SIZE + field;
+	}
+	
+	/**
+	 * returns the unsigned byte at field of the record.
+	 */
+	public int get(int record, int field)
+	{
+		return buffer.get(position(record, field)) & 0xFF;
+	}
+	
+	public long getLong(int record, int field)
+	{
+		return buffer.getLong(position(record, field));
+	}
+	
+	/**
+	 * copies length bytes starting at field of the record to dst at offset.
+	 */
+	public void copy(int record, int field, byte[] dst, int offset, int length)
+	{
+		int position = position(record, field);
+		for (int i = 0; i < length; ++i)
+			dst[offset + i] = buffer.get(position + i);
+	}
+	
+	/**
+	 * writes the header for a corpus of recordCount records to the start of buffer.
+	 */
+	static void writeHeader(ByteBuffer buffer, long recordCount, long seed)
+	{
+		buffer.putInt(0, MAGIC);
+		buffer.putInt(4, VERSION);
+		buffer.putInt(8, RECORD_SIZE);
+		buffer.putInt(12, 0);
+		buffer.putLong(16, recordCount);
+		buffer.putLong(24, seed);
+	}
+}
@@ -0,0 +1,389 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.corpus;
+
+import static net.openj9.test.corpus.GoldenVectorCorpus.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Random;
+
+import net.openj9.test.arithmetics.PackedDecimalReference;
+
+/**
+ * Writes a golden vector corpus: records of operands, precisions, offsets and
+ * the expected result of a PackedDecimal or DecimalData operation, in the
+ * fixed size layout read by GoldenVectorCorpus.
+ * 
+ * The operands are generated straight into packed decimal nibbles. The
+ * arithmetic and comparison results come from PackedDecimalReference, the
+ * shift and long conversion results are computed digit by digit. The same
+ * seed always produces the same corpus.
+ * 
+ * Usage: GoldenVectorGenerator <file> [records (default 1000000)] [seed (default 8002)]
+ */
+public class GoldenVectorGenerator
+{
+	public static final int DEFAULT_RECORD_COUNT = 1000000;
+	public static final long DEFAULT_SEED = 8002;
+	
+	static final int MAX_PRECISION = 31;
+	static final int MAX_LONG_DIGITS = 18;
+	static final int MAX_OFFSET = 3;
+	
+	static final int CHUNK_RECORDS = 16384;
+	
+	private final Random random;
+	private final PackedDecimalReference reference = new PackedDecimalReference();
+	
+	private final byte[] op1 = new byte[OPERAND_SIZE];
+	private final byte[] op2 = new byte[OPERAND_SIZE];
+	private final byte[] expected = new byte[EXPECTED_SIZE];
+	
+	GoldenVectorGenerator(long seed)
+	{
+		random = new Random(seed);
+	}
+	
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length < 1)
+		{
+			System.err.println("Usage: GoldenVectorGenerator <file> [records (default " + DEFAULT_RECORD_COUNT + ")] [seed (default " + DEFAULT_SEED + ")]");
+			System.exit(1);
+		}
+		
+		File file = new File(args[0]);
+		int recordCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RECORD_COUNT;
+		long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+		
+		long startTime = System.nanoTime();
+		generate(file, recordCount, seed);
+		long endTime = System.nanoTime();
+		
+		System.out.printf("GoldenVectorGenerator: wrote %d records with seed %d to %s in %d ms%n", recordCount, seed, file.getAbsolutePath(),
+				(endTime - startTime) / 1000000);
+	}
+	
+	public static void generate(File file, int recordCount, long seed) throws IOException
+	{
+		if (recordCount < 0 || (long) recordCount * RECORD_SIZE > Integer.MAX_VALUE - HEADER_SIZE)
+			throw new IllegalArgumentException("A corpus can hold up to " + ((Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE) + " records: " + recordCount);
+		
+		GoldenVectorGenerator generator = new GoldenVectorGenerator(seed);
+		
+		FileOutputStream out = new FileOutputStream(file);
+		
+		try
+		{
+			FileChannel channel = out.getChannel();
+			
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			writeHeader(header, recordCount, seed);
+			channel.write(header);
+			
+			ByteBuffer chunk = ByteBuffer.allocate(CHUNK_RECORDS * RECORD_SIZE);
+			
+			for (int written = 0; written < recordCount; written += CHUNK_RECORDS)
+			{
+				int records = Math.min(CHUNK_RECORDS, recordCount - written);
+				
+				chunk.clear();
+				for (int i = 0; i < records; ++i)
+					generator.generateRecord(chunk, i * RECORD_SIZE);
+				
+				chunk.limit(records * RECORD_SIZE);
+				while (chunk.hasRemaining())
+					channel.write(chunk);
+			}
+		}
+		finally
+		{
+			out.close();
+		}
+	}
+	
+	void generateRecord(ByteBuffer buffer, int position)
+	{
+		Arrays.fill(op1, (byte) 0);
+		Arrays.fill(op2, (byte) 0);
+		Arrays.fill(expected, (byte) 0);
+		
+		int operation = random.nextInt(OPERATION_COUNT);
+		int op1Precision = 0;
+		int op2Precision = 0;
+		int resultPrecision = 0;
+		int flags = 0;
+		
+		switch (operation)
+		{
+			case ADD:
+			case SUBTRACT:
+			{
+				op1Precision = random.nextInt(MAX_PRECISION - 1) + 1;
+				op2Precision = random.nextInt(MAX_PRECISION - 1) + 1;
+				resultPrecision = Math.max(op1Precision, op2Precision) + 1;
+				flags = FLAG_CHECK_OVERFLOW;
+				
+				randomPacked(op1, op1Precision);
+				randomPacked(op2, op2Precision);
+				
+				if (operation == ADD)
+					reference.addPackedDecimal(expected, 0, resultPrecision, op1, 0, op1Precision, op2, 0, op2Precision, true);
+				else
+					reference.subtractPackedDecimal(expected, 0, resultPrecision, op1, 0, op1Precision, op2, 0, op2Precision, true);
+				break;
+			}
+			case MULTIPLY:
+			{
+				op1Precision = random.nextInt(MAX_PRECISION - 1) + 1;
+				op2Precision = random.nextInt(MAX_PRECISION - op1Precision) + 1;
+				resultPrecision = op1Precision + op2Precision;
+				flags = FLAG_CHECK_OVERFLOW;
+				
+				randomPacked(op1, op1Precision);
+				randomPacked(op2, op2Precision);
+				
+				reference.multiplyPackedDecimal(expected, 0, resultPrecision, op1, 0, op1Precision, op2, 0, op2Precision, true);
+				break;
+			}
+			case DIVIDE:
+			case REMAINDER:
+			{
+				op1Precision = random.nextInt(MAX_PRECISION) + 1;
+				op2Precision = random.nextInt(MAX_PRECISION) + 1;
+				resultPrecision = op1Precision;
+				flags = FLAG_CHECK_OVERFLOW;
+				
+				randomPacked(op1, op1Precision);
+				do
+				{
+					randomPacked(op2, op2Precision);
+				}
+				while (isZero(op2, op2Precision));
+				
+				if (operation == DIVIDE)
+					reference.dividePackedDecimal(expected, 0, resultPrecision, op1, 0, op1Precision, op2, 0, op2Precision, true);
+				else
+					reference.remainderPackedDecimal(expected, 0, resultPrecision, op1, 0, op1Precision, op2, 0, op2Precision, true);
+				break;
+			}
+			case COMPARE:
+			{
+				op1Precision = random.nextInt(MAX_PRECISION) + 1;
+				randomPacked(op1, op1Precision);
+				
+				// A quarter of the comparisons are of equal values
+				if (random.nextInt(4) == 0)
+				{
+					op2Precision = op1Precision;
+					System.arraycopy(op1, 0, op2, 0, OPERAND_SIZE);
+				}
+				else
+				{
+					op2Precision = random.nextInt(MAX_PRECISION) + 1;
+					randomPacked(op2, op2Precision);
+				}
+				
+				expected[0] = (byte) Integer.signum(reference.comparePackedDecimal(op1, 0, op1Precision, op2, 0, op2Precision));
+				break;
+			}
+			case SHIFT_LEFT:
+			case SHIFT_RIGHT:
+			{
+				op1Precision = random.nextInt(MAX_PRECISION) + 1;
+				resultPrecision = random.nextInt(MAX_PRECISION) + 1;
+				
+				randomPacked(op1, op1Precision);
+				
+				// op2 precision holds the shift amount
+				if (operation == SHIFT_LEFT)
+				{
+					op2Precision = random.nextInt(MAX_PRECISION + 1);
+					shiftLeft(op1, op1Precision, op2Precision, expected, resultPrecision);
+				}
+				else
+				{
+					op2Precision = random.nextInt(op1Precision + 1);
+					if (random.nextBoolean())
+						flags |= FLAG_ROUND;
+					shiftRight(op1, op1Precision, op2Precision, (flags & FLAG_ROUND) != 0, expected, resultPrecision);
+				}
+				break;
+			}
+			case PACKED_TO_LONG:
+			{
+				op1Precision = random.nextInt(MAX_LONG_DIGITS) + 1;
+				flags = FLAG_CHECK_OVERFLOW;
+				
+				randomPacked(op1, op1Precision);
+				putLong(expected, 0, toLong(op1, op1Precision));
+				break;
+			}
+			case LONG_TO_PACKED:
+			{
+				int digits = random.nextInt(MAX_LONG_DIGITS) + 1;
+				resultPrecision = digits + random.nextInt(MAX_LONG_DIGITS + 2 - digits);
+				flags = FLAG_CHECK_OVERFLOW;
+				
+				randomPacked(expected, digits);
+				long value = toLong(expected, digits);
+				putLong(op1, 0, value);
+				
+				// Widen to the result precision, a zero result is always positive
+				Arrays.fill(expected, (byte) 0);
+				storeLong(value, expected, resultPrecision);
+				break;
+			}
+		}
+		
+		buffer.put(position + OPERATION, (byte) operation);
+		buffer.put(position + OP1_PRECISION, (byte) op1Precision);
+		buffer.put(position + OP2_PRECISION, (byte) op2Precision);
+		buffer.put(position + RESULT_PRECISION, (byte) resultPrecision);
+		buffer.put(position + OP1_OFFSET, (byte) random.nextInt(MAX_OFFSET + 1));
+		buffer.put(position + OP2_OFFSET, (byte) random.nextInt(MAX_OFFSET + 1));
+		buffer.put(position + RESULT_OFFSET, (byte) random.nextInt(MAX_OFFSET + 1));
+		buffer.put(position + FLAGS, (byte) flags);
+		
+		for (int i = 0; i < OPERAND_SIZE; ++i)
+		{
+			buffer.put(position + OP1 + i, op1[i]);
+			buffer.put(position + OP2 + i, op2[i]);
+		}
+		for (int i = 0; i < EXPECTED_SIZE; ++i)
+			buffer.put(position + EXPECTED + i, expected[i]);
+	}
+	
+	/**
+	 * returns digit k, counting from the least significant digit, of the
+	 * packed decimal at offset 0.
+	 */
+	static int getDigit(byte[] pd, int precision, int k)
+	{
+		int nibble = k + 1;
+		int b = pd[precision / 2 - nibble / 2];
+		return (nibble & 1) != 0 ? (b >> 4) & 0x0F : b & 0x0F;
+	}
+	
+	static void setDigit(byte[] pd, int precision, int k, int digit)
+	{
+		int nibble = k + 1;
+		int index = precision / 2 - nibble / 2;
+		if ((nibble & 1) != 0)
+			pd[index] = (byte) ((pd[index] & 0x0F) | (digit << 4));
+		else
+			pd[index] = (byte) ((pd[index] & 0xF0) | digit);
+	}
+	
+	static boolean isNegative(byte[] pd, int precision)
+	{
+		int sign = pd[precision / 2] & 0x0F;
+		return sign == 0x0B || sign == 0x0D;
+	}
+	
+	static void setSign(byte[] pd, int precision, boolean negative)
+	{
+		int index = precision / 2;
+		pd[index] = (byte) ((pd[index] & 0xF0) | (negative ? 0x0D : 0x0C));
+	}
+	
+	static boolean isZero(byte[] pd, int precision)
+	{
+		for (int k = 0; k < precision; ++k)
+		{
+			if (getDigit(pd, precision, k) != 0)
+				return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * fills pd with precision random digits and a random sign.
+	 */
+	void randomPacked(byte[] pd, int precision)
+	{
+		for (int k = 0; k < precision; ++k)
+			setDigit(pd, precision, k, random.nextInt(10));
+		setSign(pd, precision, random.nextBoolean());
+	}
+	
+	static void shiftLeft(byte[] src, int srcPrecision, int shift, byte[] dst, int dstPrecision)
+	{
+		for (int k = shift; k < dstPrecision && k - shift < srcPrecision; ++k)
+			setDigit(dst, dstPrecision, k, getDigit(src, srcPrecision, k - shift));
+		setSign(dst, dstPrecision, isNegative(src, srcPrecision));
+	}
+	
+	static void shiftRight(byte[] src, int srcPrecision, int shift, boolean round, byte[] dst, int dstPrecision)
+	{
+		for (int k = 0; k < dstPrecision && k + shift < srcPrecision; ++k)
+			setDigit(dst, dstPrecision, k, getDigit(src, srcPrecision, k + shift));
+		
+		// Round half up on the first digit shifted out, the carry out of dstPrecision is lost
+		if (round && shift > 0 && getDigit(src, srcPrecision, shift - 1) >= 5)
+		{
+			for (int k = 0; k < dstPrecision; ++k)
+			{
+				int digit = getDigit(dst, dstPrecision, k) + 1;
+				setDigit(dst, dstPrecision, k, digit % 10);
+				if (digit < 10)
+					break;
+			}
+		}
+		
+		setSign(dst, dstPrecision, isNegative(src, srcPrecision));
+	}
+	
+	static long toLong(byte[] pd, int precision)
+	{
+		long value = 0;
+		for (int k = precision - 1; k >= 0; --k)
+			value = value * 10 + getDigit(pd, precision, k);
+		return isNegative(pd, precision) ? -value : value;
+	}
+	
+	static void storeLong(long value, byte[] pd, int precision)
+	{
+		long magnitude = Math.abs(value);
+		for (int k = 0; k < precision; ++k)
+		{
+			setDigit(pd, precision, k, (int) (magnitude % 10));
+			magnitude /= 10;
+		}
+		setSign(pd, precision, value < 0);
+	}
+	
+	static void putLong(byte[] bytes, int offset, long value)
+	{
+		for (int i = 7; i >= 0; --i)
+		{
+			bytes[offset + i] = (byte) value;
+			value >>>= 8;
+		}
+	}
+}
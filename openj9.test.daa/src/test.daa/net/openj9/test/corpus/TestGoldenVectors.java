@@ -0,0 +1,235 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.corpus;
+
+import static net.openj9.test.corpus.GoldenVectorCorpus.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.TestRandom;
+import net.openj9.test.Utils;
+
+/**
+ * Checks PackedDecimal and DecimalData against records picked at random from
+ * a golden vector corpus, so the cost of computing the expected results is
+ * paid once when the corpus is generated rather than on every run.
+ * 
+ * The corpus is the file named by -Ddaa.corpus. If that is not set a corpus
+ * of DEFAULT_CORPUS_RECORDS records is generated in java.io.tmpdir the first
+ * time it is needed and reused from then on.
+ * 
+ * The records are picked with a Random seeded from -Ddaa.corpusSeed, or from
+ * the thread's TestRandom stream if that is not set. Failures report the seed
+ * so they can be replayed.
+ * 
+ * This runs alongside TestDecimalData, TestArithmeticOperations and
+ * TestShiftsAndConvert rather than replacing them. Those check hand-written
+ * vectors and edge cases at fixed precisions and offsets, and only
+ * TestArithmeticOperations draws random operands, from a pool of 80 values.
+ */
+public class TestGoldenVectors
+{
+	@ClassRule
+	public static final RandomSeedRule seedRule = new RandomSeedRule();
+	
+	static final int SAMPLES = 10000;
+	
+	static final int DEFAULT_CORPUS_RECORDS = 1 << 16;
+	
+	static final int ARRAY_SIZE = GoldenVectorGenerator.MAX_OFFSET + EXPECTED_SIZE;
+	
+	private static GoldenVectorCorpus corpus;
+	
+	byte[] op1 = new byte[ARRAY_SIZE];
+	byte[] op2 = new byte[ARRAY_SIZE];
+	byte[] result = new byte[ARRAY_SIZE];
+	byte[] expected = new byte[ARRAY_SIZE];
+	
+	static synchronized GoldenVectorCorpus getCorpus() throws IOException
+	{
+		if (corpus == null)
+		{
+			String name = System.getProperty("daa.corpus");
+			File file;
+			
+			if (name != null)
+				file = new File(name);
+			else
+			{
+				// The version is in the name so that a corpus left by an older build is never reused
+				file = new File(System.getProperty("java.io.tmpdir"), "daa-golden-vectors-v" + VERSION + "-" + GoldenVectorGenerator.DEFAULT_SEED + "-"
+						+ DEFAULT_CORPUS_RECORDS + ".bin");
+				
+				if (!file.exists())
+				{
+					// Generate to a temporary file first so that another JVM never maps a partly written corpus
+					File temp = File.createTempFile("daa-golden-vectors", ".tmp", file.getParentFile());
+					GoldenVectorGenerator.generate(temp, DEFAULT_CORPUS_RECORDS, GoldenVectorGenerator.DEFAULT_SEED);
+					if (!temp.renameTo(file))
+					{
+						temp.delete();
+						if (!file.exists())
+							throw new IOException("Could not create " + file);
+					}
+				}
+			}
+			
+			corpus = new GoldenVectorCorpus(file);
+		}
+		return corpus;
+	}
+	
+	@Test
+	public void testGoldenVectors() throws IOException
+	{
+		GoldenVectorCorpus corpus = getCorpus();
+		
+		long seed = Long.getLong("daa.corpusSeed", TestRandom.current().nextLong()).longValue();
+		Random random = new Random(seed);
+		
+		for (int i = 0; i < SAMPLES; ++i)
+		{
+			int record = random.nextInt(corpus.getRecordCount());
+			check(corpus, record, String.format("record %d (corpus seed %d, replay with -Ddaa.corpusSeed=%d)", record, corpus.getSeed(), seed));
+		}
+	}
+	
+	void check(GoldenVectorCorpus corpus, int record, String recordName)
+	{
+		int operation = corpus.get(record, OPERATION);
+		int op1Precision = corpus.get(record, OP1_PRECISION);
+		int op2Precision = corpus.get(record, OP2_PRECISION);
+		int resultPrecision = corpus.get(record, RESULT_PRECISION);
+		int op1Offset = corpus.get(record, OP1_OFFSET);
+		int op2Offset = corpus.get(record, OP2_OFFSET);
+		int resultOffset = corpus.get(record, RESULT_OFFSET);
+		int flags = corpus.get(record, FLAGS);
+		
+		boolean checkOverflow = (flags & FLAG_CHECK_OVERFLOW) != 0;
+		
+		Arrays.fill(op1, (byte) 0);
+		Arrays.fill(op2, (byte) 0);
+		Arrays.fill(result, (byte) 0);
+		Arrays.fill(expected, (byte) 0);
+		
+		if (operation != LONG_TO_PACKED)
+			corpus.copy(record, OP1, op1, op1Offset, Utils.getByteArraySizeFromPrecision(op1Precision));
+		if (operation <= COMPARE)
+			corpus.copy(record, OP2, op2, op2Offset, Utils.getByteArraySizeFromPrecision(op2Precision));
+		if (resultPrecision > 0)
+			corpus.copy(record, EXPECTED, expected, resultOffset, Utils.getByteArraySizeFromPrecision(resultPrecision));
+		
+		String message = OPERATION_NAMES[operation] + " " + recordName;
+		
+		switch (operation)
+		{
+			case ADD:
+				PackedDecimal.addPackedDecimal(result, resultOffset, resultPrecision, op1, op1Offset, op1Precision, op2, op2Offset, op2Precision, checkOverflow);
+				break;
+			case SUBTRACT:
+				PackedDecimal.subtractPackedDecimal(result, resultOffset, resultPrecision, op1, op1Offset, op1Precision, op2, op2Offset, op2Precision, checkOverflow);
+				break;
+			case MULTIPLY:
+				PackedDecimal.multiplyPackedDecimal(result, resultOffset, resultPrecision, op1, op1Offset, op1Precision, op2, op2Offset, op2Precision, checkOverflow);
+				break;
+			case DIVIDE:
+				PackedDecimal.dividePackedDecimal(result, resultOffset, resultPrecision, op1, op1Offset, op1Precision, op2, op2Offset, op2Precision, checkOverflow);
+				break;
+			case REMAINDER:
+				PackedDecimal.remainderPackedDecimal(result, resultOffset, resultPrecision, op1, op1Offset, op1Precision, op2, op2Offset, op2Precision, checkOverflow);
+				break;
+			case COMPARE:
+			{
+				int expectedSignum = (byte) corpus.get(record, EXPECTED);
+				
+				boolean greaterThan = PackedDecimal.greaterThanPackedDecimal(op1, op1Offset, op1Precision, op2, op2Offset, op2Precision);
+				boolean lessThan = PackedDecimal.lessThanPackedDecimal(op1, op1Offset, op1Precision, op2, op2Offset, op2Precision);
+				boolean equals = PackedDecimal.equalsPackedDecimal(op1, op1Offset, op1Precision, op2, op2Offset, op2Precision);
+				
+				assertEquals(message + " greaterThan", expectedSignum > 0, greaterThan);
+				assertEquals(message + " lessThan", expectedSignum < 0, lessThan);
+				assertEquals(message + " equals", expectedSignum == 0, equals);
+				return;
+			}
+			case SHIFT_LEFT:
+				PackedDecimal.shiftLeftPackedDecimal(result, resultOffset, resultPrecision, op1, op1Offset, op1Precision, op2Precision, checkOverflow);
+				break;
+			case SHIFT_RIGHT:
+				PackedDecimal.shiftRightPackedDecimal(result, resultOffset, resultPrecision, op1, op1Offset, op1Precision, op2Precision,
+						(flags & FLAG_ROUND) != 0, checkOverflow);
+				break;
+			case PACKED_TO_LONG:
+				assertEquals(message, corpus.getLong(record, EXPECTED), DecimalData.convertPackedDecimalToLong(op1, op1Offset, op1Precision, checkOverflow));
+				return;
+			case LONG_TO_PACKED:
+				DecimalData.convertLongToPackedDecimal(corpus.getLong(record, OP1), result, resultOffset, resultPrecision, checkOverflow);
+				break;
+			default:
+				fail(message + " has unknown operation " + operation);
+		}
+		
+		if (!packedDecimalEquals(expected, result, resultOffset, resultPrecision))
+		{
+			fail(message + " expected " + Utils.byteArrayToString(expected) + " but was " + Utils.byteArrayToString(result));
+		}
+	}
+	
+	/**
+	 * compares the digits exactly and the signs as positive or negative, a
+	 * zero result may have either sign.
+	 */
+	static boolean packedDecimalEquals(byte[] expected, byte[] actual, int offset, int precision)
+	{
+		int last = offset + precision / 2;
+		boolean isZero = true;
+		
+		for (int i = offset; i <= last; ++i)
+		{
+			int expectedDigits = i == last ? expected[i] & 0xF0 : expected[i] & 0xFF;
+			int actualDigits = i == last ? actual[i] & 0xF0 : actual[i] & 0xFF;
+			if (expectedDigits != actualDigits)
+				return false;
+			if (expectedDigits != 0)
+				isZero = false;
+		}
+		
+		int expectedSign = expected[last] & 0x0F;
+		int actualSign = actual[last] & 0x0F;
+		boolean expectedNegative = expectedSign == 0x0B || expectedSign == 0x0D;
+		boolean actualNegative = actualSign == 0x0B || actualSign == 0x0D;
+		
+		return isZero || expectedNegative == actualNegative;
+	}
+}
@@ -0,0 +1,504 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.columns;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+
+/**
+ * Runs ledger style queries on a column of packed decimal amounts and a
+ * column of packed decimal group keys, and reports rows/s.
+ * 
+ * The queries are a filter counting the amounts in a range, a sum of the
+ * amounts, a sum of the amounts of each group and a sort of the rows by
+ * amount. Each runs two ways: directly on the packed bytes with
+ * PackedDecimal.greaterThanPackedDecimal, lessThanOrEqualsPackedDecimal,
+ * lessThanPackedDecimal and addPackedDecimal into 31 digit accumulators, and
+ * on longs after converting the column with
+ * DecimalData.convertPackedDecimalToLong, the conversion timed with the query.
+ * Both run on one thread and as fork/join reductions over halves of the rows,
+ * and all four must agree.
+ * 
+ * Usage: ColumnAnalytics [rows (default 1000000)] [passes (default 5)] [parallelism (default processors)]
+ */
+public class ColumnAnalytics
+{
+	public static final int AMOUNT_PRECISION = 15;
+	public static final int KEY_PRECISION = 3;
+	public static final int GROUPS = 1000;
+	
+	// The precision of the packed accumulators and the bytes they take
+	static final int TOTAL_PRECISION = 31;
+	static final int TOTAL_LENGTH = TOTAL_PRECISION / 2 + 1;
+	
+	// The fraction of the amounts that are negative
+	static final double NEGATIVE = 0.1;
+	
+	// The filter counts the amounts in (FILTER_LOWER, FILTER_UPPER]
+	static final long FILTER_LOWER = 0;
+	static final long FILTER_UPPER = 500000000000000L;
+	
+	// The long sums carry into a second long at this base, so that they can't overflow
+	static final long WIDE_BASE = 1000000000000000000L;
+	
+	public enum Query
+	{
+		FILTER, SUM, GROUP_SUM, SORT
+	}
+	
+	public static final class Result
+	{
+		final Query query;
+		final String engine;
+		final boolean parallel;
+		final int rows;
+		final long nanos;
+		
+		Result(Query query, String engine, boolean parallel, int rows, long nanos)
+		{
+			this.query = query;
+			this.engine = engine;
+			this.parallel = parallel;
+			this.rows = rows;
+			this.nanos = nanos;
+		}
+		
+		public Query getQuery()
+		{
+			return query;
+		}
+		
+		public double getRowsPerSecond()
+		{
+			return rows / (nanos / 1e9);
+		}
+		
+		public String toString()
+		{
+			return String.format("%-10s %-7s %-8s %,15.0f rows/s", query, engine, parallel ? "parallel" : "serial", getRowsPerSecond());
+		}
+	}
+	
+	private final PackedColumn amounts;
+	private final PackedColumn keys;
+	private final ForkJoinPool pool;
+	private final int threshold;
+	
+	private final byte[] lower = new byte[AMOUNT_PRECISION / 2 + 1];
+	private final byte[] upper = new byte[AMOUNT_PRECISION / 2 + 1];
+	
+	public ColumnAnalytics(PackedColumn amounts, PackedColumn keys, ForkJoinPool pool)
+	{
+		if (amounts.getRows() != keys.getRows())
+			throw new IllegalArgumentException("The amount and key columns have different numbers of rows");
+		
+		this.amounts = amounts;
+		this.keys = keys;
+		this.pool = pool;
+		
+		// Several tasks per thread so that the threads stay busy
+		threshold = Math.max(4096, amounts.getRows() / (pool.getParallelism() * 8));
+		
+		DecimalData.convertLongToPackedDecimal(FILTER_LOWER, lower, 0, AMOUNT_PRECISION, true);
+		DecimalData.convertLongToPackedDecimal(FILTER_UPPER, upper, 0, AMOUNT_PRECISION, true);
+	}
+	
+	/**
+	 * @return a column of rows random amounts of AMOUNT_PRECISION digits and
+	 *         one of rows random keys from 0 to GROUPS - 1
+	 */
+	public static ColumnAnalytics generate(int rows, ForkJoinPool pool)
+	{
+		return new ColumnAnalytics(PackedColumn.generate(rows, AMOUNT_PRECISION, AMOUNT_PRECISION / 2 + 1, NEGATIVE),
+				PackedColumn.generate(rows, KEY_PRECISION, KEY_PRECISION / 2 + 1, 0), pool);
+	}
+	
+	/**
+	 * Runs every query both ways, serial and parallel, keeping the best of passes runs.
+	 * 
+	 * @throws AssertionError if the results of a query differ
+	 */
+	public List<Result> run(int passes)
+	{
+		List<Result> results = new ArrayList<Result>();
+		Engine[] engines = { new PackedEngine(), new LongEngine() };
+		
+		for (Query query : Query.values())
+		{
+			Object expected = null;
+			String expectedBy = null;
+			
+			for (Engine engine : engines)
+			{
+				for (boolean parallel : new boolean[] { false, true })
+				{
+					long best = Long.MAX_VALUE;
+					for (int pass = 0; pass < passes; ++pass)
+					{
+						long start = System.nanoTime();
+						Object result = engine.run(query, parallel);
+						best = Math.min(best, System.nanoTime() - start);
+						
+						String by = engine.name + (parallel ? " parallel" : " serial");
+						if (expected == null)
+						{
+							expected = result;
+							expectedBy = by;
+						}
+						else if (!Arrays.deepEquals(new Object[] { expected }, new Object[] { result }))
+						{
+							throw new AssertionError(query + " " + by + " gave " + describe(result) + ", " + expectedBy + " " + describe(expected));
+						}
+					}
+					results.add(new Result(query, engine.name, parallel, amounts.getRows(), best));
+				}
+			}
+		}
+		return results;
+	}
+	
+	static String describe(Object result)
+	{
+		if (result instanceof int[])
+			return "rows " + Arrays.toString(Arrays.copyOf((int[]) result, Math.min(20, ((int[]) result).length))) + "...";
+		if (result instanceof Object[])
+			return Arrays.toString(Arrays.copyOf((Object[]) result, Math.min(20, ((Object[]) result).length))) + "...";
+		return String.valueOf(result);
+	}
+	
+	abstract static class Engine
+	{
+		final String name;
+		
+		Engine(String name)
+		{
+			this.name = name;
+		}
+		
+		Object run(Query query, boolean parallel)
+		{
+			switch (query)
+			{
+				case FILTER:
+					return filter(parallel);
+				case SUM:
+					return sum(parallel);
+				case GROUP_SUM:
+					return groupSums(parallel);
+				default:
+					return sort(parallel);
+			}
+		}
+		
+		abstract Integer filter(boolean parallel);
+		
+		abstract BigInteger sum(boolean parallel);
+		
+		abstract BigInteger[] groupSums(boolean parallel);
+		
+		abstract int[] sort(boolean parallel);
+	}
+	
+	<T> T reduce(Reduction<T> reduction, boolean parallel)
+	{
+		return parallel ? reduction.parallel(pool, amounts.getRows(), threshold) : reduction.serial(amounts.getRows());
+	}
+	
+	int[] sort(RowSort sort, boolean parallel)
+	{
+		return parallel ? sort.parallel(pool, amounts.getRows(), threshold) : sort.serial(amounts.getRows());
+	}
+	
+	static byte[] newTotals(int count)
+	{
+		byte[] totals = new byte[count * TOTAL_LENGTH];
+		for (int i = 0; i < count; ++i)
+			totals[(i + 1) * TOTAL_LENGTH - 1] = 0x0C;
+		return totals;
+	}
+	
+	/**
+	 * Queries the packed bytes in place.
+	 */
+	final class PackedEngine extends Engine
+	{
+		PackedEngine()
+		{
+			super("packed");
+		}
+		
+		Integer filter(boolean parallel)
+		{
+			return reduce(new Reduction<Integer>() {
+				protected Integer reduce(int from, int to)
+				{
+					byte[] data = amounts.getData();
+					int count = 0;
+					for (int row = from; row < to; ++row)
+					{
+						int offset = amounts.offset(row);
+						if (PackedDecimal.greaterThanPackedDecimal(data, offset, AMOUNT_PRECISION, lower, 0, AMOUNT_PRECISION)
+								&& PackedDecimal.lessThanOrEqualsPackedDecimal(data, offset, AMOUNT_PRECISION, upper, 0, AMOUNT_PRECISION))
+							++count;
+					}
+					return count;
+				}
+				
+				protected Integer combine(Integer first, Integer second)
+				{
+					return first + second;
+				}
+			}, parallel);
+		}
+		
+		BigInteger sum(boolean parallel)
+		{
+			byte[] total = reduce(new Reduction<byte[]>() {
+				protected byte[] reduce(int from, int to)
+				{
+					byte[] data = amounts.getData();
+					byte[] total = newTotals(1);
+					for (int row = from; row < to; ++row)
+						PackedDecimal.addPackedDecimal(total, 0, TOTAL_PRECISION, total, 0, TOTAL_PRECISION, data, amounts.offset(row), AMOUNT_PRECISION, false);
+					return total;
+				}
+				
+				protected byte[] combine(byte[] first, byte[] second)
+				{
+					PackedDecimal.addPackedDecimal(first, 0, TOTAL_PRECISION, first, 0, TOTAL_PRECISION, second, 0, TOTAL_PRECISION, false);
+					return first;
+				}
+			}, parallel);
+			return DecimalData.convertPackedDecimalToBigInteger(total, 0, TOTAL_PRECISION, false);
+		}
+		
+		BigInteger[] groupSums(boolean parallel)
+		{
+			byte[] totals = reduce(new Reduction<byte[]>() {
+				protected byte[] reduce(int from, int to)
+				{
+					byte[] data = amounts.getData();
+					byte[] keyData = keys.getData();
+					byte[] totals = newTotals(GROUPS);
+					for (int row = from; row < to; ++row)
+					{
+						int at = DecimalData.convertPackedDecimalToInteger(keyData, keys.offset(row), KEY_PRECISION, false) * TOTAL_LENGTH;
+						PackedDecimal.addPackedDecimal(totals, at, TOTAL_PRECISION, totals, at, TOTAL_PRECISION, data, amounts.offset(row), AMOUNT_PRECISION, false);
+					}
+					return totals;
+				}
+				
+				protected byte[] combine(byte[] first, byte[] second)
+				{
+					for (int at = 0; at < first.length; at += TOTAL_LENGTH)
+						PackedDecimal.addPackedDecimal(first, at, TOTAL_PRECISION, first, at, TOTAL_PRECISION, second, at, TOTAL_PRECISION, false);
+					return first;
+				}
+			}, parallel);
+			
+			BigInteger[] sums = new BigInteger[GROUPS];
+			for (int group = 0; group < GROUPS; ++group)
+				sums[group] = DecimalData.convertPackedDecimalToBigInteger(totals, group * TOTAL_LENGTH, TOTAL_PRECISION, false);
+			return sums;
+		}
+		
+		int[] sort(boolean parallel)
+		{
+			return ColumnAnalytics.this.sort(new RowSort() {
+				protected boolean before(int first, int second)
+				{
+					return PackedDecimal.lessThanPackedDecimal(amounts.getData(), amounts.offset(first), AMOUNT_PRECISION, amounts.getData(),
+							amounts.offset(second), AMOUNT_PRECISION);
+				}
+			}, parallel);
+		}
+	}
+	
+	/**
+	 * Converts the columns to longs and ints and queries those.
+	 */
+	final class LongEngine extends Engine
+	{
+		final long[] values = new long[amounts.getRows()];
+		final int[] groups = new int[keys.getRows()];
+		
+		LongEngine()
+		{
+			super("long");
+		}
+		
+		void convert(int from, int to)
+		{
+			byte[] data = amounts.getData();
+			for (int row = from; row < to; ++row)
+				values[row] = DecimalData.convertPackedDecimalToLong(data, amounts.offset(row), AMOUNT_PRECISION, false);
+		}
+		
+		void convertKeys(int from, int to)
+		{
+			byte[] keyData = keys.getData();
+			for (int row = from; row < to; ++row)
+				groups[row] = DecimalData.convertPackedDecimalToInteger(keyData, keys.offset(row), KEY_PRECISION, false);
+		}
+		
+		// Adds value to the sum held in wide[at] and wide[at + 1]
+		void addWide(long[] wide, int at, long value)
+		{
+			long low = wide[at] + value;
+			if (low >= WIDE_BASE || low <= -WIDE_BASE)
+			{
+				wide[at + 1] += low / WIDE_BASE;
+				low %= WIDE_BASE;
+			}
+			wide[at] = low;
+		}
+		
+		BigInteger wideValue(long[] wide, int at)
+		{
+			return BigInteger.valueOf(wide[at + 1]).multiply(BigInteger.valueOf(WIDE_BASE)).add(BigInteger.valueOf(wide[at]));
+		}
+		
+		Integer filter(boolean parallel)
+		{
+			return reduce(new Reduction<Integer>() {
+				protected Integer reduce(int from, int to)
+				{
+					convert(from, to);
+					int count = 0;
+					for (int row = from; row < to; ++row)
+					{
+						if (values[row] > FILTER_LOWER && values[row] <= FILTER_UPPER)
+							++count;
+					}
+					return count;
+				}
+				
+				protected Integer combine(Integer first, Integer second)
+				{
+					return first + second;
+				}
+			}, parallel);
+		}
+		
+		BigInteger sum(boolean parallel)
+		{
+			long[] total = reduce(new Reduction<long[]>() {
+				protected long[] reduce(int from, int to)
+				{
+					convert(from, to);
+					long[] total = new long[2];
+					for (int row = from; row < to; ++row)
+						addWide(total, 0, values[row]);
+					return total;
+				}
+				
+				protected long[] combine(long[] first, long[] second)
+				{
+					addWide(first, 0, second[0]);
+					first[1] += second[1];
+					return first;
+				}
+			}, parallel);
+			return wideValue(total, 0);
+		}
+		
+		BigInteger[] groupSums(boolean parallel)
+		{
+			long[] totals = reduce(new Reduction<long[]>() {
+				protected long[] reduce(int from, int to)
+				{
+					convert(from, to);
+					convertKeys(from, to);
+					long[] totals = new long[GROUPS * 2];
+					for (int row = from; row < to; ++row)
+						addWide(totals, groups[row] * 2, values[row]);
+					return totals;
+				}
+				
+				protected long[] combine(long[] first, long[] second)
+				{
+					for (int at = 0; at < first.length; at += 2)
+					{
+						addWide(first, at, second[at]);
+						first[at + 1] += second[at + 1];
+					}
+					return first;
+				}
+			}, parallel);
+			
+			BigInteger[] sums = new BigInteger[GROUPS];
+			for (int group = 0; group < GROUPS; ++group)
+				sums[group] = wideValue(totals, group * 2);
+			return sums;
+		}
+		
+		int[] sort(boolean parallel)
+		{
+			reduce(new Reduction<Void>() {
+				protected Void reduce(int from, int to)
+				{
+					convert(from, to);
+					return null;
+				}
+				
+				protected Void combine(Void first, Void second)
+				{
+					return null;
+				}
+			}, parallel);
+			
+			return ColumnAnalytics.this.sort(new RowSort() {
+				protected boolean before(int first, int second)
+				{
+					return values[first] < values[second];
+				}
+			}, parallel);
+		}
+	}
+	
+	public static void main(String[] args)
+	{
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+		int passes = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+		int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+		
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try
+		{
+			System.out.println("ColumnAnalytics: " + rows + " rows, " + passes + " passes, parallelism " + parallelism);
+			for (Result result : generate(rows, pool).run(passes))
+				System.out.println(result);
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+}
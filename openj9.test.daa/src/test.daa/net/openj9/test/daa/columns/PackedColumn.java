@@ -0,0 +1,106 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.columns;
+
+import java.util.Random;
+
+import net.openj9.test.DecimalGenerator;
+import net.openj9.test.TestRandom;
+
+/**
+ * A column of packed decimals of one precision stored in a single byte[],
+ * row after row at a fixed stride. A stride longer than the packed decimal
+ * models a column read in place from a row store.
+ */
+public class PackedColumn
+{
+	private final byte[] data;
+	private final int rows;
+	private final int precision;
+	private final int length;
+	private final int stride;
+	
+	public PackedColumn(int rows, int precision, int stride)
+	{
+		length = precision / 2 + 1;
+		if (stride < length)
+			throw new IllegalArgumentException("A stride of " + stride + " is shorter than a packed decimal of precision " + precision);
+		
+		this.rows = rows;
+		this.precision = precision;
+		this.stride = stride;
+		data = new byte[rows * stride];
+	}
+	
+	/**
+	 * @return a column of random values of up to precision digits, negative
+	 *         with the given probability
+	 */
+	public static PackedColumn generate(int rows, int precision, int stride, double negative)
+	{
+		PackedColumn column = new PackedColumn(rows, precision, stride);
+		DecimalGenerator generator = DecimalGenerator.currentWithLeadingZeros();
+		Random random = TestRandom.getRandom();
+		
+		for (int row = 0; row < rows; ++row)
+			generator.packed(column.data, column.offset(row), precision, random.nextDouble() < negative);
+		return column;
+	}
+	
+	public byte[] getData()
+	{
+		return data;
+	}
+	
+	public int getRows()
+	{
+		return rows;
+	}
+	
+	public int getPrecision()
+	{
+		return precision;
+	}
+	
+	/**
+	 * @return the length in bytes of each packed decimal
+	 */
+	public int getLength()
+	{
+		return length;
+	}
+	
+	public int getStride()
+	{
+		return stride;
+	}
+	
+	/**
+	 * @return the offset in getData() of the packed decimal of row
+	 */
+	public int offset(int row)
+	{
+		return row * stride;
+	}
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.columns;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A reduction over a range of rows that can run on the calling thread or as a
+ * fork/join task splitting the range in halves down to a threshold.
+ */
+public abstract class Reduction<T>
+{
+	/**
+	 * @return the result for the rows from inclusive to exclusive
+	 */
+	protected abstract T reduce(int from, int to);
+	
+	/**
+	 * @return the result for the rows of both results, first coming before second
+	 */
+	protected abstract T combine(T first, T second);
+	
+	public T serial(int rows)
+	{
+		return reduce(0, rows);
+	}
+	
+	public T parallel(ForkJoinPool pool, int rows, int threshold)
+	{
+		return pool.invoke(new Task(0, rows, Math.max(1, threshold)));
+	}
+	
+	@SuppressWarnings("serial")
+	private final class Task extends RecursiveTask<T>
+	{
+		private final int from;
+		private final int to;
+		private final int threshold;
+		
+		Task(int from, int to, int threshold)
+		{
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+		
+		protected T compute()
+		{
+			if (to - from <= threshold)
+				return reduce(from, to);
+			
+			int middle = (from + to) >>> 1;
+			Task second = new Task(middle, to, threshold);
+			second.fork();
+			T first = new Task(from, middle, threshold).compute();
+			return combine(first, second.join());
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.columns;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A stable merge sort of row numbers by an order on the rows, on the calling
+ * thread or as fork/join tasks sorting the halves in parallel.
+ */
+public abstract class RowSort
+{
+	// Below this many rows a run is sorted by insertion
+	static final int INSERTION_ROWS = 16;
+	
+	/**
+	 * @return true if row first sorts strictly before row second
+	 */
+	protected abstract boolean before(int first, int second);
+	
+	/**
+	 * @return the rows from 0 to count sorted
+	 */
+	public int[] serial(int count)
+	{
+		int[] rows = identity(count);
+		sort(rows, new int[count], 0, count);
+		return rows;
+	}
+	
+	public int[] parallel(ForkJoinPool pool, int count, int threshold)
+	{
+		int[] rows = identity(count);
+		pool.invoke(new Task(rows, new int[count], 0, count, Math.max(INSERTION_ROWS, threshold)));
+		return rows;
+	}
+	
+	static int[] identity(int count)
+	{
+		int[] rows = new int[count];
+		for (int i = 0; i < count; ++i)
+			rows[i] = i;
+		return rows;
+	}
+	
+	void sort(int[] rows, int[] scratch, int from, int to)
+	{
+		if (to - from <= INSERTION_ROWS)
+		{
+			for (int i = from + 1; i < to; ++i)
+			{
+				int row = rows[i];
+				int j = i;
+				for (; j > from && before(row, rows[j - 1]); --j)
+					rows[j] = rows[j - 1];
+				rows[j] = row;
+			}
+			return;
+		}
+		
+		int middle = (from + to) >>> 1;
+		sort(rows, scratch, from, middle);
+		sort(rows, scratch, middle, to);
+		merge(rows, scratch, from, middle, to);
+	}
+	
+	// Merges the sorted runs from to middle and middle to to, taking from the first run on ties
+	void merge(int[] rows, int[] scratch, int from, int middle, int to)
+	{
+		if (!before(rows[middle], rows[middle - 1]))
+			return;
+		
+		System.arraycopy(rows, from, scratch, from, to - from);
+		int i = from;
+		int j = middle;
+		for (int k = from; k < to; ++k)
+		{
+			if (j >= to || (i < middle && !before(scratch[j], scratch[i])))
+				rows[k] = scratch[i++];
+			else
+				rows[k] = scratch[j++];
+		}
+	}
+	
+	@SuppressWarnings("serial")
+	private final class Task extends RecursiveAction
+	{
+		private final int[] rows;
+		private final int[] scratch;
+		private final int from;
+		private final int to;
+		private final int threshold;
+		
+		Task(int[] rows, int[] scratch, int from, int to, int threshold)
+		{
+			this.rows = rows;
+			this.scratch = scratch;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+		
+		protected void compute()
+		{
+			if (to - from <= threshold)
+			{
+				sort(rows, scratch, from, to);
+				return;
+			}
+			
+			int middle = (from + to) >>> 1;
+			invokeAll(new Task(rows, scratch, from, middle, threshold), new Task(rows, scratch, middle, to, threshold));
+			merge(rows, scratch, from, middle, to);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.columns;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.openj9.test.DecimalGenerator;
+
+/**
+ * Checks the packed decimal queries of ColumnAnalytics against BigIntegers
+ * and runs the workload, over -Ddaa.columnRows rows, 50000 by default.
+ */
+public class TestColumnAnalytics
+{
+	static final int DEFAULT_ROWS = 50000;
+	
+	static ForkJoinPool pool;
+	
+	@BeforeClass
+	public static void createPool()
+	{
+		pool = new ForkJoinPool(4);
+	}
+	
+	@AfterClass
+	public static void shutdownPool()
+	{
+		pool.shutdown();
+	}
+	
+	static int rows()
+	{
+		return Integer.getInteger("daa.columnRows", DEFAULT_ROWS);
+	}
+	
+	static BigInteger amount(PackedColumn amounts, int row)
+	{
+		return DecimalGenerator.toBigInteger(amounts.getData(), amounts.offset(row), amounts.getPrecision());
+	}
+	
+	@Test
+	public void testPackedQueries()
+	{
+		int rows = rows();
+		PackedColumn amounts = PackedColumn.generate(rows, ColumnAnalytics.AMOUNT_PRECISION, 11, ColumnAnalytics.NEGATIVE);
+		PackedColumn keys = PackedColumn.generate(rows, ColumnAnalytics.KEY_PRECISION, 3, 0);
+		ColumnAnalytics analytics = new ColumnAnalytics(amounts, keys, pool);
+		ColumnAnalytics.Engine engine = analytics.new PackedEngine();
+		
+		int count = 0;
+		BigInteger sum = BigInteger.ZERO;
+		BigInteger[] groupSums = new BigInteger[ColumnAnalytics.GROUPS];
+		Arrays.fill(groupSums, BigInteger.ZERO);
+		for (int row = 0; row < rows; ++row)
+		{
+			BigInteger amount = amount(amounts, row);
+			if (amount.signum() > 0 && amount.compareTo(BigInteger.valueOf(ColumnAnalytics.FILTER_UPPER)) <= 0)
+				++count;
+			sum = sum.add(amount);
+			int group = DecimalGenerator.toBigInteger(keys.getData(), keys.offset(row), keys.getPrecision()).intValue();
+			groupSums[group] = groupSums[group].add(amount);
+		}
+		
+		for (boolean parallel : new boolean[] { false, true })
+		{
+			assertEquals(count, engine.filter(parallel).intValue());
+			assertEquals(sum, engine.sum(parallel));
+			assertArrayEquals(groupSums, engine.groupSums(parallel));
+			
+			int[] sorted = engine.sort(parallel);
+			assertEquals(rows, sorted.length);
+			for (int i = 1; i < rows; ++i)
+			{
+				int order = amount(amounts, sorted[i - 1]).compareTo(amount(amounts, sorted[i]));
+				assertTrue("Rows " + sorted[i - 1] + " and " + sorted[i] + " out of order", order < 0 || (order == 0 && sorted[i - 1] < sorted[i]));
+			}
+		}
+	}
+	
+	@Test
+	public void testWorkload()
+	{
+		// Fails if any engine disagrees with the serial packed engine, which testPackedQueries checks
+		ColumnAnalytics.generate(rows(), pool).run(1);
+	}
+}
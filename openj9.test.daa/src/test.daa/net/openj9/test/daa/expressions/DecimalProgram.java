@@ -0,0 +1,595 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.expressions;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+
+import net.openj9.test.DecimalGenerator;
+import net.openj9.test.daa.records.RecordLayout;
+import net.openj9.test.daa.records.RecordLayout.Field;
+import net.openj9.test.daa.records.RecordLayout.Kind;
+
+/**
+ * A COBOL COMPUTE statement over the packed decimal fields of a working
+ * storage record, compiled to a tree of PackedDecimal operations:
+ * 
+ * COMPUTE target [ROUNDED] = expression [.]
+ * 
+ * where the expression has the fields of the record, unsigned decimal
+ * literals, + - * / and parentheses, and a leading - negates. As in COBOL,
+ * names may hold hyphens, so a - between names needs spaces around it.
+ * 
+ * Each intermediate result is a packed decimal of a precision and scale
+ * fixed when compiling: a sum keeps the larger scale, shifting the other
+ * operand left with shiftLeftPackedDecimal, and one more integer digit than
+ * its operands; a product adds their precisions and scales; a quotient is
+ * truncated at one digit more than the scale of the target, or at the scale
+ * of the dividend if that is larger. The result is then moved to the target,
+ * with shiftRightPackedDecimal rounding half up when ROUNDED and truncating
+ * otherwise. Every operation checks for overflow, so a result too large for
+ * the target, like a division by zero, throws an ArithmeticException.
+ * 
+ * The statement runs on a frame, a byte[] holding the record followed by the
+ * literals and the intermediate results, by walking the tree, by a
+ * MethodHandle chaining the operations, or by BigDecimal arithmetic for
+ * reference.
+ */
+public class DecimalProgram
+{
+	public static final int MAX_PRECISION = 31;
+	
+	static final MethodHandle ADD;
+	static final MethodHandle SUBTRACT;
+	static final MethodHandle MULTIPLY;
+	static final MethodHandle DIVIDE;
+	static final MethodHandle SHIFT_LEFT;
+	static final MethodHandle SHIFT_RIGHT;
+	static final MethodHandle MOVE;
+	static
+	{
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		MethodType arithmetic = MethodType.methodType(void.class, byte[].class, int.class, int.class, byte[].class, int.class, int.class, byte[].class,
+				int.class, int.class, boolean.class);
+		try
+		{
+			ADD = lookup.findStatic(PackedDecimal.class, "addPackedDecimal", arithmetic);
+			SUBTRACT = lookup.findStatic(PackedDecimal.class, "subtractPackedDecimal", arithmetic);
+			MULTIPLY = lookup.findStatic(PackedDecimal.class, "multiplyPackedDecimal", arithmetic);
+			DIVIDE = lookup.findStatic(PackedDecimal.class, "dividePackedDecimal", arithmetic);
+			SHIFT_LEFT = lookup.findStatic(PackedDecimal.class, "shiftLeftPackedDecimal", MethodType.methodType(void.class, byte[].class, int.class,
+					int.class, byte[].class, int.class, int.class, int.class, boolean.class));
+			SHIFT_RIGHT = lookup.findStatic(PackedDecimal.class, "shiftRightPackedDecimal", MethodType.methodType(void.class, byte[].class, int.class,
+					int.class, byte[].class, int.class, int.class, int.class, boolean.class, boolean.class));
+			MOVE = lookup.findStatic(PackedDecimal.class, "movePackedDecimal", MethodType.methodType(void.class, byte[].class, int.class, int.class,
+					byte[].class, int.class, int.class, boolean.class));
+		}
+		catch (ReflectiveOperationException e)
+		{
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+	
+	// The type of a compiled statement, which runs on a frame
+	static final MethodType FRAME_TYPE = MethodType.methodType(void.class, byte[].class);
+	
+	/**
+	 * A packed decimal in the frame, and the operations that compute it.
+	 */
+	abstract static class Node
+	{
+		final int offset;
+		final int precision;
+		final int scale;
+		
+		Node(int offset, int precision, int scale)
+		{
+			this.offset = offset;
+			this.precision = precision;
+			this.scale = scale;
+		}
+		
+		int integerDigits()
+		{
+			return precision - scale;
+		}
+		
+		abstract void evaluate(byte[] frame);
+		
+		/**
+		 * @return a handle computing the node on a frame, null if there is nothing to compute
+		 */
+		abstract MethodHandle compile();
+		
+		abstract BigDecimal reference(byte[] frame);
+	}
+	
+	/**
+	 * A field of the record or a literal.
+	 */
+	static final class Operand extends Node
+	{
+		Operand(int offset, int precision, int scale)
+		{
+			super(offset, precision, scale);
+		}
+		
+		void evaluate(byte[] frame)
+		{
+		}
+		
+		MethodHandle compile()
+		{
+			return null;
+		}
+		
+		BigDecimal reference(byte[] frame)
+		{
+			return DecimalGenerator.toBigDecimal(frame, offset, precision, scale);
+		}
+	}
+	
+	static final class Binary extends Node
+	{
+		final char operator;
+		final Node left;
+		final Node right;
+		
+		Binary(int offset, int precision, int scale, char operator, Node left, Node right)
+		{
+			super(offset, precision, scale);
+			this.operator = operator;
+			this.left = left;
+			this.right = right;
+		}
+		
+		void evaluate(byte[] frame)
+		{
+			left.evaluate(frame);
+			right.evaluate(frame);
+			switch (operator)
+			{
+				case '+':
+					PackedDecimal.addPackedDecimal(frame, offset, precision, frame, left.offset, left.precision, frame, right.offset, right.precision, true);
+					break;
+				case '-':
+					PackedDecimal.subtractPackedDecimal(frame, offset, precision, frame, left.offset, left.precision, frame, right.offset, right.precision, true);
+					break;
+				case '*':
+					PackedDecimal.multiplyPackedDecimal(frame, offset, precision, frame, left.offset, left.precision, frame, right.offset, right.precision, true);
+					break;
+				default:
+					PackedDecimal.dividePackedDecimal(frame, offset, precision, frame, left.offset, left.precision, frame, right.offset, right.precision, true);
+					break;
+			}
+		}
+		
+		MethodHandle compile()
+		{
+			MethodHandle operation = operator == '+' ? ADD : operator == '-' ? SUBTRACT : operator == '*' ? MULTIPLY : DIVIDE;
+			operation = MethodHandles.insertArguments(operation, 7, right.offset, right.precision, true);
+			operation = MethodHandles.insertArguments(operation, 4, left.offset, left.precision);
+			operation = MethodHandles.insertArguments(operation, 1, offset, precision);
+			return chain(MethodHandles.permuteArguments(operation, FRAME_TYPE, 0, 0, 0), left.compile(), right.compile());
+		}
+		
+		BigDecimal reference(byte[] frame)
+		{
+			BigDecimal a = left.reference(frame);
+			BigDecimal b = right.reference(frame);
+			switch (operator)
+			{
+				case '+':
+					return a.add(b);
+				case '-':
+					return a.subtract(b);
+				case '*':
+					return a.multiply(b);
+				default:
+					return a.divide(b, scale, RoundingMode.DOWN);
+			}
+		}
+	}
+	
+	/**
+	 * Moves a node to another scale, or to the target.
+	 */
+	static final class Shift extends Node
+	{
+		final Node source;
+		final boolean round;
+		
+		Shift(int offset, int precision, int scale, Node source, boolean round)
+		{
+			super(offset, precision, scale);
+			this.source = source;
+			this.round = round;
+		}
+		
+		void evaluate(byte[] frame)
+		{
+			source.evaluate(frame);
+			if (scale > source.scale)
+				PackedDecimal.shiftLeftPackedDecimal(frame, offset, precision, frame, source.offset, source.precision, scale - source.scale, true);
+			else if (scale < source.scale)
+				PackedDecimal.shiftRightPackedDecimal(frame, offset, precision, frame, source.offset, source.precision, source.scale - scale, round, true);
+			else
+				PackedDecimal.movePackedDecimal(frame, offset, precision, frame, source.offset, source.precision, true);
+		}
+		
+		MethodHandle compile()
+		{
+			MethodHandle operation;
+			if (scale > source.scale)
+				operation = MethodHandles.insertArguments(SHIFT_LEFT, 4, source.offset, source.precision, scale - source.scale, true);
+			else if (scale < source.scale)
+				operation = MethodHandles.insertArguments(SHIFT_RIGHT, 4, source.offset, source.precision, source.scale - scale, round, true);
+			else
+				operation = MethodHandles.insertArguments(MOVE, 4, source.offset, source.precision, true);
+			operation = MethodHandles.insertArguments(operation, 1, offset, precision);
+			return chain(MethodHandles.permuteArguments(operation, FRAME_TYPE, 0, 0), source.compile());
+		}
+		
+		BigDecimal reference(byte[] frame)
+		{
+			BigDecimal value = source.reference(frame).setScale(scale, round ? RoundingMode.HALF_UP : RoundingMode.DOWN);
+			if (value.unscaledValue().abs().compareTo(BigInteger.TEN.pow(precision)) >= 0)
+				throw new ArithmeticException(value + " doesn't fit in " + precision + " digits");
+			return value;
+		}
+	}
+	
+	// Runs the operands, first to last, before operation
+	static MethodHandle chain(MethodHandle operation, MethodHandle... operands)
+	{
+		for (int i = operands.length - 1; i >= 0; --i)
+		{
+			if (operands[i] != null)
+				operation = MethodHandles.foldArguments(operation, operands[i]);
+		}
+		return operation;
+	}
+	
+	private final String statement;
+	private final RecordLayout workingStorage;
+	private final Field target;
+	private final boolean rounded;
+	private final Node root;
+	private final Node result;
+	private final byte[] frameTemplate;
+	
+	private DecimalProgram(String statement, RecordLayout workingStorage, Field target, boolean rounded, Node root, Node result, byte[] frameTemplate)
+	{
+		this.statement = statement;
+		this.workingStorage = workingStorage;
+		this.target = target;
+		this.rounded = rounded;
+		this.root = root;
+		this.result = result;
+		this.frameTemplate = frameTemplate;
+	}
+	
+	/**
+	 * @throws IllegalArgumentException if the statement is not a COMPUTE of
+	 *         packed decimal fields of workingStorage, or needs an intermediate
+	 *         result of more than MAX_PRECISION digits
+	 */
+	public static DecimalProgram compile(String statement, RecordLayout workingStorage)
+	{
+		return new Parser(statement, workingStorage).parseStatement();
+	}
+	
+	public String getStatement()
+	{
+		return statement;
+	}
+	
+	public RecordLayout getWorkingStorage()
+	{
+		return workingStorage;
+	}
+	
+	public Field getTarget()
+	{
+		return target;
+	}
+	
+	public boolean isRounded()
+	{
+		return rounded;
+	}
+	
+	/**
+	 * @return the number of integer digits the expression may have, before it is moved to the target
+	 */
+	public int getResultIntegerDigits()
+	{
+		return result.integerDigits();
+	}
+	
+	/**
+	 * @return a frame for the statement, with its literals set; the record goes at offset 0
+	 */
+	public byte[] newFrame()
+	{
+		return frameTemplate.clone();
+	}
+	
+	/**
+	 * Runs the statement on frame by walking the tree of operations.
+	 */
+	public void interpret(byte[] frame)
+	{
+		root.evaluate(frame);
+	}
+	
+	/**
+	 * @return a handle of type (byte[])void running the statement on a frame
+	 */
+	public MethodHandle toMethodHandle()
+	{
+		return root.compile();
+	}
+	
+	/**
+	 * @return the value the statement stores in the target of frame, computed with BigDecimals
+	 */
+	public BigDecimal reference(byte[] frame)
+	{
+		return root.reference(frame);
+	}
+	
+	public String toString()
+	{
+		return statement;
+	}
+	
+	/**
+	 * A recursive descent parser, allocating the frame as it goes.
+	 */
+	static final class Parser
+	{
+		final String statement;
+		final RecordLayout workingStorage;
+		final List<String> tokens = new ArrayList<String>();
+		int next;
+		
+		// The literals to write into each frame, and the length of the frame so far
+		final List<byte[]> literals = new ArrayList<byte[]>();
+		final List<Integer> literalOffsets = new ArrayList<Integer>();
+		int frameLength;
+		
+		// The scale of the target, which sets the scale of the quotients
+		int targetScale;
+		
+		Parser(String statement, RecordLayout workingStorage)
+		{
+			this.statement = statement;
+			this.workingStorage = workingStorage;
+			frameLength = workingStorage.getRecordLength();
+			tokenize();
+		}
+		
+		private void tokenize()
+		{
+			for (int i = 0; i < statement.length();)
+			{
+				char c = statement.charAt(i);
+				if (Character.isWhitespace(c))
+				{
+					++i;
+				}
+				else if (Character.isLetter(c))
+				{
+					int start = i;
+					while (i < statement.length()
+							&& (Character.isLetterOrDigit(statement.charAt(i)) || (statement.charAt(i) == '-' && i + 1 < statement.length() && Character.isLetterOrDigit(statement.charAt(i + 1)))))
+						++i;
+					tokens.add(statement.substring(start, i).toUpperCase());
+				}
+				else if (Character.isDigit(c))
+				{
+					int start = i;
+					while (i < statement.length() && (Character.isDigit(statement.charAt(i))
+							|| (statement.charAt(i) == '.' && i + 1 < statement.length() && Character.isDigit(statement.charAt(i + 1)))))
+						++i;
+					tokens.add(statement.substring(start, i));
+				}
+				else if ("+-*/()=.".indexOf(c) >= 0)
+				{
+					tokens.add(String.valueOf(c));
+					++i;
+				}
+				else
+				{
+					throw error("Unexpected character '" + c + "'");
+				}
+			}
+		}
+		
+		IllegalArgumentException error(String message)
+		{
+			return new IllegalArgumentException(message + " in " + statement);
+		}
+		
+		String peek()
+		{
+			return next < tokens.size() ? tokens.get(next) : null;
+		}
+		
+		String take()
+		{
+			if (next >= tokens.size())
+				throw error("Unexpected end");
+			return tokens.get(next++);
+		}
+		
+		void expect(String token)
+		{
+			String found = take();
+			if (!found.equals(token))
+				throw error("Expected " + token + " but found " + found);
+		}
+		
+		int allocate(int precision)
+		{
+			if (precision > MAX_PRECISION)
+				throw error("An intermediate result needs " + precision + " digits, more than " + MAX_PRECISION);
+			int offset = frameLength;
+			frameLength += precision / 2 + 1;
+			return offset;
+		}
+		
+		DecimalProgram parseStatement()
+		{
+			expect("COMPUTE");
+			Field target = field(take());
+			boolean rounded = "ROUNDED".equals(peek());
+			if (rounded)
+				take();
+			expect("=");
+			targetScale = target.getScale();
+			
+			Node result = parseExpression();
+			if (".".equals(peek()))
+				take();
+			if (peek() != null)
+				throw error("Unexpected " + peek());
+			
+			Node root = new Shift(target.getOffset(), target.getPrecision(), target.getScale(), result, rounded);
+			
+			byte[] frame = new byte[frameLength];
+			for (int i = 0; i < literals.size(); ++i)
+				System.arraycopy(literals.get(i), 0, frame, literalOffsets.get(i), literals.get(i).length);
+			return new DecimalProgram(statement, workingStorage, target, rounded, root, result, frame);
+		}
+		
+		Field field(String name)
+		{
+			Field field = workingStorage.getField(name);
+			if (field == null)
+				throw error("Unknown field " + name);
+			if (field.getKind() != Kind.PACKED)
+				throw error(name + " is not a packed decimal");
+			return field;
+		}
+		
+		Node parseExpression()
+		{
+			Node node = parseTerm();
+			while ("+".equals(peek()) || "-".equals(peek()))
+				node = arithmetic(take().charAt(0), node, parseTerm());
+			return node;
+		}
+		
+		Node parseTerm()
+		{
+			Node node = parseFactor();
+			while ("*".equals(peek()) || "/".equals(peek()))
+				node = arithmetic(take().charAt(0), node, parseFactor());
+			return node;
+		}
+		
+		Node parseFactor()
+		{
+			String token = take();
+			if (token.equals("("))
+			{
+				Node node = parseExpression();
+				expect(")");
+				return node;
+			}
+			if (token.equals("-"))
+			{
+				Node operand = parseFactor();
+				return arithmetic('-', literal("0"), operand);
+			}
+			if (Character.isDigit(token.charAt(0)))
+				return literal(token);
+			
+			Field field = field(token);
+			return new Operand(field.getOffset(), field.getPrecision(), field.getScale());
+		}
+		
+		Node literal(String token)
+		{
+			BigDecimal value = new BigDecimal(token);
+			int scale = Math.max(0, value.scale());
+			int precision = Math.max(1, value.precision() - value.scale() + scale);
+			
+			byte[] packed = new byte[precision / 2 + 1];
+			DecimalData.convertBigDecimalToPackedDecimal(value.setScale(scale), packed, 0, precision, true);
+			int offset = allocate(precision);
+			literals.add(packed);
+			literalOffsets.add(offset);
+			return new Operand(offset, precision, scale);
+		}
+		
+		// Moves node to a larger scale
+		Node rescale(Node node, int scale)
+		{
+			if (scale == node.scale)
+				return node;
+			int precision = node.precision + scale - node.scale;
+			return new Shift(allocate(precision), precision, scale, node, false);
+		}
+		
+		Node arithmetic(char operator, Node left, Node right)
+		{
+			switch (operator)
+			{
+				case '+':
+				case '-':
+				{
+					int scale = Math.max(left.scale, right.scale);
+					int precision = Math.max(left.integerDigits(), right.integerDigits()) + 1 + scale;
+					left = rescale(left, scale);
+					right = rescale(right, scale);
+					return new Binary(allocate(precision), precision, scale, operator, left, right);
+				}
+				case '*':
+				{
+					int precision = left.precision + right.precision;
+					return new Binary(allocate(precision), precision, left.scale + right.scale, operator, left, right);
+				}
+				default:
+				{
+					// Shift the dividend so that the integer quotient has the scale wanted
+					int scale = Math.max(left.scale, targetScale + 1);
+					left = rescale(left, scale + right.scale);
+					return new Binary(allocate(left.precision), left.precision, scale, operator, left, right);
+				}
+			}
+		}
+	}
+}
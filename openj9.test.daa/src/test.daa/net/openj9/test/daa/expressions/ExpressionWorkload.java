@@ -0,0 +1,311 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.expressions;
+
+import java.lang.invoke.MethodHandle;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import net.openj9.test.DecimalGenerator;
+import net.openj9.test.TestRandom;
+import net.openj9.test.daa.records.Copybook;
+import net.openj9.test.daa.records.RecordLayout;
+import net.openj9.test.daa.records.RecordLayout.Field;
+
+/**
+ * Generates random COMPUTE statements over a working storage record of
+ * packed decimal fields and runs each over a set of random records, by
+ * walking the DecimalProgram tree and by invoking its MethodHandle chain,
+ * and reports the statements run per second of each. How far the handles
+ * beat the interpreter shows how well the JIT inlines and intrinsifies a
+ * chain of DAA calls.
+ * 
+ * Before timing, every statement is checked on every record: both ways must
+ * store the value computed with BigDecimals, or both throw an
+ * ArithmeticException where the BigDecimals do, on a division by zero.
+ * 
+ * Usage: ExpressionWorkload [statements (default 1000)] [records (default 256)] [passes (default 3)]
+ */
+public class ExpressionWorkload
+{
+	public static final String WORKING_STORAGE =
+			"01  WORKING-STORAGE.\n" +
+			"    05  QUANTITY        PIC S9(5) COMP-3.\n" +
+			"    05  PRICE           PIC S9(7)V99 COMP-3.\n" +
+			"    05  RATE            PIC SV9(5) COMP-3.\n" +
+			"    05  DISCOUNT        PIC S9(3)V99 COMP-3.\n" +
+			"    05  TAX-RATE        PIC S9V9(4) COMP-3.\n" +
+			"    05  FEE             PIC S9(5)V99 COMP-3.\n" +
+			"    05  DAYS            PIC S9(3) COMP-3.\n" +
+			"    05  BALANCE         PIC S9(9)V99 COMP-3.\n" +
+			"    05  TOTAL           PIC S9(17)V99 COMP-3.\n" +
+			"    05  AVERAGE         PIC S9(11)V9(6) COMP-3.\n";
+	
+	// The fields the statements read, and the ones they compute
+	static final String[] OPERANDS = { "QUANTITY", "PRICE", "RATE", "DISCOUNT", "TAX-RATE", "FEE", "DAYS", "BALANCE" };
+	static final String[] TARGETS = { "TOTAL", "AVERAGE" };
+	
+	static final String[] LITERALS = { "1", "2", "12", "100", "360", "0.5", "1.05", "0.0825", "1000" };
+	
+	static final int MAX_DEPTH = 4;
+	
+	public static final class Result
+	{
+		final String engine;
+		final long statements;
+		final long nanos;
+		
+		Result(String engine, long statements, long nanos)
+		{
+			this.engine = engine;
+			this.statements = statements;
+			this.nanos = nanos;
+		}
+		
+		public double getStatementsPerSecond()
+		{
+			return statements / (nanos / 1e9);
+		}
+		
+		public String toString()
+		{
+			return String.format("%-14s %,15.0f statements/s", engine, getStatementsPerSecond());
+		}
+	}
+	
+	private final RecordLayout workingStorage;
+	private final List<DecimalProgram> programs = new ArrayList<DecimalProgram>();
+	private final List<MethodHandle> handles = new ArrayList<MethodHandle>();
+	private final byte[][] records;
+	
+	public ExpressionWorkload(int statements, int recordCount)
+	{
+		workingStorage = Copybook.parse(WORKING_STORAGE);
+		Random random = TestRandom.getRandom();
+		
+		while (programs.size() < statements)
+		{
+			Field target = workingStorage.getField(TARGETS[random.nextInt(TARGETS.length)]);
+			String statement = "COMPUTE " + target.getName() + (random.nextBoolean() ? " ROUNDED" : "") + " = " + expression(random, 0) + ".";
+			
+			// Keep only the statements whose result can't overflow the target
+			DecimalProgram program;
+			try
+			{
+				program = DecimalProgram.compile(statement, workingStorage);
+			}
+			catch (IllegalArgumentException e)
+			{
+				continue;
+			}
+			if (program.getResultIntegerDigits() <= target.getPrecision() - target.getScale())
+			{
+				programs.add(program);
+				handles.add(program.toMethodHandle());
+			}
+		}
+		
+		DecimalGenerator generator = DecimalGenerator.currentWithLeadingZeros();
+		records = new byte[recordCount][workingStorage.getRecordLength()];
+		for (byte[] record : records)
+		{
+			for (Field field : workingStorage.getFields())
+				generator.packed(record, field.getOffset(), field.getPrecision(), random.nextInt(4) == 0);
+		}
+	}
+	
+	static String expression(Random random, int depth)
+	{
+		if (depth == MAX_DEPTH || (depth > 0 && random.nextInt(3) == 0))
+		{
+			if (random.nextInt(4) == 0)
+				return LITERALS[random.nextInt(LITERALS.length)];
+			return OPERANDS[random.nextInt(OPERANDS.length)];
+		}
+		
+		String left = expression(random, depth + 1);
+		String right = expression(random, depth + 1);
+		char operator = "+-*/".charAt(random.nextInt(4));
+		String expression = left + " " + operator + " " + right;
+		if (random.nextInt(8) == 0)
+			expression = "-(" + expression + ")";
+		return depth == 0 ? expression : "(" + expression + ")";
+	}
+	
+	public List<DecimalProgram> getPrograms()
+	{
+		return programs;
+	}
+	
+	/**
+	 * Checks every statement on every record.
+	 * 
+	 * @throws AssertionError if the tree, the handles and the BigDecimals disagree
+	 */
+	public void verify() throws Throwable
+	{
+		for (int i = 0; i < programs.size(); ++i)
+		{
+			DecimalProgram program = programs.get(i);
+			Field target = program.getTarget();
+			
+			for (byte[] record : records)
+			{
+				byte[] frame = load(program.newFrame(), record);
+				String expected;
+				try
+				{
+					expected = program.reference(frame).toPlainString();
+				}
+				catch (ArithmeticException e)
+				{
+					expected = "ArithmeticException";
+				}
+				
+				String interpreted;
+				try
+				{
+					program.interpret(frame);
+					interpreted = value(frame, target);
+				}
+				catch (ArithmeticException e)
+				{
+					interpreted = "ArithmeticException";
+				}
+				
+				frame = load(program.newFrame(), record);
+				String invoked;
+				try
+				{
+					handles.get(i).invokeExact(frame);
+					invoked = value(frame, target);
+				}
+				catch (ArithmeticException e)
+				{
+					invoked = "ArithmeticException";
+				}
+				
+				if (!expected.equals(interpreted) || !expected.equals(invoked))
+					throw new AssertionError(program + " gave " + interpreted + " interpreted and " + invoked + " through handles, expected " + expected
+							+ " from " + describe(record));
+			}
+		}
+	}
+	
+	static byte[] load(byte[] frame, byte[] record)
+	{
+		System.arraycopy(record, 0, frame, 0, record.length);
+		return frame;
+	}
+	
+	static String value(byte[] frame, Field field)
+	{
+		return DecimalGenerator.toBigDecimal(frame, field.getOffset(), field.getPrecision(), field.getScale()).toPlainString();
+	}
+	
+	String describe(byte[] record)
+	{
+		StringBuilder description = new StringBuilder();
+		for (String operand : OPERANDS)
+			description.append(operand).append('=').append(value(record, workingStorage.getField(operand))).append(' ');
+		return description.toString().trim();
+	}
+	
+	/**
+	 * Runs every statement on every record passes times each way, keeping the best time.
+	 */
+	public List<Result> run(int passes) throws Throwable
+	{
+		long interpreter = Long.MAX_VALUE;
+		long methodHandles = Long.MAX_VALUE;
+		byte[][] frames = new byte[programs.size()][];
+		for (int i = 0; i < frames.length; ++i)
+			frames[i] = programs.get(i).newFrame();
+		
+		for (int pass = 0; pass < passes; ++pass)
+		{
+			long start = System.nanoTime();
+			for (int i = 0; i < programs.size(); ++i)
+			{
+				DecimalProgram program = programs.get(i);
+				byte[] frame = frames[i];
+				for (byte[] record : records)
+				{
+					System.arraycopy(record, 0, frame, 0, record.length);
+					try
+					{
+						program.interpret(frame);
+					}
+					catch (ArithmeticException e)
+					{
+					}
+				}
+			}
+			interpreter = Math.min(interpreter, System.nanoTime() - start);
+			
+			start = System.nanoTime();
+			for (int i = 0; i < programs.size(); ++i)
+			{
+				MethodHandle handle = handles.get(i);
+				byte[] frame = frames[i];
+				for (byte[] record : records)
+				{
+					System.arraycopy(record, 0, frame, 0, record.length);
+					try
+					{
+						handle.invokeExact(frame);
+					}
+					catch (ArithmeticException e)
+					{
+					}
+				}
+			}
+			methodHandles = Math.min(methodHandles, System.nanoTime() - start);
+		}
+		
+		long statements = (long) programs.size() * records.length;
+		List<Result> results = new ArrayList<Result>();
+		results.add(new Result("interpreter", statements, interpreter));
+		results.add(new Result("method handles", statements, methodHandles));
+		return results;
+	}
+	
+	public static void main(String[] args) throws Throwable
+	{
+		int statements = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+		int records = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+		int passes = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+		
+		System.out.println("ExpressionWorkload: " + statements + " statements, " + records + " records, " + passes + " passes");
+		ExpressionWorkload workload = new ExpressionWorkload(statements, records);
+		for (int i = 0; i < Math.min(3, statements); ++i)
+			System.out.println("ExpressionWorkload: " + workload.getPrograms().get(i));
+		
+		workload.verify();
+		for (Result result : workload.run(passes))
+			System.out.println(result);
+	}
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.expressions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.lang.invoke.MethodHandle;
+import java.math.BigDecimal;
+
+import org.junit.Test;
+
+import com.ibm.dataaccess.DecimalData;
+
+import net.openj9.test.DecimalGenerator;
+import net.openj9.test.daa.records.Copybook;
+import net.openj9.test.daa.records.RecordLayout;
+import net.openj9.test.daa.records.RecordLayout.Field;
+
+/**
+ * Checks COMPUTE statements of known results both ways, then runs
+ * ExpressionWorkload with -Ddaa.expressions statements, 200 by default.
+ */
+public class TestDecimalProgram
+{
+	static final int DEFAULT_STATEMENTS = 200;
+	
+	static final RecordLayout WORKING_STORAGE = Copybook.parse(ExpressionWorkload.WORKING_STORAGE + "    05  NAME PIC X(4).\n");
+	
+	static void set(byte[] frame, String name, String value)
+	{
+		Field field = WORKING_STORAGE.getField(name);
+		DecimalData.convertBigDecimalToPackedDecimal(new BigDecimal(value).setScale(field.getScale()), frame, field.getOffset(), field.getPrecision(), true);
+	}
+	
+	/**
+	 * @return the target after running the statement by the tree, after checking the handles store the same
+	 */
+	static String compute(String statement, String... values) throws Throwable
+	{
+		DecimalProgram program = DecimalProgram.compile(statement, WORKING_STORAGE);
+		Field target = program.getTarget();
+		
+		byte[] interpreted = program.newFrame();
+		for (int i = 0; i < values.length; i += 2)
+			set(interpreted, values[i], values[i + 1]);
+		byte[] invoked = interpreted.clone();
+		
+		program.interpret(interpreted);
+		MethodHandle handle = program.toMethodHandle();
+		handle.invokeExact(invoked);
+		
+		String result = DecimalGenerator.toBigDecimal(interpreted, target.getOffset(), target.getPrecision(), target.getScale()).toPlainString();
+		assertEquals(result, DecimalGenerator.toBigDecimal(invoked, target.getOffset(), target.getPrecision(), target.getScale()).toPlainString());
+		assertEquals(result, program.reference(interpreted).toPlainString());
+		return result;
+	}
+	
+	@Test
+	public void testArithmetic() throws Throwable
+	{
+		assertEquals("12347.50", compute("COMPUTE TOTAL = QUANTITY * PRICE + FEE.", "QUANTITY", "3", "PRICE", "4115.25", "FEE", "1.75"));
+		assertEquals("-6172.22", compute("COMPUTE TOTAL = (QUANTITY * PRICE - FEE) / -2", "QUANTITY", "3", "PRICE", "4115.25", "FEE", "1.31"));
+		assertEquals("1.050000", compute("COMPUTE AVERAGE = (1 + RATE) * 1", "RATE", "0.05"));
+		assertEquals("0.666666", compute("COMPUTE AVERAGE = DAYS / QUANTITY", "DAYS", "2", "QUANTITY", "3"));
+		assertEquals("0.666667", compute("COMPUTE AVERAGE ROUNDED = DAYS / QUANTITY", "DAYS", "2", "QUANTITY", "3"));
+		assertEquals("-0.666667", compute("COMPUTE AVERAGE ROUNDED = DAYS / QUANTITY", "DAYS", "-2", "QUANTITY", "3"));
+		assertEquals("33.33", compute("compute total rounded = balance * tax-rate / 3", "BALANCE", "1000", "TAX-RATE", "0.1"));
+		assertEquals("2.00", compute("COMPUTE TOTAL = TAX-RATE - -1.9", "TAX-RATE", "0.1"));
+	}
+	
+	@Test
+	public void testSizeErrors() throws Throwable
+	{
+		try
+		{
+			compute("COMPUTE AVERAGE = PRICE / QUANTITY", "PRICE", "1", "QUANTITY", "0");
+			fail("Divided by zero");
+		}
+		catch (ArithmeticException expected)
+		{
+		}
+		
+		try
+		{
+			compute("COMPUTE AVERAGE = BALANCE * 1000", "BALANCE", "999999999.99");
+			fail("Stored 999999999990 in S9(11)V9(6)");
+		}
+		catch (ArithmeticException expected)
+		{
+		}
+	}
+	
+	@Test
+	public void testInvalidStatements()
+	{
+		String[] statements = {
+			"TOTAL = PRICE",
+			"COMPUTE TOTAL = PRICE +",
+			"COMPUTE TOTAL = (PRICE",
+			"COMPUTE TOTAL = PRICE PRICE",
+			"COMPUTE TOTAL = COST",
+			"COMPUTE TOTAL = NAME",
+			"COMPUTE NAME = PRICE",
+			"COMPUTE TOTAL = PRICE ** 2",
+			"COMPUTE TOTAL = BALANCE * BALANCE * BALANCE"
+		};
+		
+		for (String statement : statements)
+		{
+			try
+			{
+				DecimalProgram.compile(statement, WORKING_STORAGE);
+				fail("Compiled " + statement);
+			}
+			catch (IllegalArgumentException expected)
+			{
+			}
+		}
+	}
+	
+	@Test
+	public void testWorkload() throws Throwable
+	{
+		int statements = Integer.getInteger("daa.expressions", DEFAULT_STATEMENTS);
+		ExpressionWorkload workload = new ExpressionWorkload(statements, 32);
+		workload.verify();
+		workload.run(1);
+	}
+}
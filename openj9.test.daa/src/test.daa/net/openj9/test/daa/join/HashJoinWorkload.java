@@ -0,0 +1,342 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.join;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.ibm.dataaccess.DecimalData;
+
+import net.openj9.test.DecimalGenerator;
+import net.openj9.test.TestRandom;
+
+/**
+ * Joins a file of transactions to a file of accounts on packed decimal
+ * account numbers and sums the transaction amounts of each account, once with
+ * PackedKeyTable working on the packed bytes and once with HashMaps keyed on
+ * BigDecimals converted from them. It reports the records/s of the build,
+ * probe and grouped sum of each, and the heap each table takes.
+ * 
+ * The account numbers are unique; a fraction of the transactions are for
+ * accounts that aren't in the accounts file, and go unmatched. Both ways
+ * must give the same matches and the same sums.
+ * 
+ * Usage: HashJoinWorkload [accounts (default 1000000)] [transactions (default 4 * accounts)] [passes (default 3)]
+ */
+public class HashJoinWorkload
+{
+	public static final int KEY_PRECISION = 12;
+	public static final int AMOUNT_PRECISION = 11;
+	public static final int AMOUNT_SCALE = 2;
+	
+	static final int KEY_LENGTH = KEY_PRECISION / 2 + 1;
+	static final int AMOUNT_LENGTH = AMOUNT_PRECISION / 2 + 1;
+	static final int TRANSACTION_LENGTH = KEY_LENGTH + AMOUNT_LENGTH;
+	
+	// Account number i is i * KEY_MULTIPLIER modulo 10^KEY_PRECISION, unique as KEY_MULTIPLIER is coprime to 10
+	static final long KEY_MODULUS = 1000000000000L;
+	static final long KEY_MULTIPLIER = 982451653L;
+	
+	// The fraction of transactions for accounts that don't exist
+	static final double UNMATCHED = 0.05;
+	
+	public static final class Result
+	{
+		final String operation;
+		final String table;
+		final long records;
+		final long nanos;
+		
+		Result(String operation, String table, long records, long nanos)
+		{
+			this.operation = operation;
+			this.table = table;
+			this.records = records;
+			this.nanos = nanos;
+		}
+		
+		public double getRecordsPerSecond()
+		{
+			return records / (nanos / 1e9);
+		}
+		
+		public String toString()
+		{
+			return String.format("%-10s %-8s %,15.0f records/s", operation, table, getRecordsPerSecond());
+		}
+	}
+	
+	private final int accountCount;
+	private final int transactionCount;
+	
+	// The account numbers, and the account number and amount of each transaction
+	private final byte[] accounts;
+	private final byte[] transactions;
+	
+	// The answers the packed table found, checked against the HashMaps
+	private long matched;
+	private long matchedChecksum;
+	private PackedKeyTable packedGroups;
+	
+	private long packedFootprint;
+	private long mapFootprint;
+	
+	public HashJoinWorkload(int accountCount, int transactionCount)
+	{
+		this.accountCount = accountCount;
+		this.transactionCount = transactionCount;
+		accounts = new byte[accountCount * KEY_LENGTH];
+		transactions = new byte[transactionCount * TRANSACTION_LENGTH];
+		
+		for (int account = 0; account < accountCount; ++account)
+			DecimalData.convertLongToPackedDecimal(accountNumber(account), accounts, account * KEY_LENGTH, KEY_PRECISION, true);
+		
+		DecimalGenerator generator = DecimalGenerator.currentWithLeadingZeros();
+		Random random = TestRandom.getRandom();
+		for (int transaction = 0; transaction < transactionCount; ++transaction)
+		{
+			int at = transaction * TRANSACTION_LENGTH;
+			int account = random.nextDouble() < UNMATCHED ? accountCount + random.nextInt(accountCount) : random.nextInt(accountCount);
+			DecimalData.convertLongToPackedDecimal(accountNumber(account), transactions, at, KEY_PRECISION, true);
+			generator.packed(transactions, at + KEY_LENGTH, AMOUNT_PRECISION, random.nextInt(4) == 0);
+		}
+	}
+	
+	static long accountNumber(int account)
+	{
+		return account * KEY_MULTIPLIER % KEY_MODULUS;
+	}
+	
+	/**
+	 * Runs each operation passes times with each table, keeping the best time.
+	 * 
+	 * @throws AssertionError if the tables give different answers
+	 */
+	public List<Result> run(int passes)
+	{
+		List<Result> results = new ArrayList<Result>();
+		long[] best = new long[6];
+		Arrays.fill(best, Long.MAX_VALUE);
+		
+		for (int pass = 0; pass < passes; ++pass)
+		{
+			long before = usedHeap();
+			long start = System.nanoTime();
+			PackedKeyTable table = buildPacked();
+			best[0] = Math.min(best[0], System.nanoTime() - start);
+			packedFootprint = usedHeap() - before;
+			
+			start = System.nanoTime();
+			probePacked(table);
+			best[1] = Math.min(best[1], System.nanoTime() - start);
+			table = null;
+			
+			start = System.nanoTime();
+			packedGroups = groupPacked();
+			best[2] = Math.min(best[2], System.nanoTime() - start);
+			
+			before = usedHeap();
+			start = System.nanoTime();
+			Map<BigDecimal, Integer> map = buildMap();
+			best[3] = Math.min(best[3], System.nanoTime() - start);
+			mapFootprint = usedHeap() - before;
+			
+			start = System.nanoTime();
+			probeMap(map);
+			best[4] = Math.min(best[4], System.nanoTime() - start);
+			map = null;
+			
+			start = System.nanoTime();
+			Map<BigDecimal, BigDecimal[]> groups = groupMap();
+			best[5] = Math.min(best[5], System.nanoTime() - start);
+			checkGroups(groups);
+		}
+		
+		results.add(new Result("build", "packed", accountCount, best[0]));
+		results.add(new Result("probe", "packed", transactionCount, best[1]));
+		results.add(new Result("group sum", "packed", transactionCount, best[2]));
+		results.add(new Result("build", "HashMap", accountCount, best[3]));
+		results.add(new Result("probe", "HashMap", transactionCount, best[4]));
+		results.add(new Result("group sum", "HashMap", transactionCount, best[5]));
+		return results;
+	}
+	
+	/**
+	 * @return the heap taken by the last PackedKeyTable built for the accounts
+	 */
+	public long getPackedFootprint()
+	{
+		return packedFootprint;
+	}
+	
+	/**
+	 * @return the heap taken by the last HashMap built for the accounts
+	 */
+	public long getMapFootprint()
+	{
+		return mapFootprint;
+	}
+	
+	public long getMatched()
+	{
+		return matched;
+	}
+	
+	/**
+	 * @return the account number and amount of each transaction, TRANSACTION_LENGTH bytes apart
+	 */
+	byte[] getTransactions()
+	{
+		return transactions;
+	}
+	
+	static long usedHeap()
+	{
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; ++i)
+			System.gc();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+	
+	PackedKeyTable buildPacked()
+	{
+		PackedKeyTable table = new PackedKeyTable(KEY_PRECISION, accountCount, false);
+		for (int account = 0; account < accountCount; ++account)
+			table.setValue(table.insert(accounts, account * KEY_LENGTH), account);
+		return table;
+	}
+	
+	// Counts the matched transactions and sums the account each matched
+	void probePacked(PackedKeyTable table)
+	{
+		long count = 0;
+		long checksum = 0;
+		for (int at = 0; at < transactions.length; at += TRANSACTION_LENGTH)
+		{
+			int slot = table.find(transactions, at);
+			if (slot >= 0)
+			{
+				++count;
+				checksum += table.getValue(slot);
+			}
+		}
+		matched = count;
+		matchedChecksum = checksum;
+	}
+	
+	PackedKeyTable groupPacked()
+	{
+		PackedKeyTable table = new PackedKeyTable(KEY_PRECISION, 1024, true);
+		for (int at = 0; at < transactions.length; at += TRANSACTION_LENGTH)
+			table.add(table.insert(transactions, at), transactions, at + KEY_LENGTH, AMOUNT_PRECISION);
+		return table;
+	}
+	
+	Map<BigDecimal, Integer> buildMap()
+	{
+		Map<BigDecimal, Integer> map = new HashMap<BigDecimal, Integer>(accountCount * 4 / 3 + 1);
+		for (int account = 0; account < accountCount; ++account)
+			map.put(DecimalData.convertPackedDecimalToBigDecimal(accounts, account * KEY_LENGTH, KEY_PRECISION, 0, false), account);
+		return map;
+	}
+	
+	void probeMap(Map<BigDecimal, Integer> map)
+	{
+		long count = 0;
+		long checksum = 0;
+		for (int at = 0; at < transactions.length; at += TRANSACTION_LENGTH)
+		{
+			Integer account = map.get(DecimalData.convertPackedDecimalToBigDecimal(transactions, at, KEY_PRECISION, 0, false));
+			if (account != null)
+			{
+				++count;
+				checksum += account;
+			}
+		}
+		
+		if (count != matched || checksum != matchedChecksum)
+			throw new AssertionError("The HashMap matched " + count + " transactions with checksum " + checksum + ", the packed table " + matched
+					+ " with checksum " + matchedChecksum);
+	}
+	
+	// Holds the total and the count of each account in a BigDecimal[2]
+	Map<BigDecimal, BigDecimal[]> groupMap()
+	{
+		Map<BigDecimal, BigDecimal[]> groups = new HashMap<BigDecimal, BigDecimal[]>();
+		for (int at = 0; at < transactions.length; at += TRANSACTION_LENGTH)
+		{
+			BigDecimal key = DecimalData.convertPackedDecimalToBigDecimal(transactions, at, KEY_PRECISION, 0, false);
+			BigDecimal amount = DecimalData.convertPackedDecimalToBigDecimal(transactions, at + KEY_LENGTH, AMOUNT_PRECISION, AMOUNT_SCALE, false);
+			BigDecimal[] group = groups.get(key);
+			if (group == null)
+				groups.put(key, new BigDecimal[] { amount, BigDecimal.ONE });
+			else
+			{
+				group[0] = group[0].add(amount);
+				group[1] = group[1].add(BigDecimal.ONE);
+			}
+		}
+		return groups;
+	}
+	
+	void checkGroups(Map<BigDecimal, BigDecimal[]> groups)
+	{
+		if (groups.size() != packedGroups.size())
+			throw new AssertionError("The HashMap has " + groups.size() + " groups, the packed table " + packedGroups.size());
+		
+		for (int slot = 0; slot < packedGroups.getCapacity(); ++slot)
+		{
+			if (!packedGroups.isUsed(slot))
+				continue;
+			
+			BigDecimal key = DecimalData.convertPackedDecimalToBigDecimal(packedGroups.getKeys(), packedGroups.keyOffset(slot), KEY_PRECISION, 0, false);
+			BigDecimal[] group = groups.get(key);
+			BigDecimal total = packedGroups.getTotal(slot, AMOUNT_SCALE);
+			if (group == null || group[0].compareTo(total) != 0 || group[1].longValue() != packedGroups.getCount(slot))
+				throw new AssertionError("Account " + key + " has a total of " + total + " over " + packedGroups.getCount(slot)
+						+ " transactions in the packed table, " + (group == null ? "none" : group[0] + " over " + group[1]) + " in the HashMap");
+		}
+	}
+	
+	public static void main(String[] args)
+	{
+		int accounts = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+		int transactions = args.length > 1 ? Integer.parseInt(args[1]) : 4 * accounts;
+		int passes = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+		
+		System.out.println("HashJoinWorkload: " + accounts + " accounts, " + transactions + " transactions, " + passes + " passes");
+		HashJoinWorkload workload = new HashJoinWorkload(accounts, transactions);
+		for (Result result : workload.run(passes))
+			System.out.println(result);
+		
+		System.out.println(workload.getMatched() + " transactions matched");
+		System.out.println(String.format("Heap of the account tables: packed %,d bytes, HashMap %,d bytes", workload.getPackedFootprint(),
+				workload.getMapFootprint()));
+	}
+}
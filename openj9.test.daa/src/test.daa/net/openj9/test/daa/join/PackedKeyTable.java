@@ -0,0 +1,256 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.join;
+
+import java.math.BigDecimal;
+
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+
+/**
+ * An open addressing hash table keyed on packed decimals of one precision,
+ * with no object per entry: the keys are copied into one byte[] arena, slot
+ * after slot, next to an int value per slot and, for aggregations, a packed
+ * decimal total and a count per slot.
+ * 
+ * The hash is computed from the packed digits themselves, with the sign
+ * nibble folded to positive or negative so that keys equal by
+ * PackedDecimal.equalsPackedDecimal, such as 0x0C and 0x0F signed ones, hash
+ * alike; collisions are resolved by linear probing and
+ * PackedDecimal.equalsPackedDecimal. The table doubles when it is more than
+ * half full.
+ */
+public class PackedKeyTable
+{
+	// The precision of the totals, and the bytes each takes
+	public static final int TOTAL_PRECISION = 31;
+	static final int TOTAL_LENGTH = TOTAL_PRECISION / 2 + 1;
+	
+	private final int precision;
+	private final int keyLength;
+	private final boolean totals;
+	
+	private int capacity;
+	private int mask;
+	private int size;
+	
+	// Slot i holds its key at i * keyLength, is empty while used[i] is false
+	private byte[] keys;
+	private boolean[] used;
+	private int[] values;
+	private byte[] sums;
+	private long[] counts;
+	
+	/**
+	 * @param totals true to keep a packed decimal total and a count for each key
+	 */
+	public PackedKeyTable(int precision, int expectedKeys, boolean totals)
+	{
+		this.precision = precision;
+		this.totals = totals;
+		keyLength = precision / 2 + 1;
+		
+		capacity = Integer.highestOneBit(Math.max(8, expectedKeys * 2 - 1)) << 1;
+		allocate();
+	}
+	
+	private void allocate()
+	{
+		mask = capacity - 1;
+		keys = new byte[capacity * keyLength];
+		used = new boolean[capacity];
+		values = new int[capacity];
+		if (totals)
+		{
+			sums = new byte[capacity * TOTAL_LENGTH];
+			for (int slot = 0; slot < capacity; ++slot)
+				sums[(slot + 1) * TOTAL_LENGTH - 1] = 0x0C;
+			counts = new long[capacity];
+		}
+	}
+	
+	/**
+	 * @return the hash of the packed decimal of the table's precision at offset
+	 */
+	public int hash(byte[] key, int offset)
+	{
+		int hash = 0x811C9DC5;
+		boolean zero = true;
+		for (int i = 0; i < keyLength - 1; ++i)
+		{
+			int b = key[offset + i] & 0xFF;
+			zero &= b == 0;
+			hash = (hash ^ b) * 0x01000193;
+		}
+		
+		int last = key[offset + keyLength - 1];
+		int sign = last & 0x0F;
+		boolean negative = (sign == 0x0D || sign == 0x0B) && !(zero && (last & 0xF0) == 0);
+		hash = (hash ^ ((last & 0xF0) | (negative ? 1 : 0))) * 0x01000193;
+		return hash ^ (hash >>> 16);
+	}
+	
+	/**
+	 * @return the slot of the key at offset, -1 if it isn't in the table
+	 */
+	public int find(byte[] key, int offset)
+	{
+		for (int slot = hash(key, offset) & mask;; slot = (slot + 1) & mask)
+		{
+			if (!used[slot])
+				return -1;
+			if (PackedDecimal.equalsPackedDecimal(keys, slot * keyLength, precision, key, offset, precision))
+				return slot;
+		}
+	}
+	
+	/**
+	 * @return the slot of the key at offset, added to the table with a value
+	 *         of 0 if it wasn't in it
+	 */
+	public int insert(byte[] key, int offset)
+	{
+		if (size >= capacity / 2)
+			grow();
+		
+		int slot = hash(key, offset) & mask;
+		for (; used[slot]; slot = (slot + 1) & mask)
+		{
+			if (PackedDecimal.equalsPackedDecimal(keys, slot * keyLength, precision, key, offset, precision))
+				return slot;
+		}
+		
+		used[slot] = true;
+		System.arraycopy(key, offset, keys, slot * keyLength, keyLength);
+		++size;
+		return slot;
+	}
+	
+	// Doubles the capacity, moving each key to its slot in the new arena
+	private void grow()
+	{
+		byte[] oldKeys = keys;
+		boolean[] oldUsed = used;
+		int[] oldValues = values;
+		byte[] oldSums = sums;
+		long[] oldCounts = counts;
+		int oldCapacity = capacity;
+		
+		capacity *= 2;
+		allocate();
+		
+		for (int from = 0; from < oldCapacity; ++from)
+		{
+			if (!oldUsed[from])
+				continue;
+			
+			int slot = hash(oldKeys, from * keyLength) & mask;
+			while (used[slot])
+				slot = (slot + 1) & mask;
+			
+			used[slot] = true;
+			System.arraycopy(oldKeys, from * keyLength, keys, slot * keyLength, keyLength);
+			values[slot] = oldValues[from];
+			if (totals)
+			{
+				System.arraycopy(oldSums, from * TOTAL_LENGTH, sums, slot * TOTAL_LENGTH, TOTAL_LENGTH);
+				counts[slot] = oldCounts[from];
+			}
+		}
+	}
+	
+	public int getValue(int slot)
+	{
+		return values[slot];
+	}
+	
+	public void setValue(int slot, int value)
+	{
+		values[slot] = value;
+	}
+	
+	/**
+	 * Adds the packed decimal amount at offset to the total of slot and counts it.
+	 */
+	public void add(int slot, byte[] amount, int offset, int amountPrecision)
+	{
+		int at = slot * TOTAL_LENGTH;
+		PackedDecimal.addPackedDecimal(sums, at, TOTAL_PRECISION, sums, at, TOTAL_PRECISION, amount, offset, amountPrecision, false);
+		++counts[slot];
+	}
+	
+	public BigDecimal getTotal(int slot, int scale)
+	{
+		return DecimalData.convertPackedDecimalToBigDecimal(sums, slot * TOTAL_LENGTH, TOTAL_PRECISION, scale, false);
+	}
+	
+	public long getCount(int slot)
+	{
+		return counts[slot];
+	}
+	
+	/**
+	 * @return the arena of keys, slot i holding its key at keyOffset(i)
+	 */
+	public byte[] getKeys()
+	{
+		return keys;
+	}
+	
+	public int keyOffset(int slot)
+	{
+		return slot * keyLength;
+	}
+	
+	public boolean isUsed(int slot)
+	{
+		return used[slot];
+	}
+	
+	public int getCapacity()
+	{
+		return capacity;
+	}
+	
+	public int size()
+	{
+		return size;
+	}
+	
+	public int getPrecision()
+	{
+		return precision;
+	}
+	
+	/**
+	 * @return the bytes of the arrays of the table, not counting their headers
+	 */
+	public long getFootprint()
+	{
+		long footprint = (long) capacity * (keyLength + 1 + 4);
+		if (totals)
+			footprint += (long) capacity * (TOTAL_LENGTH + 8);
+		return footprint;
+	}
+}
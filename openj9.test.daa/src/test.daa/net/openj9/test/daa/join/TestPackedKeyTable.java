@@ -0,0 +1,139 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.join;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+import com.ibm.dataaccess.DecimalData;
+
+/**
+ * Checks the lookups, growth and totals of PackedKeyTable and runs
+ * HashJoinWorkload over -Ddaa.joinAccounts accounts, 20000 by default, and
+ * four times as many transactions.
+ */
+public class TestPackedKeyTable
+{
+	static final int DEFAULT_ACCOUNTS = 20000;
+	
+	static byte[] packed(long value, int precision)
+	{
+		byte[] packed = new byte[precision / 2 + 1];
+		DecimalData.convertLongToPackedDecimal(value, packed, 0, precision, true);
+		return packed;
+	}
+	
+	@Test
+	public void testInsertAndFind()
+	{
+		PackedKeyTable table = new PackedKeyTable(9, 4, false);
+		
+		for (int i = 0; i < 10000; ++i)
+			table.setValue(table.insert(packed(i * 7919L - 5000000, 9), 0), i);
+		
+		assertEquals(10000, table.size());
+		assertTrue(table.getCapacity() >= 20000);
+		for (int i = 0; i < 10000; ++i)
+		{
+			int slot = table.find(packed(i * 7919L - 5000000, 9), 0);
+			assertTrue("Key " + i + " lost", slot >= 0);
+			assertEquals(i, table.getValue(slot));
+		}
+		assertEquals(-1, table.find(packed(1, 9), 0));
+		assertEquals(10000, table.size());
+	}
+	
+	@Test
+	public void testEqualKeysWithOtherSigns()
+	{
+		PackedKeyTable table = new PackedKeyTable(5, 16, false);
+		
+		int slot = table.insert(new byte[] { 0x12, 0x34, 0x5C }, 0);
+		assertEquals(slot, table.find(new byte[] { 0x12, 0x34, 0x5F }, 0));
+		assertEquals(slot, table.find(new byte[] { 0x12, 0x34, 0x5A }, 0));
+		assertEquals(-1, table.find(new byte[] { 0x12, 0x34, 0x5D }, 0));
+		
+		int zero = table.insert(new byte[] { 0x00, 0x00, 0x0C }, 0);
+		assertEquals(zero, table.find(new byte[] { 0x00, 0x00, 0x0D }, 0));
+		
+		// The key at an offset into a record
+		assertEquals(slot, table.find(new byte[] { 0x40, 0x40, 0x12, 0x34, 0x5C }, 2));
+		assertEquals(2, table.size());
+	}
+	
+	@Test
+	public void testTotals()
+	{
+		PackedKeyTable table = new PackedKeyTable(3, 2, true);
+		BigDecimal[] expected = new BigDecimal[100];
+		
+		for (int i = 0; i < 1000; ++i)
+		{
+			int key = i % 100;
+			long amount = i % 3 == 0 ? -i * 101L : i * 101L;
+			table.add(table.insert(packed(key, 3), 0), packed(amount, 9), 0, 9);
+			expected[key] = (expected[key] == null ? BigDecimal.ZERO : expected[key]).add(BigDecimal.valueOf(amount, 2));
+		}
+		
+		assertEquals(100, table.size());
+		for (int key = 0; key < 100; ++key)
+		{
+			int slot = table.find(packed(key, 3), 0);
+			assertEquals(0, expected[key].compareTo(table.getTotal(slot, 2)));
+			assertEquals(10, table.getCount(slot));
+		}
+	}
+	
+	@Test
+	public void testWorkload()
+	{
+		int accounts = Integer.getInteger("daa.joinAccounts", DEFAULT_ACCOUNTS);
+		HashJoinWorkload workload = new HashJoinWorkload(accounts, 4 * accounts);
+		
+		workload.run(1);
+		
+		// Account number i is i * KEY_MULTIPLIER modulo KEY_MODULUS, so a transaction matches if undoing the multiplication gives an account
+		BigInteger modulus = BigInteger.valueOf(HashJoinWorkload.KEY_MODULUS);
+		BigInteger inverse = BigInteger.valueOf(HashJoinWorkload.KEY_MULTIPLIER).modInverse(modulus);
+		byte[] transactions = workload.getTransactions();
+		long expected = 0;
+		for (int at = 0; at < transactions.length; at += HashJoinWorkload.TRANSACTION_LENGTH)
+		{
+			BigInteger key = BigInteger.valueOf(DecimalData.convertPackedDecimalToLong(transactions, at, HashJoinWorkload.KEY_PRECISION, true));
+			if (key.multiply(inverse).mod(modulus).compareTo(BigInteger.valueOf(accounts)) < 0)
+				++expected;
+		}
+		assertEquals(expected, workload.getMatched());
+		
+		// About 1 - UNMATCHED of the transactions, well within 5 standard deviations
+		double transactionCount = 4.0 * accounts;
+		double deviation = Math.sqrt(transactionCount * HashJoinWorkload.UNMATCHED * (1 - HashJoinWorkload.UNMATCHED));
+		assertEquals(transactionCount * (1 - HashJoinWorkload.UNMATCHED), expected, 5 * deviation);
+	}
+}
@@ -0,0 +1,381 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.records;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.ibm.dataaccess.DecimalData;
+
+import net.openj9.test.daa.records.RecordLayout.Field;
+import net.openj9.test.daa.records.RecordLayout.Kind;
+
+/**
+ * Parses the subset of COBOL copybooks needed for fixed length records into a
+ * RecordLayout:
+ * 
+ * - level numbers 01 to 49 and 77 with group and elementary items, FILLER or
+ *   no name for unnamed items and 88 level condition names, which are skipped
+ * - PIC or PICTURE strings made of S, 9, 9(n), V, X, X(n), A and A(n)
+ * - USAGE [IS] DISPLAY, COMP-3, COMPUTATIONAL-3, PACKED-DECIMAL, COMP, COMP-4,
+ *   COMP-5, COMPUTATIONAL, COMPUTATIONAL-4, COMPUTATIONAL-5 and BINARY
+ * - [SIGN [IS]] LEADING or TRAILING [SEPARATE [CHARACTER]]
+ * - OCCURS n [TIMES] on group and elementary items
+ * 
+ * The source is free format: the statements end with a period and lines
+ * starting with * are comments. Anything else, e.g. REDEFINES, VALUE or
+ * OCCURS DEPENDING ON, is rejected with an IllegalArgumentException.
+ */
+public class Copybook
+{
+	// The largest binary field, which fits in a long
+	static final int MAX_BINARY_PRECISION = 18;
+	
+	// The largest packed or zoned field DecimalData handles
+	static final int MAX_DECIMAL_PRECISION = 31;
+	
+	// An item of the copybook and the items under it
+	private static final class Item
+	{
+		final int level;
+		final String name;
+		int occurs = 1;
+		
+		// Set for elementary items
+		String picture;
+		Kind usage = Kind.ZONED;
+		boolean signLeading;
+		boolean signSeparate;
+		
+		final List<Item> children = new ArrayList<Item>();
+		
+		Item(int level, String name)
+		{
+			this.level = level;
+			this.name = name;
+		}
+	}
+	
+	/**
+	 * @return the layout of the first 01 or 77 level record in copybook
+	 */
+	public static RecordLayout parse(String copybook)
+	{
+		List<Item> records = new ArrayList<Item>();
+		List<Item> stack = new ArrayList<Item>();
+		
+		for (String statement : statements(copybook))
+		{
+			Item item = parseStatement(statement);
+			if (item == null)
+				continue;
+			
+			while (!stack.isEmpty() && stack.get(stack.size() - 1).level >= item.level)
+				stack.remove(stack.size() - 1);
+			
+			if (stack.isEmpty())
+			{
+				if (item.level != 1 && item.level != 77)
+					throw new IllegalArgumentException("Level " + item.level + " item " + item.name + " is not in a record");
+				records.add(item);
+			}
+			else
+			{
+				Item parent = stack.get(stack.size() - 1);
+				if (parent.picture != null)
+					throw new IllegalArgumentException("Elementary item " + parent.name + " cannot contain " + item.name);
+				parent.children.add(item);
+			}
+			stack.add(item);
+		}
+		
+		if (records.isEmpty())
+			throw new IllegalArgumentException("The copybook has no record");
+		
+		Item record = records.get(0);
+		List<Field> fields = new ArrayList<Field>();
+		layout(record, 0, "", fields);
+		return new RecordLayout(record.name, fields);
+	}
+	
+	// Splits the copybook into statements, dropping the comment lines
+	static List<String> statements(String copybook)
+	{
+		StringBuilder text = new StringBuilder();
+		for (String line : copybook.split("\r?\n"))
+		{
+			if (!line.trim().startsWith("*"))
+				text.append(line).append(' ');
+		}
+		
+		List<String> statements = new ArrayList<String>();
+		for (String statement : text.toString().split("\\.(?=\\s|$)"))
+		{
+			if (!statement.trim().isEmpty())
+				statements.add(statement.trim());
+		}
+		return statements;
+	}
+	
+	/**
+	 * @return the item declared by statement, null for an 88 level condition name
+	 */
+	static Item parseStatement(String statement)
+	{
+		String[] tokens = statement.toUpperCase(Locale.ENGLISH).split("\\s+");
+		
+		int level;
+		try
+		{
+			level = Integer.parseInt(tokens[0]);
+		}
+		catch (NumberFormatException e)
+		{
+			throw new IllegalArgumentException("Expected a level number: " + statement);
+		}
+		if (level == 88)
+			return null;
+		if (level < 1 || (level > 49 && level != 77))
+			throw new IllegalArgumentException("Unsupported level " + level + ": " + statement);
+		
+		int index = 1;
+		String name = "FILLER";
+		if (index < tokens.length && !isClauseKeyword(tokens[index]))
+			name = tokens[index++];
+		
+		Item item = new Item(level, name);
+		
+		while (index < tokens.length)
+		{
+			String token = tokens[index++];
+			
+			if (token.equals("PIC") || token.equals("PICTURE"))
+			{
+				if (index < tokens.length && tokens[index].equals("IS"))
+					++index;
+				if (index >= tokens.length)
+					throw new IllegalArgumentException("PIC without a picture: " + statement);
+				item.picture = tokens[index++];
+			}
+			else if (token.equals("USAGE"))
+			{
+				if (index < tokens.length && tokens[index].equals("IS"))
+					++index;
+			}
+			else if (token.equals("DISPLAY"))
+			{
+				item.usage = Kind.ZONED;
+			}
+			else if (token.equals("COMP-3") || token.equals("COMPUTATIONAL-3") || token.equals("PACKED-DECIMAL"))
+			{
+				item.usage = Kind.PACKED;
+			}
+			else if (token.equals("COMP") || token.equals("COMP-4") || token.equals("COMP-5") || token.equals("COMPUTATIONAL")
+					|| token.equals("COMPUTATIONAL-4") || token.equals("COMPUTATIONAL-5") || token.equals("BINARY"))
+			{
+				item.usage = Kind.BINARY;
+			}
+			else if (token.equals("SIGN"))
+			{
+				if (index < tokens.length && tokens[index].equals("IS"))
+					++index;
+			}
+			else if (token.equals("LEADING") || token.equals("TRAILING"))
+			{
+				item.signLeading = token.equals("LEADING");
+				if (index < tokens.length && tokens[index].equals("SEPARATE"))
+				{
+					item.signSeparate = true;
+					++index;
+					if (index < tokens.length && tokens[index].equals("CHARACTER"))
+						++index;
+				}
+			}
+			else if (token.equals("OCCURS"))
+			{
+				if (index >= tokens.length)
+					throw new IllegalArgumentException("OCCURS without a count: " + statement);
+				try
+				{
+					item.occurs = Integer.parseInt(tokens[index++]);
+				}
+				catch (NumberFormatException e)
+				{
+					throw new IllegalArgumentException("Unsupported OCCURS: " + statement);
+				}
+				if (index < tokens.length && tokens[index].equals("TIMES"))
+					++index;
+				if (index < tokens.length && tokens[index].equals("DEPENDING"))
+					throw new IllegalArgumentException("Unsupported OCCURS DEPENDING ON: " + statement);
+			}
+			else
+			{
+				throw new IllegalArgumentException("Unsupported clause " + token + ": " + statement);
+			}
+		}
+		
+		return item;
+	}
+	
+	static boolean isClauseKeyword(String token)
+	{
+		// Data names such as COMPANY-CODE start like a usage, so only the exact keywords count
+		return token.equals("PIC") || token.equals("PICTURE") || token.equals("USAGE") || token.equals("OCCURS") || token.equals("SIGN")
+				|| token.equals("COMP") || token.equals("COMP-3") || token.equals("COMP-4") || token.equals("COMP-5") || token.equals("COMPUTATIONAL")
+				|| token.equals("COMPUTATIONAL-3") || token.equals("COMPUTATIONAL-4") || token.equals("COMPUTATIONAL-5") || token.equals("BINARY")
+				|| token.equals("DISPLAY") || token.equals("PACKED-DECIMAL");
+	}
+	
+	/**
+	 * Lays out item and its children from offset, adding a field for each
+	 * occurrence of each elementary item.
+	 * 
+	 * @return the length of one occurrence of item
+	 */
+	private static int layout(Item item, int offset, String subscript, List<Field> fields)
+	{
+		int length = 0;
+		for (int occurrence = 1; occurrence <= item.occurs; ++occurrence)
+		{
+			String itemSubscript = subscript;
+			if (item.occurs > 1)
+				itemSubscript = subscript.isEmpty() ? "(" + occurrence + ")" : subscript.substring(0, subscript.length() - 1) + "," + occurrence + ")";
+			
+			int start = offset + (occurrence - 1) * length;
+			if (item.picture != null)
+			{
+				length = addField(item, start, itemSubscript, fields);
+			}
+			else
+			{
+				int groupLength = 0;
+				for (Item child : item.children)
+					groupLength += layout(child, start + groupLength, itemSubscript, fields) * child.occurs;
+				length = groupLength;
+			}
+		}
+		return length;
+	}
+	
+	private static int addField(Item item, int offset, String subscript, List<Field> fields)
+	{
+		String picture = item.picture;
+		boolean signed = false;
+		boolean alphanumeric = false;
+		int integerDigits = 0;
+		int scale = 0;
+		boolean afterPoint = false;
+		
+		int index = 0;
+		if (picture.startsWith("S"))
+		{
+			signed = true;
+			++index;
+		}
+		
+		while (index < picture.length())
+		{
+			char symbol = picture.charAt(index++);
+			int count = 1;
+			if (index < picture.length() && picture.charAt(index) == '(')
+			{
+				int close = picture.indexOf(')', index);
+				if (close < 0)
+					throw new IllegalArgumentException("Unbalanced picture " + picture + " of " + item.name);
+				count = Integer.parseInt(picture.substring(index + 1, close));
+				index = close + 1;
+			}
+			
+			switch (symbol)
+			{
+				case '9':
+					if (afterPoint)
+						scale += count;
+					else
+						integerDigits += count;
+					break;
+				case 'V':
+					afterPoint = true;
+					break;
+				case 'X':
+				case 'A':
+					alphanumeric = true;
+					integerDigits += count;
+					break;
+				default:
+					throw new IllegalArgumentException("Unsupported picture symbol " + symbol + " in " + picture + " of " + item.name);
+			}
+		}
+		
+		String name = item.name + subscript;
+		int slot = 0;
+		for (Field field : fields)
+		{
+			if (field.isNumeric())
+				++slot;
+		}
+		
+		if (alphanumeric)
+		{
+			if (signed || scale > 0 || item.usage != Kind.ZONED)
+				throw new IllegalArgumentException("Unsupported alphanumeric picture " + picture + " of " + item.name);
+			fields.add(new Field(name, Kind.ALPHANUMERIC, offset, integerDigits, 0, 0, false, 0, -1));
+			return integerDigits;
+		}
+		
+		int precision = integerDigits + scale;
+		if (precision == 0 || precision > MAX_DECIMAL_PRECISION)
+			throw new IllegalArgumentException("Unsupported precision " + precision + " of " + item.name);
+		
+		int length;
+		int decimalType = DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING;
+		switch (item.usage)
+		{
+			case PACKED:
+				length = precision / 2 + 1;
+				break;
+			case BINARY:
+				if (precision > MAX_BINARY_PRECISION)
+					throw new IllegalArgumentException("Unsupported binary precision " + precision + " of " + item.name);
+				length = precision <= 4 ? 2 : precision <= 9 ? 4 : 8;
+				break;
+			default:
+				length = precision;
+				if (signed && item.signSeparate)
+				{
+					decimalType = item.signLeading ? DecimalData.EBCDIC_SIGN_SEPARATE_LEADING : DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING;
+					++length;
+				}
+				else if (signed && item.signLeading)
+				{
+					decimalType = DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING;
+				}
+				break;
+		}
+		
+		fields.add(new Field(name, item.usage, offset, length, precision, scale, signed, decimalType, slot));
+		return length;
+	}
+}
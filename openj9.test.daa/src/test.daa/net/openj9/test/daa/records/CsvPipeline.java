@@ -0,0 +1,660 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.records;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.ibm.dataaccess.DecimalData;
+
+import net.openj9.test.daa.records.RecordLayout.Field;
+import net.openj9.test.daa.records.RecordLayout.Kind;
+
+/**
+ * Converts a file of fixed length EBCDIC records to UTF-8 CSV, the way a
+ * nightly batch conversion does, through a bounded pipeline of a reader, N
+ * converters and a writer connected by blocking queues.
+ * 
+ * The reader memory maps the file with FileChannel.map a window at a time
+ * and slices each window into chunks of records. A converter copies a chunk
+ * out of the mapping and converts its records to a line of CSV each: packed
+ * fields with DecimalData.convertPackedDecimalToExternalDecimal, zoned fields
+ * with DecimalData.convertExternalDecimalToLong, binary fields with the
+ * ByteArrayUnmarshaller and alphanumeric fields with a table from EBCDIC to
+ * UTF-8. The writer puts the chunks back in file order and writes them out
+ * after a header line of the field names. FILLER fields are left out.
+ * 
+ * Numbers are written like BigDecimal.toPlainString and alphanumeric fields
+ * without their trailing spaces, quoted if they hold a comma, a quote or a
+ * line break.
+ * 
+ * The result gives the end to end MB/s and, for both queues, how full they
+ * were on average when a chunk was taken off them and how often a stage found
+ * them full or empty, which tells the stage holding up the pipeline.
+ * 
+ * Usage: CsvPipeline [records (default 1000000)] [converters (default processors - 1)] [directory (default java.io.tmpdir)]
+ */
+public class CsvPipeline
+{
+	static final int DEFAULT_CHUNK_RECORDS = 2048;
+	
+	static final int DEFAULT_QUEUE_CHUNKS = 4;
+	
+	// The largest window of the file mapped at a time
+	static final long DEFAULT_MAPPING_BYTES = 64 * 1024 * 1024;
+	
+	static final Charset UTF8 = Charset.forName("UTF-8");
+	
+	// The UTF-8 bytes of each EBCDIC byte
+	static final byte[][] EBCDIC_TO_UTF8 = new byte[256][];
+	static
+	{
+		for (int i = 0; i < EBCDIC_TO_UTF8.length; ++i)
+			EBCDIC_TO_UTF8[i] = new String(new byte[] { (byte) i }, RecordCodec.EBCDIC).getBytes(UTF8);
+	}
+	
+	static final byte EBCDIC_COMMA = 0x6B;
+	static final byte EBCDIC_QUOTE = 0x7F;
+	static final byte EBCDIC_NEWLINE = 0x15;
+	static final byte EBCDIC_LINE_FEED = 0x25;
+	static final byte EBCDIC_CARRIAGE_RETURN = 0x0D;
+	
+	/**
+	 * A run of records sliced from the mapped file, and their CSV once converted.
+	 */
+	static final class Chunk
+	{
+		static final Chunk END = new Chunk(-1, null, 0);
+		
+		final long sequence;
+		final ByteBuffer records;
+		final int count;
+		byte[] csv;
+		int csvLength;
+		
+		Chunk(long sequence, ByteBuffer records, int count)
+		{
+			this.sequence = sequence;
+			this.records = records;
+			this.count = count;
+		}
+	}
+	
+	/**
+	 * Samples the occupancy of a queue between two stages.
+	 */
+	public static final class QueueStatistics
+	{
+		final String name;
+		final int capacity;
+		final AtomicLong takes = new AtomicLong();
+		final AtomicLong occupancy = new AtomicLong();
+		final AtomicLong empty = new AtomicLong();
+		final AtomicLong puts = new AtomicLong();
+		final AtomicLong full = new AtomicLong();
+		
+		QueueStatistics(String name, int capacity)
+		{
+			this.name = name;
+			this.capacity = capacity;
+		}
+		
+		void put(BlockingQueue<Chunk> queue, Chunk chunk) throws InterruptedException
+		{
+			puts.incrementAndGet();
+			if (!queue.offer(chunk))
+			{
+				full.incrementAndGet();
+				queue.put(chunk);
+			}
+		}
+		
+		Chunk take(BlockingQueue<Chunk> queue) throws InterruptedException
+		{
+			int size = queue.size();
+			takes.incrementAndGet();
+			occupancy.addAndGet(size);
+			if (size == 0)
+				empty.incrementAndGet();
+			return queue.take();
+		}
+		
+		/**
+		 * @return the mean number of chunks on the queue when one was taken
+		 */
+		public double getMeanOccupancy()
+		{
+			return takes.get() == 0 ? 0 : (double) occupancy.get() / takes.get();
+		}
+		
+		/**
+		 * @return the fraction of puts that found the queue full
+		 */
+		public double getFullFraction()
+		{
+			return puts.get() == 0 ? 0 : (double) full.get() / puts.get();
+		}
+		
+		/**
+		 * @return the fraction of takes that found the queue empty
+		 */
+		public double getEmptyFraction()
+		{
+			return takes.get() == 0 ? 0 : (double) empty.get() / takes.get();
+		}
+		
+		public String toString()
+		{
+			return String.format("%s queue: %.2f of %d chunks on average, full on %.1f%% of puts, empty on %.1f%% of takes", name,
+					getMeanOccupancy(), capacity, getFullFraction() * 100, getEmptyFraction() * 100);
+		}
+	}
+	
+	public static final class Result
+	{
+		long records;
+		long inputBytes;
+		long outputBytes;
+		long nanos;
+		QueueStatistics convertQueue;
+		QueueStatistics writeQueue;
+		
+		public long getRecords()
+		{
+			return records;
+		}
+		
+		/**
+		 * @return the MB of records read per second
+		 */
+		public double getMegabytesPerSecond()
+		{
+			return inputBytes / (nanos / 1e9) / (1024 * 1024);
+		}
+		
+		public String toString()
+		{
+			return String.format("%d records, %.1f MB of records to %.1f MB of CSV in %d ms, %.1f MB/s, %.0f records/s", records,
+					inputBytes / (1024.0 * 1024), outputBytes / (1024.0 * 1024), nanos / 1000000, getMegabytesPerSecond(), records / (nanos / 1e9))
+					+ "\n" + convertQueue + "\n" + writeQueue;
+		}
+	}
+	
+	private final RecordLayout layout;
+	private final RecordCodec codec;
+	private final int recordLength;
+	private final int converters;
+	private final int chunkRecords;
+	private final int queueChunks;
+	long mappingBytes = DEFAULT_MAPPING_BYTES;
+	
+	// The fields written to the CSV
+	private final List<Field> columns = new ArrayList<Field>();
+	private final int maximumLineLength;
+	
+	public CsvPipeline(RecordLayout layout, int converters)
+	{
+		this(layout, converters, DEFAULT_CHUNK_RECORDS, DEFAULT_QUEUE_CHUNKS * converters);
+	}
+	
+	/**
+	 * @param queueChunks the capacity of each queue
+	 */
+	public CsvPipeline(RecordLayout layout, int converters, int chunkRecords, int queueChunks)
+	{
+		if (converters < 1 || chunkRecords < 1 || queueChunks < 1)
+			throw new IllegalArgumentException("The converters, chunk records and queue chunks must be positive");
+		
+		this.layout = layout;
+		this.converters = converters;
+		this.chunkRecords = chunkRecords;
+		this.queueChunks = queueChunks;
+		codec = new RecordCodec(layout);
+		recordLength = layout.getRecordLength();
+		
+		int lineLength = 0;
+		for (Field field : layout.getFields())
+		{
+			if (field.getName().equals("FILLER"))
+				continue;
+			columns.add(field);
+			
+			// Quotes around every character doubled or two bytes of UTF-8
+			lineLength += (field.isNumeric() ? maximumNumericLength(field) : field.getLength() * 2 + 2) + 1;
+		}
+		maximumLineLength = lineLength;
+	}
+	
+	/**
+	 * @return the longest text of a numeric field: a sign, the integer digits
+	 *         or the 0 of a field that is all fraction, and the decimal point
+	 *         and fraction digits
+	 */
+	static int maximumNumericLength(Field field)
+	{
+		// A binary field holds more digits than its picture says
+		int digits = field.getPrecision();
+		if (field.getKind() == Kind.BINARY)
+			digits = Math.max(digits, field.getLength() == 2 ? 5 : field.getLength() == 4 ? 10 : 19);
+		
+		int scale = field.getScale();
+		return 1 + Math.max(digits - scale, 1) + (scale > 0 ? 1 + scale : 0);
+	}
+	
+	/**
+	 * Converts input, which must hold whole records, writing the CSV to out.
+	 * 
+	 * @throws IOException if input can't be read or out written, or is not a whole number of records
+	 */
+	public Result run(File input, OutputStream out) throws IOException, InterruptedException
+	{
+		final FileChannel channel = FileChannel.open(input.toPath(), StandardOpenOption.READ);
+		try
+		{
+			final long size = channel.size();
+			if (size % recordLength != 0)
+				throw new IOException(input + " holds " + size + " bytes, not a whole number of " + recordLength + " byte " + layout.getName() + " records");
+			
+			final BlockingQueue<Chunk> convertQueue = new ArrayBlockingQueue<Chunk>(queueChunks);
+			final BlockingQueue<Chunk> writeQueue = new ArrayBlockingQueue<Chunk>(queueChunks);
+			final Result result = new Result();
+			result.convertQueue = new QueueStatistics("convert", queueChunks);
+			result.writeQueue = new QueueStatistics("write", queueChunks);
+			final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+			
+			long start = System.nanoTime();
+			
+			Thread reader = new Thread("CsvPipeline-reader") {
+				public void run()
+				{
+					try
+					{
+						read(channel, size, convertQueue, result.convertQueue);
+					}
+					catch (Throwable t)
+					{
+						failure.compareAndSet(null, t);
+					}
+					finally
+					{
+						try
+						{
+							for (int i = 0; i < converters; ++i)
+								convertQueue.put(Chunk.END);
+						}
+						catch (InterruptedException e)
+						{
+							failure.compareAndSet(null, e);
+						}
+					}
+				}
+			};
+			
+			Thread[] converterThreads = new Thread[converters];
+			for (int i = 0; i < converters; ++i)
+			{
+				converterThreads[i] = new Thread("CsvPipeline-converter-" + i) {
+					public void run()
+					{
+						convert(convertQueue, result.convertQueue, writeQueue, result.writeQueue, failure);
+					}
+				};
+			}
+			
+			reader.start();
+			for (Thread converter : converterThreads)
+				converter.start();
+			
+			write(out, writeQueue, result, failure);
+			
+			reader.join();
+			for (Thread converter : converterThreads)
+				converter.join();
+			result.nanos = System.nanoTime() - start;
+			
+			Throwable t = failure.get();
+			if (t instanceof IOException)
+				throw (IOException) t;
+			if (t instanceof RuntimeException)
+				throw (RuntimeException) t;
+			if (t instanceof Error)
+				throw (Error) t;
+			if (t != null)
+				throw new IOException("Converting " + input + " failed", t);
+			
+			result.inputBytes = size;
+			return result;
+		}
+		finally
+		{
+			channel.close();
+		}
+	}
+	
+	// Maps the file a window at a time and queues it in chunks
+	private void read(FileChannel channel, long size, BlockingQueue<Chunk> convertQueue, QueueStatistics statistics) throws IOException, InterruptedException
+	{
+		long windowRecords = Math.max(1, mappingBytes / recordLength);
+		long sequence = 0;
+		
+		for (long position = 0; position < size;)
+		{
+			long windowBytes = Math.min(windowRecords * recordLength, size - position);
+			MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowBytes);
+			
+			for (int at = 0; at < windowBytes;)
+			{
+				int count = (int) Math.min(chunkRecords, (windowBytes - at) / recordLength);
+				window.limit(at + count * recordLength).position(at);
+				statistics.put(convertQueue, new Chunk(sequence++, window.slice(), count));
+				window.limit((int) windowBytes);
+				at += count * recordLength;
+			}
+			position += windowBytes;
+		}
+	}
+	
+	// Converts chunks until the end, or only passes them on once anything has failed
+	private void convert(BlockingQueue<Chunk> convertQueue, QueueStatistics convertStatistics, BlockingQueue<Chunk> writeQueue,
+			QueueStatistics writeStatistics, AtomicReference<Throwable> failure)
+	{
+		Converter converter = new Converter();
+		try
+		{
+			while (true)
+			{
+				Chunk chunk = convertStatistics.take(convertQueue);
+				if (chunk != Chunk.END && failure.get() == null)
+				{
+					try
+					{
+						converter.convert(chunk);
+					}
+					catch (Throwable t)
+					{
+						failure.compareAndSet(null, t);
+					}
+				}
+				writeStatistics.put(writeQueue, chunk);
+				if (chunk == Chunk.END)
+					return;
+			}
+		}
+		catch (InterruptedException e)
+		{
+			failure.compareAndSet(null, e);
+		}
+	}
+	
+	// Writes the chunks in order until every converter has ended
+	private void write(OutputStream out, BlockingQueue<Chunk> writeQueue, Result result, AtomicReference<Throwable> failure) throws InterruptedException
+	{
+		Map<Long, Chunk> pending = new HashMap<Long, Chunk>();
+		long next = 0;
+		int ended = 0;
+		
+		try
+		{
+			StringBuilder header = new StringBuilder();
+			for (Field field : columns)
+				header.append(header.length() == 0 ? "" : ",").append(field.getName());
+			byte[] headerBytes = header.append('\n').toString().getBytes(UTF8);
+			out.write(headerBytes);
+			result.outputBytes += headerBytes.length;
+		}
+		catch (IOException e)
+		{
+			failure.compareAndSet(null, e);
+		}
+		
+		while (ended < converters)
+		{
+			Chunk chunk = result.writeQueue.take(writeQueue);
+			if (chunk == Chunk.END)
+			{
+				++ended;
+				continue;
+			}
+			if (failure.get() != null)
+				continue;
+			
+			pending.put(chunk.sequence, chunk);
+			for (Chunk ready = pending.remove(next); ready != null; ready = pending.remove(next))
+			{
+				try
+				{
+					out.write(ready.csv, 0, ready.csvLength);
+				}
+				catch (IOException e)
+				{
+					failure.compareAndSet(null, e);
+					break;
+				}
+				result.records += ready.count;
+				result.outputBytes += ready.csvLength;
+				++next;
+			}
+		}
+	}
+	
+	/**
+	 * The scratch arrays of one converter thread.
+	 */
+	final class Converter
+	{
+		final byte[] records = new byte[chunkRecords * recordLength];
+		final byte[] zoned = new byte[Copybook.MAX_DECIMAL_PRECISION];
+		final byte[] digits = new byte[20];
+		
+		void convert(Chunk chunk)
+		{
+			int length = chunk.count * recordLength;
+			chunk.records.get(records, 0, length);
+			
+			byte[] csv = new byte[chunk.count * maximumLineLength];
+			int at = 0;
+			for (int offset = 0; offset < length; offset += recordLength)
+				at = convertRecord(offset, csv, at);
+			
+			chunk.csv = csv;
+			chunk.csvLength = at;
+		}
+		
+		int convertRecord(int offset, byte[] csv, int at)
+		{
+			for (int i = 0; i < columns.size(); ++i)
+			{
+				Field field = columns.get(i);
+				if (i > 0)
+					csv[at++] = ',';
+				
+				int from = offset + field.getOffset();
+				switch (field.getKind())
+				{
+					case PACKED:
+						at = writePacked(field, from, csv, at);
+						break;
+					case ZONED:
+						if (field.getPrecision() > 18)
+							at = writeAscii(DecimalData.convertExternalDecimalToBigDecimal(records, from, field.getPrecision(), field.getScale(), true,
+									field.getDecimalType()).toPlainString(), csv, at);
+						else
+							at = writeLong(codec.decodeLong(field.getSlot(), records, from), field.getScale(), csv, at);
+						break;
+					case BINARY:
+						at = writeLong(codec.decodeLong(field.getSlot(), records, from), field.getScale(), csv, at);
+						break;
+					default:
+						at = writeAlphanumeric(from, field.getLength(), csv, at);
+						break;
+				}
+			}
+			csv[at++] = '\n';
+			return at;
+		}
+		
+		// Converts to zoned decimal to read the digits
+		int writePacked(Field field, int from, byte[] csv, int at)
+		{
+			int precision = field.getPrecision();
+			DecimalData.convertPackedDecimalToExternalDecimal(records, from, zoned, 0, precision, DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING);
+			
+			int first = 0;
+			int integerDigits = precision - field.getScale();
+			while (first < integerDigits - 1 && (zoned[first] & 0x0F) == 0)
+				++first;
+			
+			boolean zero = true;
+			for (int i = first; i < precision && zero; ++i)
+				zero = (zoned[i] & 0x0F) == 0;
+			if (!zero && (zoned[precision - 1] & 0xF0) == 0xD0)
+				csv[at++] = '-';
+			
+			if (integerDigits <= 0)
+				csv[at++] = '0';
+			for (int i = first; i < integerDigits; ++i)
+				csv[at++] = (byte) ('0' + (zoned[i] & 0x0F));
+			if (field.getScale() > 0)
+			{
+				csv[at++] = '.';
+				for (int i = Math.max(0, integerDigits); i < precision; ++i)
+					csv[at++] = (byte) ('0' + (zoned[i] & 0x0F));
+			}
+			return at;
+		}
+		
+		int writeLong(long value, int scale, byte[] csv, int at)
+		{
+			if (value < 0)
+			{
+				csv[at++] = '-';
+				value = -value;
+			}
+			
+			int count = 0;
+			do
+			{
+				digits[count++] = (byte) ('0' + value % 10);
+				value /= 10;
+			}
+			while (value != 0 || count <= scale);
+			
+			while (count > scale)
+				csv[at++] = digits[--count];
+			if (scale > 0)
+			{
+				csv[at++] = '.';
+				while (count > 0)
+					csv[at++] = digits[--count];
+			}
+			return at;
+		}
+		
+		int writeAlphanumeric(int from, int length, byte[] csv, int at)
+		{
+			while (length > 0 && records[from + length - 1] == RecordCodec.EBCDIC_SPACE)
+				--length;
+			
+			boolean quoted = false;
+			for (int i = from; i < from + length && !quoted; ++i)
+			{
+				byte b = records[i];
+				quoted = b == EBCDIC_COMMA || b == EBCDIC_QUOTE || b == EBCDIC_NEWLINE || b == EBCDIC_LINE_FEED || b == EBCDIC_CARRIAGE_RETURN;
+			}
+			
+			if (quoted)
+				csv[at++] = '"';
+			for (int i = from; i < from + length; ++i)
+			{
+				byte[] utf8 = EBCDIC_TO_UTF8[records[i] & 0xFF];
+				for (int j = 0; j < utf8.length; ++j)
+					csv[at++] = utf8[j];
+				if (records[i] == EBCDIC_QUOTE)
+					csv[at++] = '"';
+			}
+			if (quoted)
+				csv[at++] = '"';
+			return at;
+		}
+		
+		int writeAscii(String s, byte[] csv, int at)
+		{
+			for (int i = 0; i < s.length(); ++i)
+				csv[at++] = (byte) s.charAt(i);
+			return at;
+		}
+	}
+	
+	public static void main(String[] args) throws IOException, InterruptedException
+	{
+		long count = args.length > 0 ? Long.parseLong(args[0]) : 1000000;
+		int converters = args.length > 1 ? Integer.parseInt(args[1]) : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+		File directory = new File(args.length > 2 ? args[2] : System.getProperty("java.io.tmpdir"));
+		
+		RecordLayout layout = Copybook.parse(RecordWorkload.ACCOUNT_COPYBOOK);
+		File input = File.createTempFile("daa-records", ".dat", directory);
+		File output = File.createTempFile("daa-records", ".csv", directory);
+		try
+		{
+			new RecordFileGenerator(layout).generate(count, input);
+			System.out.println("CsvPipeline: " + count + " " + layout.getName() + " records in " + input + ", " + converters + " converters");
+			
+			OutputStream out = new BufferedOutputStream(new FileOutputStream(output), 1 << 16);
+			Result result;
+			try
+			{
+				result = new CsvPipeline(layout, converters).run(input, out);
+			}
+			finally
+			{
+				out.close();
+			}
+			System.out.println(result);
+		}
+		finally
+		{
+			// A file still mapped can't be deleted on some platforms
+			if (!input.delete())
+				input.deleteOnExit();
+			if (!output.delete())
+				output.deleteOnExit();
+		}
+	}
+}
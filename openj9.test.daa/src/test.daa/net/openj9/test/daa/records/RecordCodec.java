@@ -0,0 +1,287 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.records;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+
+import com.ibm.dataaccess.ByteArrayMarshaller;
+import com.ibm.dataaccess.ByteArrayUnmarshaller;
+import com.ibm.dataaccess.DecimalData;
+
+import net.openj9.test.daa.records.RecordLayout.Field;
+import net.openj9.test.daa.records.RecordLayout.Kind;
+
+/**
+ * Encodes and decodes the records of a RecordLayout with the DAA API.
+ * 
+ * The primitive methods move the numeric fields to and from a long[], one
+ * element per numeric field holding its unscaled value, and leave the
+ * alphanumeric bytes alone; they allocate nothing. The object methods move
+ * every field to and from an Object[]: a Long for numeric fields without a
+ * scale that fit in a long, a BigDecimal for the others and a String for the
+ * alphanumeric fields.
+ * 
+ * Unsigned packed and zoned fields are written with the 0xF sign of unsigned
+ * COBOL fields and binary fields are big endian. Values with more digits than
+ * their field throw an ArithmeticException, negative values for unsigned
+ * fields an IllegalArgumentException.
+ */
+public class RecordCodec
+{
+	public static final Charset EBCDIC = Charset.forName("Cp1047");
+	
+	static final byte EBCDIC_SPACE = 0x40;
+	
+	static final long[] POWERS_OF_TEN = new long[19];
+	static
+	{
+		POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i < POWERS_OF_TEN.length; ++i)
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+	}
+	
+	private final RecordLayout layout;
+	
+	// The numeric fields, flattened into arrays for the primitive methods
+	private final Kind[] kinds;
+	private final int[] offsets;
+	private final int[] lengths;
+	private final int[] precisions;
+	private final boolean[] signed;
+	private final int[] decimalTypes;
+	
+	public RecordCodec(RecordLayout layout)
+	{
+		this.layout = layout;
+		
+		int count = layout.getNumericFieldCount();
+		kinds = new Kind[count];
+		offsets = new int[count];
+		lengths = new int[count];
+		precisions = new int[count];
+		signed = new boolean[count];
+		decimalTypes = new int[count];
+		
+		for (Field field : layout.getFields())
+		{
+			int slot = field.getSlot();
+			if (slot < 0)
+				continue;
+			kinds[slot] = field.getKind();
+			offsets[slot] = field.getOffset();
+			lengths[slot] = field.getLength();
+			precisions[slot] = field.getPrecision();
+			signed[slot] = field.isSigned();
+			decimalTypes[slot] = field.getDecimalType();
+		}
+	}
+	
+	public RecordLayout getLayout()
+	{
+		return layout;
+	}
+	
+	/**
+	 * Reads the unscaled value of each numeric field of the record at offset
+	 * into values.
+	 * 
+	 * @throws IllegalStateException if the layout has fields of more than 18 digits
+	 */
+	public void decode(byte[] record, int offset, long[] values)
+	{
+		if (!layout.fitsInLongs())
+			throw new IllegalStateException(layout.getName() + " has fields that don't fit in a long");
+		
+		for (int i = 0; i < kinds.length; ++i)
+			values[i] = decodeLong(i, record, offset + offsets[i]);
+	}
+	
+	long decodeLong(int i, byte[] record, int at)
+	{
+		switch (kinds[i])
+		{
+			case PACKED:
+				return DecimalData.convertPackedDecimalToLong(record, at, precisions[i], true);
+			case ZONED:
+				return DecimalData.convertExternalDecimalToLong(record, at, precisions[i], true, decimalTypes[i]);
+			default:
+				switch (lengths[i])
+				{
+					case 2:
+						return signed[i] ? ByteArrayUnmarshaller.readShort(record, at, true) : ByteArrayUnmarshaller.readInt(record, at, true, 2, false);
+					case 4:
+						return signed[i] ? ByteArrayUnmarshaller.readInt(record, at, true) : ByteArrayUnmarshaller.readLong(record, at, true, 4, false);
+					default:
+						return ByteArrayUnmarshaller.readLong(record, at, true);
+				}
+		}
+	}
+	
+	/**
+	 * Writes the unscaled value of each numeric field from values into the
+	 * record at offset.
+	 */
+	public void encode(long[] values, byte[] record, int offset)
+	{
+		if (!layout.fitsInLongs())
+			throw new IllegalStateException(layout.getName() + " has fields that don't fit in a long");
+		
+		for (int i = 0; i < kinds.length; ++i)
+			encodeLong(i, values[i], record, offset + offsets[i]);
+	}
+	
+	private void encodeLong(int i, long value, byte[] record, int at)
+	{
+		if (value < 0 && !signed[i])
+			throw new IllegalArgumentException("Negative value " + value + " for an unsigned field");
+		
+		switch (kinds[i])
+		{
+			case PACKED:
+				DecimalData.convertLongToPackedDecimal(value, record, at, precisions[i], true);
+				if (!signed[i])
+					record[at + lengths[i] - 1] |= 0x0F;
+				break;
+			case ZONED:
+				DecimalData.convertLongToExternalDecimal(value, record, at, precisions[i], true, decimalTypes[i]);
+				if (!signed[i])
+					record[at + precisions[i] - 1] |= 0xF0;
+				break;
+			default:
+				if (precisions[i] < POWERS_OF_TEN.length && (value >= POWERS_OF_TEN[precisions[i]] || value <= -POWERS_OF_TEN[precisions[i]]))
+					throw new ArithmeticException("Value " + value + " has more than " + precisions[i] + " digits");
+				switch (lengths[i])
+				{
+					case 2:
+						ByteArrayMarshaller.writeShort((short) value, record, at, true);
+						break;
+					case 4:
+						ByteArrayMarshaller.writeInt((int) value, record, at, true);
+						break;
+					default:
+						ByteArrayMarshaller.writeLong(value, record, at, true);
+						break;
+				}
+				break;
+		}
+	}
+	
+	/**
+	 * @return the value of every field of the record at offset
+	 */
+	public Object[] decodeObjects(byte[] record, int offset)
+	{
+		List<Field> fields = layout.getFields();
+		Object[] values = new Object[fields.size()];
+		
+		for (int i = 0; i < values.length; ++i)
+		{
+			Field field = fields.get(i);
+			int at = offset + field.getOffset();
+			
+			if (!field.isNumeric())
+			{
+				values[i] = new String(record, at, field.getLength(), EBCDIC);
+			}
+			else if (field.getPrecision() <= 18)
+			{
+				long value = decodeLong(field.getSlot(), record, at);
+				values[i] = field.getScale() == 0 ? (Object) value : BigDecimal.valueOf(value, field.getScale());
+			}
+			else if (field.getKind() == Kind.PACKED)
+			{
+				values[i] = DecimalData.convertPackedDecimalToBigDecimal(record, at, field.getPrecision(), field.getScale(), true);
+			}
+			else
+			{
+				values[i] = DecimalData.convertExternalDecimalToBigDecimal(record, at, field.getPrecision(), field.getScale(), true, field.getDecimalType());
+			}
+		}
+		return values;
+	}
+	
+	/**
+	 * Writes every field of the record at offset from values, which holds a
+	 * Number for each numeric field and a String for each alphanumeric one.
+	 * Strings are padded with EBCDIC spaces.
+	 */
+	public void encodeObjects(Object[] values, byte[] record, int offset)
+	{
+		List<Field> fields = layout.getFields();
+		
+		for (int i = 0; i < values.length; ++i)
+		{
+			Field field = fields.get(i);
+			int at = offset + field.getOffset();
+			
+			if (!field.isNumeric())
+			{
+				byte[] bytes = ((String) values[i]).getBytes(EBCDIC);
+				if (bytes.length > field.getLength())
+					throw new IllegalArgumentException("'" + values[i] + "' is longer than " + field);
+				System.arraycopy(bytes, 0, record, at, bytes.length);
+				Arrays.fill(record, at + bytes.length, at + field.getLength(), EBCDIC_SPACE);
+				continue;
+			}
+			
+			BigDecimal decimal = toBigDecimal((Number) values[i]).setScale(field.getScale(), RoundingMode.UNNECESSARY);
+			if (decimal.signum() < 0 && !field.isSigned())
+				throw new IllegalArgumentException("Negative value " + decimal + " for the unsigned field " + field);
+			
+			if (field.getPrecision() <= 18)
+			{
+				BigInteger unscaled = decimal.unscaledValue();
+				if (unscaled.bitLength() > 63)
+					throw new ArithmeticException("Value " + decimal + " has more than " + field.getPrecision() + " digits");
+				encodeLong(field.getSlot(), unscaled.longValue(), record, at);
+			}
+			else if (field.getKind() == Kind.PACKED)
+			{
+				DecimalData.convertBigDecimalToPackedDecimal(decimal, record, at, field.getPrecision(), true);
+				if (!field.isSigned())
+					record[at + field.getLength() - 1] |= 0x0F;
+			}
+			else
+			{
+				DecimalData.convertBigDecimalToExternalDecimal(decimal, record, at, field.getPrecision(), true, field.getDecimalType());
+				if (!field.isSigned())
+					record[at + field.getPrecision() - 1] |= 0xF0;
+			}
+		}
+	}
+	
+	static BigDecimal toBigDecimal(Number value)
+	{
+		if (value instanceof BigDecimal)
+			return (BigDecimal) value;
+		if (value instanceof BigInteger)
+			return new BigDecimal((BigInteger) value);
+		return BigDecimal.valueOf(value.longValue());
+	}
+}
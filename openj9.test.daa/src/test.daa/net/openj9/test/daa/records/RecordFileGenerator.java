@@ -0,0 +1,160 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.records;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Random;
+
+import com.ibm.dataaccess.ByteArrayMarshaller;
+
+import net.openj9.test.DecimalGenerator;
+import net.openj9.test.TestRandom;
+import net.openj9.test.daa.records.RecordLayout.Field;
+import net.openj9.test.daa.records.RecordLayout.Kind;
+
+/**
+ * Writes a file of random fixed length EBCDIC records of a copybook layout,
+ * the input of CsvPipeline. Signed numeric fields are negative half of the
+ * time and unsigned ones carry the 0xF sign, binary fields hold no more
+ * digits than their picture and alphanumeric fields are random uppercase
+ * letters and spaces.
+ * 
+ * Usage: RecordFileGenerator file [records (default 1000000)]
+ */
+public class RecordFileGenerator
+{
+	// The records generated and written at a time
+	static final int BATCH_RECORDS = 1024;
+	
+	private final RecordLayout layout;
+	
+	public RecordFileGenerator(RecordLayout layout)
+	{
+		this.layout = layout;
+	}
+	
+	/**
+	 * Writes count random records to file, replacing it.
+	 */
+	public void generate(long count, File file) throws IOException
+	{
+		OutputStream out = new BufferedOutputStream(new FileOutputStream(file), 1 << 16);
+		try
+		{
+			generate(count, out);
+		}
+		finally
+		{
+			out.close();
+		}
+	}
+	
+	public void generate(long count, OutputStream out) throws IOException
+	{
+		int recordLength = layout.getRecordLength();
+		byte[] batch = new byte[BATCH_RECORDS * recordLength];
+		
+		for (long written = 0; written < count;)
+		{
+			int records = (int) Math.min(BATCH_RECORDS, count - written);
+			for (int record = 0; record < records; ++record)
+				generateRecord(batch, record * recordLength);
+			out.write(batch, 0, records * recordLength);
+			written += records;
+		}
+	}
+	
+	/**
+	 * Writes one random record at offset.
+	 */
+	public void generateRecord(byte[] record, int offset)
+	{
+		DecimalGenerator generator = DecimalGenerator.currentWithLeadingZeros();
+		Random random = TestRandom.getRandom();
+		List<Field> fields = layout.getFields();
+		
+		for (int i = 0; i < fields.size(); ++i)
+		{
+			Field field = fields.get(i);
+			int at = offset + field.getOffset();
+			boolean negative = field.isSigned() && random.nextBoolean();
+			
+			if (field.getKind() == Kind.PACKED)
+			{
+				generator.packed(record, at, field.getPrecision(), field.isSigned() ? (negative ? 0x0D : 0x0C) : 0x0F);
+			}
+			else if (field.getKind() == Kind.ZONED)
+			{
+				generator.external(record, at, field.getPrecision(), negative, field.getDecimalType());
+				if (!field.isSigned())
+					record[at + field.getPrecision() - 1] |= 0xF0;
+			}
+			else if (field.getKind() == Kind.BINARY)
+			{
+				long value = generator.nextLong(field.getPrecision(), negative);
+				switch (field.getLength())
+				{
+					case 2:
+						ByteArrayMarshaller.writeShort((short) value, record, at, true);
+						break;
+					case 4:
+						ByteArrayMarshaller.writeInt((int) value, record, at, true);
+						break;
+					default:
+						ByteArrayMarshaller.writeLong(value, record, at, true);
+						break;
+				}
+			}
+			else
+			{
+				for (int j = 0; j < field.getLength(); ++j)
+					record[at + j] = random.nextInt(8) == 0 ? RecordCodec.EBCDIC_SPACE : RecordWorkload.EBCDIC_LETTERS[random.nextInt(RecordWorkload.EBCDIC_LETTERS.length)];
+			}
+		}
+	}
+	
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length < 1)
+		{
+			System.err.println("Usage: RecordFileGenerator file [records]");
+			System.exit(1);
+		}
+		
+		File file = new File(args[0]);
+		long count = args.length > 1 ? Long.parseLong(args[1]) : 1000000;
+		
+		RecordLayout layout = Copybook.parse(RecordWorkload.ACCOUNT_COPYBOOK);
+		long start = System.nanoTime();
+		new RecordFileGenerator(layout).generate(count, file);
+		
+		System.out.println("RecordFileGenerator: " + count + " " + layout.getName() + " records, " + file.length() + " bytes written to " + file + " in "
+				+ (System.nanoTime() - start) / 1000000 + " ms");
+	}
+}
@@ -0,0 +1,223 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.records;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.ibm.dataaccess.DecimalData;
+
+/**
+ * The precompiled layout of a fixed length record: the kind, offset, length,
+ * precision and scale of every elementary field, with OCCURS already expanded
+ * into one field per occurrence. Built by Copybook.parse.
+ */
+public class RecordLayout
+{
+	public enum Kind
+	{
+		// COMP-3
+		PACKED,
+		// DISPLAY numeric, an EBCDIC zoned decimal
+		ZONED,
+		// COMP, COMP-4, COMP-5 and BINARY, big endian
+		BINARY,
+		// PIC X, EBCDIC characters
+		ALPHANUMERIC
+	}
+	
+	public static final class Field
+	{
+		private final String name;
+		private final Kind kind;
+		private final int offset;
+		private final int length;
+		private final int precision;
+		private final int scale;
+		private final boolean signed;
+		private final int decimalType;
+		private final int slot;
+		
+		Field(String name, Kind kind, int offset, int length, int precision, int scale, boolean signed, int decimalType, int slot)
+		{
+			this.name = name;
+			this.kind = kind;
+			this.offset = offset;
+			this.length = length;
+			this.precision = precision;
+			this.scale = scale;
+			this.signed = signed;
+			this.decimalType = decimalType;
+			this.slot = slot;
+		}
+		
+		public String getName()
+		{
+			return name;
+		}
+		
+		public Kind getKind()
+		{
+			return kind;
+		}
+		
+		public int getOffset()
+		{
+			return offset;
+		}
+		
+		public int getLength()
+		{
+			return length;
+		}
+		
+		/**
+		 * @return the number of digits, including the scale; 0 for alphanumeric fields
+		 */
+		public int getPrecision()
+		{
+			return precision;
+		}
+		
+		public int getScale()
+		{
+			return scale;
+		}
+		
+		public boolean isSigned()
+		{
+			return signed;
+		}
+		
+		/**
+		 * @return the DecimalData EBCDIC type of a zoned field
+		 */
+		public int getDecimalType()
+		{
+			return decimalType;
+		}
+		
+		public boolean isNumeric()
+		{
+			return kind != Kind.ALPHANUMERIC;
+		}
+		
+		/**
+		 * @return the index of the field in the long[] of RecordCodec.decode,
+		 *         -1 for alphanumeric fields
+		 */
+		public int getSlot()
+		{
+			return slot;
+		}
+		
+		public String toString()
+		{
+			String type = kind == Kind.ALPHANUMERIC ? "X(" + length + ")" : (signed ? "S" : "") + "9(" + (precision - scale) + ")"
+					+ (scale > 0 ? "V9(" + scale + ")" : "") + " " + kind;
+			if (kind == Kind.ZONED && decimalType != DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING)
+				type += " type " + decimalType;
+			return name + " " + type + " at " + offset + " length " + length;
+		}
+	}
+	
+	private final String name;
+	private final List<Field> fields;
+	private final int recordLength;
+	private final int numericFields;
+	private final boolean fitsInLongs;
+	
+	RecordLayout(String name, List<Field> fields)
+	{
+		this.name = name;
+		this.fields = Collections.unmodifiableList(new ArrayList<Field>(fields));
+		
+		int length = 0;
+		int numeric = 0;
+		boolean fits = true;
+		for (Field field : fields)
+		{
+			length = Math.max(length, field.getOffset() + field.getLength());
+			if (field.isNumeric())
+			{
+				++numeric;
+				fits &= field.getPrecision() <= 18;
+			}
+		}
+		recordLength = length;
+		numericFields = numeric;
+		fitsInLongs = fits;
+	}
+	
+	public String getName()
+	{
+		return name;
+	}
+	
+	public List<Field> getFields()
+	{
+		return fields;
+	}
+	
+	public Field getField(String fieldName)
+	{
+		for (Field field : fields)
+		{
+			if (field.getName().equals(fieldName))
+				return field;
+		}
+		throw new IllegalArgumentException("No field " + fieldName + " in " + name);
+	}
+	
+	public int getRecordLength()
+	{
+		return recordLength;
+	}
+	
+	/**
+	 * @return the number of numeric fields, the length of the long[] of RecordCodec.decode
+	 */
+	public int getNumericFieldCount()
+	{
+		return numericFields;
+	}
+	
+	/**
+	 * @return whether every numeric field has at most 18 digits, so that the
+	 *         record can be decoded to a long[]
+	 */
+	public boolean fitsInLongs()
+	{
+		return fitsInLongs;
+	}
+	
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder(name).append(", ").append(recordLength).append(" bytes");
+		for (Field field : fields)
+			sb.append("\n\t").append(field);
+		return sb.toString();
+	}
+}
@@ -0,0 +1,316 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.records;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+
+import net.openj9.test.DecimalGenerator;
+import net.openj9.test.TestRandom;
+import net.openj9.test.daa.records.RecordLayout.Field;
+import net.openj9.test.daa.records.RecordLayout.Kind;
+
+/**
+ * Encodes and decodes records of a copybook layout in batches, checking every
+ * record, and reports records/s and MB/s for the primitive and the object
+ * methods of RecordCodec. Along the way the first packed field of every
+ * record is added to a running total with PackedDecimal.addPackedDecimal, as
+ * a batch job would.
+ * 
+ * Usage: RecordWorkload [records (default 1000000)] [threads (default 1)]
+ */
+public class RecordWorkload
+{
+	/**
+	 * An account record mixing COMP-3, zoned, binary and alphanumeric fields.
+	 */
+	public static final String ACCOUNT_COPYBOOK =
+			"      * Account master record\n" +
+			"       01  ACCOUNT-RECORD.\n" +
+			"           05  ACCOUNT-ID              PIC 9(10).\n" +
+			"           05  BRANCH-ID               PIC S9(4) COMP.\n" +
+			"           05  CUSTOMER-NAME           PIC X(20).\n" +
+			"           05  BALANCE                 PIC S9(13)V99 COMP-3.\n" +
+			"           05  CREDIT-LIMIT            PIC S9(7)V99 COMP-3.\n" +
+			"           05  OPEN-DATE               PIC 9(8).\n" +
+			"           05  INTEREST-RATE           PIC SV9(5) USAGE IS COMP-3.\n" +
+			"           05  TRANSACTION-COUNT       PIC S9(9) BINARY.\n" +
+			"           05  LAST-AMOUNT             PIC S9(11)V99 SIGN IS LEADING SEPARATE CHARACTER.\n" +
+			"           05  MONTHLY-ACTIVITY OCCURS 12 TIMES.\n" +
+			"               10  MONTH-TOTAL         PIC S9(9)V99 COMP-3.\n" +
+			"               10  MONTH-COUNT         PIC 9(4) COMP.\n" +
+			"           05  RISK-SCORE              PIC S9(3).\n" +
+			"           05  STATUS-CODE             PIC X.\n" +
+			"               88  ACCOUNT-OPEN        VALUE 'O'.\n" +
+			"           05  ACCOUNT-NUMBER          PIC S9(18) COMP-3.\n" +
+			"           05  FILLER                  PIC X(6).\n";
+	
+	// The number of records encoded and decoded together
+	static final int BATCH_RECORDS = 1024;
+	
+	static final int TOTAL_PRECISION = 31;
+	
+	// The uppercase letters in EBCDIC
+	static final byte[] EBCDIC_LETTERS = {
+		(byte) 0xC1, (byte) 0xC2, (byte) 0xC3, (byte) 0xC4, (byte) 0xC5, (byte) 0xC6, (byte) 0xC7, (byte) 0xC8, (byte) 0xC9,
+		(byte) 0xD1, (byte) 0xD2, (byte) 0xD3, (byte) 0xD4, (byte) 0xD5, (byte) 0xD6, (byte) 0xD7, (byte) 0xD8, (byte) 0xD9,
+		(byte) 0xE2, (byte) 0xE3, (byte) 0xE4, (byte) 0xE5, (byte) 0xE6, (byte) 0xE7, (byte) 0xE8, (byte) 0xE9
+	};
+	
+	public static final class Result
+	{
+		long records;
+		long recordBytes;
+		long encodeNanos;
+		long decodeNanos;
+		long objectRecords;
+		long objectEncodeNanos;
+		long objectDecodeNanos;
+		
+		void add(Result other)
+		{
+			records += other.records;
+			objectRecords += other.objectRecords;
+			encodeNanos = Math.max(encodeNanos, other.encodeNanos);
+			decodeNanos = Math.max(decodeNanos, other.decodeNanos);
+			objectEncodeNanos = Math.max(objectEncodeNanos, other.objectEncodeNanos);
+			objectDecodeNanos = Math.max(objectDecodeNanos, other.objectDecodeNanos);
+			recordBytes = other.recordBytes;
+		}
+		
+		static String rate(String what, long records, long recordBytes, long nanos)
+		{
+			double seconds = nanos / 1e9;
+			return String.format("%s: %d records in %d ms, %.0f records/s, %.1f MB/s", what, records, nanos / 1000000,
+					records / seconds, records * recordBytes / seconds / (1024 * 1024));
+		}
+		
+		public String toString()
+		{
+			return rate("encode", records, recordBytes, encodeNanos) + "\n" + rate("decode", records, recordBytes, decodeNanos) + "\n"
+					+ rate("encode objects", objectRecords, recordBytes, objectEncodeNanos) + "\n"
+					+ rate("decode objects", objectRecords, recordBytes, objectDecodeNanos);
+		}
+	}
+	
+	private final RecordCodec codec;
+	private final RecordLayout layout;
+	private final int recordLength;
+	
+	// The values of the batch, the records they encode to and what they decode to
+	private final long[][] values;
+	private final byte[] records;
+	private final byte[] objectRecords;
+	private final long[] decoded;
+	
+	// The first packed field of up to 18 digits, totalled over every record, and its total
+	private final Field totalField;
+	private final byte[] total = new byte[TOTAL_PRECISION / 2 + 1];
+	private BigInteger expectedTotal = BigInteger.ZERO;
+	
+	public RecordWorkload(RecordLayout layout)
+	{
+		this.layout = layout;
+		codec = new RecordCodec(layout);
+		recordLength = layout.getRecordLength();
+		
+		values = new long[BATCH_RECORDS][layout.getNumericFieldCount()];
+		records = new byte[BATCH_RECORDS * recordLength];
+		objectRecords = new byte[records.length];
+		decoded = new long[layout.getNumericFieldCount()];
+		
+		Field first = null;
+		for (Field field : layout.getFields())
+		{
+			if (field.getKind() == Kind.PACKED && first == null)
+				first = field;
+		}
+		totalField = first;
+		DecimalData.convertLongToPackedDecimal(0, total, 0, TOTAL_PRECISION, true);
+		
+		generate();
+	}
+	
+	// Fills the batch with random values and the alphanumeric fields with random letters
+	private void generate()
+	{
+		DecimalGenerator generator = DecimalGenerator.currentWithLeadingZeros();
+		Random random = TestRandom.getRandom();
+		
+		for (int record = 0; record < BATCH_RECORDS; ++record)
+		{
+			for (Field field : layout.getFields())
+			{
+				if (field.isNumeric())
+				{
+					boolean negative = field.isSigned() && random.nextBoolean();
+					values[record][field.getSlot()] = generator.nextLong(field.getPrecision(), negative);
+				}
+				else
+				{
+					int at = record * recordLength + field.getOffset();
+					for (int i = 0; i < field.getLength(); ++i)
+						records[at + i] = EBCDIC_LETTERS[random.nextInt(EBCDIC_LETTERS.length)];
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Encodes and decodes count records with the primitive methods and
+	 * objectCount records with the object methods.
+	 * 
+	 * @throws AssertionError if a record doesn't round trip or the total is wrong
+	 */
+	public Result run(long count, long objectCount)
+	{
+		Result result = new Result();
+		result.recordBytes = recordLength;
+		
+		while (result.records < count)
+		{
+			int batch = (int) Math.min(BATCH_RECORDS, count - result.records);
+			
+			long start = System.nanoTime();
+			for (int record = 0; record < batch; ++record)
+				codec.encode(values[record], records, record * recordLength);
+			long encoded = System.nanoTime();
+			
+			long batchTotal = 0;
+			for (int record = 0; record < batch; ++record)
+			{
+				codec.decode(records, record * recordLength, decoded);
+				
+				if (totalField != null)
+				{
+					int at = record * recordLength + totalField.getOffset();
+					PackedDecimal.addPackedDecimal(total, 0, TOTAL_PRECISION, total, 0, TOTAL_PRECISION, records, at, totalField.getPrecision(), true);
+					batchTotal += decoded[totalField.getSlot()];
+				}
+				
+				if (!Arrays.equals(decoded, values[record]))
+					throw new AssertionError("Record " + (result.records + record) + " decoded to " + Arrays.toString(decoded) + ", expected "
+							+ Arrays.toString(values[record]));
+			}
+			long end = System.nanoTime();
+			
+			expectedTotal = expectedTotal.add(BigInteger.valueOf(batchTotal));
+			result.encodeNanos += encoded - start;
+			result.decodeNanos += end - encoded;
+			result.records += batch;
+		}
+		
+		if (totalField != null)
+		{
+			BigInteger actual = DecimalData.convertPackedDecimalToBigInteger(total, 0, TOTAL_PRECISION, true);
+			if (!actual.equals(expectedTotal))
+				throw new AssertionError("The total of " + totalField.getName() + " is " + actual + ", expected " + expectedTotal);
+		}
+		
+		List<Field> fields = layout.getFields();
+		while (result.objectRecords < objectCount)
+		{
+			int batch = (int) Math.min(BATCH_RECORDS, objectCount - result.objectRecords);
+			Object[][] objects = new Object[batch][];
+			
+			long start = System.nanoTime();
+			for (int record = 0; record < batch; ++record)
+				objects[record] = codec.decodeObjects(records, record * recordLength);
+			long decodedObjects = System.nanoTime();
+			for (int record = 0; record < batch; ++record)
+				codec.encodeObjects(objects[record], objectRecords, record * recordLength);
+			long end = System.nanoTime();
+			
+			for (int record = 0; record < batch; ++record)
+			{
+				int at = record * recordLength;
+				for (Field field : fields)
+				{
+					if (field.isNumeric() && !unscaled(objects[record][fields.indexOf(field)]).equals(BigInteger.valueOf(values[record][field.getSlot()])))
+						throw new AssertionError("Record " + (result.objectRecords + record) + " field " + field.getName() + " decoded to "
+								+ objects[record][fields.indexOf(field)] + ", expected unscaled " + values[record][field.getSlot()]);
+				}
+				for (int i = 0; i < recordLength; ++i)
+				{
+					if (objectRecords[at + i] != records[at + i])
+						throw new AssertionError("Record " + (result.objectRecords + record) + " byte " + i + " changed by the object round trip");
+				}
+			}
+			
+			result.objectDecodeNanos += decodedObjects - start;
+			result.objectEncodeNanos += end - decodedObjects;
+			result.objectRecords += batch;
+		}
+		
+		return result;
+	}
+	
+	static BigInteger unscaled(Object value)
+	{
+		if (value instanceof BigDecimal)
+			return ((BigDecimal) value).unscaledValue();
+		return BigInteger.valueOf(((Number) value).longValue());
+	}
+	
+	public static void main(String[] args) throws InterruptedException
+	{
+		final long count = args.length > 0 ? Long.parseLong(args[0]) : 1000000;
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+		
+		final RecordLayout layout = Copybook.parse(ACCOUNT_COPYBOOK);
+		System.out.println("RecordWorkload: " + layout);
+		System.out.println("RecordWorkload: " + count + " records on each of " + threads + " threads");
+		
+		final Result[] results = new Result[threads];
+		Thread[] workers = new Thread[threads];
+		for (int i = 0; i < threads; ++i)
+		{
+			final int index = i;
+			workers[i] = new Thread("RecordWorkload-" + i) {
+				public void run()
+				{
+					results[index] = new RecordWorkload(layout).run(count, count / 10);
+				}
+			};
+			workers[i].start();
+		}
+		
+		Result total = new Result();
+		for (int i = 0; i < threads; ++i)
+		{
+			workers[i].join();
+			if (results[i] == null)
+				System.exit(1);
+			total.add(results[i]);
+		}
+		
+		System.out.println(total);
+	}
+}
@@ -0,0 +1,234 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.records;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.daa.records.RecordLayout.Field;
+
+/**
+ * Converts generated record files with CsvPipeline and checks every line of
+ * the CSV against the fields decoded by RecordCodec. The account records run
+ * over -Ddaa.pipelineRecords records, 20000 by default.
+ */
+public class TestCsvPipeline
+{
+	@ClassRule
+	public static final RandomSeedRule seedRule = new RandomSeedRule();
+	
+	static final int DEFAULT_RECORDS = 20000;
+	
+	static final String MIXED_COPYBOOK =
+			"01 MIXED-RECORD.\n" +
+			"   05 NOTE        PIC X(8).\n" +
+			"   05 RATE        PIC SV9(5) COMP-3.\n" +
+			"   05 COUNT       PIC 9(5) COMP-3.\n" +
+			"   05 HUGE        PIC S9(20)V99.\n" +
+			"   05 WIDE        PIC S9(25)V9(4) COMP-3.\n" +
+			"   05 CENTS       PIC S9(5)V99 SIGN TRAILING SEPARATE.\n" +
+			"   05 SMALL       PIC S9(2)V9(3) COMP.\n" +
+			"   05 FILLER      PIC X(3).\n";
+	
+	private File input;
+	
+	@Before
+	public void createInput() throws IOException
+	{
+		input = File.createTempFile("daa-records", ".dat");
+	}
+	
+	@After
+	public void deleteInput()
+	{
+		if (!input.delete())
+			input.deleteOnExit();
+	}
+	
+	static String expectedCsv(RecordLayout layout, byte[] records)
+	{
+		RecordCodec codec = new RecordCodec(layout);
+		List<Field> fields = layout.getFields();
+		
+		StringBuilder csv = new StringBuilder();
+		for (Field field : fields)
+		{
+			if (!field.getName().equals("FILLER"))
+				csv.append(csv.length() == 0 ? "" : ",").append(field.getName());
+		}
+		csv.append('\n');
+		
+		for (int offset = 0; offset < records.length; offset += layout.getRecordLength())
+		{
+			Object[] values = codec.decodeObjects(records, offset);
+			boolean first = true;
+			for (int i = 0; i < fields.size(); ++i)
+			{
+				if (fields.get(i).getName().equals("FILLER"))
+					continue;
+				if (!first)
+					csv.append(',');
+				first = false;
+				
+				if (values[i] instanceof BigDecimal)
+				{
+					csv.append(((BigDecimal) values[i]).toPlainString());
+				}
+				else if (values[i] instanceof String)
+				{
+					String s = ((String) values[i]).replaceAll(" +$", "");
+					if (s.matches("(?s).*[,\"\r\n\u0085].*"))
+						s = "\"" + s.replace("\"", "\"\"") + "\"";
+					csv.append(s);
+				}
+				else
+				{
+					csv.append(values[i]);
+				}
+			}
+			csv.append('\n');
+		}
+		return csv.toString();
+	}
+	
+	void checkConversion(RecordLayout layout, CsvPipeline pipeline, long records) throws Exception
+	{
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		CsvPipeline.Result result = pipeline.run(input, out);
+		
+		assertEquals(records, result.getRecords());
+		assertEquals(input.length(), result.inputBytes);
+		assertEquals(out.size(), result.outputBytes);
+		assertEquals(expectedCsv(layout, Files.readAllBytes(input.toPath())), new String(out.toByteArray(), CsvPipeline.UTF8));
+	}
+	
+	@Test
+	public void testAccountRecords() throws Exception
+	{
+		int records = Integer.getInteger("daa.pipelineRecords", DEFAULT_RECORDS);
+		RecordLayout layout = Copybook.parse(RecordWorkload.ACCOUNT_COPYBOOK);
+		new RecordFileGenerator(layout).generate(records, input);
+		
+		// Small chunks and mappings so that chunks come out of order and span several windows
+		CsvPipeline pipeline = new CsvPipeline(layout, 3, 100, 2);
+		pipeline.mappingBytes = 1000 * layout.getRecordLength() + 7;
+		checkConversion(layout, pipeline, records);
+	}
+	
+	@Test
+	public void testMixedRecords() throws Exception
+	{
+		RecordLayout layout = Copybook.parse(MIXED_COPYBOOK);
+		RecordFileGenerator generator = new RecordFileGenerator(layout);
+		
+		byte[] records = new byte[2000 * layout.getRecordLength()];
+		for (int offset = 0; offset < records.length; offset += layout.getRecordLength())
+			generator.generateRecord(records, offset);
+		
+		// Notes that need quoting and characters outside of ASCII
+		byte[][] notes = { "A,B".getBytes(RecordCodec.EBCDIC), "SAY \"HI\"".getBytes(RecordCodec.EBCDIC), "CAF\u00C9 \u00A2".getBytes(RecordCodec.EBCDIC),
+				"  LEAD".getBytes(RecordCodec.EBCDIC), { 0x15 } };
+		for (int i = 0; i < notes.length; ++i)
+		{
+			int at = i * layout.getRecordLength();
+			for (int j = 0; j < 8; ++j)
+				records[at + j] = j < notes[i].length ? notes[i][j] : RecordCodec.EBCDIC_SPACE;
+		}
+		
+		OutputStream out = new FileOutputStream(input);
+		try
+		{
+			out.write(records);
+		}
+		finally
+		{
+			out.close();
+		}
+		
+		checkConversion(layout, new CsvPipeline(layout, 2, 64, 3), 2000);
+	}
+	
+	@Test
+	public void testAllFractionField() throws Exception
+	{
+		// "-0." and five digits on every line, with nothing else to leave slack in the buffer
+		RecordLayout layout = Copybook.parse("01 RATE-RECORD.\n   05 RATE        PIC SV9(5) COMP-3.\n");
+		RecordCodec codec = new RecordCodec(layout);
+		
+		byte[] records = new byte[1000 * layout.getRecordLength()];
+		for (int i = 0; i < 1000; ++i)
+			codec.encode(new long[] { -99999 + i }, records, i * layout.getRecordLength());
+		
+		OutputStream out = new FileOutputStream(input);
+		try
+		{
+			out.write(records);
+		}
+		finally
+		{
+			out.close();
+		}
+		
+		checkConversion(layout, new CsvPipeline(layout, 2, 1000, 2), 1000);
+	}
+	
+	@Test
+	public void testPartialRecord() throws Exception
+	{
+		RecordLayout layout = Copybook.parse(RecordWorkload.ACCOUNT_COPYBOOK);
+		OutputStream out = new FileOutputStream(input);
+		try
+		{
+			out.write(new byte[layout.getRecordLength() * 3 - 1]);
+		}
+		finally
+		{
+			out.close();
+		}
+		
+		try
+		{
+			new CsvPipeline(layout, 1).run(input, new ByteArrayOutputStream());
+			fail("Converted a file ending in part of a record");
+		}
+		catch (IOException expected)
+		{
+		}
+	}
+}
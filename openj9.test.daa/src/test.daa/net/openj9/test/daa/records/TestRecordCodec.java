@@ -0,0 +1,230 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.records;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.daa.records.RecordLayout.Field;
+import net.openj9.test.daa.records.RecordLayout.Kind;
+
+/**
+ * Checks the copybook layouts and the bytes RecordCodec writes for each kind
+ * of field, then runs RecordWorkload over -Ddaa.records records, 20000 by
+ * default.
+ */
+public class TestRecordCodec
+{
+	@ClassRule
+	public static final RandomSeedRule seedRule = new RandomSeedRule();
+	
+	static final int DEFAULT_RECORDS = 20000;
+	
+	// Fields that all fit in a long
+	static final String LONG_COPYBOOK =
+			"01 SMALL-RECORD.\n" +
+			"   05 ID          PIC 9(10).\n" +
+			"   05 AMOUNT      PIC S9(13)V99 COMP-3.\n" +
+			"   05 SCORE       PIC S9(3).\n" +
+			"   05 DELTA       PIC S9(4) COMP.\n" +
+			"   05 TOTAL       PIC S9(9) COMP-4.\n" +
+			"   05 NAME        PIC X(4).\n";
+	
+	static final String SMALL_COPYBOOK = LONG_COPYBOOK +
+			"   05 BIG         PIC S9(25)V9(6) COMP-3.\n";
+	
+	static byte[] bytes(int... values)
+	{
+		byte[] bytes = new byte[values.length];
+		for (int i = 0; i < values.length; ++i)
+			bytes[i] = (byte) values[i];
+		return bytes;
+	}
+	
+	static byte[] slice(byte[] record, Field field)
+	{
+		byte[] bytes = new byte[field.getLength()];
+		System.arraycopy(record, field.getOffset(), bytes, 0, bytes.length);
+		return bytes;
+	}
+	
+	@Test
+	public void testLayout()
+	{
+		RecordLayout layout = Copybook.parse(SMALL_COPYBOOK);
+		
+		assertEquals("SMALL-RECORD", layout.getName());
+		assertEquals(10 + 8 + 3 + 2 + 4 + 4 + 16, layout.getRecordLength());
+		assertEquals(6, layout.getNumericFieldCount());
+		assertFalse(layout.fitsInLongs());
+		
+		Field amount = layout.getField("AMOUNT");
+		assertEquals(Kind.PACKED, amount.getKind());
+		assertEquals(10, amount.getOffset());
+		assertEquals(8, amount.getLength());
+		assertEquals(15, amount.getPrecision());
+		assertEquals(2, amount.getScale());
+		assertTrue(amount.isSigned());
+		
+		assertEquals(Kind.BINARY, layout.getField("TOTAL").getKind());
+		assertEquals(4, layout.getField("TOTAL").getLength());
+		assertEquals(Kind.ALPHANUMERIC, layout.getField("NAME").getKind());
+		assertFalse(layout.getField("ID").isSigned());
+		
+		RecordLayout account = Copybook.parse(RecordWorkload.ACCOUNT_COPYBOOK);
+		assertTrue(account.fitsInLongs());
+		assertEquals(170, account.getField("RISK-SCORE").getOffset());
+		assertEquals(82, account.getField("MONTH-TOTAL(2)").getOffset());
+		assertEquals(14, account.getField("LAST-AMOUNT").getLength());
+	}
+	
+	@Test
+	public void testUsagePrefixedNames()
+	{
+		RecordLayout layout = Copybook.parse(
+				"01 COMPANY-RECORD.\n" +
+				"   05 COMPANY-CODE      PIC 9(4).\n" +
+				"   05 COMPUTED-TOTAL    PIC S9(7) COMP-3.\n" +
+				"   05 COMPUTATIONAL-ID  PIC S9(4) COMP.\n" +
+				"   05 DISPLAY-NAME      PIC X(6).\n");
+		
+		assertEquals(Kind.ZONED, layout.getField("COMPANY-CODE").getKind());
+		assertEquals(4, layout.getField("COMPANY-CODE").getLength());
+		assertEquals(Kind.PACKED, layout.getField("COMPUTED-TOTAL").getKind());
+		assertEquals(4, layout.getField("COMPUTED-TOTAL").getOffset());
+		assertEquals(Kind.BINARY, layout.getField("COMPUTATIONAL-ID").getKind());
+		assertEquals(Kind.ALPHANUMERIC, layout.getField("DISPLAY-NAME").getKind());
+		assertEquals(4 + 4 + 2 + 6, layout.getRecordLength());
+	}
+	
+	@Test
+	public void testUnsupportedClauses()
+	{
+		String[] copybooks = {
+			"01 R.\n 05 A PIC 9(4).\n 05 B REDEFINES A PIC X(4).\n",
+			"01 R.\n 05 A PIC 9(4) COMP-1.\n",
+			"01 R.\n 05 N PIC 9(2).\n 05 A OCCURS 1 TO 5 TIMES DEPENDING ON N PIC 9(4).\n",
+			"01 R.\n 05 A PIC 9(19) COMP.\n",
+			"01 R.\n 05 A PIC Z(4)9.\n"
+		};
+		
+		for (String copybook : copybooks)
+		{
+			try
+			{
+				Copybook.parse(copybook);
+				fail("Parsed " + copybook);
+			}
+			catch (IllegalArgumentException expected)
+			{
+			}
+		}
+	}
+	
+	@Test
+	public void testEncoding()
+	{
+		RecordLayout layout = Copybook.parse(LONG_COPYBOOK);
+		RecordCodec codec = new RecordCodec(layout);
+		
+		byte[] record = new byte[layout.getRecordLength()];
+		codec.encode(new long[] { 123, -1234567, -42, -2, 70000 }, record, 0);
+		
+		assertArrayEquals(bytes(0xF0, 0xF0, 0xF0, 0xF0, 0xF0, 0xF0, 0xF0, 0xF1, 0xF2, 0xF3), slice(record, layout.getField("ID")));
+		assertArrayEquals(bytes(0x00, 0x00, 0x00, 0x00, 0x12, 0x34, 0x56, 0x7D), slice(record, layout.getField("AMOUNT")));
+		assertArrayEquals(bytes(0xF0, 0xF4, 0xD2), slice(record, layout.getField("SCORE")));
+		assertArrayEquals(bytes(0xFF, 0xFE), slice(record, layout.getField("DELTA")));
+		assertArrayEquals(bytes(0x00, 0x01, 0x11, 0x70), slice(record, layout.getField("TOTAL")));
+		
+		long[] values = new long[layout.getNumericFieldCount()];
+		codec.decode(record, 0, values);
+		assertArrayEquals(new long[] { 123, -1234567, -42, -2, 70000 }, values);
+		
+		try
+		{
+			codec.encode(new long[] { -1, 0, 0, 0, 0 }, record, 0);
+			fail("Encoded a negative value into an unsigned field");
+		}
+		catch (IllegalArgumentException expected)
+		{
+		}
+		
+		try
+		{
+			codec.encode(new long[] { 0, 0, 0, 10000, 0 }, record, 0);
+			fail("Encoded 10000 into PIC S9(4) COMP");
+		}
+		catch (ArithmeticException expected)
+		{
+		}
+	}
+	
+	@Test
+	public void testObjects()
+	{
+		RecordLayout layout = Copybook.parse(SMALL_COPYBOOK);
+		RecordCodec codec = new RecordCodec(layout);
+		
+		BigDecimal big = new BigDecimal("-1234567890123456789012345.678901");
+		Object[] values = { Long.valueOf(42), new BigDecimal("-12345.67"), Long.valueOf(-1), Long.valueOf(7), Long.valueOf(-70000), "AB", big };
+		
+		byte[] record = new byte[layout.getRecordLength()];
+		codec.encodeObjects(values, record, 0);
+		
+		assertArrayEquals(bytes(0xC1, 0xC2, 0x40, 0x40), slice(record, layout.getField("NAME")));
+		
+		Object[] decoded = codec.decodeObjects(record, 0);
+		assertEquals(42L, ((Number) decoded[0]).longValue());
+		assertEquals(0, new BigDecimal("-12345.67").compareTo(toBigDecimal(decoded[1], 2)));
+		assertEquals("AB  ", decoded[5]);
+		assertEquals(0, big.compareTo(toBigDecimal(decoded[6], 6)));
+	}
+	
+	static BigDecimal toBigDecimal(Object value, int scale)
+	{
+		if (value instanceof BigDecimal)
+			return (BigDecimal) value;
+		return BigDecimal.valueOf(((Number) value).longValue(), scale);
+	}
+	
+	@Test
+	public void testWorkload()
+	{
+		int records = Integer.getInteger("daa.records", DEFAULT_RECORDS);
+		
+		RecordLayout layout = Copybook.parse(RecordWorkload.ACCOUNT_COPYBOOK);
+		
+		// Throws an AssertionError if a record doesn't round trip or the running packed total drifts
+		new RecordWorkload(layout).run(records, records / 10);
+	}
+}
@@ -0,0 +1,346 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.validity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.ExternalDecimal;
+import com.ibm.dataaccess.PackedDecimal;
+
+import net.openj9.test.TestRandom;
+import net.openj9.test.daa.records.Copybook;
+import net.openj9.test.daa.records.RecordFileGenerator;
+import net.openj9.test.daa.records.RecordLayout;
+import net.openj9.test.daa.records.RecordLayout.Field;
+import net.openj9.test.daa.records.RecordLayout.Kind;
+
+/**
+ * Validates a large buffer of records of packed and zoned decimal fields, the
+ * first stage of an ingest, with PackedDecimal.checkPackedDecimal and
+ * ExternalDecimal.checkExternalDecimal, and reports GB/s.
+ * 
+ * The packed fields are checked with each of the four combinations of
+ * ignoreHighNibbleForEvenPrecision and canOverwriteHighNibbleForEvenPrecision;
+ * the zoned fields have no such options. Each combination runs on 1, 2, 4 and
+ * so on up to the given number of threads, each thread scanning its own slice
+ * of the one shared buffer, to show whether validation scales with cores and
+ * memory bandwidth.
+ * 
+ * A few fields of the buffer are corrupted and every scan must find exactly
+ * those.
+ * 
+ * Usage: BulkValidityScan [megabytes (default 256)] [threads (default processors)] [passes (default 3)] [PACKED|ZONED|MIXED (default MIXED)]
+ */
+public class BulkValidityScan
+{
+	public enum Fields
+	{
+		PACKED(
+			"01  PACKED-FIELDS.\n" +
+			"    05  P1    PIC S9 COMP-3.\n" +
+			"    05  P4    PIC S9(4) COMP-3.\n" +
+			"    05  P7    PIC S9(7) COMP-3.\n" +
+			"    05  P8    PIC 9(8) COMP-3.\n" +
+			"    05  P11   PIC S9(9)V99 COMP-3.\n" +
+			"    05  P15   PIC S9(13)V99 COMP-3.\n" +
+			"    05  P18   PIC S9(18) COMP-3.\n" +
+			"    05  P24   PIC S9(20)V9(4) COMP-3.\n" +
+			"    05  P31   PIC S9(31) COMP-3.\n"),
+		ZONED(
+			"01  ZONED-FIELDS.\n" +
+			"    05  Z3    PIC 9(3).\n" +
+			"    05  Z5    PIC S9(5).\n" +
+			"    05  Z9    PIC S9(7)V99.\n" +
+			"    05  Z10   PIC S9(10) SIGN LEADING.\n" +
+			"    05  Z12   PIC S9(10)V99 SIGN LEADING SEPARATE.\n" +
+			"    05  Z16   PIC S9(16) SIGN TRAILING SEPARATE.\n"),
+		MIXED(
+			"01  MIXED-FIELDS.\n" +
+			"    05  ID        PIC 9(10).\n" +
+			"    05  AMOUNT    PIC S9(13)V99 COMP-3.\n" +
+			"    05  RATE      PIC SV9(5) COMP-3.\n" +
+			"    05  COUNT     PIC S9(5).\n" +
+			"    05  LIMIT     PIC S9(7)V99 COMP-3.\n" +
+			"    05  DELTA     PIC S9(9)V99 SIGN LEADING SEPARATE.\n" +
+			"    05  TOTAL     PIC S9(18) COMP-3.\n" +
+			"    05  DAYS      PIC 9(4) COMP-3.\n");
+		
+		final String copybook;
+		
+		Fields(String copybook)
+		{
+			this.copybook = copybook;
+		}
+		
+		public RecordLayout layout()
+		{
+			return Copybook.parse(copybook);
+		}
+	}
+	
+	public static final class Result
+	{
+		final boolean ignoreHighNibble;
+		final boolean overwriteHighNibble;
+		final int threads;
+		final long bytes;
+		final long nanos;
+		
+		Result(boolean ignoreHighNibble, boolean overwriteHighNibble, int threads, long bytes, long nanos)
+		{
+			this.ignoreHighNibble = ignoreHighNibble;
+			this.overwriteHighNibble = overwriteHighNibble;
+			this.threads = threads;
+			this.bytes = bytes;
+			this.nanos = nanos;
+		}
+		
+		/**
+		 * @return the bytes validated per nanosecond, which is GB/s
+		 */
+		public double getGigabytesPerSecond()
+		{
+			return (double) bytes / nanos;
+		}
+		
+		public String toString()
+		{
+			return String.format("ignoreHighNibble=%-5b overwriteHighNibble=%-5b threads=%-3d %8.3f GB/s", ignoreHighNibble, overwriteHighNibble, threads,
+					getGigabytesPerSecond());
+		}
+	}
+	
+	private final RecordLayout layout;
+	private final int recordLength;
+	
+	// The numeric fields, flattened into arrays
+	private final boolean[] packed;
+	private final int[] offsets;
+	private final int[] precisions;
+	private final int[] decimalTypes;
+	
+	private final byte[] buffer;
+	private final int records;
+	private int corrupted;
+	
+	public BulkValidityScan(RecordLayout layout, int records)
+	{
+		this.layout = layout;
+		this.records = records;
+		recordLength = layout.getRecordLength();
+		
+		List<Field> numeric = new ArrayList<Field>();
+		for (Field field : layout.getFields())
+		{
+			if (field.getKind() == Kind.PACKED || field.getKind() == Kind.ZONED)
+				numeric.add(field);
+		}
+		packed = new boolean[numeric.size()];
+		offsets = new int[numeric.size()];
+		precisions = new int[numeric.size()];
+		decimalTypes = new int[numeric.size()];
+		for (int i = 0; i < numeric.size(); ++i)
+		{
+			Field field = numeric.get(i);
+			packed[i] = field.getKind() == Kind.PACKED;
+			offsets[i] = field.getOffset();
+			precisions[i] = field.getPrecision();
+			decimalTypes[i] = field.getDecimalType();
+		}
+		
+		buffer = new byte[records * recordLength];
+		RecordFileGenerator generator = new RecordFileGenerator(layout);
+		for (int record = 0; record < records; ++record)
+			generator.generateRecord(buffer, record * recordLength);
+	}
+	
+	/**
+	 * @return a scan of megabytes of records of fields
+	 */
+	public static BulkValidityScan generate(Fields fields, int megabytes)
+	{
+		RecordLayout layout = fields.layout();
+		return new BulkValidityScan(layout, (int) Math.min(Integer.MAX_VALUE / layout.getRecordLength(), (long) megabytes * 1024 * 1024 / layout.getRecordLength()));
+	}
+	
+	public byte[] getBuffer()
+	{
+		return buffer;
+	}
+	
+	public int getRecords()
+	{
+		return records;
+	}
+	
+	public int getRecordLength()
+	{
+		return recordLength;
+	}
+	
+	public RecordLayout getLayout()
+	{
+		return layout;
+	}
+	
+	public int getCorrupted()
+	{
+		return corrupted;
+	}
+	
+	/**
+	 * Corrupts count more numeric fields, each with a digit nibble above 9,
+	 * which no option of the checks accepts.
+	 */
+	public void corrupt(int count)
+	{
+		Random random = TestRandom.getRandom();
+		
+		for (int done = 0; done < count;)
+		{
+			int record = random.nextInt(records);
+			int field = random.nextInt(offsets.length);
+			
+			// A field that is already corrupted would be counted twice
+			if (check(record * recordLength, field, false, false) != 0)
+				continue;
+			
+			// The low nibble of the first byte is a digit in both packed and zoned decimals,
+			// unless the packed decimal is of one digit
+			int at = record * recordLength + offsets[field];
+			if (packed[field] && precisions[field] == 1)
+				buffer[at] = (byte) (buffer[at] | 0xF0);
+			else
+				buffer[at + (packed[field] || decimalTypes[field] != DecimalData.EBCDIC_SIGN_SEPARATE_LEADING ? 0 : 1)] |= 0x0F;
+			++done;
+		}
+		corrupted += count;
+	}
+	
+	private int check(int recordOffset, int field, boolean ignoreHighNibble, boolean overwriteHighNibble)
+	{
+		if (packed[field])
+			return PackedDecimal.checkPackedDecimal(buffer, recordOffset + offsets[field], precisions[field], ignoreHighNibble, overwriteHighNibble);
+		return ExternalDecimal.checkExternalDecimal(buffer, recordOffset + offsets[field], precisions[field], decimalTypes[field], 0);
+	}
+	
+	/**
+	 * @return the number of invalid fields in the records from inclusive to exclusive
+	 */
+	public int scan(int from, int to, boolean ignoreHighNibble, boolean overwriteHighNibble)
+	{
+		int invalid = 0;
+		for (int offset = from * recordLength; offset < to * recordLength; offset += recordLength)
+		{
+			for (int field = 0; field < offsets.length; ++field)
+			{
+				if (check(offset, field, ignoreHighNibble, overwriteHighNibble) != 0)
+					++invalid;
+			}
+		}
+		return invalid;
+	}
+	
+	/**
+	 * Scans the whole buffer on threads threads, each taking an equal slice.
+	 * 
+	 * @return the nanoseconds the scan took
+	 * @throws AssertionError if the scan doesn't find exactly the corrupted fields
+	 */
+	public long scan(int threads, final boolean ignoreHighNibble, final boolean overwriteHighNibble) throws InterruptedException
+	{
+		final int[] invalid = new int[threads];
+		Thread[] scanners = new Thread[threads];
+		for (int i = 0; i < threads; ++i)
+		{
+			final int slice = i;
+			final int from = (int) ((long) records * i / threads);
+			final int to = (int) ((long) records * (i + 1) / threads);
+			scanners[i] = new Thread("BulkValidityScan-" + i) {
+				public void run()
+				{
+					invalid[slice] = scan(from, to, ignoreHighNibble, overwriteHighNibble);
+				}
+			};
+		}
+		
+		long start = System.nanoTime();
+		for (Thread scanner : scanners)
+			scanner.start();
+		for (Thread scanner : scanners)
+			scanner.join();
+		long nanos = System.nanoTime() - start;
+		
+		int found = 0;
+		for (int count : invalid)
+			found += count;
+		if (found != corrupted)
+			throw new AssertionError("Found " + found + " invalid fields with ignoreHighNibble=" + ignoreHighNibble + " overwriteHighNibble="
+					+ overwriteHighNibble + " on " + threads + " threads, expected " + corrupted);
+		return nanos;
+	}
+	
+	/**
+	 * Scans with each combination of options on 1, 2, 4 and so on up to
+	 * maxThreads threads, keeping the best of passes scans.
+	 */
+	public List<Result> run(int maxThreads, int passes) throws InterruptedException
+	{
+		List<Result> results = new ArrayList<Result>();
+		for (int options = 0; options < 4; ++options)
+		{
+			boolean ignoreHighNibble = (options & 1) != 0;
+			boolean overwriteHighNibble = (options & 2) != 0;
+			
+			for (int threads = 1;; threads = Math.min(threads * 2, maxThreads))
+			{
+				long best = Long.MAX_VALUE;
+				for (int pass = 0; pass < passes; ++pass)
+					best = Math.min(best, scan(threads, ignoreHighNibble, overwriteHighNibble));
+				results.add(new Result(ignoreHighNibble, overwriteHighNibble, threads, buffer.length, best));
+				if (threads == maxThreads)
+					break;
+			}
+		}
+		return results;
+	}
+	
+	public static void main(String[] args) throws InterruptedException
+	{
+		int megabytes = args.length > 0 ? Integer.parseInt(args[0]) : 256;
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+		int passes = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+		Fields fields = args.length > 3 ? Fields.valueOf(args[3]) : Fields.MIXED;
+		
+		BulkValidityScan scan = generate(fields, megabytes);
+		scan.corrupt(100);
+		System.out.println("BulkValidityScan: " + scan.getRecords() + " " + scan.getLayout().getName() + " records, " + scan.getBuffer().length
+				+ " bytes, up to " + threads + " threads, " + passes + " passes");
+		for (Result result : scan.run(threads, passes))
+			System.out.println(result);
+	}
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.daa.validity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.daa.validity.BulkValidityScan.Fields;
+import net.openj9.test.daa.validity.BulkValidityScan.Result;
+
+/**
+ * Scans -Ddaa.scanMegabytes megabytes of each kind of fields, 4 by default,
+ * before and after corrupting some of them, with every combination of options
+ * on one and several threads.
+ */
+public class TestBulkValidityScan
+{
+	@ClassRule
+	public static final RandomSeedRule seedRule = new RandomSeedRule();
+	
+	static final int DEFAULT_MEGABYTES = 4;
+	static final int THREADS = 3;
+	
+	static int megabytes()
+	{
+		return Integer.getInteger("daa.scanMegabytes", DEFAULT_MEGABYTES);
+	}
+	
+	private static void checkScan(Fields fields) throws InterruptedException
+	{
+		BulkValidityScan scan = BulkValidityScan.generate(fields, megabytes());
+		assertTrue(fields + " records", scan.getRecords() > THREADS);
+		
+		// scan throws an AssertionError unless it finds exactly the corrupted fields
+		assertEquals(12, scan.run(THREADS, 1).size());
+		scan.corrupt(THREADS * 10);
+		for (Result result : scan.run(THREADS, 1))
+			assertTrue(result.toString(), result.getGigabytesPerSecond() > 0);
+		
+		int split = scan.getRecords() / 3;
+		assertEquals(scan.getCorrupted(), scan.scan(0, split, true, false) + scan.scan(split, scan.getRecords(), false, true));
+	}
+	
+	@Test
+	public void testPacked() throws InterruptedException
+	{
+		checkScan(Fields.PACKED);
+	}
+	
+	@Test
+	public void testZoned() throws InterruptedException
+	{
+		checkScan(Fields.ZONED);
+	}
+	
+	@Test
+	public void testMixed() throws InterruptedException
+	{
+		checkScan(Fields.MIXED);
+	}
+}
@@ -25,16 +25,25 @@ import static org.junit.Assert.assertEquals;
 
 import java.io.UnsupportedEncodingException;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Random;
 
+import net.openj9.test.DecimalGenerator;
+import net.openj9.test.RandomSeedRule;
 import net.openj9.test.Utils;
+import net.openj9.test.TestRandom;
+
+import org.junit.ClassRule;
 
 public class DecimalTestBase
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     static char udPositiveSign = '+';
     static char udNegativeSign = '-';
     
-    static Random randomGenerator = new Random(System.currentTimeMillis());
+    static Random randomGenerator = TestRandom.getRandom();
     
     static int[] types = new int[] { com.ibm.dataaccess.DecimalData.UNICODE_SIGN_SEPARATE_LEADING, com.ibm.dataaccess.DecimalData.UNICODE_SIGN_SEPARATE_TRAILING, com.ibm.dataaccess.DecimalData.UNICODE_UNSIGNED };
     static int[] edTypes = new int[] { com.ibm.dataaccess.DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING, com.ibm.dataaccess.DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING, com.ibm.dataaccess.DecimalData.EBCDIC_SIGN_SEPARATE_LEADING, com.ibm.dataaccess.DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING };
@@ -42,66 +51,46 @@ public class DecimalTestBase
     // only deals with positive value
     public static void StringToEBCDIC(byte[] pd, int pdOffset, String str)
     {
-        char[] ch = str.toCharArray();
         int pos = pdOffset;
 
-        for (int i = 0; i < ch.length; ++i)
+        for (int i = 0; i < str.length(); ++i)
         {
-            switch (ch[i])
-            {
-                case '0':
-                    pd[pos] = (byte) 0xF0;
-                    break;
-                case '1':
-                    pd[pos] = (byte) 0xF1;
-                    break;
-                case '2':
-                    pd[pos] = (byte) 0xF2;
-                    break;
-                case '3':
-                    pd[pos] = (byte) 0xF3;
-                    break;
-                case '4':
-                    pd[pos] = (byte) 0xF4;
-                    break;
-                case '5':
-                    pd[pos] = (byte) 0xF5;
-                    break;
-                case '6':
-                    pd[pos] = (byte) 0xF6;
-                    break;
-                case '7':
-                    pd[pos] = (byte) 0xF7;
-                    break;
-                case '8':
-                    pd[pos] = (byte) 0xF8;
-                    break;
-                case '9':
-                    pd[pos] = (byte) 0xF9;
-                    break;
-            }
+            char ch = str.charAt(i);
+            if (ch >= '0' && ch <= '9')
+                pd[pos] = (byte) (0xF0 | (ch - '0'));
             pos++;
         }
     }
 
     public static byte[] constructRandomED(int offset, int precision, int decimalType) throws UnsupportedEncodingException
     {
-        return constructED(offset, precision, Utils.getRandomPositiveBigInteger(precision), decimalType);
+        byte[] rv = new byte[offset + DecimalGenerator.decimalLength(precision, decimalType)];
+
+        // Write the digits straight into the array, then give it a random sign as constructED does
+        DecimalGenerator.current().external(rv, offset, precision, false, decimalType);
+        setRandomEDSign(rv, offset, precision, decimalType);
+
+        return rv;
     }
 
     public static byte[] constructED(int offset, int precision, BigInteger bi, int decimalType) throws UnsupportedEncodingException
     {
-        byte[] rv;
+        byte[] rv = new byte[offset + DecimalGenerator.decimalLength(precision, decimalType)];
 
-        byte posSign = (byte) (randomGenerator.nextInt() & 0xF0);
-        byte negSign = (byte) 0xD0;
+        if (decimalType == com.ibm.dataaccess.DecimalData.EBCDIC_SIGN_SEPARATE_LEADING)
+            StringToEBCDIC(rv, offset + 1, bi.toString());
+        else
+            StringToEBCDIC(rv, offset, bi.toString());
 
-        int length = offset + precision;
-        
-        if (decimalType == com.ibm.dataaccess.DecimalData.EBCDIC_SIGN_SEPARATE_LEADING || decimalType == com.ibm.dataaccess.DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING)
-            length += 1;
+        setRandomEDSign(rv, offset, precision, decimalType);
 
-        rv = new byte[length];
+        return rv;
+    }
+
+    private static void setRandomEDSign(byte[] rv, int offset, int precision, int decimalType)
+    {
+        byte posSign = (byte) (randomGenerator.nextInt() & 0xF0);
+        byte negSign = (byte) 0xD0;
 
         boolean isPositive = randomGenerator.nextBoolean();
         
@@ -112,36 +101,48 @@ public class DecimalTestBase
         {
             case com.ibm.dataaccess.DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING:
             {
-                StringToEBCDIC(rv, offset, bi.toString());
                 rv[offset] = (byte) ((rv[offset] & 0x0F) | signVal);
                 break;
             }
             case com.ibm.dataaccess.DecimalData.EBCDIC_SIGN_SEPARATE_LEADING:
             {
                 rv[offset] = signVal2;
-                StringToEBCDIC(rv, offset + 1, bi.toString());
                 break;
             }
             case com.ibm.dataaccess.DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING:
             {
-                StringToEBCDIC(rv, offset, bi.toString());
                 int pos = offset + precision - 1;
                 rv[pos] = (byte) (rv[pos] & 0x0F | signVal);
                 break;
             }
             case com.ibm.dataaccess.DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING:
             {
-                StringToEBCDIC(rv, offset, bi.toString());
                 rv[offset + precision] = signVal2;
                 break;
             }
         }
-        return rv;
     }
 
     public static char[] constructRandomUD(int offset, int precision, int decimalType)
     {
-        return constructUD(offset, precision, Utils.getRandomPositiveBigInteger(precision), decimalType);
+        char[] rv = new char[offset + DecimalGenerator.decimalLength(precision, decimalType)];
+        Arrays.fill(rv, 0, offset, '0');
+
+        // The same signs as constructUD, with the digits written straight into the array
+        int digitsOffset = offset;
+        if (decimalType == com.ibm.dataaccess.DecimalData.UNICODE_SIGN_SEPARATE_LEADING)
+            rv[digitsOffset++] = randomUDSign();
+        else if (decimalType == com.ibm.dataaccess.DecimalData.UNICODE_SIGN_SEPARATE_TRAILING)
+            rv[offset + precision] = randomUDSign();
+
+        DecimalGenerator.current().digits(rv, digitsOffset, precision);
+
+        return rv;
+    }
+
+    private static char randomUDSign()
+    {
+        return randomGenerator.nextBoolean() ? (char) randomGenerator.nextInt() : '-';
     }
 
     public static char[] constructUD(int offset, int precision, BigInteger bi, int decimalType)
@@ -21,7 +21,7 @@
 
 package net.openj9.test.decimals;
 
-import net.openj9.test.BasicTestRunner;
+import net.openj9.test.SuiteRunner;
 import net.openj9.test.decimals.TestBD2PD2BD;
 import net.openj9.test.decimals.TestDecimalData;
 import net.openj9.test.decimals.TestED2PD;
@@ -38,28 +38,16 @@ public class DecimalTestRunner
             System.exit(1);
     }
 
+    private static final SuiteRunner suite = new SuiteRunner("DecimalTestRunner",
+            TestED2PD.class,
+            TestPD2ED.class,
+            TestPD2UD.class,
+            TestUD2PD.class,
+            TestBD2PD2BD.class,
+            TestDecimalData.class);
+
     public static boolean runTests(int x)
     {
-        boolean seenFailure = false;
-        
-        long startTime = System.nanoTime();
-        
-        for (int i = 0; i < x; ++i)
-        {
-            seenFailure |= !(BasicTestRunner.runClass(TestED2PD.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestPD2ED.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestPD2UD.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestUD2PD.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestBD2PD2BD.class));
-            seenFailure |= !(BasicTestRunner.runClass(TestDecimalData.class));
-         // seenFailure |= !(BasicTestRunner.runClass(TestI2PD.class));
-
-        }
-        
-        long endTime = System.nanoTime();
-        
-        System.out.printf("DecimalTestRunner: Time taken for tests:%d \n", endTime - startTime);
-
-        return seenFailure;
+        return suite.runTests(x);
     }
 }
@@ -21,11 +21,14 @@
 
 package net.openj9.test.decimals;
 
+import org.junit.ClassRule;
 import org.junit.Test;
 
 import com.ibm.dataaccess.*;
 
+import net.openj9.test.RandomSeedRule;
 import net.openj9.test.Utils;
+import net.openj9.test.TestRandom;
 
 import java.util.Arrays;
 import java.util.Random;
@@ -46,6 +49,9 @@ import org.junit.Before;
  */
 public class TestBD2PD2BD
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     static Random randomGen;
 
     static int ARRAY_SIZE = 64;
@@ -55,9 +61,6 @@ public class TestBD2PD2BD
 
     static final long MANTISSA_MASK = 0x000FFFFFFFFFFFL;
 
-    /* Attempting to increase the randomness */
-    static int randomSeed = (int) (System.currentTimeMillis() % 160001);
-
     static final int numOfIters = 100;
 
     byte[] pdArray = new byte[ARRAY_SIZE];
@@ -66,7 +69,7 @@ public class TestBD2PD2BD
     /* Static initializer (class wide) */
     static
     {
-        randomGen = new Random(randomSeed);
+        randomGen = TestRandom.getRandom();
     };
 
     static int getRandomInt()
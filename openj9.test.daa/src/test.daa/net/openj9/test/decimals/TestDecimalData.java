@@ -29,8 +29,11 @@ import java.util.Random;
 
 import com.ibm.dataaccess.*;
 
+import net.openj9.test.RandomSeedRule;
 import net.openj9.test.Utils;
+import net.openj9.test.TestRandom;
 
+import org.junit.ClassRule;
 import org.junit.Test;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -39,6 +42,9 @@ import static org.junit.Assert.*;
 
 public class TestDecimalData
 {
+    @ClassRule
+    public static final RandomSeedRule seedRule = new RandomSeedRule();
+
     static String outputFile;
 
     static Random randomGenerator;
@@ -765,7 +771,7 @@ public class TestDecimalData
     @BeforeClass
     public static void setUp()
     {
-        randomGenerator = new Random(System.currentTimeMillis());
+        randomGenerator = TestRandom.getRandom();
     }
 
     @AfterClass
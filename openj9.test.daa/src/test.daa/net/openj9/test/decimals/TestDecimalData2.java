@@ -25,11 +25,14 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
 
+import org.junit.ClassRule;
 import org.junit.Test;
 
 import com.ibm.dataaccess.*;
 
+import net.openj9.test.RandomSeedRule;
 import net.openj9.test.Utils;
+import net.openj9.test.TestRandom;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import java.util.Random;
@@ -37,6 +40,9 @@ import java.util.Random;
 import static org.junit.Assert.*;
 
 public class TestDecimalData2 {
+	@ClassRule
+	public static final RandomSeedRule seedRule = new RandomSeedRule();
+	
 	
 	static String outputFile;
 	static Random randomGenerator;
@@ -767,7 +773,7 @@ public class TestDecimalData2 {
 	@BeforeClass
 	public static void setUp() 
 	{
-		randomGenerator = new Random(System.currentTimeMillis());
+		randomGenerator = TestRandom.getRandom();
 	}
 	
 	@AfterClass
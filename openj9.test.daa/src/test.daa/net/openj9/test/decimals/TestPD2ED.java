@@ -30,6 +30,8 @@ import org.junit.Test;
 
 import com.ibm.dataaccess.DecimalData;
 
+import net.openj9.test.TestRandom;
+
 public class TestPD2ED extends TestED2PD
 {
     static final int ARRAY_SIZE = 100;
@@ -41,7 +43,7 @@ public class TestPD2ED extends TestED2PD
 
     static
     {
-        randomGen = new Random((int) (System.currentTimeMillis() % 160001));
+        randomGen = TestRandom.getRandom();
     };
 
     static int getRandomInt()
@@ -0,0 +1,369 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.exhaustive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ibm.dataaccess.DecimalData;
+
+import net.openj9.test.DecimalGenerator;
+import net.openj9.test.Utils;
+
+/**
+ * Checks the int conversions of DecimalData for every value of a precision:
+ * convertIntegerToPackedDecimal, convertIntegerToExternalDecimal for each
+ * EBCDIC type and convertIntegerToUnicodeDecimal for each unicode type. Each
+ * result is checked digit by digit and converted back to an int.
+ * 
+ * The range of values is split into fork/join tasks. Each leaf task allocates
+ * its buffers once and reuses them for all its values, so nothing is allocated
+ * per value unless a check fails. verifySample instead checks a random sample
+ * of the values, and the extremes, on the calling thread, for the load tests
+ * that run many tests at once.
+ * 
+ * Usage: ExhaustiveConversionVerifier [max precision (default 7)] [min precision (default 1)]
+ */
+public class ExhaustiveConversionVerifier
+{
+	public static final int DEFAULT_MAX_PRECISION = 7;
+	
+	// The largest precision whose values all fit in an int
+	public static final int MAX_PRECISION = 9;
+	
+	static final int LEAF_VALUES = 1 << 14;
+	static final int MAX_REPORTED_FAILURES = 20;
+	
+	static final int[] EXTERNAL_TYPES = {
+		DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING, DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING,
+		DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING, DecimalData.EBCDIC_SIGN_SEPARATE_LEADING
+	};
+	
+	static final int[] UNICODE_TYPES = {
+		DecimalData.UNICODE_UNSIGNED, DecimalData.UNICODE_SIGN_SEPARATE_LEADING, DecimalData.UNICODE_SIGN_SEPARATE_TRAILING
+	};
+	
+	// Each value is converted to and from packed decimal and each external and unicode type
+	static final int CONVERSIONS_PER_VALUE = 2 * (1 + EXTERNAL_TYPES.length + UNICODE_TYPES.length);
+	
+	private final ForkJoinPool pool;
+	
+	private final AtomicLong failureCount = new AtomicLong();
+	private final ConcurrentLinkedQueue<String> failures = new ConcurrentLinkedQueue<String>();
+	
+	public ExhaustiveConversionVerifier(int parallelism)
+	{
+		pool = new ForkJoinPool(parallelism);
+	}
+	
+	class RangeTask extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		
+		final int precision;
+		final int from;
+		final int to;
+		
+		/**
+		 * checks the values from from to to, exclusive.
+		 */
+		RangeTask(int precision, int from, int to)
+		{
+			this.precision = precision;
+			this.from = from;
+			this.to = to;
+		}
+		
+		protected void compute()
+		{
+			if ((long) to - from > LEAF_VALUES)
+			{
+				int middle = (int) (((long) from + to) / 2);
+				invokeAll(new RangeTask(precision, from, middle), new RangeTask(precision, middle, to));
+				return;
+			}
+			
+			byte[] packed = new byte[precision / 2 + 1];
+			byte[] external = new byte[precision + 1];
+			char[] unicode = new char[precision + 1];
+			
+			for (int value = from; value < to; ++value)
+			{
+				try
+				{
+					verifyValue(value, precision, packed, external, unicode);
+				}
+				catch (RuntimeException e)
+				{
+					fail(value, precision, "threw " + e);
+				}
+			}
+		}
+	}
+	
+	private void fail(int value, int precision, String message)
+	{
+		if (failureCount.incrementAndGet() <= MAX_REPORTED_FAILURES)
+			failures.add("Value " + value + " precision " + precision + ": " + message);
+	}
+	
+	void verifyValue(int value, int precision, byte[] packed, byte[] external, char[] unicode)
+	{
+		DecimalData.convertIntegerToPackedDecimal(value, packed, 0, precision, true);
+		if (!isPackedDecimal(value, packed, precision))
+			fail(value, precision, "convertIntegerToPackedDecimal gave " + Utils.byteArrayToString(packed));
+		else if (DecimalData.convertPackedDecimalToInteger(packed, 0, precision, true) != value)
+			fail(value, precision, "convertPackedDecimalToInteger of " + Utils.byteArrayToString(packed) + " gave "
+					+ DecimalData.convertPackedDecimalToInteger(packed, 0, precision, true));
+		
+		for (int decimalType : EXTERNAL_TYPES)
+		{
+			DecimalData.convertIntegerToExternalDecimal(value, external, 0, precision, true, decimalType);
+			if (!isExternalDecimal(value, external, precision, decimalType))
+				fail(value, precision, "convertIntegerToExternalDecimal " + Utils.decimalTypeToString(decimalType) + " gave "
+						+ Utils.byteArrayToString(external));
+			else if (DecimalData.convertExternalDecimalToInteger(external, 0, precision, true, decimalType) != value)
+				fail(value, precision, "convertExternalDecimalToInteger " + Utils.decimalTypeToString(decimalType) + " of "
+						+ Utils.byteArrayToString(external) + " gave " + DecimalData.convertExternalDecimalToInteger(external, 0, precision, true, decimalType));
+		}
+		
+		for (int decimalType : UNICODE_TYPES)
+		{
+			// An unsigned unicode decimal holds the magnitude
+			int expected = decimalType == DecimalData.UNICODE_UNSIGNED ? Math.abs(value) : value;
+			
+			DecimalData.convertIntegerToUnicodeDecimal(value, unicode, 0, precision, true, decimalType);
+			if (!isUnicodeDecimal(expected, unicode, precision, decimalType))
+				fail(value, precision, "convertIntegerToUnicodeDecimal " + Utils.decimalTypeToString(decimalType) + " gave "
+						+ Utils.charArrayToString(unicode));
+			else if (DecimalData.convertUnicodeDecimalToInteger(unicode, 0, precision, true, decimalType) != expected)
+				fail(value, precision, "convertUnicodeDecimalToInteger " + Utils.decimalTypeToString(decimalType) + " of "
+						+ Utils.charArrayToString(unicode) + " gave " + DecimalData.convertUnicodeDecimalToInteger(unicode, 0, precision, true, decimalType));
+		}
+	}
+	
+	static boolean isNegativeSign(int sign)
+	{
+		return sign == 0x0B || sign == 0x0D;
+	}
+	
+	static boolean isPackedDecimal(int value, byte[] packed, int precision)
+	{
+		int last = precision / 2;
+		int sign = packed[last] & 0x0F;
+		if (sign < 0x0A || isNegativeSign(sign) != value < 0)
+			return false;
+		
+		// An even precision leaves the top nibble unused
+		if ((precision & 1) == 0 && (packed[0] & 0xF0) != 0)
+			return false;
+		
+		int magnitude = Math.abs(value);
+		for (int k = 0; k < precision; ++k)
+		{
+			int nibble = k + 1;
+			int b = packed[last - nibble / 2];
+			int digit = (nibble & 1) != 0 ? (b >> 4) & 0x0F : b & 0x0F;
+			if (digit != magnitude % 10)
+				return false;
+			magnitude /= 10;
+		}
+		return true;
+	}
+	
+	static boolean isExternalDecimal(int value, byte[] external, int precision, int decimalType)
+	{
+		int first = 0;
+		if (decimalType == DecimalData.EBCDIC_SIGN_SEPARATE_LEADING)
+		{
+			if (external[0] != (value < 0 ? DecimalGenerator.EBCDIC_MINUS : DecimalGenerator.EBCDIC_PLUS))
+				return false;
+			first = 1;
+		}
+		if (decimalType == DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING && external[precision] != (value < 0 ? DecimalGenerator.EBCDIC_MINUS : DecimalGenerator.EBCDIC_PLUS))
+			return false;
+		
+		int zoneIndex = -1;
+		if (decimalType == DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING)
+			zoneIndex = 0;
+		if (decimalType == DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING)
+			zoneIndex = precision - 1;
+		
+		int magnitude = Math.abs(value);
+		for (int i = precision - 1; i >= 0; --i)
+		{
+			int b = external[first + i] & 0xFF;
+			int zone = b >> 4;
+			
+			if (i == zoneIndex)
+			{
+				if (zone < 0x0A || isNegativeSign(zone) != value < 0)
+					return false;
+			}
+			else if (zone != 0x0F)
+			{
+				return false;
+			}
+			
+			if ((b & 0x0F) != magnitude % 10)
+				return false;
+			magnitude /= 10;
+		}
+		return true;
+	}
+	
+	static boolean isUnicodeDecimal(int value, char[] unicode, int precision, int decimalType)
+	{
+		int first = 0;
+		if (decimalType == DecimalData.UNICODE_SIGN_SEPARATE_LEADING)
+		{
+			if (unicode[0] != (value < 0 ? '-' : '+'))
+				return false;
+			first = 1;
+		}
+		if (decimalType == DecimalData.UNICODE_SIGN_SEPARATE_TRAILING && unicode[precision] != (value < 0 ? '-' : '+'))
+			return false;
+		
+		int magnitude = Math.abs(value);
+		for (int i = precision - 1; i >= 0; --i)
+		{
+			if (unicode[first + i] != '0' + magnitude % 10)
+				return false;
+			magnitude /= 10;
+		}
+		return true;
+	}
+	
+	/**
+	 * checks every value of the precision and returns the number of failures.
+	 */
+	public long verify(int precision)
+	{
+		if (precision < 1 || precision > MAX_PRECISION)
+			throw new IllegalArgumentException("Precision must be from 1 to " + MAX_PRECISION + ": " + precision);
+		
+		int limit = 1;
+		for (int i = 0; i < precision; ++i)
+			limit *= 10;
+		
+		long before = failureCount.get();
+		pool.invoke(new RangeTask(precision, -(limit - 1), limit));
+		return failureCount.get() - before;
+	}
+	
+	/**
+	 * checks 0, 1, -1, the largest and smallest values of the precision and
+	 * count values picked by random on the calling thread, and returns the
+	 * number of failures.
+	 */
+	public long verifySample(int precision, int count, Random random)
+	{
+		if (precision < 1 || precision > MAX_PRECISION)
+			throw new IllegalArgumentException("Precision must be from 1 to " + MAX_PRECISION + ": " + precision);
+		
+		int limit = 1;
+		for (int i = 0; i < precision; ++i)
+			limit *= 10;
+		
+		byte[] packed = new byte[precision / 2 + 1];
+		byte[] external = new byte[precision + 1];
+		char[] unicode = new char[precision + 1];
+		int[] extremes = { 0, 1, -1, limit - 1, -(limit - 1) };
+		
+		long before = failureCount.get();
+		for (int i = 0; i < extremes.length + count; ++i)
+		{
+			int value = i < extremes.length ? extremes[i] : random.nextInt(2 * limit - 1) - (limit - 1);
+			try
+			{
+				verifyValue(value, precision, packed, external, unicode);
+			}
+			catch (RuntimeException e)
+			{
+				fail(value, precision, "threw " + e);
+			}
+		}
+		return failureCount.get() - before;
+	}
+	
+	/**
+	 * returns the messages of the first MAX_REPORTED_FAILURES failures.
+	 */
+	public List<String> getFailures()
+	{
+		return new ArrayList<String>(failures);
+	}
+	
+	public long getFailureCount()
+	{
+		return failureCount.get();
+	}
+	
+	public void shutdown()
+	{
+		pool.shutdown();
+	}
+	
+	public static void main(String[] args)
+	{
+		int maxPrecision = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MAX_PRECISION;
+		int minPrecision = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+		int parallelism = Runtime.getRuntime().availableProcessors();
+		
+		ExhaustiveConversionVerifier verifier = new ExhaustiveConversionVerifier(parallelism);
+		
+		System.out.println("ExhaustiveConversionVerifier: precisions " + minPrecision + " to " + maxPrecision + " on " + parallelism + " threads");
+		
+		long totalValues = 0;
+		long totalTime = 0;
+		
+		for (int precision = minPrecision; precision <= maxPrecision; ++precision)
+		{
+			long startTime = System.nanoTime();
+			long failed = verifier.verify(precision);
+			long time = System.nanoTime() - startTime;
+			
+			long values = 2L * (long) Math.pow(10, precision) - 1;
+			totalValues += values;
+			totalTime += time;
+			
+			System.out.printf("Precision %d: %d values in %d ms, %.0f values/s, %.0f conversions/s, %d failures%n", precision, values, time / 1000000,
+					values / (time / 1e9), values * CONVERSIONS_PER_VALUE / (time / 1e9), failed);
+		}
+		verifier.shutdown();
+		
+		System.out.printf("ExhaustiveConversionVerifier: %d values in %d ms, %.0f values/s, %d failures%n", totalValues, totalTime / 1000000,
+				totalValues / (totalTime / 1e9), verifier.getFailureCount());
+		
+		for (String failure : verifier.getFailures())
+			System.out.println("\t" + failure);
+		
+		if (verifier.getFailureCount() > 0)
+			System.exit(1);
+	}
+}
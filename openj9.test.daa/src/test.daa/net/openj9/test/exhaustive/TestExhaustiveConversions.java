@@ -0,0 +1,66 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.exhaustive;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import net.openj9.test.RandomSeedRule;
+
+/**
+ * Runs ExhaustiveConversionVerifier over every precision up to
+ * -Ddaa.exhaustivePrecision, 5 by default, which checks every int of up to
+ * 5 digits in a few seconds, on -Ddaa.exhaustiveThreads threads, all the
+ * cores by default. It uses the whole machine, so the load tests run
+ * TestSampledConversions instead.
+ */
+public class TestExhaustiveConversions
+{
+	@ClassRule
+	public static final RandomSeedRule seedRule = new RandomSeedRule();
+	
+	static final int DEFAULT_PRECISION = 5;
+	
+	@Test
+	public void testIntegerConversions()
+	{
+		int maxPrecision = Integer.getInteger("daa.exhaustivePrecision", DEFAULT_PRECISION);
+		
+		int threads = Integer.getInteger("daa.exhaustiveThreads", Runtime.getRuntime().availableProcessors());
+		
+		ExhaustiveConversionVerifier verifier = new ExhaustiveConversionVerifier(threads);
+		try
+		{
+			for (int precision = 1; precision <= maxPrecision; ++precision)
+				verifier.verify(precision);
+		}
+		finally
+		{
+			verifier.shutdown();
+		}
+		
+		assertEquals("Failed conversions, the first ones are " + verifier.getFailures(), 0, verifier.getFailureCount());
+	}
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.exhaustive;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import net.openj9.test.RandomSeedRule;
+import net.openj9.test.TestRandom;
+
+/**
+ * Runs ExhaustiveConversionVerifier.verifySample over every precision up to
+ * 9 with -Ddaa.sampledConversions random values each, 2000 by default, on the
+ * calling thread. This is the form the load tests run, since they already run
+ * many tests at once; TestExhaustiveConversions checks every value.
+ */
+public class TestSampledConversions
+{
+	@ClassRule
+	public static final RandomSeedRule seedRule = new RandomSeedRule();
+	
+	static final int DEFAULT_SAMPLES = 2000;
+	
+	@Test
+	public void testIntegerConversions()
+	{
+		int samples = Integer.getInteger("daa.sampledConversions", DEFAULT_SAMPLES);
+		
+		// verifySample doesn't use the pool, so it never starts a thread
+		ExhaustiveConversionVerifier verifier = new ExhaustiveConversionVerifier(1);
+		try
+		{
+			for (int precision = 1; precision <= ExhaustiveConversionVerifier.MAX_PRECISION; ++precision)
+				verifier.verifySample(precision, samples, TestRandom.getRandom());
+		}
+		finally
+		{
+			verifier.shutdown();
+		}
+		
+		assertEquals("Failed conversions, the first ones are " + verifier.getFailures(), 0, verifier.getFailureCount());
+	}
+}
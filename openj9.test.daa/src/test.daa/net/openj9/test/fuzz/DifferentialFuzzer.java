@@ -0,0 +1,253 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.fuzz;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A differential fuzzer for the PackedDecimal and DecimalData calls. Random
+ * cases are run through the API and through the BigInteger/BigDecimal oracle
+ * of FuzzCase on all the cores of a fork/join pool, for a given time.
+ * 
+ * Case n of a run is generated from a seed derived from the run seed and n
+ * only, so a run finds the same cases whatever the number of threads. The
+ * first mismatching case of each call is shrunk to a minimal one, which is
+ * printed as a JUnit test in the style of RandomTests, ready to be pasted in.
+ * 
+ * Usage: DifferentialFuzzer [seconds (default 60)] [seed (default random)]
+ *        DifferentialFuzzer -replay <case seed>
+ */
+public class DifferentialFuzzer
+{
+	public static final int DEFAULT_SECONDS = 60;
+	
+	// Cases run by a leaf task, and leaf tasks per thread in each call to the pool
+	static final int BATCH_CASES = 4096;
+	static final int ROUND_BATCHES = 16;
+	
+	static final long NO_MISMATCH = 0;
+	
+	private final long seed;
+	private final ForkJoinPool pool;
+	
+	private final AtomicLong caseCount = new AtomicLong();
+	private final AtomicLong mismatchCount = new AtomicLong();
+	
+	// The lowest numbered mismatching case of each call, plus one so that 0 means none
+	private final AtomicLongArray firstMismatches = new AtomicLongArray(FuzzCase.OPERATION_COUNT);
+	
+	private final ThreadLocal<FuzzCase> threadCase = new ThreadLocal<FuzzCase>() {
+		protected FuzzCase initialValue()
+		{
+			return new FuzzCase();
+		}
+	};
+	
+	public DifferentialFuzzer(long seed, int parallelism)
+	{
+		this.seed = seed;
+		this.pool = new ForkJoinPool(parallelism);
+	}
+	
+	/**
+	 * returns the seed of case number index of the run seeded with seed.
+	 */
+	static long caseSeed(long seed, long index)
+	{
+		// The SplittableRandom mixing function, over a golden ratio sequence
+		long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+	
+	class FuzzTask extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		
+		final long first;
+		final long count;
+		
+		FuzzTask(long first, long count)
+		{
+			this.first = first;
+			this.count = count;
+		}
+		
+		protected void compute()
+		{
+			if (count > BATCH_CASES)
+			{
+				long half = count / 2;
+				invokeAll(new FuzzTask(first, half), new FuzzTask(first + half, count - half));
+				return;
+			}
+			
+			FuzzCase fuzzCase = threadCase.get();
+			for (long index = first; index < first + count; ++index)
+			{
+				fuzzCase.generate(caseSeed(seed, index));
+				if (fuzzCase.mismatches())
+					recordMismatch(fuzzCase.operation, index);
+			}
+			caseCount.addAndGet(count);
+		}
+	}
+	
+	private void recordMismatch(int operation, long index)
+	{
+		mismatchCount.incrementAndGet();
+		
+		long current;
+		do
+		{
+			current = firstMismatches.get(operation);
+			if (current != NO_MISMATCH && current <= index + 1)
+				return;
+		}
+		while (!firstMismatches.compareAndSet(operation, current, index + 1));
+	}
+	
+	/**
+	 * runs the given number of cases, starting at case number first.
+	 */
+	public void run(long first, long count)
+	{
+		pool.invoke(new FuzzTask(first, count));
+	}
+	
+	/**
+	 * runs rounds of cases until the time is up, printing the throughput after each
+	 * round that ends more than 10 seconds after the last one printed.
+	 */
+	public void runFor(long durationMillis)
+	{
+		long roundCases = (long) BATCH_CASES * ROUND_BATCHES * pool.getParallelism();
+		long startTime = System.nanoTime();
+		long deadline = startTime + durationMillis * 1000000;
+		long lastReport = startTime;
+		
+		for (long next = 0; System.nanoTime() - deadline < 0; next += roundCases)
+		{
+			run(next, roundCases);
+			
+			long now = System.nanoTime();
+			if (now - lastReport > 10000000000L)
+			{
+				printThroughput(now - startTime);
+				lastReport = now;
+			}
+		}
+		printThroughput(System.nanoTime() - startTime);
+	}
+	
+	public void shutdown()
+	{
+		pool.shutdown();
+	}
+	
+	private void printThroughput(long nanos)
+	{
+		long cases = caseCount.get();
+		double seconds = nanos / 1e9;
+		System.out.printf("DifferentialFuzzer: %d cases in %.1f s, %.0f cases/s, %d mismatches%n", cases, seconds, cases / seconds,
+				mismatchCount.get());
+	}
+	
+	public long getCaseCount()
+	{
+		return caseCount.get();
+	}
+	
+	public long getMismatchCount()
+	{
+		return mismatchCount.get();
+	}
+	
+	/**
+	 * returns the seed of the first mismatching case of the call, 0 if there was none.
+	 */
+	public long getFirstMismatchSeed(int operation)
+	{
+		long index = firstMismatches.get(operation);
+		return index == NO_MISMATCH ? 0 : caseSeed(seed, index - 1);
+	}
+	
+	/**
+	 * regenerates the case from its seed, shrinks it and prints it, returns
+	 * false if it does not mismatch.
+	 */
+	public static boolean report(long caseSeed)
+	{
+		FuzzCase fuzzCase = new FuzzCase();
+		fuzzCase.generate(caseSeed);
+		if (!fuzzCase.mismatches())
+		{
+			System.out.println("Case " + caseSeed + " does not mismatch: " + fuzzCase);
+			return false;
+		}
+		
+		FuzzCase shrunk = fuzzCase.shrink();
+		
+		System.out.println();
+		System.out.println("Mismatch in " + FuzzCase.OPERATION_NAMES[fuzzCase.operation] + ", case " + caseSeed + ": " + fuzzCase);
+		System.out.println("Shrunk to: " + shrunk);
+		System.out.println("Expected " + shrunk.runOracle() + " but was " + shrunk.runDaa());
+		System.out.println();
+		System.out.print(shrunk.toJUnit());
+		return true;
+	}
+	
+	public static void main(String[] args)
+	{
+		if (args.length == 2 && args[0].equals("-replay"))
+		{
+			report(Long.parseLong(args[1]));
+			return;
+		}
+		
+		int seconds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SECONDS;
+		long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+		int parallelism = Runtime.getRuntime().availableProcessors();
+		
+		System.out.println("DifferentialFuzzer: running for " + seconds + " s on " + parallelism + " threads with seed " + seed);
+		
+		DifferentialFuzzer fuzzer = new DifferentialFuzzer(seed, parallelism);
+		fuzzer.runFor(seconds * 1000L);
+		fuzzer.shutdown();
+		
+		boolean seenMismatch = false;
+		for (int operation = 0; operation < FuzzCase.OPERATION_COUNT; ++operation)
+		{
+			long caseSeed = fuzzer.getFirstMismatchSeed(operation);
+			if (fuzzer.firstMismatches.get(operation) != NO_MISMATCH)
+				seenMismatch |= report(caseSeed);
+		}
+		
+		if (seenMismatch)
+			System.exit(1);
+	}
+}
@@ -0,0 +1,1160 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.fuzz;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+
+import net.openj9.test.Utils;
+
+/**
+ * One differential fuzzing case: a PackedDecimal or DecimalData call with its
+ * operands, precisions, offsets and flags, which can be run through the API and
+ * through a BigInteger/BigDecimal oracle.
+ * 
+ * Operands are kept as digits and a sign nibble rather than bytes, so that a
+ * failing case can be shrunk digit by digit and encoded as packed, external or
+ * unicode decimal for whichever call is being made. Both runs return an
+ * outcome string, a canonical value, the name of the exception thrown or a
+ * description of a malformed result, and the case passes if they are equal.
+ * Zero results compare equal whatever their sign.
+ * 
+ * A case is generated from a single seed, so any case can be replayed from it.
+ */
+public class FuzzCase
+{
+	static final int ADD = 0;
+	static final int SUBTRACT = 1;
+	static final int MULTIPLY = 2;
+	static final int DIVIDE = 3;
+	static final int REMAINDER = 4;
+	static final int COMPARE = 5;
+	static final int SHIFT_LEFT = 6;
+	static final int SHIFT_RIGHT = 7;
+	static final int CHECK = 8;
+	static final int PACKED_TO_LONG = 9;
+	static final int PACKED_TO_INTEGER = 10;
+	static final int LONG_TO_PACKED = 11;
+	static final int INTEGER_TO_PACKED = 12;
+	static final int PACKED_TO_BIG_INTEGER = 13;
+	static final int BIG_INTEGER_TO_PACKED = 14;
+	static final int PACKED_TO_BIG_DECIMAL = 15;
+	static final int PACKED_TO_EXTERNAL = 16;
+	static final int EXTERNAL_TO_PACKED = 17;
+	static final int PACKED_TO_UNICODE = 18;
+	static final int UNICODE_TO_PACKED = 19;
+	
+	static final int OPERATION_COUNT = 20;
+	
+	static final String[] OPERATION_NAMES = {
+		"addPackedDecimal", "subtractPackedDecimal", "multiplyPackedDecimal", "dividePackedDecimal", "remainderPackedDecimal",
+		"comparePackedDecimal", "shiftLeftPackedDecimal", "shiftRightPackedDecimal", "checkPackedDecimal",
+		"convertPackedDecimalToLong", "convertPackedDecimalToInteger", "convertLongToPackedDecimal", "convertIntegerToPackedDecimal",
+		"convertPackedDecimalToBigInteger", "convertBigIntegerToPackedDecimal", "convertPackedDecimalToBigDecimal",
+		"convertPackedDecimalToExternalDecimal", "convertExternalDecimalToPackedDecimal",
+		"convertPackedDecimalToUnicodeDecimal", "convertUnicodeDecimalToPackedDecimal"
+	};
+	
+	static final int[] EXTERNAL_TYPES = {
+		DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING, DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING,
+		DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING, DecimalData.EBCDIC_SIGN_SEPARATE_LEADING
+	};
+	
+	static final int[] UNICODE_TYPES = {
+		DecimalData.UNICODE_UNSIGNED, DecimalData.UNICODE_SIGN_SEPARATE_LEADING, DecimalData.UNICODE_SIGN_SEPARATE_TRAILING
+	};
+	
+	static final int MAX_PRECISION = 31;
+	static final int MAX_LONG_DIGITS = 18;
+	static final int MAX_INT_DIGITS = 9;
+	static final int MAX_OFFSET = 3;
+	
+	// Room for the largest operand at the largest offset, with a separate sign
+	static final int BUFFER_SIZE = MAX_OFFSET + MAX_PRECISION + 2;
+	
+	static final byte SENTINEL = 0x5A;
+	static final char CHAR_SENTINEL = 'Z';
+	
+	static final byte EBCDIC_PLUS = 0x4E;
+	static final byte EBCDIC_MINUS = 0x60;
+	
+	int operation;
+	int op1Precision;
+	int op2Precision;
+	int resultPrecision;
+	int op1Offset;
+	int op2Offset;
+	int resultOffset;
+	
+	// Digits from the least significant, 10 to 15 are invalid digits
+	final int[] op1Digits = new int[MAX_PRECISION];
+	final int[] op2Digits = new int[MAX_PRECISION];
+	int op1Sign;
+	int op2Sign;
+	
+	int shift;
+	int scale;
+	int decimalType;
+	boolean round;
+	boolean checkOverflow;
+	
+	long seed;
+	
+	// Working buffers for the API calls
+	private final byte[] op1Bytes = new byte[BUFFER_SIZE];
+	private final byte[] op2Bytes = new byte[BUFFER_SIZE];
+	private final byte[] resultBytes = new byte[BUFFER_SIZE];
+	private final char[] op1Chars = new char[BUFFER_SIZE];
+	private final char[] resultChars = new char[BUFFER_SIZE];
+	
+	void copyFrom(FuzzCase other)
+	{
+		operation = other.operation;
+		op1Precision = other.op1Precision;
+		op2Precision = other.op2Precision;
+		resultPrecision = other.resultPrecision;
+		op1Offset = other.op1Offset;
+		op2Offset = other.op2Offset;
+		resultOffset = other.resultOffset;
+		System.arraycopy(other.op1Digits, 0, op1Digits, 0, MAX_PRECISION);
+		System.arraycopy(other.op2Digits, 0, op2Digits, 0, MAX_PRECISION);
+		op1Sign = other.op1Sign;
+		op2Sign = other.op2Sign;
+		shift = other.shift;
+		scale = other.scale;
+		decimalType = other.decimalType;
+		round = other.round;
+		checkOverflow = other.checkOverflow;
+		seed = other.seed;
+	}
+	
+	/**
+	 * returns true for the calls whose operands are validated, which are the
+	 * only ones given invalid signs and digits.
+	 */
+	boolean allowsInvalid()
+	{
+		return operation <= REMAINDER || operation == CHECK;
+	}
+	
+	boolean isUnicode()
+	{
+		return operation == PACKED_TO_UNICODE || operation == UNICODE_TO_PACKED;
+	}
+	
+	boolean isExternal()
+	{
+		return operation == PACKED_TO_EXTERNAL || operation == EXTERNAL_TO_PACKED;
+	}
+	
+	/**
+	 * returns true for the calls that write their result into an array.
+	 */
+	boolean hasResultArray()
+	{
+		switch (operation)
+		{
+			case COMPARE:
+			case CHECK:
+			case PACKED_TO_LONG:
+			case PACKED_TO_INTEGER:
+			case PACKED_TO_BIG_INTEGER:
+			case PACKED_TO_BIG_DECIMAL:
+				return false;
+			default:
+				return true;
+		}
+	}
+	
+	/**
+	 * returns true for the calls with a result precision of their own, the
+	 * conversions between decimal formats keep the precision of the source.
+	 */
+	boolean hasResultPrecision()
+	{
+		return hasResultArray() && !isExternal() && !isUnicode();
+	}
+	
+	/**
+	 * replaces this case with the one generated from seed.
+	 */
+	void generate(long seed)
+	{
+		SplittableRandom random = new SplittableRandom(seed);
+		
+		this.seed = seed;
+		operation = random.nextInt(OPERATION_COUNT);
+		checkOverflow = random.nextBoolean();
+		round = random.nextBoolean();
+		shift = 0;
+		scale = 0;
+		decimalType = 0;
+		op2Precision = 0;
+		
+		op1Offset = random.nextInt(MAX_OFFSET + 1);
+		op2Offset = random.nextInt(MAX_OFFSET + 1);
+		resultOffset = random.nextInt(MAX_OFFSET + 1);
+		
+		op1Precision = random.nextInt(MAX_PRECISION) + 1;
+		resultPrecision = random.nextInt(MAX_PRECISION) + 1;
+		
+		switch (operation)
+		{
+			case ADD:
+			case SUBTRACT:
+			case MULTIPLY:
+			case DIVIDE:
+			case REMAINDER:
+			case COMPARE:
+				op2Precision = random.nextInt(MAX_PRECISION) + 1;
+				break;
+			case SHIFT_LEFT:
+				shift = random.nextInt(MAX_PRECISION + 1);
+				break;
+			case SHIFT_RIGHT:
+				shift = random.nextInt(op1Precision + 1);
+				break;
+			case PACKED_TO_LONG:
+				// Only an overflow check makes the result of a 19 digit overflow defined
+				op1Precision = random.nextInt(checkOverflow ? MAX_LONG_DIGITS + 1 : MAX_LONG_DIGITS) + 1;
+				break;
+			case PACKED_TO_INTEGER:
+				op1Precision = random.nextInt(checkOverflow ? MAX_INT_DIGITS + 1 : MAX_INT_DIGITS) + 1;
+				break;
+			case LONG_TO_PACKED:
+				op1Precision = random.nextInt(MAX_LONG_DIGITS) + 1;
+				break;
+			case INTEGER_TO_PACKED:
+				op1Precision = random.nextInt(MAX_INT_DIGITS) + 1;
+				break;
+			case PACKED_TO_BIG_DECIMAL:
+				scale = random.nextInt(16) - 4;
+				break;
+			case PACKED_TO_EXTERNAL:
+			case EXTERNAL_TO_PACKED:
+				decimalType = EXTERNAL_TYPES[random.nextInt(EXTERNAL_TYPES.length)];
+				break;
+			case PACKED_TO_UNICODE:
+			case UNICODE_TO_PACKED:
+				decimalType = UNICODE_TYPES[random.nextInt(UNICODE_TYPES.length)];
+				break;
+		}
+		
+		op1Sign = randomDigits(random, op1Digits, op1Precision);
+		op2Sign = randomDigits(random, op2Digits, op2Precision);
+	}
+	
+	/**
+	 * fills digits with one of a few shapes of values, to reach the edge digits
+	 * more often than uniformly random digits would, and returns a sign nibble.
+	 */
+	private int randomDigits(SplittableRandom random, int[] digits, int precision)
+	{
+		Arrays.fill(digits, 0);
+		
+		switch (random.nextInt(8))
+		{
+			case 0:
+				Arrays.fill(digits, 0, precision, 9);
+				break;
+			case 1:
+				break;
+			case 2:
+				if (precision > 0)
+					digits[random.nextInt(precision)] = random.nextInt(9) + 1;
+				break;
+			case 3:
+			case 4:
+			{
+				int significant = random.nextInt(precision + 1);
+				for (int k = 0; k < significant; ++k)
+					digits[k] = random.nextInt(10);
+				break;
+			}
+			default:
+				for (int k = 0; k < precision; ++k)
+					digits[k] = random.nextInt(10);
+				break;
+		}
+		
+		if (allowsInvalid() && precision > 0 && random.nextInt(40) == 0)
+			digits[random.nextInt(precision)] = random.nextInt(6) + 10;
+		
+		int sign = random.nextInt(20);
+		if (sign < 8)
+			return 0x0C;
+		if (sign < 16)
+			return 0x0D;
+		if (sign < 18 || !allowsInvalid())
+			return 0x0F;
+		return random.nextInt(10);
+	}
+	
+	static boolean isNegativeSign(int sign)
+	{
+		return sign == 0x0B || sign == 0x0D;
+	}
+	
+	static boolean isValid(int[] digits, int precision, int sign)
+	{
+		if (sign < 0x0A)
+			return false;
+		for (int k = 0; k < precision; ++k)
+		{
+			if (digits[k] > 9)
+				return false;
+		}
+		return true;
+	}
+	
+	static BigInteger value(int[] digits, int precision, int sign)
+	{
+		char[] chars = new char[precision];
+		for (int k = 0; k < precision; ++k)
+			chars[precision - 1 - k] = (char) ('0' + digits[k]);
+		BigInteger magnitude = new BigInteger(new String(chars));
+		return isNegativeSign(sign) ? magnitude.negate() : magnitude;
+	}
+	
+	static String canonical(BigInteger value)
+	{
+		return value.toString();
+	}
+	
+	/**
+	 * returns the outcome of storing value in a packed decimal of precision digits.
+	 */
+	String fit(BigInteger value, int precision)
+	{
+		BigInteger limit = BigInteger.TEN.pow(precision);
+		if (value.abs().compareTo(limit) >= 0)
+		{
+			if (checkOverflow)
+				return "ArithmeticException";
+			
+			// Without the check only the low order digits are kept
+			BigInteger truncated = value.abs().mod(limit);
+			value = value.signum() < 0 ? truncated.negate() : truncated;
+		}
+		return canonical(value);
+	}
+	
+	static String compareOutcome(boolean equals, boolean notEquals, boolean lessThan, boolean lessThanOrEquals, boolean greaterThan,
+			boolean greaterThanOrEquals)
+	{
+		return "equals " + equals + " notEquals " + notEquals + " lessThan " + lessThan + " lessThanOrEquals " + lessThanOrEquals
+				+ " greaterThan " + greaterThan + " greaterThanOrEquals " + greaterThanOrEquals;
+	}
+	
+	/**
+	 * returns the outcome the oracle expects.
+	 */
+	String runOracle()
+	{
+		boolean op1Valid = isValid(op1Digits, op1Precision, op1Sign);
+		boolean op2Valid = isValid(op2Digits, op2Precision, op2Sign);
+		
+		switch (operation)
+		{
+			case ADD:
+			case SUBTRACT:
+			case MULTIPLY:
+			case DIVIDE:
+			case REMAINDER:
+			{
+				if (!op1Valid || !op2Valid)
+					return "IllegalArgumentException";
+				
+				BigInteger op1 = value(op1Digits, op1Precision, op1Sign);
+				BigInteger op2 = value(op2Digits, op2Precision, op2Sign);
+				
+				switch (operation)
+				{
+					case ADD:
+						return fit(op1.add(op2), resultPrecision);
+					case SUBTRACT:
+						return fit(op1.subtract(op2), resultPrecision);
+					case MULTIPLY:
+						return fit(op1.multiply(op2), resultPrecision);
+					case DIVIDE:
+						return op2.signum() == 0 ? "ArithmeticException" : fit(op1.divide(op2), resultPrecision);
+					default:
+						return op2.signum() == 0 ? "ArithmeticException" : fit(op1.remainder(op2), resultPrecision);
+				}
+			}
+			case COMPARE:
+			{
+				int c = value(op1Digits, op1Precision, op1Sign).compareTo(value(op2Digits, op2Precision, op2Sign));
+				return compareOutcome(c == 0, c != 0, c < 0, c <= 0, c > 0, c >= 0);
+			}
+			case SHIFT_LEFT:
+				return fit(value(op1Digits, op1Precision, op1Sign).multiply(BigInteger.TEN.pow(shift)), resultPrecision);
+			case SHIFT_RIGHT:
+			{
+				BigInteger quotient = value(op1Digits, op1Precision, 0x0C).divide(BigInteger.TEN.pow(shift));
+				
+				// Round half up on the magnitude, using the first digit shifted out
+				if (round && shift > 0 && op1Digits[shift - 1] >= 5)
+					quotient = quotient.add(BigInteger.ONE);
+				
+				return fit(isNegativeSign(op1Sign) ? quotient.negate() : quotient, resultPrecision);
+			}
+			case CHECK:
+			{
+				int result = op1Sign < 0x0A ? 1 : 0;
+				for (int k = 0; k < op1Precision; ++k)
+				{
+					if (op1Digits[k] > 9)
+						result |= 2;
+				}
+				return "check " + result;
+			}
+			case PACKED_TO_LONG:
+			{
+				BigInteger value = value(op1Digits, op1Precision, op1Sign);
+				return value.bitLength() > 63 ? "ArithmeticException" : canonical(value);
+			}
+			case PACKED_TO_INTEGER:
+			{
+				BigInteger value = value(op1Digits, op1Precision, op1Sign);
+				return value.bitLength() > 31 ? "ArithmeticException" : canonical(value);
+			}
+			case LONG_TO_PACKED:
+			case INTEGER_TO_PACKED:
+			case BIG_INTEGER_TO_PACKED:
+				return fit(value(op1Digits, op1Precision, op1Sign), resultPrecision);
+			case PACKED_TO_BIG_INTEGER:
+				return canonical(value(op1Digits, op1Precision, op1Sign));
+			case PACKED_TO_BIG_DECIMAL:
+				return new BigDecimal(value(op1Digits, op1Precision, op1Sign), scale).toString();
+			case PACKED_TO_EXTERNAL:
+			case EXTERNAL_TO_PACKED:
+				return canonical(value(op1Digits, op1Precision, op1Sign));
+			case PACKED_TO_UNICODE:
+			case UNICODE_TO_PACKED:
+			{
+				BigInteger value = value(op1Digits, op1Precision, op1Sign);
+				return canonical(decimalType == DecimalData.UNICODE_UNSIGNED ? value.abs() : value);
+			}
+		}
+		throw new IllegalStateException("Unknown operation " + operation);
+	}
+	
+	/**
+	 * returns the outcome of making the call.
+	 */
+	String runDaa()
+	{
+		encodePacked(op1Bytes, op1Offset, op1Precision, op1Digits, op1Sign);
+		encodePacked(op2Bytes, op2Offset, op2Precision, op2Digits, op2Sign);
+		Arrays.fill(resultBytes, SENTINEL);
+		Arrays.fill(resultChars, CHAR_SENTINEL);
+		
+		try
+		{
+			switch (operation)
+			{
+				case ADD:
+					PackedDecimal.addPackedDecimal(resultBytes, resultOffset, resultPrecision, op1Bytes, op1Offset, op1Precision, op2Bytes, op2Offset,
+							op2Precision, checkOverflow);
+					return packedResult(resultOffset, resultPrecision);
+				case SUBTRACT:
+					PackedDecimal.subtractPackedDecimal(resultBytes, resultOffset, resultPrecision, op1Bytes, op1Offset, op1Precision, op2Bytes,
+							op2Offset, op2Precision, checkOverflow);
+					return packedResult(resultOffset, resultPrecision);
+				case MULTIPLY:
+					PackedDecimal.multiplyPackedDecimal(resultBytes, resultOffset, resultPrecision, op1Bytes, op1Offset, op1Precision, op2Bytes,
+							op2Offset, op2Precision, checkOverflow);
+					return packedResult(resultOffset, resultPrecision);
+				case DIVIDE:
+					PackedDecimal.dividePackedDecimal(resultBytes, resultOffset, resultPrecision, op1Bytes, op1Offset, op1Precision, op2Bytes,
+							op2Offset, op2Precision, checkOverflow);
+					return packedResult(resultOffset, resultPrecision);
+				case REMAINDER:
+					PackedDecimal.remainderPackedDecimal(resultBytes, resultOffset, resultPrecision, op1Bytes, op1Offset, op1Precision, op2Bytes,
+							op2Offset, op2Precision, checkOverflow);
+					return packedResult(resultOffset, resultPrecision);
+				case COMPARE:
+					return compareOutcome(
+							PackedDecimal.equalsPackedDecimal(op1Bytes, op1Offset, op1Precision, op2Bytes, op2Offset, op2Precision),
+							PackedDecimal.notEqualsPackedDecimal(op1Bytes, op1Offset, op1Precision, op2Bytes, op2Offset, op2Precision),
+							PackedDecimal.lessThanPackedDecimal(op1Bytes, op1Offset, op1Precision, op2Bytes, op2Offset, op2Precision),
+							PackedDecimal.lessThanOrEqualsPackedDecimal(op1Bytes, op1Offset, op1Precision, op2Bytes, op2Offset, op2Precision),
+							PackedDecimal.greaterThanPackedDecimal(op1Bytes, op1Offset, op1Precision, op2Bytes, op2Offset, op2Precision),
+							PackedDecimal.greaterThanOrEqualsPackedDecimal(op1Bytes, op1Offset, op1Precision, op2Bytes, op2Offset, op2Precision));
+				case SHIFT_LEFT:
+					PackedDecimal.shiftLeftPackedDecimal(resultBytes, resultOffset, resultPrecision, op1Bytes, op1Offset, op1Precision, shift,
+							checkOverflow);
+					return packedResult(resultOffset, resultPrecision);
+				case SHIFT_RIGHT:
+					PackedDecimal.shiftRightPackedDecimal(resultBytes, resultOffset, resultPrecision, op1Bytes, op1Offset, op1Precision, shift, round,
+							checkOverflow);
+					return packedResult(resultOffset, resultPrecision);
+				case CHECK:
+					return "check " + PackedDecimal.checkPackedDecimal(op1Bytes, op1Offset, op1Precision);
+				case PACKED_TO_LONG:
+					return Long.toString(DecimalData.convertPackedDecimalToLong(op1Bytes, op1Offset, op1Precision, checkOverflow));
+				case PACKED_TO_INTEGER:
+					return Integer.toString(DecimalData.convertPackedDecimalToInteger(op1Bytes, op1Offset, op1Precision, checkOverflow));
+				case LONG_TO_PACKED:
+					DecimalData.convertLongToPackedDecimal(value(op1Digits, op1Precision, op1Sign).longValue(), resultBytes, resultOffset,
+							resultPrecision, checkOverflow);
+					return packedResult(resultOffset, resultPrecision);
+				case INTEGER_TO_PACKED:
+					DecimalData.convertIntegerToPackedDecimal(value(op1Digits, op1Precision, op1Sign).intValue(), resultBytes, resultOffset,
+							resultPrecision, checkOverflow);
+					return packedResult(resultOffset, resultPrecision);
+				case PACKED_TO_BIG_INTEGER:
+					return canonical(DecimalData.convertPackedDecimalToBigInteger(op1Bytes, op1Offset, op1Precision, checkOverflow));
+				case BIG_INTEGER_TO_PACKED:
+					DecimalData.convertBigIntegerToPackedDecimal(value(op1Digits, op1Precision, op1Sign), resultBytes, resultOffset, resultPrecision,
+							checkOverflow);
+					return packedResult(resultOffset, resultPrecision);
+				case PACKED_TO_BIG_DECIMAL:
+					return DecimalData.convertPackedDecimalToBigDecimal(op1Bytes, op1Offset, op1Precision, scale, checkOverflow).toString();
+				case PACKED_TO_EXTERNAL:
+					DecimalData.convertPackedDecimalToExternalDecimal(op1Bytes, op1Offset, resultBytes, resultOffset, op1Precision, decimalType);
+					return externalResult(resultBytes, resultOffset, op1Precision, decimalType);
+				case EXTERNAL_TO_PACKED:
+					encodeExternal(op1Bytes, op1Offset, op1Precision, op1Digits, op1Sign, decimalType);
+					DecimalData.convertExternalDecimalToPackedDecimal(op1Bytes, op1Offset, resultBytes, resultOffset, op1Precision, decimalType);
+					return packedResult(resultOffset, op1Precision);
+				case PACKED_TO_UNICODE:
+					DecimalData.convertPackedDecimalToUnicodeDecimal(op1Bytes, op1Offset, resultChars, resultOffset, op1Precision, decimalType);
+					return unicodeResult(resultChars, resultOffset, op1Precision, decimalType);
+				case UNICODE_TO_PACKED:
+					encodeUnicode(op1Chars, op1Offset, op1Precision, op1Digits, op1Sign, decimalType);
+					DecimalData.convertUnicodeDecimalToPackedDecimal(op1Chars, op1Offset, resultBytes, resultOffset, op1Precision, decimalType);
+					return packedResult(resultOffset, op1Precision);
+			}
+		}
+		catch (RuntimeException e)
+		{
+			return e.getClass().getSimpleName();
+		}
+		throw new IllegalStateException("Unknown operation " + operation);
+	}
+	
+	static int packedLength(int precision)
+	{
+		return precision / 2 + 1;
+	}
+	
+	static int externalLength(int precision, int decimalType)
+	{
+		switch (decimalType)
+		{
+			case DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING:
+			case DecimalData.EBCDIC_SIGN_SEPARATE_LEADING:
+			case DecimalData.UNICODE_SIGN_SEPARATE_LEADING:
+			case DecimalData.UNICODE_SIGN_SEPARATE_TRAILING:
+				return precision + 1;
+			default:
+				return precision;
+		}
+	}
+	
+	static void encodePacked(byte[] buffer, int offset, int precision, int[] digits, int sign)
+	{
+		int last = offset + precision / 2;
+		Arrays.fill(buffer, offset, last + 1, (byte) 0);
+		for (int k = 0; k < precision; ++k)
+		{
+			int nibble = k + 1;
+			int index = last - nibble / 2;
+			buffer[index] |= (nibble & 1) != 0 ? digits[k] << 4 : digits[k];
+		}
+		buffer[last] |= sign;
+	}
+	
+	/**
+	 * encodes digits as EBCDIC zoned decimal, a 0x0F sign stays unsigned in an
+	 * embedded sign and becomes a plus sign when the sign is separate.
+	 */
+	static void encodeExternal(byte[] buffer, int offset, int precision, int[] digits, int sign, int decimalType)
+	{
+		boolean negative = isNegativeSign(sign);
+		int first = offset;
+		
+		if (decimalType == DecimalData.EBCDIC_SIGN_SEPARATE_LEADING)
+			buffer[first++] = negative ? EBCDIC_MINUS : EBCDIC_PLUS;
+		if (decimalType == DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING)
+			buffer[first + precision] = negative ? EBCDIC_MINUS : EBCDIC_PLUS;
+		
+		for (int i = 0; i < precision; ++i)
+			buffer[first + i] = (byte) (0xF0 | digits[precision - 1 - i]);
+		
+		int zone = negative ? 0xD0 : sign == 0x0F ? 0xF0 : 0xC0;
+		if (decimalType == DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING)
+			buffer[first] = (byte) (zone | (buffer[first] & 0x0F));
+		if (decimalType == DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING)
+			buffer[first + precision - 1] = (byte) (zone | (buffer[first + precision - 1] & 0x0F));
+	}
+	
+	static void encodeUnicode(char[] buffer, int offset, int precision, int[] digits, int sign, int decimalType)
+	{
+		int first = offset;
+		char signChar = isNegativeSign(sign) ? '-' : '+';
+		
+		if (decimalType == DecimalData.UNICODE_SIGN_SEPARATE_LEADING)
+			buffer[first++] = signChar;
+		if (decimalType == DecimalData.UNICODE_SIGN_SEPARATE_TRAILING)
+			buffer[first + precision] = signChar;
+		
+		for (int i = 0; i < precision; ++i)
+			buffer[first + i] = (char) ('0' + digits[precision - 1 - i]);
+	}
+	
+	/**
+	 * returns the outcome of a packed decimal result: its value, or what is
+	 * wrong with it, including any byte written outside of it.
+	 */
+	private String packedResult(int offset, int precision)
+	{
+		int length = packedLength(precision);
+		String clobbered = checkSentinels(offset, length);
+		if (clobbered != null)
+			return clobbered;
+		
+		int last = offset + length - 1;
+		int sign = resultBytes[last] & 0x0F;
+		if (sign < 0x0A)
+			return "invalid result sign " + Utils.byteArrayToString(Arrays.copyOfRange(resultBytes, offset, last + 1));
+		
+		// An even precision leaves the top nibble unused, it must be zero
+		if ((precision & 1) == 0 && (resultBytes[offset] & 0xF0) != 0)
+			return "non zero top nibble " + Utils.byteArrayToString(Arrays.copyOfRange(resultBytes, offset, last + 1));
+		
+		char[] chars = new char[precision];
+		for (int k = 0; k < precision; ++k)
+		{
+			int nibble = k + 1;
+			int b = resultBytes[last - nibble / 2];
+			int digit = (nibble & 1) != 0 ? (b >> 4) & 0x0F : b & 0x0F;
+			if (digit > 9)
+				return "invalid result digit " + Utils.byteArrayToString(Arrays.copyOfRange(resultBytes, offset, last + 1));
+			chars[precision - 1 - k] = (char) ('0' + digit);
+		}
+		
+		BigInteger magnitude = new BigInteger(new String(chars));
+		return canonical(isNegativeSign(sign) ? magnitude.negate() : magnitude);
+	}
+	
+	private String checkSentinels(int offset, int length)
+	{
+		for (int i = 0; i < BUFFER_SIZE; ++i)
+		{
+			if ((i < offset || i >= offset + length) && resultBytes[i] != SENTINEL)
+				return "wrote outside the result at index " + i;
+		}
+		return null;
+	}
+	
+	private static String externalResult(byte[] buffer, int offset, int precision, int decimalType)
+	{
+		int length = externalLength(precision, decimalType);
+		for (int i = 0; i < BUFFER_SIZE; ++i)
+		{
+			if ((i < offset || i >= offset + length) && buffer[i] != SENTINEL)
+				return "wrote outside the result at index " + i;
+		}
+		
+		String bytes = Utils.byteArrayToString(Arrays.copyOfRange(buffer, offset, offset + length));
+		
+		int first = offset;
+		boolean negative = false;
+		int signIndex = -1;
+		switch (decimalType)
+		{
+			case DecimalData.EBCDIC_SIGN_SEPARATE_LEADING:
+				signIndex = first++;
+				break;
+			case DecimalData.EBCDIC_SIGN_SEPARATE_TRAILING:
+				signIndex = first + precision;
+				break;
+		}
+		if (signIndex >= 0)
+		{
+			if (buffer[signIndex] != EBCDIC_PLUS && buffer[signIndex] != EBCDIC_MINUS)
+				return "invalid result sign " + bytes;
+			negative = buffer[signIndex] == EBCDIC_MINUS;
+		}
+		
+		int zoneIndex = -1;
+		if (decimalType == DecimalData.EBCDIC_SIGN_EMBEDDED_LEADING)
+			zoneIndex = first;
+		if (decimalType == DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING)
+			zoneIndex = first + precision - 1;
+		
+		char[] chars = new char[precision];
+		for (int i = 0; i < precision; ++i)
+		{
+			int b = buffer[first + i] & 0xFF;
+			int zone = b >> 4;
+			if (first + i == zoneIndex)
+			{
+				if (zone < 0x0A)
+					return "invalid result sign " + bytes;
+				negative = isNegativeSign(zone);
+			}
+			else if (zone != 0x0F)
+			{
+				return "invalid result zone " + bytes;
+			}
+			if ((b & 0x0F) > 9)
+				return "invalid result digit " + bytes;
+			chars[i] = (char) ('0' + (b & 0x0F));
+		}
+		
+		BigInteger magnitude = new BigInteger(new String(chars));
+		return canonical(negative ? magnitude.negate() : magnitude);
+	}
+	
+	private static String unicodeResult(char[] buffer, int offset, int precision, int decimalType)
+	{
+		int length = externalLength(precision, decimalType);
+		for (int i = 0; i < BUFFER_SIZE; ++i)
+		{
+			if ((i < offset || i >= offset + length) && buffer[i] != CHAR_SENTINEL)
+				return "wrote outside the result at index " + i;
+		}
+		
+		String chars = new String(buffer, offset, length);
+		
+		int first = offset;
+		int signIndex = -1;
+		if (decimalType == DecimalData.UNICODE_SIGN_SEPARATE_LEADING)
+			signIndex = first++;
+		if (decimalType == DecimalData.UNICODE_SIGN_SEPARATE_TRAILING)
+			signIndex = first + precision;
+		
+		boolean negative = false;
+		if (signIndex >= 0)
+		{
+			if (buffer[signIndex] != '+' && buffer[signIndex] != '-')
+				return "invalid result sign " + chars;
+			negative = buffer[signIndex] == '-';
+		}
+		
+		for (int i = 0; i < precision; ++i)
+		{
+			if (buffer[first + i] < '0' || buffer[first + i] > '9')
+				return "invalid result digit " + chars;
+		}
+		
+		BigInteger magnitude = new BigInteger(new String(buffer, first, precision));
+		return canonical(negative ? magnitude.negate() : magnitude);
+	}
+	
+	boolean mismatches()
+	{
+		return !runOracle().equals(runDaa());
+	}
+	
+	/**
+	 * returns the simpler variants of this case tried by the shrinker, each
+	 * one change away from it: smaller offsets, precisions, shifts and scales,
+	 * preferred signs and smaller digits.
+	 */
+	List<FuzzCase> shrinkCandidates()
+	{
+		List<FuzzCase> candidates = new ArrayList<FuzzCase>();
+		
+		if (op1Offset > 0)
+			candidate(candidates).op1Offset = 0;
+		if (op2Offset > 0)
+			candidate(candidates).op2Offset = 0;
+		if (resultOffset > 0 && hasResultArray())
+			candidate(candidates).resultOffset = 0;
+		
+		if (op1Precision > 1)
+		{
+			FuzzCase candidate = copy();
+			candidate.op1Digits[--candidate.op1Precision] = 0;
+			candidate.shift = Math.min(candidate.shift, operation == SHIFT_RIGHT ? candidate.op1Precision : candidate.shift);
+			candidates.add(candidate);
+		}
+		if (op2Precision > 1)
+		{
+			FuzzCase candidate = copy();
+			candidate.op2Digits[--candidate.op2Precision] = 0;
+			candidates.add(candidate);
+		}
+		if (resultPrecision > 1 && hasResultPrecision())
+			candidate(candidates).resultPrecision--;
+		
+		if (shift > 0)
+			candidate(candidates).shift--;
+		if (scale != 0)
+			candidate(candidates).scale -= Integer.signum(scale);
+		if (round)
+			candidate(candidates).round = false;
+		
+		if (op1Sign != 0x0C)
+			candidate(candidates).op1Sign = 0x0C;
+		if (op2Sign != 0x0C && op2Precision > 0)
+			candidate(candidates).op2Sign = 0x0C;
+		
+		addDigitCandidates(candidates, true, op1Precision);
+		addDigitCandidates(candidates, false, op2Precision);
+		
+		return candidates;
+	}
+	
+	private FuzzCase candidate(List<FuzzCase> candidates)
+	{
+		FuzzCase candidate = copy();
+		candidates.add(candidate);
+		return candidate;
+	}
+	
+	private void addDigitCandidates(List<FuzzCase> candidates, boolean first, int precision)
+	{
+		int[] digits = first ? op1Digits : op2Digits;
+		for (int k = precision - 1; k >= 0; --k)
+		{
+			if (digits[k] == 0)
+				continue;
+			
+			FuzzCase candidate = copy();
+			(first ? candidate.op1Digits : candidate.op2Digits)[k] = 0;
+			candidates.add(candidate);
+			
+			if (digits[k] > 1)
+			{
+				candidate = copy();
+				(first ? candidate.op1Digits : candidate.op2Digits)[k] = 1;
+				candidates.add(candidate);
+			}
+		}
+	}
+	
+	FuzzCase copy()
+	{
+		FuzzCase copy = new FuzzCase();
+		copy.copyFrom(this);
+		return copy;
+	}
+	
+	/**
+	 * returns the case with the fewest, smallest digits reachable from this
+	 * mismatching one by shrinkCandidates, that still mismatches.
+	 */
+	FuzzCase shrink()
+	{
+		FuzzCase smallest = copy();
+		
+		boolean shrunk = true;
+		while (shrunk)
+		{
+			shrunk = false;
+			for (FuzzCase candidate : smallest.shrinkCandidates())
+			{
+				if (candidate.mismatches())
+				{
+					smallest = candidate;
+					shrunk = true;
+					break;
+				}
+			}
+		}
+		return smallest;
+	}
+	
+	public String toString()
+	{
+		StringBuilder text = new StringBuilder(OPERATION_NAMES[operation]);
+		text.append(" op1 ").append(digitString(op1Digits, op1Precision, op1Sign)).append(" precision ").append(op1Precision)
+				.append(" offset ").append(op1Offset);
+		if (op2Precision > 0)
+			text.append(", op2 ").append(digitString(op2Digits, op2Precision, op2Sign)).append(" precision ").append(op2Precision)
+					.append(" offset ").append(op2Offset);
+		if (hasResultPrecision())
+			text.append(", result precision ").append(resultPrecision);
+		if (hasResultArray())
+			text.append(", result offset ").append(resultOffset);
+		if (operation == SHIFT_LEFT || operation == SHIFT_RIGHT)
+			text.append(", shift ").append(shift);
+		if (operation == SHIFT_RIGHT)
+			text.append(", round ").append(round);
+		if (operation == PACKED_TO_BIG_DECIMAL)
+			text.append(", scale ").append(scale);
+		if (isExternal() || isUnicode())
+			text.append(", ").append(Utils.decimalTypeToString(decimalType));
+		if (operation != COMPARE && operation != CHECK && !isExternal() && !isUnicode())
+			text.append(", checkOverflow ").append(checkOverflow);
+		return text.toString();
+	}
+	
+	static String digitString(int[] digits, int precision, int sign)
+	{
+		StringBuilder text = new StringBuilder();
+		for (int k = precision - 1; k >= 0; --k)
+			text.append(Character.forDigit(digits[k], 16));
+		return text.append(Character.toUpperCase(Character.forDigit(sign, 16))).toString();
+	}
+	
+	/**
+	 * returns a JUnit test, in the style of RandomTests, that makes this call
+	 * and asserts the oracle's outcome.
+	 */
+	String toJUnit()
+	{
+		String expected = runOracle();
+		boolean expectsException = expected.endsWith("Exception");
+		
+		String name = OPERATION_NAMES[operation];
+		String testName = "test" + Character.toUpperCase(name.charAt(0)) + name.substring(1) + Long.toHexString(seed);
+		
+		StringBuilder test = new StringBuilder();
+		test.append("    // Shrunk from differential fuzzer case ").append(seed).append(": ").append(this).append('\n');
+		test.append("    @Test").append(expectsException ? "(expected = " + expected + ".class)" : "").append('\n');
+		test.append("    public void ").append(testName).append("()\n");
+		test.append("    {\n");
+		
+		String op1 = "op1, " + op1Offset + ", " + op1Precision;
+		String op2 = "op2, " + op2Offset + ", " + op2Precision;
+		String result = "result, " + resultOffset + ", " + resultPrecision;
+		String call = null;
+		String resultType = null;
+		
+		if (operation == EXTERNAL_TO_PACKED)
+		{
+			byte[] bytes = new byte[op1Offset + externalLength(op1Precision, decimalType)];
+			encodeExternal(bytes, op1Offset, op1Precision, op1Digits, op1Sign, decimalType);
+			test.append("        byte[] op1 = ").append(byteArrayLiteral(bytes)).append(";\n");
+		}
+		else if (operation == UNICODE_TO_PACKED)
+		{
+			char[] chars = new char[op1Offset + externalLength(op1Precision, decimalType)];
+			encodeUnicode(chars, op1Offset, op1Precision, op1Digits, op1Sign, decimalType);
+			test.append("        char[] op1 = ").append(charArrayLiteral(chars)).append(";\n");
+		}
+		else if (operation != LONG_TO_PACKED && operation != INTEGER_TO_PACKED && operation != BIG_INTEGER_TO_PACKED)
+		{
+			byte[] bytes = new byte[op1Offset + packedLength(op1Precision)];
+			encodePacked(bytes, op1Offset, op1Precision, op1Digits, op1Sign);
+			test.append("        byte[] op1 = ").append(byteArrayLiteral(bytes)).append(";\n");
+		}
+		if (op2Precision > 0)
+		{
+			byte[] bytes = new byte[op2Offset + packedLength(op2Precision)];
+			encodePacked(bytes, op2Offset, op2Precision, op2Digits, op2Sign);
+			test.append("        byte[] op2 = ").append(byteArrayLiteral(bytes)).append(";\n");
+		}
+		
+		// Only the conversions from binary use the value of op1, which is always valid for them
+		String value = isValid(op1Digits, op1Precision, op1Sign) ? value(op1Digits, op1Precision, op1Sign).toString() : null;
+		
+		switch (operation)
+		{
+			case ADD:
+			case SUBTRACT:
+			case MULTIPLY:
+			case DIVIDE:
+			case REMAINDER:
+				call = "PackedDecimal." + name + "(" + result + ", " + op1 + ", " + op2 + ", " + checkOverflow + ")";
+				resultType = "packed";
+				break;
+			case COMPARE:
+				break;
+			case SHIFT_LEFT:
+				call = "PackedDecimal." + name + "(" + result + ", " + op1 + ", " + shift + ", " + checkOverflow + ")";
+				resultType = "packed";
+				break;
+			case SHIFT_RIGHT:
+				call = "PackedDecimal." + name + "(" + result + ", " + op1 + ", " + shift + ", " + round + ", " + checkOverflow + ")";
+				resultType = "packed";
+				break;
+			case CHECK:
+				call = "PackedDecimal." + name + "(" + op1 + ")";
+				break;
+			case PACKED_TO_LONG:
+			case PACKED_TO_INTEGER:
+				call = "DecimalData." + name + "(" + op1 + ", " + checkOverflow + ")";
+				break;
+			case LONG_TO_PACKED:
+				call = "DecimalData." + name + "(" + value + "L, " + result + ", " + checkOverflow + ")";
+				resultType = "packed";
+				break;
+			case INTEGER_TO_PACKED:
+				call = "DecimalData." + name + "(" + value + ", " + result + ", " + checkOverflow + ")";
+				resultType = "packed";
+				break;
+			case PACKED_TO_BIG_INTEGER:
+				call = "DecimalData." + name + "(" + op1 + ", " + checkOverflow + ")";
+				break;
+			case BIG_INTEGER_TO_PACKED:
+				call = "DecimalData." + name + "(new BigInteger(\"" + value + "\"), " + result + ", " + checkOverflow + ")";
+				resultType = "packed";
+				break;
+			case PACKED_TO_BIG_DECIMAL:
+				call = "DecimalData." + name + "(" + op1 + ", " + scale + ", " + checkOverflow + ")";
+				break;
+			case PACKED_TO_EXTERNAL:
+				call = "DecimalData." + name + "(op1, " + op1Offset + ", result, " + resultOffset + ", " + op1Precision
+						+ ", DecimalData." + Utils.decimalTypeToString(decimalType) + ")";
+				resultType = "external";
+				break;
+			case EXTERNAL_TO_PACKED:
+			case UNICODE_TO_PACKED:
+				call = "DecimalData." + name + "(op1, " + op1Offset + ", result, " + resultOffset + ", " + op1Precision
+						+ ", DecimalData." + Utils.decimalTypeToString(decimalType) + ")";
+				resultType = "packed";
+				break;
+			case PACKED_TO_UNICODE:
+				call = "DecimalData." + name + "(op1, " + op1Offset + ", result, " + resultOffset + ", " + op1Precision
+						+ ", DecimalData." + Utils.decimalTypeToString(decimalType) + ")";
+				resultType = "unicode";
+				break;
+		}
+		
+		int outputPrecision = hasResultPrecision() ? resultPrecision : op1Precision;
+		
+		if ("packed".equals(resultType))
+			test.append("        byte[] result = new byte[").append(resultOffset + packedLength(outputPrecision)).append("];\n");
+		else if ("external".equals(resultType))
+			test.append("        byte[] result = new byte[").append(resultOffset + externalLength(outputPrecision, decimalType)).append("];\n");
+		else if ("unicode".equals(resultType))
+			test.append("        char[] result = new char[").append(resultOffset + externalLength(outputPrecision, decimalType)).append("];\n");
+		test.append('\n');
+		
+		if (operation == COMPARE)
+		{
+			String operands = "(" + op1 + ", " + op2 + ")";
+			int c = value(op1Digits, op1Precision, op1Sign).compareTo(value(op2Digits, op2Precision, op2Sign));
+			test.append("        assertEquals(").append(c == 0).append(", PackedDecimal.equalsPackedDecimal").append(operands).append(");\n");
+			test.append("        assertEquals(").append(c != 0).append(", PackedDecimal.notEqualsPackedDecimal").append(operands).append(");\n");
+			test.append("        assertEquals(").append(c < 0).append(", PackedDecimal.lessThanPackedDecimal").append(operands).append(");\n");
+			test.append("        assertEquals(").append(c <= 0).append(", PackedDecimal.lessThanOrEqualsPackedDecimal").append(operands).append(");\n");
+			test.append("        assertEquals(").append(c > 0).append(", PackedDecimal.greaterThanPackedDecimal").append(operands).append(");\n");
+			test.append("        assertEquals(").append(c >= 0).append(", PackedDecimal.greaterThanOrEqualsPackedDecimal").append(operands).append(");\n");
+		}
+		else if (expectsException || resultType != null)
+		{
+			test.append("        ").append(call).append(";\n");
+			
+			if (!expectsException)
+			{
+				BigInteger expectedValue = new BigInteger(expected);
+				int[] digits = new int[MAX_PRECISION];
+				String magnitude = expectedValue.abs().toString();
+				for (int i = 0; i < magnitude.length(); ++i)
+					digits[magnitude.length() - 1 - i] = magnitude.charAt(i) - '0';
+				int sign = expectedValue.signum() < 0 ? 0x0D : 0x0C;
+				
+				test.append('\n');
+				if (expectedValue.signum() == 0)
+				{
+					// A zero result may have either sign, so only its value is checked
+					String convert = "packed".equals(resultType) ? "convertPackedDecimalToBigInteger(result, " + resultOffset + ", " + outputPrecision
+							+ ", false)" : ("external".equals(resultType) ? "convertExternalDecimalToBigInteger" : "convertUnicodeDecimalToBigInteger")
+							+ "(result, " + resultOffset + ", " + outputPrecision + ", false, DecimalData." + Utils.decimalTypeToString(decimalType) + ")";
+					test.append("        assertEquals(BigInteger.ZERO, DecimalData.").append(convert).append(");\n");
+				}
+				else if ("packed".equals(resultType))
+				{
+					byte[] bytes = new byte[resultOffset + packedLength(outputPrecision)];
+					encodePacked(bytes, resultOffset, outputPrecision, digits, sign);
+					test.append("        byte[] expected = ").append(byteArrayLiteral(bytes)).append(";\n");
+				}
+				else if ("external".equals(resultType))
+				{
+					byte[] bytes = new byte[resultOffset + externalLength(outputPrecision, decimalType)];
+					encodeExternal(bytes, resultOffset, outputPrecision, digits, sign, decimalType);
+					test.append("        byte[] expected = ").append(byteArrayLiteral(bytes)).append(";\n");
+				}
+				else
+				{
+					char[] chars = new char[resultOffset + externalLength(outputPrecision, decimalType)];
+					encodeUnicode(chars, resultOffset, outputPrecision, digits, sign, decimalType);
+					test.append("        char[] expected = ").append(charArrayLiteral(chars)).append(";\n");
+				}
+				if (expectedValue.signum() != 0)
+				{
+					test.append("        \n");
+					test.append("        assertArrayEquals(expected, result);\n");
+				}
+			}
+		}
+		else
+		{
+			String literal;
+			switch (operation)
+			{
+				case CHECK:
+					literal = expected.substring("check ".length());
+					break;
+				case PACKED_TO_LONG:
+					literal = expected + "L";
+					break;
+				case PACKED_TO_BIG_INTEGER:
+					literal = "new BigInteger(\"" + expected + "\")";
+					break;
+				case PACKED_TO_BIG_DECIMAL:
+					literal = "new BigDecimal(\"" + expected + "\")";
+					break;
+				default:
+					literal = expected;
+					break;
+			}
+			test.append("        assertEquals(").append(literal).append(", ").append(call).append(");\n");
+		}
+		
+		test.append("    }\n");
+		return test.toString();
+	}
+	
+	static String byteArrayLiteral(byte[] bytes)
+	{
+		StringBuilder text = new StringBuilder("{ ");
+		for (int i = 0; i < bytes.length; ++i)
+		{
+			if (i > 0)
+				text.append(", ");
+			int b = bytes[i] & 0xFF;
+			String hex = String.format("0x%02X", b);
+			text.append(b > 0x7F ? "(byte) " + hex : hex);
+		}
+		return text.append(" }").toString();
+	}
+	
+	static String charArrayLiteral(char[] chars)
+	{
+		StringBuilder text = new StringBuilder("{ ");
+		for (int i = 0; i < chars.length; ++i)
+		{
+			if (i > 0)
+				text.append(", ");
+			text.append(chars[i] == 0 ? "0" : "'" + chars[i] + "'");
+		}
+		return text.append(" }").toString();
+	}
+}
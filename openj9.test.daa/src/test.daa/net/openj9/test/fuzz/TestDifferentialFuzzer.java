@@ -0,0 +1,292 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.fuzz;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.ibm.dataaccess.PackedDecimal;
+
+/**
+ * Checks that DifferentialFuzzer finds the same cases whatever its
+ * parallelism, that FuzzCase.shrink keeps a mismatch, that toJUnit prints a
+ * well-formed test, and that the CHECK oracle agrees with checkPackedDecimal
+ * on hand-built invalid operands.
+ */
+public class TestDifferentialFuzzer
+{
+	static final long SEED = 0x5EED;
+	
+	// Enough cases for the pool to split them into several batches
+	static final int CASES = 3 * DifferentialFuzzer.BATCH_CASES + 123;
+	
+	/**
+	 * a case whose call is wrong whenever the third digit of op1 isn't 0, so
+	 * that it mismatches without a fault in the API.
+	 */
+	static class FaultyCase extends FuzzCase
+	{
+		String runDaa()
+		{
+			String outcome = super.runDaa();
+			return op1Precision > 2 && op1Digits[2] != 0 ? outcome + " fault" : outcome;
+		}
+		
+		FuzzCase copy()
+		{
+			FaultyCase copy = new FaultyCase();
+			copy.copyFrom(this);
+			return copy;
+		}
+	}
+	
+	@Test
+	public void testCaseSeed()
+	{
+		Set<Long> seeds = new HashSet<Long>();
+		for (long index = 0; index < CASES; ++index)
+		{
+			long caseSeed = DifferentialFuzzer.caseSeed(SEED, index);
+			assertEquals(caseSeed, DifferentialFuzzer.caseSeed(SEED, index));
+			assertTrue("Case " + index + " repeats seed " + caseSeed, seeds.add(caseSeed));
+		}
+		
+		// A case is the same however many times it is generated
+		FuzzCase first = new FuzzCase();
+		FuzzCase second = new FuzzCase();
+		first.generate(DifferentialFuzzer.caseSeed(SEED, 7));
+		second.generate(DifferentialFuzzer.caseSeed(SEED, 7));
+		assertEquals(first.toString(), second.toString());
+		assertEquals(first.runOracle(), second.runOracle());
+	}
+	
+	@Test
+	public void testParallelism()
+	{
+		// The first mismatch of each call, found one case at a time
+		long mismatches = 0;
+		long[] firstMismatches = new long[FuzzCase.OPERATION_COUNT];
+		FuzzCase fuzzCase = new FuzzCase();
+		for (long index = 0; index < CASES; ++index)
+		{
+			fuzzCase.generate(DifferentialFuzzer.caseSeed(SEED, index));
+			if (fuzzCase.mismatches())
+			{
+				++mismatches;
+				if (firstMismatches[fuzzCase.operation] == 0)
+					firstMismatches[fuzzCase.operation] = fuzzCase.seed;
+			}
+		}
+		
+		for (int parallelism : new int[] { 1, 4 })
+		{
+			DifferentialFuzzer fuzzer = new DifferentialFuzzer(SEED, parallelism);
+			try
+			{
+				fuzzer.run(0, CASES);
+			}
+			finally
+			{
+				fuzzer.shutdown();
+			}
+			
+			assertEquals(CASES, fuzzer.getCaseCount());
+			assertEquals("Mismatches on " + parallelism + " threads", mismatches, fuzzer.getMismatchCount());
+			for (int operation = 0; operation < FuzzCase.OPERATION_COUNT; ++operation)
+				assertEquals(FuzzCase.OPERATION_NAMES[operation] + " on " + parallelism + " threads", firstMismatches[operation],
+						fuzzer.getFirstMismatchSeed(operation));
+		}
+	}
+	
+	@Test
+	public void testShrink()
+	{
+		FaultyCase fuzzCase = new FaultyCase();
+		fuzzCase.operation = FuzzCase.ADD;
+		fuzzCase.op1Precision = 11;
+		fuzzCase.op2Precision = 7;
+		fuzzCase.resultPrecision = 15;
+		fuzzCase.op1Offset = 3;
+		fuzzCase.op2Offset = 1;
+		fuzzCase.resultOffset = 2;
+		for (int k = 0; k < fuzzCase.op1Precision; ++k)
+			fuzzCase.op1Digits[k] = 9 - k % 9;
+		for (int k = 0; k < fuzzCase.op2Precision; ++k)
+			fuzzCase.op2Digits[k] = k + 2;
+		fuzzCase.op1Sign = 0x0D;
+		fuzzCase.op2Sign = 0x0F;
+		fuzzCase.checkOverflow = true;
+		assertTrue(fuzzCase.mismatches());
+		
+		FuzzCase shrunk = fuzzCase.shrink();
+		assertTrue("Shrunk to a passing case: " + shrunk, shrunk.mismatches());
+		
+		// Everything but the faulty digit shrinks away
+		assertEquals(3, shrunk.op1Precision);
+		assertArrayEquals(new int[] { 0, 0, 1 }, new int[] { shrunk.op1Digits[0], shrunk.op1Digits[1], shrunk.op1Digits[2] });
+		assertEquals(1, shrunk.op2Precision);
+		assertEquals(0, shrunk.op2Digits[0]);
+		assertEquals(0x0C, shrunk.op1Sign);
+		assertEquals(0x0C, shrunk.op2Sign);
+		assertEquals(1, shrunk.resultPrecision);
+		assertEquals(0, shrunk.op1Offset + shrunk.op2Offset + shrunk.resultOffset);
+		
+		// and the original is left as it was
+		assertEquals(11, fuzzCase.op1Precision);
+		assertEquals(3, fuzzCase.op1Offset);
+	}
+	
+	@Test
+	public void testToJUnit()
+	{
+		FuzzCase fuzzCase = new FuzzCase();
+		boolean[] seen = new boolean[FuzzCase.OPERATION_COUNT];
+		int operations = 0;
+		for (long index = 0; operations < FuzzCase.OPERATION_COUNT; ++index)
+		{
+			fuzzCase.generate(DifferentialFuzzer.caseSeed(SEED, index));
+			if (!seen[fuzzCase.operation])
+			{
+				seen[fuzzCase.operation] = true;
+				++operations;
+			}
+			checkWellFormed(fuzzCase);
+			checkWellFormed(fuzzCase.shrink());
+		}
+	}
+	
+	static void checkWellFormed(FuzzCase fuzzCase)
+	{
+		String test = fuzzCase.toJUnit();
+		String[] lines = test.split("\n");
+		
+		assertTrue(test, lines.length > 4);
+		assertTrue(test, lines[0].startsWith("    // Shrunk from differential fuzzer case " + fuzzCase.seed + ": "));
+		assertTrue(test, lines[1].equals("    @Test") || lines[1].matches("    @Test\\(expected = \\w+Exception\\.class\\)"));
+		assertTrue(test, lines[2].matches("    public void test\\w+\\(\\)"));
+		assertEquals(test, "    {", lines[3]);
+		assertEquals(test, "    }", lines[lines.length - 1]);
+		assertTrue(test, test.endsWith("\n"));
+		
+		for (int i = 4; i < lines.length - 1; ++i)
+		{
+			String line = lines[i];
+			assertTrue(test, line.isEmpty() || line.startsWith("        "));
+			assertTrue(test, line.trim().isEmpty() || line.endsWith(";") || line.endsWith("{") || line.endsWith("}"));
+		}
+		assertTrue(test, test.contains("PackedDecimal.") || test.contains("DecimalData."));
+		
+		checkBalanced(test);
+	}
+	
+	/**
+	 * checks that the brackets outside character and string literals and
+	 * comments are balanced.
+	 */
+	static void checkBalanced(String test)
+	{
+		StringBuilder open = new StringBuilder();
+		for (int i = 0; i < test.length(); ++i)
+		{
+			char c = test.charAt(i);
+			if (c == '"' || c == '\'')
+			{
+				// Skip to the closing quote
+				for (++i; test.charAt(i) != c; ++i)
+				{
+					if (test.charAt(i) == '\\')
+						++i;
+				}
+			}
+			else if (c == '/' && test.charAt(i + 1) == '/')
+			{
+				i = test.indexOf('\n', i);
+			}
+			else if ("({[".indexOf(c) >= 0)
+			{
+				open.append(c);
+			}
+			else if (")}]".indexOf(c) >= 0)
+			{
+				assertTrue("Unbalanced " + c + " at " + i + " of\n" + test, open.length() > 0);
+				assertEquals("Unbalanced " + c + " at " + i + " of\n" + test, "({[".charAt(")}]".indexOf(c)), open.charAt(open.length() - 1));
+				open.setLength(open.length() - 1);
+			}
+		}
+		assertEquals("Unclosed brackets in\n" + test, "", open.toString());
+	}
+	
+	/**
+	 * returns a CHECK case of op1, given as digits from the most significant.
+	 */
+	static FuzzCase checkCase(int offset, int sign, int... digits)
+	{
+		FuzzCase fuzzCase = new FuzzCase();
+		fuzzCase.operation = FuzzCase.CHECK;
+		fuzzCase.op1Precision = digits.length;
+		fuzzCase.op1Offset = offset;
+		for (int k = 0; k < digits.length; ++k)
+			fuzzCase.op1Digits[k] = digits[digits.length - 1 - k];
+		fuzzCase.op1Sign = sign;
+		return fuzzCase;
+	}
+	
+	static void checkOracle(int expected, byte[] bytes, FuzzCase fuzzCase)
+	{
+		assertEquals(expected, PackedDecimal.checkPackedDecimal(bytes, fuzzCase.op1Offset, fuzzCase.op1Precision));
+		
+		byte[] encoded = bytes.clone();
+		FuzzCase.encodePacked(encoded, fuzzCase.op1Offset, fuzzCase.op1Precision, fuzzCase.op1Digits, fuzzCase.op1Sign);
+		assertArrayEquals(bytes, encoded);
+		
+		assertEquals(fuzzCase.toString(), "check " + expected, fuzzCase.runOracle());
+		assertEquals(fuzzCase.toString(), "check " + expected, fuzzCase.runDaa());
+		assertFalse(fuzzCase.mismatches());
+	}
+	
+	@Test
+	public void testCheckOracle()
+	{
+		checkOracle(0, new byte[] { 0x12, 0x34, 0x5C }, checkCase(0, 0x0C, 1, 2, 3, 4, 5));
+		checkOracle(0, new byte[] { 0x00, 0x01, 0x23, 0x4D }, checkCase(1, 0x0D, 0, 1, 2, 3, 4));
+		checkOracle(0, new byte[] { 0x00, 0x0F }, checkCase(0, 0x0F, 0, 0, 0));
+		
+		// Signs 0 to 9 are invalid
+		checkOracle(1, new byte[] { 0x12, 0x34, 0x55 }, checkCase(0, 0x05, 1, 2, 3, 4, 5));
+		checkOracle(1, new byte[] { 0x5A, (byte) 0x90 }, checkCase(1, 0x00, 9));
+		
+		// Digits A to F are invalid
+		checkOracle(2, new byte[] { 0x12, 0x3A, 0x5C }, checkCase(0, 0x0C, 1, 2, 3, 0x0A, 5));
+		checkOracle(2, new byte[] { 0x0F, 0x00, 0x0D }, checkCase(0, 0x0D, 0, 0x0F, 0, 0, 0));
+		
+		// and both together
+		checkOracle(3, new byte[] { 0x7E, 0x39 }, checkCase(0, 0x09, 7, 0x0E, 3));
+	}
+}
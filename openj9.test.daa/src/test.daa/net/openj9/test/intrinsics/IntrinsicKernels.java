@@ -0,0 +1,445 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.intrinsics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ibm.dataaccess.ByteArrayMarshaller;
+import com.ibm.dataaccess.ByteArrayUnmarshaller;
+import com.ibm.dataaccess.DecimalData;
+import com.ibm.dataaccess.PackedDecimal;
+
+import net.openj9.test.DaaKernel;
+import net.openj9.test.DecimalGenerator;
+
+/**
+ * A timed loop for each PackedDecimal, DecimalData and ByteArrayMarshaller/
+ * ByteArrayUnmarshaller method that the JIT can replace with an intrinsic.
+ * This is the child JVM of IntrinsicSpeedupCheck: it times the kernels named
+ * on the command line, or all of them, until each reaches a steady state and
+ * prints a KERNEL line with the nanoseconds per call for each one.
+ * 
+ * Usage: IntrinsicKernels milliseconds per kernel [kernel...]
+ */
+public class IntrinsicKernels
+{
+	public static final String RESULT_PREFIX = "KERNEL ";
+	
+	// A kernel is steady once the last STEADY_WINDOW batches vary by less than STEADY_THRESHOLD
+	static final int STEADY_WINDOW = 5;
+	static final double STEADY_THRESHOLD = 0.05;
+	static final long BATCH_NANOS = 10000000L;
+	
+	static final int PRECISION = 15;
+	static final int PACKED_LENGTH = PRECISION / 2 + 1;
+	static final int RESULT_PRECISION = 31;
+	static final int RESULT_LENGTH = RESULT_PRECISION / 2 + 1;
+	static final int SHIFT = 3;
+	static final int SHIFTED_PRECISION = PRECISION + SHIFT;
+	static final int EXTERNAL_LENGTH = PRECISION;
+	static final int UNICODE_LENGTH = PRECISION + 1;
+	
+	public static final class Measurement
+	{
+		final double nanosPerCall;
+		final boolean steady;
+		
+		Measurement(double nanosPerCall, boolean steady)
+		{
+			this.nanosPerCall = nanosPerCall;
+			this.steady = steady;
+		}
+	}
+	
+	// DaaKernel.OPERANDS values of each operand
+	private final byte[] packed = new byte[DaaKernel.OPERANDS * PACKED_LENGTH];
+	private final byte[] external = new byte[DaaKernel.OPERANDS * EXTERNAL_LENGTH];
+	private final char[] unicode = new char[DaaKernel.OPERANDS * UNICODE_LENGTH];
+	private final byte[] binary = new byte[DaaKernel.OPERANDS * 8];
+	private final int[] ints = new int[DaaKernel.OPERANDS];
+	private final long[] longs = new long[DaaKernel.OPERANDS];
+	
+	private final byte[] packedResult = new byte[RESULT_LENGTH];
+	private final byte[] externalResult = new byte[EXTERNAL_LENGTH];
+	private final char[] unicodeResult = new char[UNICODE_LENGTH];
+	private final byte[] binaryResult = new byte[8];
+	
+	private final Map<String, DaaKernel> kernels = new LinkedHashMap<String, DaaKernel>();
+	
+	public IntrinsicKernels()
+	{
+		DecimalGenerator generator = DecimalGenerator.currentWithLeadingZeros();
+		for (int i = 0; i < DaaKernel.OPERANDS; ++i)
+		{
+			boolean negative = (i & 1) != 0;
+			longs[i] = generator.packedLong(packed, i * PACKED_LENGTH, PRECISION, negative ? 0x0D : 0x0C);
+			ints[i] = (int) (longs[i] % 1000000000);
+			generator.external(external, i * EXTERNAL_LENGTH, PRECISION, negative, DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING);
+			generator.unicode(unicode, i * UNICODE_LENGTH, PRECISION, negative, DecimalData.UNICODE_SIGN_SEPARATE_LEADING);
+			ByteArrayMarshaller.writeLong(longs[i], binary, i * 8, true);
+		}
+		
+		addKernels();
+	}
+	
+	private void add(DaaKernel kernel)
+	{
+		kernels.put(kernel.getName(), kernel);
+	}
+	
+	private void addKernels()
+	{
+		add(new DaaKernel("PackedDecimal.addPackedDecimal") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					PackedDecimal.addPackedDecimal(packedResult, 0, RESULT_PRECISION, packed, (i & OPERAND_MASK) * PACKED_LENGTH, PRECISION,
+							packed, ((i + 1) & OPERAND_MASK) * PACKED_LENGTH, PRECISION, true);
+					result += packedResult[RESULT_LENGTH - 1];
+				}
+				return result;
+			}
+		});
+		add(new DaaKernel("PackedDecimal.subtractPackedDecimal") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					PackedDecimal.subtractPackedDecimal(packedResult, 0, RESULT_PRECISION, packed, (i & OPERAND_MASK) * PACKED_LENGTH, PRECISION,
+							packed, ((i + 1) & OPERAND_MASK) * PACKED_LENGTH, PRECISION, true);
+					result += packedResult[RESULT_LENGTH - 1];
+				}
+				return result;
+			}
+		});
+		add(new DaaKernel("PackedDecimal.multiplyPackedDecimal") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					PackedDecimal.multiplyPackedDecimal(packedResult, 0, RESULT_PRECISION, packed, (i & OPERAND_MASK) * PACKED_LENGTH, PRECISION,
+							packed, ((i + 1) & OPERAND_MASK) * PACKED_LENGTH, PRECISION, true);
+					result += packedResult[RESULT_LENGTH - 1];
+				}
+				return result;
+			}
+		});
+		add(new DaaKernel("PackedDecimal.shiftLeftPackedDecimal") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					PackedDecimal.shiftLeftPackedDecimal(packedResult, 0, SHIFTED_PRECISION, packed, (i & OPERAND_MASK) * PACKED_LENGTH, PRECISION,
+							SHIFT, true);
+					result += packedResult[SHIFTED_PRECISION / 2];
+				}
+				return result;
+			}
+		});
+		add(new DaaKernel("PackedDecimal.shiftRightPackedDecimal") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					PackedDecimal.shiftRightPackedDecimal(packedResult, 0, PRECISION, packed, (i & OPERAND_MASK) * PACKED_LENGTH, PRECISION,
+							SHIFT, false, true);
+					result += packedResult[PACKED_LENGTH - 1];
+				}
+				return result;
+			}
+		});
+		add(new DaaKernel("PackedDecimal.checkPackedDecimal") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += PackedDecimal.checkPackedDecimal(packed, (i & OPERAND_MASK) * PACKED_LENGTH, PRECISION, true, true);
+				return result;
+			}
+		});
+		add(new DaaKernel("PackedDecimal.lessThanPackedDecimal") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					if (PackedDecimal.lessThanPackedDecimal(packed, (i & OPERAND_MASK) * PACKED_LENGTH, PRECISION,
+							packed, ((i + 1) & OPERAND_MASK) * PACKED_LENGTH, PRECISION))
+						++result;
+				}
+				return result;
+			}
+		});
+		add(new DaaKernel("DecimalData.convertPackedDecimalToInteger") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					// The low 9 digits of each operand, which fit in an int
+					int index = (i & OPERAND_MASK) * PACKED_LENGTH + PACKED_LENGTH - 5;
+					result += DecimalData.convertPackedDecimalToInteger(packed, index, 9, true);
+				}
+				return result;
+			}
+		});
+		add(new DaaKernel("DecimalData.convertPackedDecimalToLong") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += DecimalData.convertPackedDecimalToLong(packed, (i & OPERAND_MASK) * PACKED_LENGTH, PRECISION, true);
+				return result;
+			}
+		});
+		add(new DaaKernel("DecimalData.convertIntegerToPackedDecimal") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					DecimalData.convertIntegerToPackedDecimal(ints[i & OPERAND_MASK], packedResult, 0, PRECISION, true);
+					result += packedResult[PACKED_LENGTH - 1];
+				}
+				return result;
+			}
+		});
+		add(new DaaKernel("DecimalData.convertLongToPackedDecimal") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					DecimalData.convertLongToPackedDecimal(longs[i & OPERAND_MASK], packedResult, 0, PRECISION, true);
+					result += packedResult[PACKED_LENGTH - 1];
+				}
+				return result;
+			}
+		});
+		add(new DaaKernel("DecimalData.convertPackedDecimalToExternalDecimal") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					DecimalData.convertPackedDecimalToExternalDecimal(packed, (i & OPERAND_MASK) * PACKED_LENGTH, externalResult, 0, PRECISION,
+							DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING);
+					result += externalResult[EXTERNAL_LENGTH - 1];
+				}
+				return result;
+			}
+		});
+		add(new DaaKernel("DecimalData.convertExternalDecimalToPackedDecimal") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					DecimalData.convertExternalDecimalToPackedDecimal(external, (i & OPERAND_MASK) * EXTERNAL_LENGTH, packedResult, 0, PRECISION,
+							DecimalData.EBCDIC_SIGN_EMBEDDED_TRAILING);
+					result += packedResult[PACKED_LENGTH - 1];
+				}
+				return result;
+			}
+		});
+		add(new DaaKernel("DecimalData.convertPackedDecimalToUnicodeDecimal") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					DecimalData.convertPackedDecimalToUnicodeDecimal(packed, (i & OPERAND_MASK) * PACKED_LENGTH, unicodeResult, 0, PRECISION,
+							DecimalData.UNICODE_SIGN_SEPARATE_LEADING);
+					result += unicodeResult[UNICODE_LENGTH - 1];
+				}
+				return result;
+			}
+		});
+		add(new DaaKernel("DecimalData.convertUnicodeDecimalToPackedDecimal") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					DecimalData.convertUnicodeDecimalToPackedDecimal(unicode, (i & OPERAND_MASK) * UNICODE_LENGTH, packedResult, 0, PRECISION,
+							DecimalData.UNICODE_SIGN_SEPARATE_LEADING);
+					result += packedResult[PACKED_LENGTH - 1];
+				}
+				return result;
+			}
+		});
+		add(new DaaKernel("ByteArrayUnmarshaller.readInt") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += ByteArrayUnmarshaller.readInt(binary, (i & OPERAND_MASK) * 8, (i & 1) == 0);
+				return result;
+			}
+		});
+		add(new DaaKernel("ByteArrayUnmarshaller.readLong") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += ByteArrayUnmarshaller.readLong(binary, (i & OPERAND_MASK) * 8, (i & 1) == 0);
+				return result;
+			}
+		});
+		add(new DaaKernel("ByteArrayUnmarshaller.readDouble") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+					result += Double.doubleToRawLongBits(ByteArrayUnmarshaller.readDouble(binary, (i & OPERAND_MASK) * 8, (i & 1) == 0));
+				return result;
+			}
+		});
+		add(new DaaKernel("ByteArrayMarshaller.writeInt") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					ByteArrayMarshaller.writeInt(ints[i & OPERAND_MASK], binaryResult, 0, (i & 1) == 0);
+					result += binaryResult[3];
+				}
+				return result;
+			}
+		});
+		add(new DaaKernel("ByteArrayMarshaller.writeLong") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					ByteArrayMarshaller.writeLong(longs[i & OPERAND_MASK], binaryResult, 0, (i & 1) == 0);
+					result += binaryResult[7];
+				}
+				return result;
+			}
+		});
+		add(new DaaKernel("ByteArrayMarshaller.writeDouble") {
+			protected long run(int count)
+			{
+				long result = 0;
+				for (int i = 0; i < count; ++i)
+				{
+					ByteArrayMarshaller.writeDouble((double) longs[i & OPERAND_MASK], binaryResult, 0, (i & 1) == 0);
+					result += binaryResult[7];
+				}
+				return result;
+			}
+		});
+	}
+	
+	public List<String> getKernelNames()
+	{
+		return new ArrayList<String>(kernels.keySet());
+	}
+	
+	/**
+	 * Runs the kernel in batches of about BATCH_NANOS until the times of the
+	 * last STEADY_WINDOW batches are within STEADY_THRESHOLD of each other, or
+	 * until budgetNanos is used up.
+	 * 
+	 * @return the median time per call of the last STEADY_WINDOW batches
+	 */
+	public Measurement measure(String name, long budgetNanos)
+	{
+		DaaKernel kernel = kernels.get(name);
+		if (kernel == null)
+			throw new IllegalArgumentException("No kernel " + name);
+		
+		long deadline = System.nanoTime() + budgetNanos;
+		
+		// Grow the batch until it takes about BATCH_NANOS
+		int batch = 1;
+		while (batch < (1 << 30))
+		{
+			long start = System.nanoTime();
+			kernel.call(batch);
+			if (System.nanoTime() - start >= BATCH_NANOS / 4)
+				break;
+			batch *= 2;
+		}
+		batch = Math.min(batch * 4, 1 << 30);
+		
+		double[] window = new double[STEADY_WINDOW];
+		int batches = 0;
+		boolean steady = false;
+		
+		while (!steady && (batches < STEADY_WINDOW || System.nanoTime() < deadline))
+		{
+			long start = System.nanoTime();
+			kernel.call(batch);
+			window[batches++ % STEADY_WINDOW] = (double) (System.nanoTime() - start) / batch;
+			
+			steady = batches >= STEADY_WINDOW && coefficientOfVariation(window) < STEADY_THRESHOLD;
+		}
+		
+		double[] sorted = window.clone();
+		Arrays.sort(sorted);
+		return new Measurement(sorted[STEADY_WINDOW / 2], steady);
+	}
+	
+	static double coefficientOfVariation(double[] values)
+	{
+		double mean = 0;
+		for (double value : values)
+			mean += value;
+		mean /= values.length;
+		
+		double variance = 0;
+		for (double value : values)
+			variance += (value - mean) * (value - mean);
+		variance /= values.length;
+		
+		return mean == 0 ? 0 : Math.sqrt(variance) / mean;
+	}
+	
+	public static void main(String[] args)
+	{
+		long budgetNanos = Long.parseLong(args[0]) * 1000000L;
+		
+		IntrinsicKernels kernels = new IntrinsicKernels();
+		List<String> names = args.length > 1 ? Arrays.asList(args).subList(1, args.length) : kernels.getKernelNames();
+		
+		for (String name : names)
+		{
+			Measurement measurement = kernels.measure(name, budgetNanos);
+			System.out.println(RESULT_PREFIX + name + " " + measurement.nanosPerCall + " " + measurement.steady);
+		}
+	}
+}
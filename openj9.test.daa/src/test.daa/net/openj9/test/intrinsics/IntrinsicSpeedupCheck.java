@@ -0,0 +1,402 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.intrinsics;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks that the DAA methods are intrinsified by their speed rather than by
+ * the JIT verbose log. IntrinsicKernels is run in a child JVM with the JIT
+ * options, none by default, and in child JVMs with the same options plus the
+ * JIT option that disables the intrinsics of the method,
+ * disablePackedDecimalIntrinsics for the PackedDecimal and DecimalData methods
+ * and disableMarshallingIntrinsics for the ByteArrayMarshaller and
+ * ByteArrayUnmarshaller ones. Both runs JIT compile the method, so the
+ * speedup is that of the intrinsic over the compiled Java implementation.
+ * 
+ * The methods checked by default are those the JIT recognises and their
+ * floors, DEFAULT_FLOORS, are the least speedup each intrinsic should give:
+ * the packed decimal arithmetic replaces a BigDecimal computation, where an
+ * intrinsic marshaller method only saves the shifts and masks of the Java
+ * code. A method fails if its speedup is below its floor.
+ * 
+ * A kernel that doesn't reach a steady state in either JVM is timed again
+ * in new child JVMs, with twice the time, up to MAX_ATTEMPTS times; a method
+ * that still isn't steady fails, since its speedup means nothing.
+ * 
+ * The child JVMs are the java of java.home with the classpath of this JVM.
+ * -Ddaa.speedupKernels replaces the methods with a comma separated list of
+ * method[=floor], for the platforms that only intrinsify some of them,
+ * -Ddaa.speedupFloor replaces every floor, and -Ddaa.speedupJitOptions and
+ * -Ddaa.speedupBaselineOptions replace the space separated options of the
+ * two kinds of child JVM.
+ * 
+ * Usage: IntrinsicSpeedupCheck [milliseconds per method (default 2000)]
+ */
+public class IntrinsicSpeedupCheck
+{
+	public static final long DEFAULT_MILLISECONDS = 2000;
+	public static final int MAX_ATTEMPTS = 3;
+	
+	// The JIT options that disable the intrinsics
+	static final String DISABLE_PACKED_DECIMAL = "disablePackedDecimalIntrinsics";
+	static final String DISABLE_MARSHALLING = "disableMarshallingIntrinsics";
+	
+	/**
+	 * The methods the JIT replaces with intrinsics, with the least speedup
+	 * over their compiled Java implementation each should show.
+	 */
+	public static final Map<String, Double> DEFAULT_FLOORS = new LinkedHashMap<String, Double>();
+	
+	static
+	{
+		DEFAULT_FLOORS.put("PackedDecimal.addPackedDecimal", 4.0);
+		DEFAULT_FLOORS.put("PackedDecimal.subtractPackedDecimal", 4.0);
+		DEFAULT_FLOORS.put("PackedDecimal.multiplyPackedDecimal", 4.0);
+		DEFAULT_FLOORS.put("PackedDecimal.shiftLeftPackedDecimal", 3.0);
+		DEFAULT_FLOORS.put("PackedDecimal.shiftRightPackedDecimal", 3.0);
+		DEFAULT_FLOORS.put("PackedDecimal.checkPackedDecimal", 2.0);
+		DEFAULT_FLOORS.put("PackedDecimal.lessThanPackedDecimal", 2.0);
+		DEFAULT_FLOORS.put("DecimalData.convertPackedDecimalToInteger", 2.0);
+		DEFAULT_FLOORS.put("DecimalData.convertPackedDecimalToLong", 2.0);
+		DEFAULT_FLOORS.put("DecimalData.convertIntegerToPackedDecimal", 2.0);
+		DEFAULT_FLOORS.put("DecimalData.convertLongToPackedDecimal", 2.0);
+		DEFAULT_FLOORS.put("DecimalData.convertPackedDecimalToExternalDecimal", 2.0);
+		DEFAULT_FLOORS.put("DecimalData.convertExternalDecimalToPackedDecimal", 2.0);
+		DEFAULT_FLOORS.put("DecimalData.convertPackedDecimalToUnicodeDecimal", 2.0);
+		DEFAULT_FLOORS.put("DecimalData.convertUnicodeDecimalToPackedDecimal", 2.0);
+		DEFAULT_FLOORS.put("ByteArrayUnmarshaller.readInt", 1.5);
+		DEFAULT_FLOORS.put("ByteArrayUnmarshaller.readLong", 1.5);
+		DEFAULT_FLOORS.put("ByteArrayUnmarshaller.readDouble", 1.5);
+		DEFAULT_FLOORS.put("ByteArrayMarshaller.writeInt", 1.5);
+		DEFAULT_FLOORS.put("ByteArrayMarshaller.writeLong", 1.5);
+		DEFAULT_FLOORS.put("ByteArrayMarshaller.writeDouble", 1.5);
+	}
+	
+	public static final class Result
+	{
+		private final String name;
+		private final String baselineOptions;
+		private final double baselineNanos;
+		private final double jitNanos;
+		private final boolean steady;
+		private final double floor;
+		
+		Result(String name, String baselineOptions, double baselineNanos, double jitNanos, boolean steady, double floor)
+		{
+			this.name = name;
+			this.baselineOptions = baselineOptions;
+			this.baselineNanos = baselineNanos;
+			this.jitNanos = jitNanos;
+			this.steady = steady;
+			this.floor = floor;
+		}
+		
+		public String getName()
+		{
+			return name;
+		}
+		
+		public double getSpeedup()
+		{
+			return baselineNanos / jitNanos;
+		}
+		
+		public double getFloor()
+		{
+			return floor;
+		}
+		
+		/**
+		 * @return whether both JVMs reached a steady state on the method
+		 */
+		public boolean isSteady()
+		{
+			return steady;
+		}
+		
+		public boolean failed()
+		{
+			return !steady || getSpeedup() < floor;
+		}
+		
+		public String toString()
+		{
+			return String.format("%s: %.1f ns/call with '%s', %.1f ns/call with the intrinsic, speedup %.1f (floor %.1f)%s", name, baselineNanos,
+					baselineOptions, jitNanos, getSpeedup(), floor, steady ? "" : ", not steady");
+		}
+	}
+	
+	private static final class ChildResult
+	{
+		final double nanosPerCall;
+		final boolean steady;
+		
+		ChildResult(double nanosPerCall, boolean steady)
+		{
+			this.nanosPerCall = nanosPerCall;
+			this.steady = steady;
+		}
+	}
+	
+	static String getJitOptions()
+	{
+		return System.getProperty("daa.speedupJitOptions", "");
+	}
+	
+	/**
+	 * @return the options of the JVM that times method without its intrinsic
+	 */
+	static String getBaselineOptions(String method)
+	{
+		String options = System.getProperty("daa.speedupBaselineOptions");
+		if (options != null)
+			return options;
+		return addJitOption(getJitOptions(), method.startsWith("ByteArray") ? DISABLE_MARSHALLING : DISABLE_PACKED_DECIMAL);
+	}
+	
+	/**
+	 * @return options with option added to their -Xjit option, or to a new
+	 *         one, since only the last -Xjit option counts
+	 */
+	static String addJitOption(String options, String option)
+	{
+		StringBuilder result = new StringBuilder();
+		boolean added = false;
+		for (String split : splitOptions(options))
+		{
+			if (split.equals("-Xjit") || split.startsWith("-Xjit:"))
+			{
+				split = split.equals("-Xjit") ? "-Xjit:" + option : split + "," + option;
+				added = true;
+			}
+			result.append(split).append(' ');
+		}
+		if (!added)
+			result.append("-Xjit:").append(option);
+		return result.toString().trim();
+	}
+	
+	/**
+	 * @return the methods to check and their floors, DEFAULT_FLOORS unless
+	 *         -Ddaa.speedupKernels or -Ddaa.speedupFloor are set
+	 */
+	static Map<String, Double> getKernels()
+	{
+		Map<String, Double> kernels = new LinkedHashMap<String, Double>();
+		String names = System.getProperty("daa.speedupKernels");
+		if (names == null || names.trim().isEmpty())
+		{
+			kernels.putAll(DEFAULT_FLOORS);
+		}
+		else
+		{
+			for (String kernel : names.trim().split("\\s*,\\s*"))
+			{
+				int equals = kernel.indexOf('=');
+				if (equals >= 0)
+					kernels.put(kernel.substring(0, equals), Double.valueOf(kernel.substring(equals + 1)));
+				else if (DEFAULT_FLOORS.containsKey(kernel))
+					kernels.put(kernel, DEFAULT_FLOORS.get(kernel));
+				else
+					throw new IllegalArgumentException("No default speedup floor for " + kernel + ", give one as " + kernel + "=floor");
+			}
+		}
+		
+		String floor = System.getProperty("daa.speedupFloor");
+		if (floor != null)
+		{
+			for (Map.Entry<String, Double> kernel : kernels.entrySet())
+				kernel.setValue(Double.valueOf(floor));
+		}
+		return kernels;
+	}
+	
+	static List<String> splitOptions(String options)
+	{
+		List<String> split = new ArrayList<String>();
+		for (String option : options.trim().split("\\s+"))
+		{
+			if (!option.isEmpty())
+				split.add(option);
+		}
+		return split;
+	}
+	
+	/**
+	 * Runs IntrinsicKernels in a child JVM with the given options.
+	 * 
+	 * @return the time per call of each kernel
+	 */
+	static Map<String, ChildResult> runChild(String options, long milliseconds, List<String> kernels) throws IOException, InterruptedException
+	{
+		List<String> command = new ArrayList<String>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		command.addAll(splitOptions(options));
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(IntrinsicKernels.class.getName());
+		command.add(Long.toString(milliseconds));
+		command.addAll(kernels);
+		
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+		
+		Map<String, ChildResult> results = new LinkedHashMap<String, ChildResult>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+		try
+		{
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				if (line.startsWith(IntrinsicKernels.RESULT_PREFIX))
+				{
+					String[] fields = line.substring(IntrinsicKernels.RESULT_PREFIX.length()).split(" ");
+					results.put(fields[0], new ChildResult(Double.parseDouble(fields[1]), Boolean.parseBoolean(fields[2])));
+				}
+				else
+				{
+					System.out.println("[" + options + "] " + line);
+				}
+			}
+		}
+		finally
+		{
+			reader.close();
+		}
+		
+		int exitValue = process.waitFor();
+		if (exitValue != 0)
+			throw new IOException("The child JVM with options '" + options + "' exited with " + exitValue);
+		
+		return results;
+	}
+	
+	/**
+	 * Times the kernels with the JIT options and then without their
+	 * intrinsics, a child JVM for each set of baseline options. The child JVMs
+	 * run one after the other so that they don't compete for the processors.
+	 */
+	static Map<String, Result> measure(long milliseconds, Map<String, Double> kernels) throws IOException, InterruptedException
+	{
+		Map<String, List<String>> baselines = new LinkedHashMap<String, List<String>>();
+		for (String kernel : kernels.keySet())
+		{
+			String options = getBaselineOptions(kernel);
+			List<String> names = baselines.get(options);
+			if (names == null)
+			{
+				names = new ArrayList<String>();
+				baselines.put(options, names);
+			}
+			names.add(kernel);
+		}
+		
+		Map<String, ChildResult> jit = runChild(getJitOptions(), milliseconds, new ArrayList<String>(kernels.keySet()));
+		
+		Map<String, Result> results = new LinkedHashMap<String, Result>();
+		for (Map.Entry<String, List<String>> baseline : baselines.entrySet())
+		{
+			Map<String, ChildResult> baselineResults = runChild(baseline.getKey(), milliseconds, baseline.getValue());
+			for (String kernel : baseline.getValue())
+			{
+				ChildResult baselineResult = baselineResults.get(kernel);
+				ChildResult jitResult = jit.get(kernel);
+				if (baselineResult != null && jitResult != null)
+				{
+					results.put(kernel, new Result(kernel, baseline.getKey(), baselineResult.nanosPerCall, jitResult.nanosPerCall,
+							baselineResult.steady && jitResult.steady, kernels.get(kernel)));
+				}
+			}
+		}
+		return results;
+	}
+	
+	/**
+	 * Times the kernels, timing the ones that don't reach a steady state
+	 * again with twice the time, up to MAX_ATTEMPTS times in all.
+	 */
+	public static List<Result> run(long milliseconds, Map<String, Double> kernels) throws IOException, InterruptedException
+	{
+		Map<String, Result> results = new LinkedHashMap<String, Result>();
+		Map<String, Double> pending = kernels;
+		
+		for (int attempt = 1; !pending.isEmpty(); ++attempt)
+		{
+			results.putAll(measure(milliseconds, pending));
+			if (attempt == MAX_ATTEMPTS)
+				break;
+			
+			Map<String, Double> unsteady = new LinkedHashMap<String, Double>();
+			for (Map.Entry<String, Double> kernel : pending.entrySet())
+			{
+				Result result = results.get(kernel.getKey());
+				if (result != null && !result.isSteady())
+					unsteady.put(kernel.getKey(), kernel.getValue());
+			}
+			pending = unsteady;
+			milliseconds *= 2;
+			if (!pending.isEmpty())
+				System.out.println("IntrinsicSpeedupCheck: timing " + pending.keySet() + " again for " + milliseconds + " ms, they were not steady");
+		}
+		return new ArrayList<Result>(results.values());
+	}
+	
+	public static void main(String[] args) throws IOException, InterruptedException
+	{
+		long milliseconds = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_MILLISECONDS;
+		
+		System.out.println("IntrinsicSpeedupCheck: '" + getJitOptions() + "' against the same without the intrinsics, up to " + milliseconds
+				+ " ms per method");
+		
+		List<Result> results = run(milliseconds, getKernels());
+		
+		int failures = 0;
+		System.out.printf("%-55s %14s %14s %9s %7s%n", "Method", "Baseline ns", "JIT ns", "Speedup", "Floor");
+		for (Result result : results)
+		{
+			String status = "";
+			if (!result.isSteady())
+				status = "  FAILED (not steady)";
+			else if (result.failed())
+				status = "  FAILED";
+			if (result.failed())
+				++failures;
+			
+			System.out.printf("%-55s %14.1f %14.1f %9.1f %7.1f%s%n", result.getName(), result.baselineNanos, result.jitNanos, result.getSpeedup(),
+					result.getFloor(), status);
+		}
+		
+		System.out.println("IntrinsicSpeedupCheck: " + failures + " methods below their speedup floor or not steady");
+		
+		if (failures > 0)
+			System.exit(1);
+	}
+}
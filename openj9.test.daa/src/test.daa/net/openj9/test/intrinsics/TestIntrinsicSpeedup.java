@@ -0,0 +1,59 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.intrinsics;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Runs IntrinsicSpeedupCheck for up to -Ddaa.speedupMilliseconds per method,
+ * 1000 by default, and fails if any method is sped up less than its floor by
+ * its intrinsic or doesn't reach a steady state.
+ */
+public class TestIntrinsicSpeedup
+{
+	static final long DEFAULT_MILLISECONDS = 1000;
+	
+	@Test
+	public void testIntrinsicSpeedup() throws Exception
+	{
+		long milliseconds = Long.getLong("daa.speedupMilliseconds", DEFAULT_MILLISECONDS);
+		
+		List<IntrinsicSpeedupCheck.Result> results = IntrinsicSpeedupCheck.run(milliseconds, IntrinsicSpeedupCheck.getKernels());
+		assertTrue("No methods were timed", !results.isEmpty());
+		
+		List<IntrinsicSpeedupCheck.Result> failed = new ArrayList<IntrinsicSpeedupCheck.Result>();
+		for (IntrinsicSpeedupCheck.Result result : results)
+		{
+			if (result.failed())
+				failed.add(result);
+		}
+		
+		assertTrue("Methods below their speedup floor or not steady: " + failed, failed.isEmpty());
+	}
+}
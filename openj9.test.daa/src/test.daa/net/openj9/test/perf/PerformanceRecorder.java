@@ -0,0 +1,138 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.perf;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Collects the ns/op samples of the DAA benchmarks run by this JVM when
+ * -Ddaa.perfResults names a directory. The samples are kept in memory and
+ * written to the samples file for this JVM's key there once, by write() or
+ * when the JVM shuts down, so that recording never holds up the benchmark
+ * threads on file I/O. RegressionGate compares the file with the baseline
+ * afterwards. Only the latest MAX_SAMPLES samples of each benchmark are kept.
+ */
+public class PerformanceRecorder
+{
+	public static final String RESULTS_PROPERTY = "daa.perfResults";
+	
+	static final int MAX_SAMPLES = 2000;
+	
+	private static final String resultsDirectory = System.getProperty(RESULTS_PROPERTY);
+	
+	private static final String key = PerformanceSamples.currentKey();
+	
+	private static final ConcurrentMap<String, Ring> rings = new ConcurrentHashMap<String, Ring>();
+	
+	static
+	{
+		if (isEnabled())
+		{
+			Runtime.getRuntime().addShutdownHook(new Thread("PerformanceRecorder") {
+				public void run()
+				{
+					try
+					{
+						write();
+					}
+					catch (IOException e)
+					{
+						System.err.println("PerformanceRecorder: cannot write the samples: " + e);
+					}
+				}
+			});
+		}
+	}
+	
+	/**
+	 * The latest samples of one benchmark.
+	 */
+	private static final class Ring
+	{
+		private final double[] values = new double[MAX_SAMPLES];
+		private long count;
+		
+		synchronized void add(double[] samples)
+		{
+			for (double sample : samples)
+				values[(int) (count++ % MAX_SAMPLES)] = sample;
+		}
+		
+		synchronized double[] toArray()
+		{
+			double[] array = new double[(int) Math.min(count, MAX_SAMPLES)];
+			System.arraycopy(values, 0, array, 0, array.length);
+			return array;
+		}
+	}
+	
+	public static boolean isEnabled()
+	{
+		return resultsDirectory != null;
+	}
+	
+	/**
+	 * Adds the samples of benchmark. Does nothing unless -Ddaa.perfResults is
+	 * set.
+	 */
+	public static void record(String benchmark, double[] samples)
+	{
+		if (!isEnabled())
+			return;
+		
+		Ring ring = rings.get(benchmark);
+		if (ring == null)
+		{
+			Ring newRing = new Ring();
+			ring = rings.putIfAbsent(benchmark, newRing);
+			if (ring == null)
+				ring = newRing;
+		}
+		ring.add(samples);
+	}
+	
+	/**
+	 * Writes the samples recorded so far to the samples file. Does nothing
+	 * unless -Ddaa.perfResults is set and some samples have been recorded.
+	 */
+	public static synchronized void write() throws IOException
+	{
+		if (!isEnabled() || rings.isEmpty())
+			return;
+		
+		PerformanceSamples performanceSamples = new PerformanceSamples(key);
+		for (Map.Entry<String, Ring> entry : rings.entrySet())
+			performanceSamples.setSamples(entry.getKey(), entry.getValue().toArray());
+		
+		File directory = new File(resultsDirectory);
+		if (!directory.isDirectory() && !directory.mkdirs())
+			throw new IOException("Cannot create " + directory);
+		
+		performanceSamples.write(new File(directory, PerformanceSamples.fileName(key)));
+	}
+}
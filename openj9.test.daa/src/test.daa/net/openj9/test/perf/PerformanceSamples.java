@@ -0,0 +1,227 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.perf;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The ns/op samples of a set of benchmarks, all taken on one JVM build with
+ * one set of JIT options, and the compact binary file they are kept in. The
+ * file is named after a hash of the key, the JVM build and JIT options, so a
+ * directory can hold the samples of several JVMs and option sets side by
+ * side, and holds the key, then the mean, variance and samples of each
+ * benchmark.
+ */
+public class PerformanceSamples
+{
+	static final int MAGIC = 0x44414150; // DAAP
+	static final int VERSION = 1;
+	
+	static final String FILE_PREFIX = "daa-perf-";
+	static final String FILE_SUFFIX = ".bin";
+	
+	// The option prefixes that change what the JIT does
+	static final String[] JIT_OPTION_PREFIXES = { "-Xjit", "-Xaot", "-Xint", "-Xnojit", "-Xnoaot", "-XX:", "-Xshareclasses", "-Xtune" };
+	
+	private final String key;
+	private final Map<String, double[]> samples = new TreeMap<String, double[]>();
+	
+	public PerformanceSamples(String key)
+	{
+		this.key = key;
+	}
+	
+	/**
+	 * @return the key of this JVM, its build followed by the options that
+	 *         affect the JIT, e.g. "IBM J9 VM 2.9 (openj9-0.49.0) -Xjit:count=0"
+	 */
+	public static String currentKey()
+	{
+		StringBuilder key = new StringBuilder();
+		key.append(System.getProperty("java.vm.name")).append(' ').append(System.getProperty("java.vm.version"));
+		key.append(" (").append(System.getProperty("java.runtime.version")).append(')');
+		
+		List<String> options = new ArrayList<String>();
+		for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments())
+		{
+			for (String prefix : JIT_OPTION_PREFIXES)
+			{
+				if (argument.startsWith(prefix))
+				{
+					options.add(argument);
+					break;
+				}
+			}
+		}
+		Collections.sort(options);
+		
+		for (String option : options)
+			key.append(' ').append(option);
+		
+		return key.toString();
+	}
+	
+	public static String fileName(String key)
+	{
+		return FILE_PREFIX + String.format("%08x", key.hashCode()) + FILE_SUFFIX;
+	}
+	
+	public static boolean isSamplesFile(File file)
+	{
+		return file.getName().startsWith(FILE_PREFIX) && file.getName().endsWith(FILE_SUFFIX);
+	}
+	
+	public String getKey()
+	{
+		return key;
+	}
+	
+	public List<String> getBenchmarks()
+	{
+		return new ArrayList<String>(samples.keySet());
+	}
+	
+	/**
+	 * @return the samples of benchmark, null if there are none
+	 */
+	public double[] getSamples(String benchmark)
+	{
+		return samples.get(benchmark);
+	}
+	
+	public void setSamples(String benchmark, double[] values)
+	{
+		samples.put(benchmark, values);
+	}
+	
+	public static double mean(double[] values)
+	{
+		double sum = 0;
+		for (double value : values)
+			sum += value;
+		return values.length == 0 ? 0 : sum / values.length;
+	}
+	
+	public static double variance(double[] values)
+	{
+		double mean = mean(values);
+		double sum = 0;
+		for (double value : values)
+			sum += (value - mean) * (value - mean);
+		return values.length < 2 ? 0 : sum / (values.length - 1);
+	}
+	
+	public static double median(double[] values)
+	{
+		double[] sorted = values.clone();
+		Arrays.sort(sorted);
+		int middle = sorted.length / 2;
+		return (sorted.length & 1) != 0 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+	}
+	
+	/**
+	 * Writes the samples to a temporary file which then replaces file, so that
+	 * a reader never sees half a file.
+	 */
+	public void write(File file) throws IOException
+	{
+		File temporary = new File(file.getPath() + ".tmp");
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)));
+		try
+		{
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeUTF(key);
+			out.writeInt(samples.size());
+			
+			for (Map.Entry<String, double[]> entry : samples.entrySet())
+			{
+				double[] values = entry.getValue();
+				out.writeUTF(entry.getKey());
+				out.writeDouble(mean(values));
+				out.writeDouble(variance(values));
+				out.writeInt(values.length);
+				for (double value : values)
+					out.writeDouble(value);
+			}
+		}
+		finally
+		{
+			out.close();
+		}
+		
+		if (file.exists() && !file.delete())
+			throw new IOException("Cannot replace " + file);
+		if (!temporary.renameTo(file))
+			throw new IOException("Cannot rename " + temporary + " to " + file);
+	}
+	
+	public static PerformanceSamples read(File file) throws IOException
+	{
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+		try
+		{
+			if (in.readInt() != MAGIC)
+				throw new IOException(file + " is not a DAA performance samples file");
+			int version = in.readInt();
+			if (version != VERSION)
+				throw new IOException(file + " has version " + version + ", expected " + VERSION);
+			
+			PerformanceSamples performanceSamples = new PerformanceSamples(in.readUTF());
+			int benchmarks = in.readInt();
+			for (int i = 0; i < benchmarks; ++i)
+			{
+				String benchmark = in.readUTF();
+				
+				// The mean and variance are there for other readers, they are recomputed from the samples
+				in.readDouble();
+				in.readDouble();
+				
+				double[] values = new double[in.readInt()];
+				for (int j = 0; j < values.length; ++j)
+					values[j] = in.readDouble();
+				performanceSamples.setSamples(benchmark, values);
+			}
+			return performanceSamples;
+		}
+		finally
+		{
+			in.close();
+		}
+	}
+}
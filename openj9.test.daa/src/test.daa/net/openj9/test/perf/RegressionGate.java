@@ -0,0 +1,345 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.perf;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compares the DAA benchmark samples recorded by PerformanceRecorder with the
+ * baseline samples for the same JVM build and JIT options. A benchmark has
+ * regressed if a one sided Mann-Whitney U test says that its current ns/op
+ * are higher than the baseline ones at the significance level alpha, 0.01 by
+ * default, and its median has grown by more than minChange, 5% by default.
+ * The benchmarks are reported ranked by the growth of their median.
+ * 
+ * A key without a baseline is reported with a warning and not compared. With
+ * -update its current samples are saved as its baseline, and an existing
+ * baseline is replaced by the current samples whenever no benchmark has
+ * regressed.
+ * 
+ * Usage: RegressionGate [-update] [-alpha=p] [-minChange=fraction] current-dir baseline-dir
+ * 
+ * Exits with 1 if any benchmark has regressed.
+ */
+public class RegressionGate
+{
+	public static final double DEFAULT_ALPHA = 0.01;
+	public static final double DEFAULT_MIN_CHANGE = 0.05;
+	
+	public static final class Comparison
+	{
+		final String benchmark;
+		final double baselineMedian;
+		final double currentMedian;
+		final double pValue;
+		final boolean regressed;
+		
+		Comparison(String benchmark, double baselineMedian, double currentMedian, double pValue, boolean regressed)
+		{
+			this.benchmark = benchmark;
+			this.baselineMedian = baselineMedian;
+			this.currentMedian = currentMedian;
+			this.pValue = pValue;
+			this.regressed = regressed;
+		}
+		
+		double getChange()
+		{
+			return currentMedian / baselineMedian - 1;
+		}
+		
+		public String toString()
+		{
+			return String.format("%s: %.2f ns/op against %.2f (%+.1f%%, p=%.2g)", benchmark, currentMedian, baselineMedian, 100 * getChange(), pValue);
+		}
+	}
+	
+	private final double alpha;
+	private final double minChange;
+	
+	public RegressionGate(double alpha, double minChange)
+	{
+		this.alpha = alpha;
+		this.minChange = minChange;
+	}
+	
+	/**
+	 * The one sided Mann-Whitney U test, with the normal approximation,
+	 * corrected for ties and for continuity.
+	 * 
+	 * @return the probability of samples at least this much larger than
+	 *         baseline if both come from the same distribution
+	 */
+	public static double mannWhitneyGreater(double[] samples, double[] baseline)
+	{
+		int n1 = samples.length;
+		int n2 = baseline.length;
+		int n = n1 + n2;
+		if (n1 == 0 || n2 == 0)
+			return 1;
+		
+		double u = mannWhitneyU(samples, baseline);
+		double mean = n1 * (double) n2 / 2;
+		double variance = n1 * (double) n2 / 12 * ((n + 1) - tieSum(samples, baseline) / ((double) n * (n - 1)));
+		if (variance <= 0)
+			return 1;
+		
+		double z = (u - mean - 0.5) / Math.sqrt(variance);
+		return 0.5 * erfc(z / Math.sqrt(2));
+	}
+	
+	/**
+	 * @return the Mann-Whitney U of samples, the number of pairs of a sample
+	 *         and a baseline value in which the sample is larger, ties
+	 *         counting one half
+	 */
+	static double mannWhitneyU(double[] samples, double[] baseline)
+	{
+		int n1 = samples.length;
+		int n = n1 + baseline.length;
+		
+		// Sort both sets together, remembering which set each value came from
+		final double[] values = new double[n];
+		Integer[] order = new Integer[n];
+		for (int i = 0; i < n; ++i)
+		{
+			values[i] = i < n1 ? samples[i] : baseline[i - n1];
+			order[i] = i;
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+			public int compare(Integer left, Integer right)
+			{
+				return Double.compare(values[left], values[right]);
+			}
+		});
+		
+		// Tied values share the mean of their ranks
+		double rankSum = 0;
+		for (int i = 0; i < n;)
+		{
+			int j = i;
+			while (j + 1 < n && values[order[j + 1]] == values[order[i]])
+				++j;
+			
+			double rank = (i + j) / 2.0 + 1;
+			for (int k = i; k <= j; ++k)
+			{
+				if (order[k] < n1)
+					rankSum += rank;
+			}
+			i = j + 1;
+		}
+		
+		return rankSum - n1 * (n1 + 1) / 2.0;
+	}
+	
+	// The sum of t^3 - t over the groups of t tied values, for the tie correction of the variance of U
+	static double tieSum(double[] samples, double[] baseline)
+	{
+		double[] values = new double[samples.length + baseline.length];
+		System.arraycopy(samples, 0, values, 0, samples.length);
+		System.arraycopy(baseline, 0, values, samples.length, baseline.length);
+		Arrays.sort(values);
+		
+		double tieSum = 0;
+		for (int i = 0; i < values.length;)
+		{
+			int j = i;
+			while (j + 1 < values.length && values[j + 1] == values[i])
+				++j;
+			
+			double ties = j - i + 1;
+			tieSum += ties * ties * ties - ties;
+			i = j + 1;
+		}
+		return tieSum;
+	}
+	
+	// The complementary error function, with a fractional error below 1.2e-7 (Numerical Recipes erfcc)
+	static double erfc(double x)
+	{
+		double z = Math.abs(x);
+		double t = 1 / (1 + 0.5 * z);
+		double result = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+				+ t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+				+ t * (-0.82215223 + t * 0.17087277)))))))));
+		return x >= 0 ? result : 2 - result;
+	}
+	
+	/**
+	 * Compares each benchmark that has both current and baseline samples.
+	 * 
+	 * @return the comparisons, the largest growth of the median first
+	 */
+	public List<Comparison> compare(PerformanceSamples current, PerformanceSamples baseline)
+	{
+		List<Comparison> comparisons = new ArrayList<Comparison>();
+		for (String benchmark : current.getBenchmarks())
+		{
+			double[] samples = current.getSamples(benchmark);
+			double[] baselineSamples = baseline.getSamples(benchmark);
+			if (baselineSamples == null || samples.length == 0 || baselineSamples.length == 0)
+				continue;
+			
+			double currentMedian = PerformanceSamples.median(samples);
+			double baselineMedian = PerformanceSamples.median(baselineSamples);
+			double pValue = mannWhitneyGreater(samples, baselineSamples);
+			boolean regressed = pValue < alpha && currentMedian > baselineMedian * (1 + minChange);
+			
+			comparisons.add(new Comparison(benchmark, baselineMedian, currentMedian, pValue, regressed));
+		}
+		
+		Collections.sort(comparisons, new Comparator<Comparison>() {
+			public int compare(Comparison left, Comparison right)
+			{
+				return Double.compare(right.getChange(), left.getChange());
+			}
+		});
+		return comparisons;
+	}
+	
+	/**
+	 * Reads the baseline samples of key from file.
+	 * 
+	 * @throws IOException if the file holds the samples of another key, since
+	 *         the file names are only hashes of the keys
+	 */
+	static PerformanceSamples readBaseline(File file, String key) throws IOException
+	{
+		PerformanceSamples baseline = PerformanceSamples.read(file);
+		if (!baseline.getKey().equals(key))
+			throw new IOException("The baseline " + file + " holds the samples of " + baseline.getKey() + ", not " + key);
+		return baseline;
+	}
+	
+	public static void printReport(List<Comparison> comparisons)
+	{
+		System.out.printf("%-4s %-40s %14s %14s %9s %10s%n", "Rank", "Benchmark", "Baseline ns", "Current ns", "Change", "p");
+		int rank = 0;
+		for (Comparison comparison : comparisons)
+		{
+			System.out.printf("%-4d %-40s %14.2f %14.2f %+8.1f%% %10.2g%s%n", ++rank, comparison.benchmark, comparison.baselineMedian,
+					comparison.currentMedian, 100 * comparison.getChange(), comparison.pValue, comparison.regressed ? "  REGRESSED" : "");
+		}
+	}
+	
+	public static void main(String[] args) throws IOException
+	{
+		boolean update = false;
+		double alpha = DEFAULT_ALPHA;
+		double minChange = DEFAULT_MIN_CHANGE;
+		List<String> directories = new ArrayList<String>();
+		
+		for (String arg : args)
+		{
+			if (arg.equals("-update"))
+				update = true;
+			else if (arg.startsWith("-alpha="))
+				alpha = Double.parseDouble(arg.substring("-alpha=".length()));
+			else if (arg.startsWith("-minChange="))
+				minChange = Double.parseDouble(arg.substring("-minChange=".length()));
+			else
+				directories.add(arg);
+		}
+		
+		if (directories.size() != 2)
+		{
+			System.out.println("Usage: RegressionGate [-update] [-alpha=p] [-minChange=fraction] current-dir baseline-dir");
+			System.exit(1);
+		}
+		
+		File currentDirectory = new File(directories.get(0));
+		File baselineDirectory = new File(directories.get(1));
+		RegressionGate gate = new RegressionGate(alpha, minChange);
+		
+		File[] currentFiles = currentDirectory.listFiles();
+		if (currentFiles == null || currentFiles.length == 0)
+		{
+			System.out.println("RegressionGate: no samples in " + currentDirectory);
+			return;
+		}
+		Arrays.sort(currentFiles);
+		
+		int regressions = 0;
+		int missing = 0;
+		for (File currentFile : currentFiles)
+		{
+			if (!PerformanceSamples.isSamplesFile(currentFile))
+				continue;
+			
+			PerformanceSamples current = PerformanceSamples.read(currentFile);
+			File baselineFile = new File(baselineDirectory, currentFile.getName());
+			
+			System.out.println("RegressionGate: " + current.getKey());
+			
+			if (!baselineFile.exists())
+			{
+				if (update)
+				{
+					if (!baselineDirectory.isDirectory() && !baselineDirectory.mkdirs())
+						throw new IOException("Cannot create " + baselineDirectory);
+					current.write(baselineFile);
+					System.out.println("No baseline yet, saved the current samples to " + baselineFile);
+				}
+				else
+				{
+					System.out.println("WARNING: no baseline " + baselineFile + ", the samples were NOT compared. Run RegressionGate -update to create it.");
+					++missing;
+				}
+				continue;
+			}
+			
+			PerformanceSamples baseline = readBaseline(baselineFile, current.getKey());
+			List<Comparison> comparisons = gate.compare(current, baseline);
+			printReport(comparisons);
+			
+			int fileRegressions = 0;
+			for (Comparison comparison : comparisons)
+			{
+				if (comparison.regressed)
+					++fileRegressions;
+			}
+			regressions += fileRegressions;
+			
+			if (update && fileRegressions == 0)
+			{
+				current.write(baselineFile);
+				System.out.println("Replaced the baseline " + baselineFile);
+			}
+		}
+		
+		System.out.println("RegressionGate: " + regressions + " benchmarks regressed");
+		if (missing > 0)
+			System.out.println("WARNING: RegressionGate: " + missing + " JVM keys had no baseline in " + baselineDirectory + " and were not compared");
+		
+		if (regressions > 0)
+			System.exit(1);
+	}
+}
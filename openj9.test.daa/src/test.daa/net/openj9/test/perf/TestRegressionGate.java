@@ -0,0 +1,140 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.perf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.openj9.test.perf.RegressionGate.Comparison;
+
+/**
+ * Checks the Mann-Whitney U test of RegressionGate against U and p values
+ * worked out by hand, and that a baseline of another key is refused.
+ */
+public class TestRegressionGate
+{
+	static final double P_TOLERANCE = 1e-6;
+	
+	@Test
+	public void testAllGreater()
+	{
+		double[] samples = { 4, 5, 6 };
+		double[] baseline = { 1, 2, 3 };
+		
+		// U = 9 of 9 pairs, z = (9 - 4.5 - 0.5) / sqrt(5.25)
+		assertEquals(9, RegressionGate.mannWhitneyU(samples, baseline), 0);
+		assertEquals(0.0404278, RegressionGate.mannWhitneyGreater(samples, baseline), P_TOLERANCE);
+	}
+	
+	@Test
+	public void testAllLess()
+	{
+		double[] samples = { 1, 2, 3 };
+		double[] baseline = { 4, 5, 6 };
+		
+		assertEquals(0, RegressionGate.mannWhitneyU(samples, baseline), 0);
+		assertEquals(0.9854518, RegressionGate.mannWhitneyGreater(samples, baseline), P_TOLERANCE);
+	}
+	
+	@Test
+	public void testTies()
+	{
+		double[] samples = { 3, 4, 4, 5, 7, 8 };
+		double[] baseline = { 1, 2, 3, 4, 4, 6 };
+		
+		// Two 3s and four 4s: the tie sum is (8 - 2) + (64 - 4), the variance 3 * (13 - 66 / 132)
+		assertEquals(27.5, RegressionGate.mannWhitneyU(samples, baseline), 0);
+		assertEquals(66, RegressionGate.tieSum(samples, baseline), 0);
+		assertEquals(0.0708223, RegressionGate.mannWhitneyGreater(samples, baseline), P_TOLERANCE);
+	}
+	
+	@Test
+	public void testIdentical()
+	{
+		double[] samples = { 2, 2, 2, 2 };
+		
+		assertEquals(8, RegressionGate.mannWhitneyU(samples, samples), 0);
+		assertEquals(1, RegressionGate.mannWhitneyGreater(samples, samples), 0);
+		assertEquals(1, RegressionGate.mannWhitneyGreater(samples, new double[0]), 0);
+	}
+	
+	@Test
+	public void testCompare()
+	{
+		PerformanceSamples baseline = new PerformanceSamples("key");
+		PerformanceSamples current = new PerformanceSamples("key");
+		double[] fast = new double[50];
+		double[] slow = new double[50];
+		for (int i = 0; i < fast.length; ++i)
+		{
+			fast[i] = 100 + i % 5;
+			slow[i] = 120 + i % 5;
+		}
+		baseline.setSamples("slower", fast);
+		current.setSamples("slower", slow);
+		baseline.setSamples("same", fast);
+		current.setSamples("same", fast);
+		
+		List<Comparison> comparisons = new RegressionGate(RegressionGate.DEFAULT_ALPHA, RegressionGate.DEFAULT_MIN_CHANGE).compare(current, baseline);
+		assertEquals(2, comparisons.size());
+		assertEquals("slower", comparisons.get(0).benchmark);
+		assertTrue(comparisons.get(0).regressed);
+		assertFalse(comparisons.get(1).regressed);
+	}
+	
+	@Test
+	public void testBaselineOfAnotherKey() throws IOException
+	{
+		File file = File.createTempFile("daa-perf", ".bin");
+		try
+		{
+			PerformanceSamples samples = new PerformanceSamples("one key");
+			samples.setSamples("benchmark", new double[] { 1, 2, 3 });
+			samples.write(file);
+			
+			assertEquals("one key", RegressionGate.readBaseline(file, "one key").getKey());
+			try
+			{
+				RegressionGate.readBaseline(file, "another key");
+				fail("The baseline of another key was read");
+			}
+			catch (IOException e)
+			{
+				// expected
+			}
+		}
+		finally
+		{
+			file.delete();
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.vlog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The number of times each method was and wasn't inlined as an intrinsic,
+ * for each caller. The method names are numbered as they are first seen and
+ * each caller keeps a single int array of counts indexed by method number,
+ * two counts per method, so the counts take a few bytes per caller and
+ * method however long the logs are.
+ * 
+ * Not thread safe, VlogAnalyzer counts each file in its own InliningCounts
+ * and merges them.
+ */
+public class InliningCounts
+{
+	private final Map<String, Integer> methodIds = new HashMap<String, Integer>();
+	private final List<String> methods = new ArrayList<String>();
+	private final Map<String, int[]> callers = new HashMap<String, int[]>();
+	
+	private int methodId(String method)
+	{
+		Integer id = methodIds.get(method);
+		if (id == null)
+		{
+			id = methods.size();
+			methodIds.put(method, id);
+			methods.add(method);
+		}
+		return id;
+	}
+	
+	private int[] callerCounts(String caller, int methodId)
+	{
+		int[] counts = callers.get(caller);
+		if (counts == null || counts.length <= 2 * methodId + 1)
+		{
+			int length = Math.max(2 * methods.size(), 8);
+			counts = counts == null ? new int[length] : Arrays.copyOf(counts, length);
+			callers.put(caller, counts);
+		}
+		return counts;
+	}
+	
+	public void add(String caller, String method, boolean inlined)
+	{
+		add(caller, method, inlined ? 1 : 0, inlined ? 0 : 1);
+	}
+	
+	public void add(String caller, String method, int inlined, int notInlined)
+	{
+		int id = methodId(method);
+		int[] counts = callerCounts(caller, id);
+		counts[2 * id] += inlined;
+		counts[2 * id + 1] += notInlined;
+	}
+	
+	public void merge(InliningCounts other)
+	{
+		for (Map.Entry<String, int[]> entry : other.callers.entrySet())
+		{
+			int[] counts = entry.getValue();
+			for (int id = 0; 2 * id < counts.length && id < other.methods.size(); ++id)
+			{
+				if (counts[2 * id] != 0 || counts[2 * id + 1] != 0)
+					add(entry.getKey(), other.methods.get(id), counts[2 * id], counts[2 * id + 1]);
+			}
+		}
+	}
+	
+	private int count(String caller, String method, int which)
+	{
+		Integer id = methodIds.get(method);
+		int[] counts = callers.get(caller);
+		if (id == null || counts == null || counts.length <= 2 * id + which)
+			return 0;
+		return counts[2 * id + which];
+	}
+	
+	public int getInlined(String caller, String method)
+	{
+		return count(caller, method, 0);
+	}
+	
+	public int getNotInlined(String caller, String method)
+	{
+		return count(caller, method, 1);
+	}
+	
+	public long getTotalInlined(String method)
+	{
+		long total = 0;
+		for (String caller : callers.keySet())
+			total += getInlined(caller, method);
+		return total;
+	}
+	
+	public long getTotalNotInlined(String method)
+	{
+		long total = 0;
+		for (String caller : callers.keySet())
+			total += getNotInlined(caller, method);
+		return total;
+	}
+	
+	/**
+	 * @return the callers of method, counting those where it was and wasn't inlined
+	 */
+	public List<String> getCallers(String method)
+	{
+		List<String> methodCallers = new ArrayList<String>();
+		for (String caller : callers.keySet())
+		{
+			if (getInlined(caller, method) + getNotInlined(caller, method) > 0)
+				methodCallers.add(caller);
+		}
+		Collections.sort(methodCallers);
+		return methodCallers;
+	}
+	
+	public List<String> getCallers()
+	{
+		List<String> sorted = new ArrayList<String>(callers.keySet());
+		Collections.sort(sorted);
+		return sorted;
+	}
+	
+	public List<String> getMethods()
+	{
+		List<String> sorted = new ArrayList<String>(methods);
+		Collections.sort(sorted);
+		return sorted;
+	}
+	
+	public boolean containsCaller(String caller)
+	{
+		return callers.containsKey(caller);
+	}
+}
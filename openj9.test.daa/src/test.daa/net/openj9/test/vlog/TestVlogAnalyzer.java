@@ -0,0 +1,218 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+package net.openj9.test.vlog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+
+/**
+ * Feeds VlogAnalyzer a few hand-written vlog lines and files, plain and
+ * gzipped, and checks the InliningCounts it merges from them.
+ */
+public class TestVlogAnalyzer
+{
+	static final Charset UTF_8 = Charset.forName("UTF-8");
+	
+	static final String ADD = "com/ibm/dataaccess/PackedDecimal.addPackedDecimal([BII[BII[BIIZ)V";
+	static final String CHECK = "com/ibm/dataaccess/PackedDecimal.checkPackedDecimal([BII)I";
+	static final String ADD_CALLER = "net/openj9/test/arithmetics/TestArithmeticOperations.testAdd()V";
+	static final String CHECK_CALLER = "net/openj9/test/arithmetics/TestValidityChecking.testCheck()V";
+	static final String COMPILED = "+ (warm) net/openj9/test/arithmetics/TestArithmeticOperations.testAdd()V @ 00007F3A2C001234";
+	
+	static String line(String result, String method, String caller)
+	{
+		return "#INL: INTRINSICS: " + result + " Method signature: " + method + " Method caller: " + caller + " Source line: 42";
+	}
+	
+	static VlogAnalyzer analyzer(int threads)
+	{
+		return new VlogAnalyzer(UTF_8, VlogAnalyzer.DEFAULT_CALLER_PREFIX, threads);
+	}
+	
+	@Test
+	public void testAddLine()
+	{
+		VlogAnalyzer analyzer = analyzer(1);
+		InliningCounts counts = new InliningCounts();
+		
+		analyzer.addLine(counts, line("inlined.", ADD, ADD_CALLER));
+		analyzer.addLine(counts, line("inlined.", ADD, ADD_CALLER));
+		analyzer.addLine(counts, line("not inlined.", ADD, ADD_CALLER));
+		analyzer.addLine(counts, line("not inlined.", CHECK, CHECK_CALLER));
+		
+		// A caller outside the package, a line about something else and a result that is neither
+		analyzer.addLine(counts, line("inlined.", ADD, "com/example/Application.run()V"));
+		analyzer.addLine(counts, COMPILED);
+		analyzer.addLine(counts, "#INL: INTRINSICS: considered. Method signature: " + ADD);
+		
+		// No caller, and a signature without a parameter list
+		analyzer.addLine(counts, "#INL: INTRINSICS: inlined. Method signature: " + ADD);
+		analyzer.addLine(counts, line("inlined.", "com/ibm/dataaccess/PackedDecimal.addPackedDecimal", ADD_CALLER));
+		
+		assertEquals(7, analyzer.getIntrinsicLines());
+		assertEquals(2, analyzer.getMalformedLines());
+		
+		// Methods and callers are named without their class, as LogParser names them
+		assertEquals(Arrays.asList("addPackedDecimal", "checkPackedDecimal"), counts.getMethods());
+		assertEquals(Arrays.asList("testAdd", "testCheck"), counts.getCallers());
+		assertEquals(2, counts.getInlined("testAdd", "addPackedDecimal"));
+		assertEquals(1, counts.getNotInlined("testAdd", "addPackedDecimal"));
+		assertEquals(0, counts.getInlined("testCheck", "checkPackedDecimal"));
+		assertEquals(1, counts.getNotInlined("testCheck", "checkPackedDecimal"));
+		assertEquals(0, counts.getInlined("testCheck", "addPackedDecimal"));
+		assertFalse(counts.containsCaller("run"));
+	}
+	
+	@Test
+	public void testMethodName()
+	{
+		assertEquals("addPackedDecimal", VlogAnalyzer.methodName(ADD, 0, ADD.length()));
+		assertEquals("testAdd", VlogAnalyzer.methodName(ADD_CALLER, 0, ADD_CALLER.length()));
+		assertEquals("main", VlogAnalyzer.methodName("main([Ljava/lang/String;)V", 0, 26));
+		
+		// The parameter list must start before end
+		assertNull(VlogAnalyzer.methodName(ADD, 0, ADD.indexOf('(')));
+		assertNull(VlogAnalyzer.methodName("no parameters", 0, 13));
+	}
+	
+	@Test
+	public void testMerge()
+	{
+		InliningCounts first = new InliningCounts();
+		first.add("testAdd", "addPackedDecimal", 3, 1);
+		first.add("testCheck", "checkPackedDecimal", true);
+		
+		// The same methods in another order, so their ids differ between the two
+		InliningCounts second = new InliningCounts();
+		second.add("testCheck", "checkPackedDecimal", 2, 5);
+		second.add("testAdd", "addPackedDecimal", false);
+		second.add("testShift", "shiftLeftPackedDecimal", 4, 0);
+		
+		first.merge(second);
+		
+		assertEquals(3, first.getInlined("testAdd", "addPackedDecimal"));
+		assertEquals(2, first.getNotInlined("testAdd", "addPackedDecimal"));
+		assertEquals(3, first.getInlined("testCheck", "checkPackedDecimal"));
+		assertEquals(5, first.getNotInlined("testCheck", "checkPackedDecimal"));
+		assertEquals(4, first.getInlined("testShift", "shiftLeftPackedDecimal"));
+		assertEquals(0, first.getInlined("testAdd", "checkPackedDecimal"));
+		assertEquals(7, first.getTotalInlined("addPackedDecimal") + first.getTotalInlined("shiftLeftPackedDecimal"));
+		assertEquals(Arrays.asList("testShift"), first.getCallers("shiftLeftPackedDecimal"));
+		
+		// and the counts merged from are left alone
+		assertEquals(2, second.getInlined("testCheck", "checkPackedDecimal"));
+		assertEquals(0, second.getInlined("testAdd", "addPackedDecimal"));
+	}
+	
+	/**
+	 * returns the first line of file as opened by VlogAnalyzer, checking
+	 * that it was decompressed only if gzip.
+	 */
+	static String firstLine(File file, boolean gzip) throws IOException
+	{
+		InputStream in = VlogAnalyzer.open(file);
+		assertEquals(file.getName(), gzip, in instanceof GZIPInputStream);
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, UTF_8));
+		try
+		{
+			return reader.readLine();
+		}
+		finally
+		{
+			reader.close();
+		}
+	}
+	
+	static File write(String[] lines, boolean gzip) throws IOException
+	{
+		File file = File.createTempFile("daa-vlog", gzip ? ".gz" : ".txt");
+		OutputStream out = new FileOutputStream(file);
+		if (gzip)
+			out = new GZIPOutputStream(out);
+		Writer writer = new OutputStreamWriter(out, UTF_8);
+		try
+		{
+			for (String line : lines)
+				writer.write(line + "\n");
+		}
+		finally
+		{
+			writer.close();
+		}
+		return file;
+	}
+	
+	@Test
+	public void testFiles() throws IOException
+	{
+		File plain = write(new String[] {
+			COMPILED,
+			line("inlined.", ADD, ADD_CALLER),
+			line("not inlined.", CHECK, CHECK_CALLER)
+		}, false);
+		File gzipped = write(new String[] {
+			line("inlined.", ADD, ADD_CALLER),
+			line("inlined.", CHECK, CHECK_CALLER),
+			"#INL: INTRINSICS: not inlined. Method signature: " + CHECK
+		}, true);
+		try
+		{
+			// Only the gzipped file is decompressed
+			assertEquals(line("inlined.", ADD, ADD_CALLER), firstLine(gzipped, true));
+			assertEquals(COMPILED, firstLine(plain, false));
+			
+			VlogAnalyzer analyzer = analyzer(2);
+			InliningCounts counts = analyzer.analyze(VlogAnalyzer.toFiles(plain.getPath() + File.pathSeparator + gzipped.getPath()));
+			
+			assertEquals(6, analyzer.getLines());
+			assertEquals(5, analyzer.getIntrinsicLines());
+			assertEquals(1, analyzer.getMalformedLines());
+			assertEquals(2, counts.getInlined("testAdd", "addPackedDecimal"));
+			assertEquals(1, counts.getInlined("testCheck", "checkPackedDecimal"));
+			assertEquals(1, counts.getNotInlined("testCheck", "checkPackedDecimal"));
+			assertEquals(Arrays.asList("testAdd", "testCheck"), counts.getCallers());
+		}
+		finally
+		{
+			plain.delete();
+			gzipped.delete();
+		}
+	}
+}
@@ -0,0 +1,344 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corp. and others
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License 2.0 which accompanies this distribution
+* and is available at http://eclipse.org/legal/epl-2.0 or the Apache License, 
+* Version 2.0 which accompanies this distribution and is available at 
+* https://www.apache.org/licenses/LICENSE-2.0.
+* 
+* This Source Code may also be made available under the following Secondary
+* Licenses when the conditions for such availability set forth in the 
+* Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+* version 2 with the GNU Classpath Exception [1] and GNU General Public License,
+* version 2 with the OpenJDK Assembly Exception [2].
+* 
+* [1] https://www.gnu.org/software/classpath/license.html
+* [2] https://openjdk.org/legal/assembly-exception.html
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+*******************************************************************************/
+
+
+
+package net.openj9.test.vlog;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads JIT verbose logs, -Xjit:verbose={inlining} and friends, and counts
+ * for each caller how many times each method was and wasn't inlined as an
+ * intrinsic. The files, which may be gzipped, are read line by line on a
+ * thread pool with one task per file, in the charset given by -Dvlog.charset
+ * or the platform default, and only the lines whose caller starts with
+ * -Dvlog.caller, net/openj9/test/ by default, are counted. Nothing is
+ * written until the report.
+ * 
+ * Usage: VlogAnalyzer [-charset=name] [-caller=prefix] [-threads=n] vlog...
+ */
+public class VlogAnalyzer
+{
+	public static final String CHARSET_PROPERTY = "vlog.charset";
+	public static final String CALLER_PROPERTY = "vlog.caller";
+	public static final String DEFAULT_CALLER_PREFIX = "net/openj9/test/";
+	
+	static final String INTRINSICS = "INTRINSICS: ";
+	static final String INLINED = "inlined.";
+	static final String NOT_INLINED = "not inlined.";
+	static final String METHOD_SIGNATURE = "Method signature: ";
+	static final String METHOD_CALLER = "Method caller: ";
+	static final String SOURCE_LINE = "Source line";
+	
+	static final int READ_BUFFER_SIZE = 1 << 16;
+	
+	private final Charset charset;
+	private final String callerPrefix;
+	private final int threads;
+	
+	private final AtomicLong lines = new AtomicLong();
+	private final AtomicLong intrinsicLines = new AtomicLong();
+	private final AtomicLong malformedLines = new AtomicLong();
+	
+	public VlogAnalyzer(Charset charset, String callerPrefix, int threads)
+	{
+		this.charset = charset;
+		this.callerPrefix = callerPrefix;
+		this.threads = threads;
+	}
+	
+	/**
+	 * An analyzer set up from -Dvlog.charset and -Dvlog.caller with a thread
+	 * per processor.
+	 */
+	public VlogAnalyzer()
+	{
+		this(getDefaultCharset(), System.getProperty(CALLER_PROPERTY, DEFAULT_CALLER_PREFIX), Runtime.getRuntime().availableProcessors());
+	}
+	
+	static Charset getDefaultCharset()
+	{
+		String name = System.getProperty(CHARSET_PROPERTY);
+		return name == null ? Charset.defaultCharset() : Charset.forName(name);
+	}
+	
+	/**
+	 * @return the files in a list separated by File.pathSeparator
+	 */
+	public static List<File> toFiles(String fileList)
+	{
+		List<File> files = new ArrayList<File>();
+		for (String name : fileList.split(File.pathSeparator))
+		{
+			if (!name.isEmpty())
+				files.add(new File(name));
+		}
+		return files;
+	}
+	
+	public InliningCounts analyze(List<File> files) throws IOException
+	{
+		// Start with the largest files so that the last tasks are short ones
+		List<File> sorted = new ArrayList<File>(files);
+		Collections.sort(sorted, new Comparator<File>() {
+			public int compare(File left, File right)
+			{
+				return Long.compare(right.length(), left.length());
+			}
+		});
+		
+		ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, sorted.size())));
+		try
+		{
+			List<Future<InliningCounts>> results = new ArrayList<Future<InliningCounts>>();
+			for (final File file : sorted)
+			{
+				results.add(pool.submit(new Callable<InliningCounts>() {
+					public InliningCounts call() throws IOException
+					{
+						return analyze(file);
+					}
+				}));
+			}
+			
+			InliningCounts counts = new InliningCounts();
+			for (Future<InliningCounts> result : results)
+				counts.merge(result.get());
+			return counts;
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted reading the vlogs", e);
+		}
+		catch (ExecutionException e)
+		{
+			if (e.getCause() instanceof IOException)
+				throw (IOException) e.getCause();
+			throw new IOException(e.getCause());
+		}
+		finally
+		{
+			pool.shutdownNow();
+		}
+	}
+	
+	public InliningCounts analyze(File file) throws IOException
+	{
+		InliningCounts counts = new InliningCounts();
+		long fileLines = 0;
+		
+		BufferedReader reader = new BufferedReader(new InputStreamReader(open(file), charset), READ_BUFFER_SIZE);
+		try
+		{
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				++fileLines;
+				addLine(counts, line);
+			}
+		}
+		finally
+		{
+			reader.close();
+		}
+		
+		lines.addAndGet(fileLines);
+		return counts;
+	}
+	
+	// Opens file, through a GZIPInputStream if it starts with the gzip magic number
+	static InputStream open(File file) throws IOException
+	{
+		InputStream in = new BufferedInputStream(new FileInputStream(file), READ_BUFFER_SIZE);
+		in.mark(2);
+		int first = in.read();
+		int second = in.read();
+		in.reset();
+		
+		if (first == 0x1F && second == 0x8B)
+			return new GZIPInputStream(in, READ_BUFFER_SIZE);
+		return in;
+	}
+	
+	/**
+	 * Counts line if it is an intrinsic inlining line whose caller is in the
+	 * caller package.
+	 */
+	void addLine(InliningCounts counts, String line)
+	{
+		int intrinsics = line.indexOf(INTRINSICS);
+		if (intrinsics < 0)
+			return;
+		
+		int result = intrinsics + INTRINSICS.length();
+		boolean inlined;
+		if (line.startsWith(INLINED, result))
+			inlined = true;
+		else if (line.startsWith(NOT_INLINED, result))
+			inlined = false;
+		else
+			return;
+		
+		intrinsicLines.incrementAndGet();
+		
+		int signature = line.indexOf(METHOD_SIGNATURE, result);
+		int caller = line.indexOf(METHOD_CALLER, result);
+		if (signature < 0 || caller < signature)
+		{
+			malformedLines.incrementAndGet();
+			return;
+		}
+		
+		int callerStart = caller + METHOD_CALLER.length();
+		if (!line.startsWith(callerPrefix, callerStart))
+			return;
+		
+		int callerEnd = line.indexOf(SOURCE_LINE, callerStart);
+		String methodName = methodName(line, signature + METHOD_SIGNATURE.length(), caller);
+		String callerName = methodName(line, callerStart, callerEnd < 0 ? line.length() : callerEnd);
+		if (methodName == null || callerName == null)
+		{
+			malformedLines.incrementAndGet();
+			return;
+		}
+		
+		counts.add(callerName, methodName, inlined);
+	}
+	
+	/**
+	 * @return the name of the method whose signature is in line between start
+	 *         and end without its class, the part after the last '/' or '.'
+	 *         before the '(', which is how LogParser writes the expected names
+	 */
+	static String methodName(String line, int start, int end)
+	{
+		int nameEnd = line.indexOf('(', start);
+		if (nameEnd < 0 || nameEnd >= end)
+			return null;
+		
+		int nameStart = Math.max(line.lastIndexOf('/', nameEnd), line.lastIndexOf('.', nameEnd)) + 1;
+		if (nameStart <= start || nameStart >= nameEnd)
+			nameStart = start;
+		
+		return line.substring(nameStart, nameEnd);
+	}
+	
+	public long getLines()
+	{
+		return lines.get();
+	}
+	
+	public long getIntrinsicLines()
+	{
+		return intrinsicLines.get();
+	}
+	
+	public long getMalformedLines()
+	{
+		return malformedLines.get();
+	}
+	
+	/**
+	 * Prints how often each method was inlined as an intrinsic across all the
+	 * callers, and the callers where it never was.
+	 */
+	public static void printCoverageReport(InliningCounts counts)
+	{
+		System.out.printf("%-50s %12s %12s %9s %8s %14s%n", "Method", "Inlined", "Not inlined", "Coverage", "Callers", "Never inlined");
+		
+		for (String method : counts.getMethods())
+		{
+			long inlined = counts.getTotalInlined(method);
+			long notInlined = counts.getTotalNotInlined(method);
+			
+			List<String> neverInlined = new ArrayList<String>();
+			List<String> callers = counts.getCallers(method);
+			for (String caller : callers)
+			{
+				if (counts.getInlined(caller, method) == 0)
+					neverInlined.add(caller);
+			}
+			
+			System.out.printf("%-50s %12d %12d %8.1f%% %8d %14d%n", method, inlined, notInlined, 100.0 * inlined / (inlined + notInlined),
+					callers.size(), neverInlined.size());
+			
+			for (String caller : neverInlined)
+				System.out.println("\tnot inlined in " + caller + " (" + counts.getNotInlined(caller, method) + " times)");
+		}
+	}
+	
+	public static void main(String[] args) throws IOException
+	{
+		Charset charset = getDefaultCharset();
+		String callerPrefix = System.getProperty(CALLER_PROPERTY, DEFAULT_CALLER_PREFIX);
+		int threads = Runtime.getRuntime().availableProcessors();
+		List<File> files = new ArrayList<File>();
+		
+		for (String arg : args)
+		{
+			if (arg.startsWith("-charset="))
+				charset = Charset.forName(arg.substring("-charset=".length()));
+			else if (arg.startsWith("-caller="))
+				callerPrefix = arg.substring("-caller=".length());
+			else if (arg.startsWith("-threads="))
+				threads = Integer.parseInt(arg.substring("-threads=".length()));
+			else
+				files.add(new File(arg));
+		}
+		
+		if (files.isEmpty())
+		{
+			System.out.println("Usage: VlogAnalyzer [-charset=name] [-caller=prefix] [-threads=n] vlog...");
+			System.exit(1);
+		}
+		
+		VlogAnalyzer analyzer = new VlogAnalyzer(charset, callerPrefix, threads);
+		
+		long startTime = System.nanoTime();
+		InliningCounts counts = analyzer.analyze(files);
+		long time = System.nanoTime() - startTime;
+		
+		System.out.printf("VlogAnalyzer: %d files, %d lines, %d intrinsic lines (%d malformed) in %d ms, %.0f lines/s%n", files.size(),
+				analyzer.getLines(), analyzer.getIntrinsicLines(), analyzer.getMalformedLines(), time / 1000000, analyzer.getLines() / (time / 1e9));
+		
+		printCoverageReport(counts);
+	}
+}
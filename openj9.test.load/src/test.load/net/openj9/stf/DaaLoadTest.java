@@ -23,6 +23,7 @@ package net.openj9.stf;
 import net.adoptopenjdk.loadTest.InventoryData;
 import net.adoptopenjdk.loadTest.TimeBasedLoadTest;
 import net.adoptopenjdk.stf.StfException;
+import net.adoptopenjdk.stf.environment.DirectoryRef;
 import net.adoptopenjdk.stf.extensions.core.StfCoreExtension;
 import net.adoptopenjdk.stf.extensions.core.StfCoreExtension.Echo;
 import net.adoptopenjdk.stf.processes.ExpectedOutcome;
@@ -82,6 +83,9 @@ public class DaaLoadTest extends TimeBasedLoadTest {
 		}
 	}
 	
+	// The directory holding the DAA performance baselines, kept from run to run
+	private static final String PERF_BASELINE_PROPERTY = "daa.perf.baseline";
+	
 	Workloads workload;
 	WorkloadsSpecial workloadSpecial; 
 	boolean specialTest = false; 
@@ -98,6 +102,8 @@ public class DaaLoadTest extends TimeBasedLoadTest {
 		help.outputArgDesc("This is the name of the workload to run, it supports 5 workloads: "
 				+ "daa1, daa2, daa3, daa4 and daaAll. "
 				+ "This argument is optional, if not provided it will run all workloads.");
+		help.outputText("The DAA timings are compared with the baselines in the directory given by -D"
+				+ PERF_BASELINE_PROPERTY + "=<dir>, and are not compared at all if it is not set.");
 	}
 
 	public void execute(StfCoreExtension test) throws StfException {
@@ -135,7 +141,16 @@ public class DaaLoadTest extends TimeBasedLoadTest {
 		
 		int numDaaTests = InventoryData.getNumberOfTests(test, inventory);
 		
+		// TestPerformance records its timings here for the regression gate run after the load test.
+		// The results directory is new for every run, so the baselines have to be kept elsewhere.
+		DirectoryRef perfResultsDir = test.env().getResultsDir().childDirectory("daa-perf");
+		String perfBaselineDir = System.getProperty(PERF_BASELINE_PROPERTY);
+		if (perfBaselineDir == null) {
+			System.out.println("WARNING: -D" + PERF_BASELINE_PROPERTY + " is not set, the DAA timings will NOT be compared with a baseline");
+		}
+		
 		LoadTestProcessDefinition loadTestInvocation = test.createLoadTestSpecification()
+				.addJvmOption("-Ddaa.perfResults=" + perfResultsDir.getSpec())
 				.addPrereqJarToClasspath(JavaProcessDefinition.JarId.JUNIT)
 				.addPrereqJarToClasspath(JavaProcessDefinition.JarId.HAMCREST)
 				.addProjectToClasspath("openj9.test.daa"); 
@@ -166,5 +181,17 @@ public class DaaLoadTest extends TimeBasedLoadTest {
 		test.doRunForegroundProcess("Run daa load test", "DLT", Echo.ECHO_ON,
 				ExpectedOutcome.cleanRun().within(finalTimeout), 
 				loadTestInvocation);
+		
+		// Compare the timings with the baseline for this JVM build and JIT options. The gate warns
+		// about a missing baseline, which is created by running it with -update.
+		if (perfBaselineDir != null) {
+			test.doRunForegroundProcess("Compare DAA performance with the baseline", "DPG", Echo.ECHO_ON,
+					ExpectedOutcome.cleanRun().within("10m"),
+					test.createJavaProcessDefinition()
+						.addProjectToClasspath("openj9.test.daa")
+						.runClass("net.openj9.test.perf.RegressionGate")
+						.addArg(perfResultsDir.getSpec())
+						.addArg(perfBaselineDir));
+		}
 	}
 }